@@ -99,4 +99,26 @@ public interface AccountClient {
      */
     @NonNull
     Hbar getOperatorAccountBalance() throws HieroException;
+
+    /**
+     * Transfers hbar from the operator account to the given account. Many transfers should be sent by a
+     * {@link com.openelements.hiero.base.payment.HbarTransferEngine}, which packs several receivers into one
+     * transaction.
+     *
+     * @param toAccountId the ID of the receiving account
+     * @param amount      the amount to transfer
+     * @throws HieroException if the transfer could not be executed
+     */
+    void transferHbar(@NonNull AccountId toAccountId, @NonNull Hbar amount) throws HieroException;
+
+    /**
+     * Transfers hbar from the given account to the given account.
+     *
+     * @param fromAccount the sending account
+     * @param toAccountId the ID of the receiving account
+     * @param amount      the amount to transfer
+     * @throws HieroException if the transfer could not be executed
+     */
+    void transferHbar(@NonNull Account fromAccount, @NonNull AccountId toAccountId, @NonNull Hbar amount)
+            throws HieroException;
 }
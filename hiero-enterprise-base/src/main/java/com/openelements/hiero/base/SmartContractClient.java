@@ -4,8 +4,11 @@ import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.FileId;
 import com.openelements.hiero.base.data.ContractCallResult;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.ContractRead;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
@@ -98,4 +101,118 @@ public interface SmartContractClient {
     ContractCallResult callContractFunction(@NonNull ContractId contractId, @NonNull String functionName,
             @Nullable ContractParam<?>... params) throws HieroException;
 
+    /**
+     * Call a function on a smart contract with an explicit gas limit. The gas limit is used as is and overrides any
+     * gas estimation of the client.
+     *
+     * @param contractId   the ID of the contract
+     * @param functionName the name of the function to call
+     * @param gas          the gas limit of the call
+     * @param params       the parameters to pass to the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult callContractFunction(@NonNull ContractId contractId, @NonNull String functionName, long gas,
+            @Nullable ContractParam<?>... params) throws HieroException;
+
+    /**
+     * Call a read-only ({@code view} or {@code pure}) function on a smart contract. In contrast to
+     * {@link #callContractFunction(ContractId, String, ContractParam[])} no transaction is sent to the network, the
+     * call does not change the state of the contract and the result reflects the latest state that is known to the
+     * queried node.
+     *
+     * @param contractId   the ID of the contract
+     * @param functionName the name of the function to call
+     * @param params       the parameters to pass to the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    default ContractCallResult queryContractFunction(@NonNull String contractId, @NonNull String functionName,
+            @Nullable ContractParam<?>... params) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId");
+        return queryContractFunction(ContractId.fromString(contractId), functionName, params);
+    }
+
+    /**
+     * Call a read-only ({@code view} or {@code pure}) function on a smart contract. In contrast to
+     * {@link #callContractFunction(ContractId, String, ContractParam[])} no transaction is sent to the network, the
+     * call does not change the state of the contract and the result reflects the latest state that is known to the
+     * queried node.
+     *
+     * @param contractId   the ID of the contract
+     * @param functionName the name of the function to call
+     * @param params       the parameters to pass to the function
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult queryContractFunction(@NonNull ContractId contractId, @NonNull String functionName,
+            @Nullable ContractParam<?>... params) throws HieroException;
+
+    /**
+     * Call a function on a smart contract with call data that has already been encoded (4 byte function selector
+     * followed by the ABI encoded parameters). This is the low level counterpart of
+     * {@link #callContractFunction(ContractId, String, ContractParam[])} that is used by generated contract proxies.
+     *
+     * @param contractId the ID of the contract
+     * @param callData   the encoded call data
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult callContract(@NonNull ContractId contractId, @NonNull byte[] callData) throws HieroException;
+
+    /**
+     * Call a read-only ({@code view} or {@code pure}) function on a smart contract with call data that has already
+     * been encoded (4 byte function selector followed by the ABI encoded parameters). This is the low level
+     * counterpart of {@link #queryContractFunction(ContractId, String, ContractParam[])} that is used by generated
+     * contract proxies.
+     *
+     * @param contractId the ID of the contract
+     * @param callData   the encoded call data
+     * @return the result of the function call
+     * @throws HieroException if the function could not be called
+     */
+    @NonNull
+    ContractCallResult queryContract(@NonNull ContractId contractId, @NonNull byte[] callData) throws HieroException;
+
+    /**
+     * Executes several read-only ({@code view} or {@code pure}) function calls on one or more contracts with a single
+     * call of a Multicall3 aggregator contract ({@code aggregate3((address,bool,bytes)[])}). All reads are executed
+     * in the same call and therefore see the same state of the network. The aggregator contract is not part of the
+     * network and must be deployed once (for example by {@link #createContract(Path, ContractParam[])} with the
+     * bytecode of the Multicall3 contract). Every read is executed with {@code allowFailure} set, so a failing read
+     * (for example a reverted call) does not fail the other reads.
+     *
+     * @param multicallContract the ID of the deployed aggregator contract
+     * @param reads             the reads to execute
+     * @return the results of the reads in the order of the given reads, an empty Optional for every read that failed
+     * @throws HieroException if the multicall could not be executed
+     */
+    @NonNull
+    default List<Optional<ContractCallResult>> multicall(@NonNull String multicallContract,
+            @NonNull List<ContractRead> reads) throws HieroException {
+        Objects.requireNonNull(multicallContract, "multicallContract must not be null");
+        return multicall(ContractId.fromString(multicallContract), reads);
+    }
+
+    /**
+     * Executes several read-only ({@code view} or {@code pure}) function calls on one or more contracts with a single
+     * call of a Multicall3 aggregator contract ({@code aggregate3((address,bool,bytes)[])}). All reads are executed
+     * in the same call and therefore see the same state of the network. The aggregator contract is not part of the
+     * network and must be deployed once (for example by {@link #createContract(Path, ContractParam[])} with the
+     * bytecode of the Multicall3 contract). Every read is executed with {@code allowFailure} set, so a failing read
+     * (for example a reverted call) does not fail the other reads.
+     *
+     * @param multicallContract the ID of the deployed aggregator contract
+     * @param reads             the reads to execute
+     * @return the results of the reads in the order of the given reads, an empty Optional for every read that failed
+     * @throws HieroException if the multicall could not be executed
+     */
+    @NonNull
+    List<Optional<ContractCallResult>> multicall(@NonNull ContractId multicallContract,
+            @NonNull List<ContractRead> reads)
+            throws HieroException;
 }
@@ -317,4 +317,42 @@ public interface TopicClient {
         Objects.requireNonNull(message, "message cannot be null");
         submitMessage(TopicId.fromString(topicId), PrivateKey.fromString(submitKey), message);
     };
+
+    /**
+     * Submit a message that can be larger than a single topic message to a Topic. The message is split into chunks of
+     * 1024 bytes that are submitted concurrently and share the transaction id of the first chunk as initial
+     * transaction id.
+     *
+     * @param topicId the topicId of topic
+     * @param message the message to send to topic
+     * @throws HieroException if the message could not be submitted
+     */
+    void submitChunkedMessage(@NonNull TopicId topicId, @NonNull byte[] message) throws HieroException;
+
+    /**
+     * Submit a message that can be larger than a single topic message to a Topic. The message is split into chunks of
+     * 1024 bytes that are submitted concurrently and share the transaction id of the first chunk as initial
+     * transaction id.
+     *
+     * @param topicId the topicId of topic
+     * @param message the message to send to topic
+     * @throws HieroException if the message could not be submitted
+     */
+    default void submitChunkedMessage(@NonNull String topicId, @NonNull byte[] message) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId cannot be null");
+        submitChunkedMessage(TopicId.fromString(topicId), message);
+    }
+
+    /**
+     * Submit a message that can be larger than a single topic message to a Topic. The message is split into chunks of
+     * 1024 bytes that are submitted concurrently and share the transaction id of the first chunk as initial
+     * transaction id.
+     *
+     * @param topicId the topicId of topic
+     * @param submitKey the submit key for submitting message
+     * @param message the message to send to topic
+     * @throws HieroException if the message could not be submitted
+     */
+    void submitChunkedMessage(@NonNull TopicId topicId, @NonNull PrivateKey submitKey, @NonNull byte[] message)
+            throws HieroException;
 }
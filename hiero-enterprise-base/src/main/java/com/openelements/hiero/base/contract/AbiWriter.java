@@ -0,0 +1,281 @@
+package com.openelements.hiero.base.contract;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Writes the call data of a single function call (function selector followed by the ABI encoded parameters) into an
+ * array of the exact size. The writer is used by the proxies that are generated for a {@link ContractInterface}: the
+ * proxy knows the selector and the number of parameters at compile time and only calculates the size of the dynamic
+ * values ({@code string} and {@code bytes}) at runtime. The parameters must be written in the order of the function
+ * signature. Static values are written into the head of the encoding, dynamic values are written into the tail and
+ * referenced by an offset in the head.
+ * <p>
+ * Example for {@code setName(uint256,string)}:
+ * <pre>{@code
+ * byte[] callData = AbiWriter.forCall(SELECTOR, 2, AbiWriter.sizeOf(name))
+ *         .writeUint(id, 256)
+ *         .writeString(name)
+ *         .toByteArray();
+ * }</pre>
+ */
+public final class AbiWriter {
+
+    private final byte[] data;
+
+    private final ByteBuffer head;
+
+    private final ByteBuffer tail;
+
+    private AbiWriter(@NonNull final byte[] selector, final int params, final int dynamicSize) {
+        Objects.requireNonNull(selector, "selector must not be null");
+        if (selector.length != AbiEncoder.SELECTOR_SIZE) {
+            throw new IllegalArgumentException("selector must be " + AbiEncoder.SELECTOR_SIZE + " bytes");
+        }
+        if (params < 0) {
+            throw new IllegalArgumentException("params must be non-negative");
+        }
+        if (dynamicSize < 0 || dynamicSize % AbiEncoder.WORD_SIZE != 0) {
+            throw new IllegalArgumentException("dynamicSize must be a non-negative multiple of "
+                    + AbiEncoder.WORD_SIZE);
+        }
+        final int headSize = params * AbiEncoder.WORD_SIZE;
+        this.data = new byte[AbiEncoder.SELECTOR_SIZE + headSize + dynamicSize];
+        System.arraycopy(selector, 0, data, 0, AbiEncoder.SELECTOR_SIZE);
+        this.head = ByteBuffer.wrap(data, AbiEncoder.SELECTOR_SIZE, headSize);
+        this.tail = ByteBuffer.wrap(data, AbiEncoder.SELECTOR_SIZE + headSize, dynamicSize);
+    }
+
+    /**
+     * Creates a writer for a function call.
+     *
+     * @param selector    the 4 byte function selector
+     * @param params      the number of parameters of the function
+     * @param dynamicSize the summed size of all dynamic values (see {@link #sizeOf(String)} and
+     *                    {@link #sizeOf(byte[])})
+     * @return the writer
+     */
+    @NonNull
+    public static AbiWriter forCall(@NonNull final byte[] selector, final int params, final int dynamicSize) {
+        return new AbiWriter(selector, params, dynamicSize);
+    }
+
+    /**
+     * Returns the size that a {@code string} value needs in the tail of the encoding.
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    public static int sizeOf(@NonNull final String value) {
+        return AbiEncoder.dynamicValueSize(value);
+    }
+
+    /**
+     * Returns the size that a {@code bytes} value needs in the tail of the encoding.
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    public static int sizeOf(@NonNull final byte[] value) {
+        return AbiEncoder.dynamicValueSize(value);
+    }
+
+    /**
+     * Writes an unsigned integer value ({@code uintN}).
+     *
+     * @param value the value
+     * @param bits  the number of bits {@code N} of the Solidity type
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeUint(final long value, final int bits) {
+        checkBits(bits);
+        if (value < 0 || (bits < Long.SIZE && value >>> bits != 0)) {
+            throw new IllegalArgumentException("value " + value + " does not fit into uint" + bits);
+        }
+        AbiEncoder.writeLong(head, value);
+        return this;
+    }
+
+    /**
+     * Writes a signed integer value ({@code intN}).
+     *
+     * @param value the value
+     * @param bits  the number of bits {@code N} of the Solidity type
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeInt(final long value, final int bits) {
+        checkBits(bits);
+        if (bits < Long.SIZE && (value >> (bits - 1)) != 0 && (value >> (bits - 1)) != -1) {
+            throw new IllegalArgumentException("value " + value + " does not fit into int" + bits);
+        }
+        AbiEncoder.writeLong(head, value);
+        return this;
+    }
+
+    /**
+     * Writes an unsigned integer value ({@code uintN}).
+     *
+     * @param value the value
+     * @param bits  the number of bits {@code N} of the Solidity type
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeUint(@NonNull final BigInteger value, final int bits) {
+        Objects.requireNonNull(value, "value must not be null");
+        checkBits(bits);
+        if (value.signum() < 0 || value.bitLength() > bits) {
+            throw new IllegalArgumentException("value " + value + " does not fit into uint" + bits);
+        }
+        AbiEncoder.writeBigInteger(head, value);
+        return this;
+    }
+
+    /**
+     * Writes a signed integer value ({@code intN}).
+     *
+     * @param value the value
+     * @param bits  the number of bits {@code N} of the Solidity type
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeInt(@NonNull final BigInteger value, final int bits) {
+        Objects.requireNonNull(value, "value must not be null");
+        checkBits(bits);
+        if (value.bitLength() > bits - 1) {
+            throw new IllegalArgumentException("value " + value + " does not fit into int" + bits);
+        }
+        AbiEncoder.writeBigInteger(head, value);
+        return this;
+    }
+
+    /**
+     * Writes a {@code bool} value.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeBool(final boolean value) {
+        AbiEncoder.writeLong(head, value ? 1 : 0);
+        return this;
+    }
+
+    /**
+     * Writes an {@code address} value. The address can be hex encoded (with or without {@code 0x} prefix) or an
+     * account id like {@code 0.0.1234}.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeAddress(@NonNull final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        if (value.indexOf('.') >= 0) {
+            AbiEncoder.writeAddress(head, AccountId.fromString(value).toSolidityAddress());
+        } else {
+            AbiEncoder.writeAddress(head, value);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the address of an account.
+     *
+     * @param value the account
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeAddress(@NonNull final AccountId value) {
+        Objects.requireNonNull(value, "value must not be null");
+        AbiEncoder.writeAddress(head, value.toSolidityAddress());
+        return this;
+    }
+
+    /**
+     * Writes the address of a contract.
+     *
+     * @param value the contract
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeAddress(@NonNull final ContractId value) {
+        Objects.requireNonNull(value, "value must not be null");
+        AbiEncoder.writeAddress(head, value.toSolidityAddress());
+        return this;
+    }
+
+    /**
+     * Writes a {@code bytesN} value.
+     *
+     * @param value the value, must not be longer than {@code size}
+     * @param size  the size {@code N} of the Solidity type
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeFixedBytes(@NonNull final byte[] value, final int size) {
+        Objects.requireNonNull(value, "value must not be null");
+        AbiEncoder.writeFixedBytes(head, value, size);
+        return this;
+    }
+
+    /**
+     * Writes a {@code string} value. The writer must have been created with the size of the value (see
+     * {@link #sizeOf(String)}).
+     *
+     * @param value the value
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeString(@NonNull final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        writeOffset();
+        AbiEncoder.writeString(tail, value);
+        return this;
+    }
+
+    /**
+     * Writes a {@code bytes} value. The writer must have been created with the size of the value (see
+     * {@link #sizeOf(byte[])}).
+     *
+     * @param value the value
+     * @return this writer
+     */
+    @NonNull
+    public AbiWriter writeBytes(@NonNull final byte[] value) {
+        Objects.requireNonNull(value, "value must not be null");
+        writeOffset();
+        AbiEncoder.writeBytes(tail, value);
+        return this;
+    }
+
+    /**
+     * Returns the call data. All parameters must have been written.
+     *
+     * @return the call data
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        if (head.hasRemaining() || tail.hasRemaining()) {
+            throw new IllegalStateException("Not all parameters have been written");
+        }
+        return data;
+    }
+
+    private void writeOffset() {
+        // offsets are relative to the start of the parameters, the selector is not part of the encoding
+        AbiEncoder.writeLong(head, tail.position() - AbiEncoder.SELECTOR_SIZE);
+    }
+
+    private static void checkBits(final int bits) {
+        if (bits < 8 || bits > 256 || bits % 8 != 0) {
+            throw new IllegalArgumentException("bits must be a multiple of 8 between 8 and 256");
+        }
+    }
+}
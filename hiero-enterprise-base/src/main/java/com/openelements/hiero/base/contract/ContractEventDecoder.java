@@ -0,0 +1,142 @@
+package com.openelements.hiero.base.contract;
+
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogFilter;
+import com.openelements.hiero.base.implementation.data.AbiDecoder;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Decodes the logs of a contract event into records. The event is defined like in Solidity and the parameters are
+ * mapped by name (or by position if the parameters have no names) to the components of the record. Example:
+ * <pre>{@code
+ * record Transfer(String from, String to, BigInteger value) {}
+ *
+ * ContractEventDecoder<Transfer> decoder = ContractEventDecoder.of(Transfer.class,
+ *         "Transfer(address indexed from, address indexed to, uint256 value)");
+ * try (Stream<ContractLog> logs = mirrorNodeClient.streamContractLogs(contractId, decoder.filter())) {
+ *     logs.map(decoder::decode).forEach(...);
+ * }
+ * }</pre>
+ * Indexed parameters of a dynamic type are only stored as hash and must be mapped to {@code byte[]}. Anonymous
+ * events are not supported.
+ *
+ * @param <T> the type of the record
+ */
+public final class ContractEventDecoder<T> {
+
+    private final Class<T> type;
+
+    private final String event;
+
+    private final String signature;
+
+    private final byte[] topic;
+
+    private ContractEventDecoder(@NonNull final Class<T> type, @NonNull final String event) {
+        this.type = Objects.requireNonNull(type, "type must not be null");
+        this.event = Objects.requireNonNull(event, "event must not be null");
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Type " + type.getName() + " must be a record");
+        }
+        this.signature = AbiDecoder.eventSignature(event);
+        this.topic = AbiDecoder.eventTopic(event);
+    }
+
+    /**
+     * Creates a decoder for the given event.
+     *
+     * @param type  the record
+     * @param event the event definition, for example
+     *              {@code Transfer(address indexed from, address indexed to, uint256 value)}
+     * @param <T>   the type of the record
+     * @return the decoder
+     */
+    @NonNull
+    public static <T> ContractEventDecoder<T> of(@NonNull final Class<T> type, @NonNull final String event) {
+        return new ContractEventDecoder<>(type, event);
+    }
+
+    /**
+     * Returns the canonical signature of the event, for example {@code Transfer(address,address,uint256)}.
+     *
+     * @return the signature
+     */
+    @NonNull
+    public String signature() {
+        return signature;
+    }
+
+    /**
+     * Returns the topic of the event (the Keccak-256 hash of the signature) that is the first topic of all logs of
+     * the event.
+     *
+     * @return the topic
+     */
+    @NonNull
+    public byte[] topic() {
+        return topic.clone();
+    }
+
+    /**
+     * Returns a filter that only matches the logs of this event.
+     *
+     * @return the filter
+     */
+    @NonNull
+    public ContractLogFilter filter() {
+        return filter(ContractLogFilter.all());
+    }
+
+    /**
+     * Returns a copy of the given filter that additionally only matches the logs of this event.
+     *
+     * @param filter the filter
+     * @return the filter
+     */
+    @NonNull
+    public ContractLogFilter filter(@NonNull final ContractLogFilter filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+        return filter.withTopic(0, topic);
+    }
+
+    /**
+     * Returns true if the given log is a log of this event.
+     *
+     * @param log the log
+     * @return true if the log belongs to the event
+     */
+    public boolean matches(@NonNull final ContractLog log) {
+        Objects.requireNonNull(log, "log must not be null");
+        return !log.topics().isEmpty() && Arrays.equals(topic, log.topics().get(0));
+    }
+
+    /**
+     * Decodes the given log.
+     *
+     * @param log the log
+     * @return the decoded event
+     * @throws IllegalArgumentException if the log is not a log of this event
+     */
+    @NonNull
+    public T decode(@NonNull final ContractLog log) {
+        Objects.requireNonNull(log, "log must not be null");
+        return AbiDecoder.decodeEvent(log.topics(), log.data(), type, event);
+    }
+
+    /**
+     * Decodes the given log if it is a log of this event.
+     *
+     * @param log the log
+     * @return the decoded event or empty if the log belongs to another event
+     */
+    @NonNull
+    public Optional<T> tryDecode(@NonNull final ContractLog log) {
+        if (!matches(log)) {
+            return Optional.empty();
+        }
+        return Optional.of(decode(log));
+    }
+}
@@ -0,0 +1,55 @@
+package com.openelements.hiero.base.contract;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the Solidity function that is called by a method of a {@link ContractInterface}. The parameters of the
+ * method are mapped by position to the parameters of the function, the annotation processor checks at compile time
+ * that the Java types fit to the Solidity types:
+ * <ul>
+ *     <li>{@code intN} / {@code uintN}: {@code long}, {@code int}, {@code short}, {@code byte} or
+ *     {@link java.math.BigInteger}</li>
+ *     <li>{@code bool}: {@code boolean}</li>
+ *     <li>{@code address}: {@link String} (hex encoded), {@link com.hedera.hashgraph.sdk.AccountId} or
+ *     {@link com.hedera.hashgraph.sdk.ContractId}</li>
+ *     <li>{@code string}: {@link String}</li>
+ *     <li>{@code bytes} / {@code bytesN}: {@code byte[]}</li>
+ * </ul>
+ * A single return value can be returned by one of the types above. Multiple return values are decoded into a
+ * record or an interface (see {@link com.openelements.hiero.base.data.ContractCallResult#decode(Class, String)}).
+ * The method can always return the raw {@link com.openelements.hiero.base.data.ContractCallResult} or
+ * {@code void}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface ContractFunction {
+
+    /**
+     * The signature of the function, for example {@code "transfer(address,uint256)"}. Parameter names are allowed
+     * and ignored ({@code "transfer(address to, uint256 amount)"}).
+     *
+     * @return the signature of the function
+     */
+    String value();
+
+    /**
+     * The return types of the function, for example {@code "uint256"} or {@code "uint256 balance, address owner"}.
+     *
+     * @return the return types or an empty string if the function has no return value
+     */
+    String returns() default "";
+
+    /**
+     * Defines if the function is a read-only ({@code view} or {@code pure}) function. Read-only functions are called
+     * by {@link com.openelements.hiero.base.SmartContractClient#queryContract(com.hedera.hashgraph.sdk.ContractId,
+     * byte[])}, all other functions by a transaction.
+     *
+     * @return {@code true} if the function is read-only
+     */
+    boolean view() default false;
+}
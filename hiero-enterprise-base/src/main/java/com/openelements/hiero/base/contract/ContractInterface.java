@@ -0,0 +1,47 @@
+package com.openelements.hiero.base.contract;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface as the typed Java view of a smart contract. The annotation processor of the
+ * {@code hiero-enterprise-processor} module generates an implementation of the interface (named
+ * {@code <InterfaceName>Proxy} and located in the same package) that calls the contract by a
+ * {@link com.openelements.hiero.base.SmartContractClient}. The function selectors of the proxy are calculated at
+ * compile time and the parameters are encoded directly by an {@link AbiWriter}.
+ * <p>
+ * Every abstract method of the interface must either be annotated by {@link ContractFunction} or, if {@link #abi()}
+ * is defined, match a function of the ABI by name and number of parameters. All abstract methods must declare
+ * {@link com.openelements.hiero.base.HieroException}. Example:
+ * <pre>{@code
+ * @ContractInterface
+ * public interface Erc20 {
+ *
+ *     @ContractFunction(value = "balanceOf(address)", returns = "uint256", view = true)
+ *     BigInteger balanceOf(String owner) throws HieroException;
+ *
+ *     @ContractFunction(value = "transfer(address,uint256)", returns = "bool")
+ *     boolean transfer(String to, BigInteger amount) throws HieroException;
+ * }
+ *
+ * Erc20 token = new Erc20Proxy(smartContractClient, contractId);
+ * }</pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface ContractInterface {
+
+    /**
+     * The path of an ABI JSON file (the {@code abi} output of the Solidity compiler) that is used for all methods
+     * that are not annotated by {@link ContractFunction}. The file is resolved relative to the class output, the
+     * source path and the class path of the compilation (for example {@code "contracts/Erc20.abi.json"} for a file
+     * in {@code src/main/resources/contracts}).
+     *
+     * @return the path of the ABI file or an empty string if all methods are annotated
+     */
+    String abi() default "";
+}
@@ -0,0 +1,39 @@
+package com.openelements.hiero.base.contract;
+
+import com.openelements.hiero.base.data.ContractLogCursor;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Stores the position of the last processed log of a {@link ContractLogFollower}, so that a follower can continue
+ * after a restart without rescanning the logs that have already been processed. Implementations must be thread-safe.
+ */
+public interface ContractLogCheckpointStore {
+
+    /**
+     * Loads the checkpoint of the follower with the given name.
+     *
+     * @param name the name of the follower
+     * @return the cursor of the last processed log or empty if the follower has not processed any log
+     */
+    @NonNull
+    Optional<ContractLogCursor> load(@NonNull String name);
+
+    /**
+     * Stores the checkpoint of the follower with the given name.
+     *
+     * @param name   the name of the follower
+     * @param cursor the cursor of the last processed log
+     */
+    void store(@NonNull String name, @NonNull ContractLogCursor cursor);
+
+    /**
+     * Returns a new store that holds the checkpoints in memory.
+     *
+     * @return the store
+     */
+    @NonNull
+    static ContractLogCheckpointStore inMemory() {
+        return new InMemoryContractLogCheckpointStore();
+    }
+}
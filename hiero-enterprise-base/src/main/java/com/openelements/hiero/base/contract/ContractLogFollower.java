@@ -0,0 +1,147 @@
+package com.openelements.hiero.base.contract;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogCursor;
+import com.openelements.hiero.base.data.ContractLogFilter;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Follows the logs of a contract. Every {@link #poll(Consumer)} passes the logs that have been added since the last
+ * processed log to a consumer and stores the position of the last processed log in a
+ * {@link ContractLogCheckpointStore}. The next poll (or a new follower with the same name and store, for example after
+ * a restart) resumes at that position, so that an indexer does not need to rescan the logs of the contract.
+ * <p>
+ * The checkpoint is stored after the logs of a poll have been processed or a consumer has failed. Logs are therefore
+ * delivered at least once: if the application stops during a poll, the logs of that poll are delivered again.
+ */
+public final class ContractLogFollower implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractLogFollower.class);
+
+    private final MirrorNodeClient mirrorNodeClient;
+
+    private final ContractId contractId;
+
+    private final ContractLogFilter filter;
+
+    private final ContractLogCheckpointStore checkpointStore;
+
+    private final String name;
+
+    private final Object pollLock = new Object();
+
+    @Nullable
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a follower.
+     *
+     * @param mirrorNodeClient the mirror node client
+     * @param contractId       the contract
+     * @param filter           the filter for the logs; its cursor is used as start if no checkpoint exists
+     * @param checkpointStore  the store for the checkpoint
+     * @param name             the name of the follower that is used as key of the checkpoint
+     */
+    public ContractLogFollower(@NonNull final MirrorNodeClient mirrorNodeClient, @NonNull final ContractId contractId,
+            @NonNull final ContractLogFilter filter, @NonNull final ContractLogCheckpointStore checkpointStore,
+            @NonNull final String name) {
+        this.mirrorNodeClient = Objects.requireNonNull(mirrorNodeClient, "mirrorNodeClient must not be null");
+        this.contractId = Objects.requireNonNull(contractId, "contractId must not be null");
+        this.filter = Objects.requireNonNull(filter, "filter must not be null");
+        this.checkpointStore = Objects.requireNonNull(checkpointStore, "checkpointStore must not be null");
+        this.name = Objects.requireNonNull(name, "name must not be null");
+    }
+
+    /**
+     * Returns the position of the last processed log.
+     *
+     * @return the cursor of the last processed log or null if no log has been processed
+     */
+    @Nullable
+    public ContractLogCursor checkpoint() {
+        return checkpointStore.load(name).orElse(filter.after());
+    }
+
+    /**
+     * Passes all logs that follow the checkpoint to the given consumer and updates the checkpoint.
+     *
+     * @param consumer the consumer of the logs
+     * @return the number of processed logs
+     * @throws HieroException if the logs can not be queried or the consumer fails
+     */
+    public int poll(@NonNull final Consumer<ContractLog> consumer) throws HieroException {
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        synchronized (pollLock) {
+            final ContractLogCursor checkpoint = checkpoint();
+            ContractLogCursor last = null;
+            int count = 0;
+            try (Stream<ContractLog> logs = mirrorNodeClient.streamContractLogs(contractId,
+                    filter.withAfter(checkpoint))) {
+                final Iterator<ContractLog> iterator = logs.iterator();
+                while (iterator.hasNext()) {
+                    final ContractLog contractLog = iterator.next();
+                    consumer.accept(contractLog);
+                    last = contractLog.cursor();
+                    count++;
+                }
+            } catch (final RuntimeException e) {
+                throw new HieroException("Failed to follow logs of contract " + contractId, e);
+            } finally {
+                if (last != null) {
+                    checkpointStore.store(name, last);
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Starts to poll the logs in the background with the given delay between two polls. Errors are logged and the
+     * failed poll is repeated after the delay.
+     *
+     * @param delay    the delay between two polls
+     * @param consumer the consumer of the logs
+     */
+    public synchronized void start(@NonNull final Duration delay, @NonNull final Consumer<ContractLog> consumer) {
+        Objects.requireNonNull(delay, "delay must not be null");
+        Objects.requireNonNull(consumer, "consumer must not be null");
+        if (delay.isNegative() || delay.isZero()) {
+            throw new IllegalArgumentException("delay must be positive");
+        }
+        if (executor != null) {
+            throw new IllegalStateException("Follower " + name + " has already been started");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-contract-log-follower-" + name)
+                .factory());
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                poll(consumer);
+            } catch (final Exception e) {
+                log.error("Failed to poll logs of contract {} for follower {}", contractId, name, e);
+            }
+        }, 0, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
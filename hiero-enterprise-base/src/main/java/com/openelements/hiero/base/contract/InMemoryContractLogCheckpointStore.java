@@ -0,0 +1,30 @@
+package com.openelements.hiero.base.contract;
+
+import com.openelements.hiero.base.data.ContractLogCursor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link ContractLogCheckpointStore} that holds the checkpoints in memory. The checkpoints are lost when the
+ * application stops.
+ */
+final class InMemoryContractLogCheckpointStore implements ContractLogCheckpointStore {
+
+    private final Map<String, ContractLogCursor> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public @NonNull Optional<ContractLogCursor> load(@NonNull final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        return Optional.ofNullable(checkpoints.get(name));
+    }
+
+    @Override
+    public void store(@NonNull final String name, @NonNull final ContractLogCursor cursor) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        checkpoints.merge(name, cursor, (current, update) -> current.compareTo(update) < 0 ? update : current);
+    }
+}
@@ -2,10 +2,16 @@ package com.openelements.hiero.base.data;
 
 import com.hedera.hashgraph.sdk.Hbar;
 import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Interface for the result of a contract call. This is used to get the return values of a contract call. The return
  * values are indexed from 0 to n-1.
+ * <p>
+ * The index is the position of the return value in the head of the ABI encoded result. Static fixed-size arrays and
+ * static tuples are encoded in place: a return value of type {@code uint256[3]} at index {@code i} is read by
+ * {@code getUint256(i)}, {@code getUint256(i + 1)} and {@code getUint256(i + 2)}, and the next return value has the
+ * index {@code i + 3}.
  */
 public interface ContractCallResult {
 
@@ -31,6 +37,14 @@ public interface ContractCallResult {
      */
     String getString(int index);
 
+    /**
+     * Get a return value as dynamic bytes ({@code bytes}).
+     *
+     * @param index the index of the return value.
+     * @return the return value as bytes.
+     */
+    byte[] getBytes(int index);
+
     /**
      * Get a return value as an address.
      *
@@ -111,4 +125,85 @@ public interface ContractCallResult {
      */
     BigInteger getUint256(int index);
 
+    /**
+     * Get a return value as a dynamic array of addresses ({@code address[]}).
+     *
+     * @param index the index of the return value.
+     * @return the return value as a list of addresses.
+     */
+    List<String> getAddressArray(int index);
+
+    /**
+     * Get a return value as a dynamic array of booleans ({@code bool[]}).
+     *
+     * @param index the index of the return value.
+     * @return the return value as a list of booleans.
+     */
+    List<Boolean> getBoolArray(int index);
+
+    /**
+     * Get a return value as a dynamic array of int256 values ({@code int256[]}). This can be used for all signed
+     * integer types.
+     *
+     * @param index the index of the return value.
+     * @return the return value as a list of int256 values.
+     */
+    List<BigInteger> getInt256Array(int index);
+
+    /**
+     * Get a return value as a dynamic array of uint256 values ({@code uint256[]}). This can be used for all unsigned
+     * integer types.
+     *
+     * @param index the index of the return value.
+     * @return the return value as a list of uint256 values.
+     */
+    List<BigInteger> getUint256Array(int index);
+
+    /**
+     * Get a return value as a dynamic array of strings ({@code string[]}).
+     *
+     * @param index the index of the return value.
+     * @return the return value as a list of strings.
+     */
+    List<String> getStringArray(int index);
+
+    /**
+     * Get a return value that is a dynamic tuple (a tuple that contains at least one dynamic value). The components of
+     * the tuple can be read from the returned result starting at index 0.
+     *
+     * @param index the index of the return value.
+     * @return the components of the tuple.
+     */
+    ContractCallResult getTuple(int index);
+
+    /**
+     * Get a return value that is a dynamic array of dynamic tuples (for example {@code (bool,bytes)[]}). The
+     * components of every tuple can be read from the returned results starting at index 0.
+     *
+     * @param index the index of the return value.
+     * @return the tuples of the array.
+     */
+    List<ContractCallResult> getTupleArray(int index);
+
+    /**
+     * Decodes all return values into an instance of the given record or interface. The return types are defined by
+     * the {@link ContractReturnTypes} annotation of the type. Records are created in a single pass, for interfaces
+     * every value is decoded on the first call of the matching method.
+     *
+     * @param type the record or interface annotated with {@link ContractReturnTypes}
+     * @param <T>  the type
+     * @return the decoded return values
+     */
+    <T> T decode(Class<T> type);
+
+    /**
+     * Decodes all return values into an instance of the given record or interface. Records are created in a single
+     * pass, for interfaces every value is decoded on the first call of the matching method.
+     *
+     * @param type        the record or interface
+     * @param returnTypes the return types of the function (see {@link ContractReturnTypes})
+     * @param <T>         the type
+     * @return the decoded return values
+     */
+    <T> T decode(Class<T> type, String returnTypes);
 }
@@ -0,0 +1,58 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A log (event) that has been emitted by a smart contract, as returned by the
+ * {@code /api/v1/contracts/{id}/results/logs} endpoint of the mirror node.
+ *
+ * @param contractId         the contract that emitted the log
+ * @param rootContractId     the contract that has been called by the transaction (differs from {@code contractId} if
+ *                           the log has been emitted by a nested call)
+ * @param address            the EVM address of the contract that emitted the log
+ * @param data               the ABI encoded non-indexed values of the event
+ * @param topics             the topics of the log; for events that are not anonymous the first topic is the hash of
+ *                           the event signature and the following topics are the indexed values
+ * @param index              the index of the log in the transaction
+ * @param consensusTimestamp the consensus timestamp of the transaction
+ * @param blockNumber        the number of the block that contains the transaction
+ * @param transactionHash    the hash of the transaction
+ */
+public record ContractLog(@NonNull ContractId contractId,
+                          @Nullable ContractId rootContractId,
+                          @NonNull String address,
+                          byte @NonNull [] data,
+                          @NonNull List<byte[]> topics,
+                          int index,
+                          @NonNull Instant consensusTimestamp,
+                          long blockNumber,
+                          @Nullable String transactionHash) {
+
+    public ContractLog {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(address, "address must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        if (topics.size() > 4) {
+            throw new IllegalArgumentException("A log can not have more than 4 topics");
+        }
+        topics = List.copyOf(topics);
+    }
+
+    /**
+     * Returns the cursor that points to this log. A query that is resumed from the cursor returns the logs that
+     * follow this log.
+     *
+     * @return the cursor of the log
+     */
+    @NonNull
+    public ContractLogCursor cursor() {
+        return ContractLogCursor.of(consensusTimestamp, index);
+    }
+}
@@ -0,0 +1,50 @@
+package com.openelements.hiero.base.data;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The position of a {@link ContractLog} in the ordered sequence of the logs of a contract. Logs are ordered by the
+ * consensus timestamp of their transaction and by their index in the transaction. A cursor is used to resume a query
+ * after the last processed log.
+ *
+ * @param consensusTimestamp the consensus timestamp of the log
+ * @param index              the index of the log in the transaction
+ */
+public record ContractLogCursor(@NonNull Instant consensusTimestamp, int index)
+        implements Comparable<ContractLogCursor> {
+
+    private static final Comparator<ContractLogCursor> ORDER = Comparator
+            .comparing(ContractLogCursor::consensusTimestamp)
+            .thenComparingInt(ContractLogCursor::index);
+
+    public ContractLogCursor {
+        Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        if (index < 0) {
+            throw new IllegalArgumentException("index must not be negative");
+        }
+    }
+
+    @NonNull
+    public static ContractLogCursor of(@NonNull final Instant consensusTimestamp, final int index) {
+        return new ContractLogCursor(consensusTimestamp, index);
+    }
+
+    /**
+     * Returns true if the given log follows the position of this cursor.
+     *
+     * @param log the log
+     * @return true if the log follows the cursor
+     */
+    public boolean isBefore(@NonNull final ContractLog log) {
+        Objects.requireNonNull(log, "log must not be null");
+        return compareTo(log.cursor()) < 0;
+    }
+
+    @Override
+    public int compareTo(@NonNull final ContractLogCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
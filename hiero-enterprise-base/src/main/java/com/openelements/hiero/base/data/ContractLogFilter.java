@@ -0,0 +1,196 @@
+package com.openelements.hiero.base.data;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Filter for the logs of a contract. Topics are hex encoded 32 byte values with a {@code 0x} prefix; a log matches if
+ * all defined topics are equal to the topics of the log at the same position. The timestamps are inclusive. If a
+ * cursor is defined only logs that follow the cursor are returned, this is used to resume a query. Note that the
+ * mirror node might reject topic filters without a timestamp range.
+ *
+ * @param topic0 the filter for the first topic (the event signature hash) or null
+ * @param topic1 the filter for the second topic or null
+ * @param topic2 the filter for the third topic or null
+ * @param topic3 the filter for the fourth topic or null
+ * @param from   the minimal consensus timestamp or null
+ * @param to     the maximal consensus timestamp or null
+ * @param after  the cursor after which logs are returned or null
+ */
+public record ContractLogFilter(@Nullable String topic0,
+                                @Nullable String topic1,
+                                @Nullable String topic2,
+                                @Nullable String topic3,
+                                @Nullable Instant from,
+                                @Nullable Instant to,
+                                @Nullable ContractLogCursor after) {
+
+    private static final int TOPIC_SIZE = 32;
+
+    private static final ContractLogFilter ALL = new ContractLogFilter(null, null, null, null, null, null, null);
+
+    public ContractLogFilter {
+        topic0 = normalize(topic0);
+        topic1 = normalize(topic1);
+        topic2 = normalize(topic2);
+        topic3 = normalize(topic3);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
+    /**
+     * Returns a filter that matches all logs.
+     *
+     * @return the filter
+     */
+    @NonNull
+    public static ContractLogFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Returns a copy of this filter with the given topic.
+     *
+     * @param position the position of the topic (0-3)
+     * @param topic    the hex encoded topic (with or without {@code 0x} prefix, values shorter than 32 bytes are left
+     *                 padded) or null to remove the topic filter
+     * @return the new filter
+     */
+    @NonNull
+    public ContractLogFilter withTopic(final int position, @Nullable final String topic) {
+        return switch (position) {
+            case 0 -> new ContractLogFilter(topic, topic1, topic2, topic3, from, to, after);
+            case 1 -> new ContractLogFilter(topic0, topic, topic2, topic3, from, to, after);
+            case 2 -> new ContractLogFilter(topic0, topic1, topic, topic3, from, to, after);
+            case 3 -> new ContractLogFilter(topic0, topic1, topic2, topic, from, to, after);
+            default -> throw new IllegalArgumentException("position must be between 0 and 3");
+        };
+    }
+
+    /**
+     * Returns a copy of this filter with the given topic.
+     *
+     * @param position the position of the topic (0-3)
+     * @param topic    the topic (values shorter than 32 bytes are left padded)
+     * @return the new filter
+     */
+    @NonNull
+    public ContractLogFilter withTopic(final int position, final byte @NonNull [] topic) {
+        Objects.requireNonNull(topic, "topic must not be null");
+        return withTopic(position, HexFormat.of().formatHex(topic));
+    }
+
+    /**
+     * Returns a copy of this filter with the given minimal consensus timestamp (inclusive).
+     *
+     * @param from the minimal consensus timestamp or null
+     * @return the new filter
+     */
+    @NonNull
+    public ContractLogFilter withFrom(@Nullable final Instant from) {
+        return new ContractLogFilter(topic0, topic1, topic2, topic3, from, to, after);
+    }
+
+    /**
+     * Returns a copy of this filter with the given maximal consensus timestamp (inclusive).
+     *
+     * @param to the maximal consensus timestamp or null
+     * @return the new filter
+     */
+    @NonNull
+    public ContractLogFilter withTo(@Nullable final Instant to) {
+        return new ContractLogFilter(topic0, topic1, topic2, topic3, from, to, after);
+    }
+
+    /**
+     * Returns a copy of this filter that only matches logs that follow the given cursor.
+     *
+     * @param after the cursor or null
+     * @return the new filter
+     */
+    @NonNull
+    public ContractLogFilter withAfter(@Nullable final ContractLogCursor after) {
+        return new ContractLogFilter(topic0, topic1, topic2, topic3, from, to, after);
+    }
+
+    /**
+     * Returns the topic filter at the given position.
+     *
+     * @param position the position of the topic (0-3)
+     * @return the topic filter or null
+     */
+    @Nullable
+    public String topic(final int position) {
+        return switch (position) {
+            case 0 -> topic0;
+            case 1 -> topic1;
+            case 2 -> topic2;
+            case 3 -> topic3;
+            default -> throw new IllegalArgumentException("position must be between 0 and 3");
+        };
+    }
+
+    /**
+     * Returns the minimal consensus timestamp that must be requested from the mirror node. This is the later one of
+     * {@link #from()} and the timestamp of {@link #after()}.
+     *
+     * @return the minimal consensus timestamp or null
+     */
+    @Nullable
+    public Instant effectiveFrom() {
+        if (after == null) {
+            return from;
+        }
+        if (from == null || from.isBefore(after.consensusTimestamp())) {
+            return after.consensusTimestamp();
+        }
+        return from;
+    }
+
+    /**
+     * Returns true if the given log matches this filter.
+     *
+     * @param log the log
+     * @return true if the log matches
+     */
+    public boolean matches(@NonNull final ContractLog log) {
+        Objects.requireNonNull(log, "log must not be null");
+        if (after != null && !after.isBefore(log)) {
+            return false;
+        }
+        if (from != null && log.consensusTimestamp().isBefore(from)) {
+            return false;
+        }
+        if (to != null && log.consensusTimestamp().isAfter(to)) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            final String topic = topic(i);
+            if (topic != null && (log.topics().size() <= i
+                    || !Arrays.equals(HexFormat.of().parseHex(topic, 2, topic.length()), log.topics().get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static String normalize(@Nullable final String topic) {
+        if (topic == null) {
+            return null;
+        }
+        final String hex = topic.startsWith("0x") ? topic.substring(2) : topic;
+        if (hex.isEmpty() || hex.length() > TOPIC_SIZE * 2) {
+            throw new IllegalArgumentException("Topic must be a hex value of at most 32 bytes: " + topic);
+        }
+        final String padded = "0".repeat(TOPIC_SIZE * 2 - hex.length()) + hex.toLowerCase();
+        // validates the hex characters
+        HexFormat.of().parseHex(padded);
+        return "0x" + padded;
+    }
+}
@@ -2,15 +2,19 @@ package com.openelements.hiero.base.data;
 
 import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
 import com.openelements.hiero.base.implementation.data.BigIntegerBasedNumericDatatypes;
 import com.openelements.hiero.base.implementation.data.BooleanDatatype;
 import com.openelements.hiero.base.implementation.data.BytesBasedDatatype;
+import com.openelements.hiero.base.implementation.data.CompositeDatatype;
 import com.openelements.hiero.base.implementation.data.LongBasedNumericDatatypes;
 import com.openelements.hiero.base.implementation.data.ParamSupplier;
 import com.openelements.hiero.base.implementation.data.StringBasedDatatype;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -1338,4 +1342,127 @@ public record ContractParam<T>(@NonNull T value, @NonNull String nativeType, @No
     public static ContractParam<BigInteger> uint256(long value) {
         return uint256(BigInteger.valueOf(value));
     }
+
+    /**
+     * Creates a new contract parameter for a dynamic array with native type {@code T[]} where {@code T} is the given
+     * element type. All elements must have the given native type. A dynamic array can be used to pass a whole batch of
+     * values (for example the receivers of a {@code transferBatch(address[],uint256[])} function) in a single call.
+     *
+     * @param elementType the native type of the elements (for example {@code address})
+     * @param elements    the elements of the array
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> array(@NonNull String elementType,
+            @NonNull List<? extends ContractParam<?>> elements) {
+        final List<ContractParam<?>> values = elementsOf(elementType, elements);
+        return new ContractParam<>(values, elementType + "[]", CompositeDatatype.ARRAY);
+    }
+
+    /**
+     * Creates a new contract parameter for a dynamic array with native type {@code T[]} where {@code T} is the native
+     * type of the given elements. At least one element must be provided, use {@link #array(String, List)} for empty
+     * arrays.
+     *
+     * @param elements the elements of the array
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> array(@NonNull ContractParam<?>... elements) {
+        Objects.requireNonNull(elements, "elements must not be null");
+        if (elements.length == 0) {
+            throw new IllegalArgumentException("elements must not be empty");
+        }
+        return array(elements[0].nativeType(), List.of(elements));
+    }
+
+    /**
+     * Creates a new contract parameter for a fixed-size array with native type {@code T[k]} where {@code T} is the
+     * given element type and {@code k} is the number of elements. All elements must have the given native type.
+     *
+     * @param elementType the native type of the elements (for example {@code uint256})
+     * @param elements    the elements of the array
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> fixedArray(@NonNull String elementType,
+            @NonNull List<? extends ContractParam<?>> elements) {
+        final List<ContractParam<?>> values = elementsOf(elementType, elements);
+        return new ContractParam<>(values, elementType + "[" + values.size() + "]", CompositeDatatype.FIXED_ARRAY);
+    }
+
+    /**
+     * Creates a new contract parameter for a fixed-size array with native type {@code T[k]} where {@code T} is the
+     * native type of the given elements and {@code k} is the number of elements.
+     *
+     * @param elements the elements of the array
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> fixedArray(@NonNull ContractParam<?>... elements) {
+        Objects.requireNonNull(elements, "elements must not be null");
+        if (elements.length == 0) {
+            throw new IllegalArgumentException("elements must not be empty");
+        }
+        return fixedArray(elements[0].nativeType(), List.of(elements));
+    }
+
+    /**
+     * Creates a new contract parameter for a tuple (a Solidity {@code struct}) with native type
+     * {@code (T1,T2,...)} where {@code T1,T2,...} are the native types of the given components.
+     *
+     * @param components the components of the tuple
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> tuple(@NonNull List<? extends ContractParam<?>> components) {
+        Objects.requireNonNull(components, "components must not be null");
+        final List<ContractParam<?>> values = requireEncodable(List.copyOf(components));
+        final String nativeType = values.stream()
+                .map(ContractParam::nativeType)
+                .collect(Collectors.joining(",", "(", ")"));
+        return new ContractParam<>(values, nativeType, CompositeDatatype.TUPLE);
+    }
+
+    /**
+     * Creates a new contract parameter for a tuple (a Solidity {@code struct}) with native type
+     * {@code (T1,T2,...)} where {@code T1,T2,...} are the native types of the given components.
+     *
+     * @param components the components of the tuple
+     * @return the new contract parameter
+     */
+    @NonNull
+    public static ContractParam<List<ContractParam<?>>> tuple(@NonNull ContractParam<?>... components) {
+        Objects.requireNonNull(components, "components must not be null");
+        return tuple(List.of(components));
+    }
+
+    @NonNull
+    private static List<ContractParam<?>> elementsOf(@NonNull String elementType,
+            @NonNull List<? extends ContractParam<?>> elements) {
+        Objects.requireNonNull(elementType, "elementType must not be null");
+        Objects.requireNonNull(elements, "elements must not be null");
+        final List<ContractParam<?>> values = List.copyOf(elements);
+        for (final ContractParam<?> value : values) {
+            if (!elementType.equals(value.nativeType())) {
+                throw new IllegalArgumentException(
+                        "element of type '" + value.nativeType() + "' is not valid for array of type '" + elementType
+                                + "'");
+            }
+        }
+        return requireEncodable(values);
+    }
+
+    /**
+     * Composite parameters are encoded by {@link AbiEncoder}, that does not support parameters with a custom
+     * {@link ParamSupplier}. Such parameters are rejected here instead of failing at call time.
+     */
+    @NonNull
+    private static List<ContractParam<?>> requireEncodable(@NonNull List<ContractParam<?>> values) {
+        if (!AbiEncoder.isSupported(values)) {
+            throw new IllegalArgumentException(
+                    "composite parameters can only contain parameters of the types created by ContractParam");
+        }
+        return values;
+    }
 }
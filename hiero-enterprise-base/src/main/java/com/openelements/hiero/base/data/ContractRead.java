@@ -0,0 +1,39 @@
+package com.openelements.hiero.base.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A call of a read-only ({@code view} or {@code pure}) function that is executed as part of a multicall (see
+ * {@link com.openelements.hiero.base.SmartContractClient#multicall(ContractId, List)}).
+ *
+ * @param contractId   the ID of the contract
+ * @param functionName the name of the function to call
+ * @param params       the parameters to pass to the function
+ */
+public record ContractRead(@NonNull ContractId contractId, @NonNull String functionName,
+                           @NonNull List<ContractParam<?>> params) {
+
+    public ContractRead {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        params = List.copyOf(params);
+    }
+
+    @NonNull
+    public static ContractRead of(@NonNull final ContractId contractId, @NonNull final String functionName,
+            @NonNull final ContractParam<?>... params) {
+        Objects.requireNonNull(params, "params must not be null");
+        return new ContractRead(contractId, functionName, List.of(params));
+    }
+
+    @NonNull
+    public static ContractRead of(@NonNull final String contractId, @NonNull final String functionName,
+            @NonNull final ContractParam<?>... params) {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        return of(ContractId.fromString(contractId), functionName, params);
+    }
+}
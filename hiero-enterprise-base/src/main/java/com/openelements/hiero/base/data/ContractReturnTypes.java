@@ -0,0 +1,27 @@
+package com.openelements.hiero.base.data;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines the return types of a contract function for a record or interface that is used to decode the result of a
+ * call (see {@link ContractCallResult#decode(Class)}). The value contains the ABI types and the names of the returned
+ * values, separated by commas, for example {@code uint256 balance, address owner, string name}. The values are mapped
+ * by name to the components of a record or the methods of an interface. For records the names can be omitted; in that
+ * case the values are mapped by position.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ContractReturnTypes {
+
+    /**
+     * Returns the return types of the function.
+     *
+     * @return the return types
+     */
+    String value();
+}
@@ -0,0 +1,37 @@
+package com.openelements.hiero.base.data;
+
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A log as returned by the {@code eth_getLogs} and {@code eth_getTransactionReceipt} methods of a JSON-RPC relay.
+ *
+ * @param address          the EVM address of the contract that emitted the log
+ * @param topics           the topics of the log
+ * @param data             the ABI encoded non-indexed values of the event
+ * @param blockNumber      the number of the block that contains the log
+ * @param blockHash        the hash of the block that contains the log
+ * @param transactionHash  the hash of the transaction that emitted the log
+ * @param transactionIndex the index of the transaction in the block
+ * @param logIndex         the index of the log in the block
+ * @param removed          true if the log has been removed by a chain reorganization
+ */
+public record EthereumLog(@NonNull String address,
+                          @NonNull List<byte[]> topics,
+                          byte @NonNull [] data,
+                          long blockNumber,
+                          @Nullable String blockHash,
+                          @Nullable String transactionHash,
+                          int transactionIndex,
+                          int logIndex,
+                          boolean removed) {
+
+    public EthereumLog {
+        Objects.requireNonNull(address, "address must not be null");
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        topics = List.copyOf(topics);
+    }
+}
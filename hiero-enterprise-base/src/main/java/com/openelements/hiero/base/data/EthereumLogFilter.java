@@ -0,0 +1,69 @@
+package com.openelements.hiero.base.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Filter of the {@code eth_getLogs} method of a JSON-RPC relay. Blocks are defined by a tag ({@code latest},
+ * {@code earliest}, ...) or a hex encoded block number. Topics are hex encoded 32 byte values; a {@code null} topic
+ * matches any value at its position.
+ *
+ * @param address   the EVM address of the contract or null for all contracts
+ * @param fromBlock the first block or null
+ * @param toBlock   the last block or null
+ * @param blockHash the hash of a single block or null (can not be combined with {@code fromBlock} and
+ *                  {@code toBlock})
+ * @param topics    the topics (at most 4)
+ */
+public record EthereumLogFilter(@Nullable String address,
+                                @Nullable String fromBlock,
+                                @Nullable String toBlock,
+                                @Nullable String blockHash,
+                                @NonNull List<String> topics) {
+
+    public EthereumLogFilter {
+        Objects.requireNonNull(topics, "topics must not be null");
+        if (topics.size() > 4) {
+            throw new IllegalArgumentException("A filter can not have more than 4 topics");
+        }
+        if (blockHash != null && (fromBlock != null || toBlock != null)) {
+            throw new IllegalArgumentException("blockHash can not be combined with fromBlock or toBlock");
+        }
+        // topics can contain null as wildcard, therefore List.copyOf can not be used
+        topics = Collections.unmodifiableList(new ArrayList<>(topics));
+    }
+
+    /**
+     * Creates a filter for the logs of a contract in a range of blocks.
+     *
+     * @param address   the EVM address of the contract
+     * @param fromBlock the first block
+     * @param toBlock   the last block
+     * @return the filter
+     */
+    @NonNull
+    public static EthereumLogFilter of(@NonNull final String address, @NonNull final String fromBlock,
+            @NonNull final String toBlock) {
+        Objects.requireNonNull(address, "address must not be null");
+        Objects.requireNonNull(fromBlock, "fromBlock must not be null");
+        Objects.requireNonNull(toBlock, "toBlock must not be null");
+        return new EthereumLogFilter(address, fromBlock, toBlock, null, List.of());
+    }
+
+    /**
+     * Returns a copy of this filter with the given topics.
+     *
+     * @param topics the topics, {@code null} matches any value
+     * @return the new filter
+     */
+    @NonNull
+    public EthereumLogFilter withTopics(@Nullable final String... topics) {
+        Objects.requireNonNull(topics, "topics must not be null");
+        return new EthereumLogFilter(address, fromBlock, toBlock, blockHash, Arrays.asList(topics));
+    }
+}
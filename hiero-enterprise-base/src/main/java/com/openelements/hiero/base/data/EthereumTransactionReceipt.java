@@ -0,0 +1,39 @@
+package com.openelements.hiero.base.data;
+
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The receipt of a transaction as returned by the {@code eth_getTransactionReceipt} method of a JSON-RPC relay.
+ *
+ * @param transactionHash   the hash of the transaction
+ * @param blockHash         the hash of the block that contains the transaction
+ * @param blockNumber       the number of the block that contains the transaction
+ * @param from              the EVM address of the sender
+ * @param to                the EVM address of the receiver or null for a contract creation
+ * @param contractAddress   the EVM address of the created contract or null
+ * @param gasUsed           the gas used by the transaction
+ * @param cumulativeGasUsed the gas used by the transaction and all previous transactions of the block
+ * @param successful        true if the transaction has been successful
+ * @param logs              the logs that have been emitted by the transaction
+ */
+public record EthereumTransactionReceipt(@NonNull String transactionHash,
+                                         @Nullable String blockHash,
+                                         long blockNumber,
+                                         @NonNull String from,
+                                         @Nullable String to,
+                                         @Nullable String contractAddress,
+                                         long gasUsed,
+                                         long cumulativeGasUsed,
+                                         boolean successful,
+                                         @NonNull List<EthereumLog> logs) {
+
+    public EthereumTransactionReceipt {
+        Objects.requireNonNull(transactionHash, "transactionHash must not be null");
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(logs, "logs must not be null");
+        logs = List.copyOf(logs);
+    }
+}
@@ -5,13 +5,14 @@ import com.hedera.hashgraph.sdk.TopicId;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.Charset;
 import java.time.Instant;
 import java.util.Objects;
 
 public record TopicMessage(
         @Nullable ChunkInfo chunkInfo,
         @NonNull Instant consensusTimestamp,
-        @NonNull String message,
+        @NonNull TopicMessagePayload payload,
         @NonNull AccountId payerAccountId,
         byte[] runningHash,
         int runningHashVersion,
@@ -20,8 +21,37 @@ public record TopicMessage(
 ) {
     public TopicMessage {
         Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
-        Objects.requireNonNull(message, "message must not be null");
+        Objects.requireNonNull(payload, "payload must not be null");
         Objects.requireNonNull(payerAccountId, "payerAccountId must not be null");
         Objects.requireNonNull(topicId, "topicId must not be null");
     }
+
+    public TopicMessage(@Nullable ChunkInfo chunkInfo, @NonNull Instant consensusTimestamp, @NonNull String message,
+            @NonNull AccountId payerAccountId, byte[] runningHash, int runningHashVersion, long sequenceNumber,
+            @NonNull TopicId topicId) {
+        this(chunkInfo, consensusTimestamp,
+                TopicMessagePayload.of(Objects.requireNonNull(message, "message must not be null")), payerAccountId,
+                runningHash, runningHashVersion, sequenceNumber, topicId);
+    }
+
+    /**
+     * Returns the payload of the message decoded as UTF-8 text. Binary payloads should be read by {@link #payload()}.
+     *
+     * @return the message
+     */
+    @NonNull
+    public String message() {
+        return payload.asString();
+    }
+
+    /**
+     * Returns the payload of the message decoded as text in the given charset.
+     *
+     * @param charset the charset
+     * @return the message
+     */
+    @NonNull
+    public String message(@NonNull Charset charset) {
+        return payload.asString(charset);
+    }
 }
@@ -0,0 +1,194 @@
+package com.openelements.hiero.base.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The payload of a topic message as it has been submitted to the network. A payload that is created from the base64
+ * text of the mirror node is decoded on first access, therefore messages that are only filtered or forwarded are never
+ * decoded. Binary payloads can be read by {@link #asByteBuffer()} or {@link #asInputStream()} without a copy; text
+ * payloads are decoded with an explicit charset by {@link #asString(Charset)}. Instances are immutable and
+ * thread-safe.
+ */
+public final class TopicMessagePayload {
+
+    private static final TopicMessagePayload EMPTY = new TopicMessagePayload(new byte[0], null);
+
+    @Nullable
+    private final String base64;
+
+    private volatile byte @Nullable [] bytes;
+
+    private TopicMessagePayload(final byte @Nullable [] bytes, @Nullable final String base64) {
+        this.bytes = bytes;
+        this.base64 = base64;
+    }
+
+    /**
+     * Creates a payload that contains a copy of the given bytes.
+     *
+     * @param bytes the bytes
+     * @return the payload
+     */
+    @NonNull
+    public static TopicMessagePayload of(@NonNull final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes must not be null");
+        if (bytes.length == 0) {
+            return EMPTY;
+        }
+        return new TopicMessagePayload(bytes.clone(), null);
+    }
+
+    /**
+     * Creates a payload that contains the UTF-8 encoding of the given text.
+     *
+     * @param text the text
+     * @return the payload
+     */
+    @NonNull
+    public static TopicMessagePayload of(@NonNull final String text) {
+        return of(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a payload that contains the encoding of the given text in the given charset.
+     *
+     * @param text    the text
+     * @param charset the charset
+     * @return the payload
+     */
+    @NonNull
+    public static TopicMessagePayload of(@NonNull final String text, @NonNull final Charset charset) {
+        Objects.requireNonNull(text, "text must not be null");
+        Objects.requireNonNull(charset, "charset must not be null");
+        return new TopicMessagePayload(text.getBytes(charset), null);
+    }
+
+    /**
+     * Creates a payload from base64 text. The text is decoded on first access of the bytes.
+     *
+     * @param base64 the base64 text
+     * @return the payload
+     */
+    @NonNull
+    public static TopicMessagePayload ofBase64(@NonNull final String base64) {
+        Objects.requireNonNull(base64, "base64 must not be null");
+        if (base64.isEmpty()) {
+            return EMPTY;
+        }
+        return new TopicMessagePayload(null, base64);
+    }
+
+    private byte @NonNull [] bytes() {
+        byte[] result = bytes;
+        if (result == null) {
+            // decoding twice by concurrent callers is harmless since the result is the same
+            result = Base64.getDecoder().decode(Objects.requireNonNull(base64));
+            bytes = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of the bytes of the payload.
+     *
+     * @return the bytes
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        return bytes().clone();
+    }
+
+    /**
+     * Returns a read-only view of the bytes of the payload.
+     *
+     * @return the bytes
+     */
+    @NonNull
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a stream that reads the bytes of the payload, for example to parse a binary payload.
+     *
+     * @return the stream
+     */
+    @NonNull
+    public InputStream asInputStream() {
+        return new ByteArrayInputStream(bytes());
+    }
+
+    /**
+     * Returns the number of bytes of the payload.
+     *
+     * @return the number of bytes
+     */
+    public int size() {
+        return bytes().length;
+    }
+
+    /**
+     * Returns the payload decoded as UTF-8 text.
+     *
+     * @return the text
+     */
+    @NonNull
+    public String asString() {
+        return asString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the payload decoded as text in the given charset.
+     *
+     * @param charset the charset
+     * @return the text
+     */
+    @NonNull
+    public String asString(@NonNull final Charset charset) {
+        Objects.requireNonNull(charset, "charset must not be null");
+        return new String(bytes(), charset);
+    }
+
+    /**
+     * Returns the payload as base64 text.
+     *
+     * @return the base64 text
+     */
+    @NonNull
+    public String toBase64() {
+        if (base64 != null) {
+            return base64;
+        }
+        return Base64.getEncoder().encodeToString(bytes());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TopicMessagePayload that)) {
+            return false;
+        }
+        return Arrays.equals(bytes(), that.bytes());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes());
+    }
+
+    @Override
+    public String toString() {
+        return "TopicMessagePayload[size=" + size() + "]";
+    }
+}
@@ -0,0 +1,321 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumLogFilter;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import com.openelements.hiero.base.relay.EthereumRelayClient;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Base implementation of {@link EthereumRelayClient} that coalesces calls into batched JSON-RPC requests. The first
+ * call of a batch starts a time window; all calls that are issued within the window are sent as one JSON-RPC array.
+ * A batch is sent immediately if it reaches the maximum size. The responses are matched to the calls by their id.
+ * Subclasses only need to send a request body to the relay and to convert the JSON response. After {@link #close()}
+ * all calls that have not been completed fail and new calls return a failed future.
+ *
+ * @param <JSON> the JSON type of the framework
+ */
+public abstract class AbstractEthereumRelayClient<JSON> implements EthereumRelayClient, AutoCloseable {
+
+    /**
+     * The default time window in which calls are coalesced.
+     */
+    public static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(2);
+
+    /**
+     * The default maximum number of calls in a batch. The Hiero JSON-RPC relay accepts up to 100 calls per batch by
+     * default.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 50;
+
+    private static final Pattern ADDRESS = Pattern.compile("0x[0-9a-fA-F]{40}");
+
+    private static final Pattern HASH = Pattern.compile("0x[0-9a-fA-F]{64}");
+
+    private static final Pattern BLOCK = Pattern.compile(
+            "latest|earliest|pending|safe|finalized|0x[0-9a-fA-F]{1,16}");
+
+    private final Duration batchWindow;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor sender;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    private final Object lock = new Object();
+
+    private List<PendingCall<?>> pending = new ArrayList<>();
+
+    /**
+     * All calls that have been taken from {@link #pending} and have not been completed yet.
+     */
+    private final Set<PendingCall<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private boolean closed;
+
+    @Nullable
+    private ScheduledFuture<?> scheduledFlush;
+
+    protected AbstractEthereumRelayClient() {
+        this(DEFAULT_BATCH_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param batchWindow  the time window in which calls are coalesced into one request
+     * @param maxBatchSize the maximum number of calls in one request
+     */
+    protected AbstractEthereumRelayClient(@NonNull final Duration batchWindow, final int maxBatchSize) {
+        this.batchWindow = Objects.requireNonNull(batchWindow, "batchWindow must not be null");
+        if (batchWindow.isNegative()) {
+            throw new IllegalArgumentException("batchWindow must not be negative");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-relay-batch")
+                .factory());
+        this.sender = runnable -> Thread.ofVirtual().name("hiero-relay-request").start(runnable);
+    }
+
+    @NonNull
+    protected abstract EthereumRelayJsonConverter<JSON> getJsonConverter();
+
+    /**
+     * Sends a JSON-RPC request body to the relay.
+     *
+     * @param body the request body (a single request or an array of requests)
+     * @return the response body
+     * @throws HieroException if the request fails
+     */
+    @NonNull
+    protected abstract JSON doPost(@NonNull String body) throws HieroException;
+
+    @Override
+    public @NonNull CompletableFuture<byte[]> callAsync(@NonNull final String to, @NonNull final byte[] data,
+            @NonNull final String block) {
+        Objects.requireNonNull(data, "data must not be null");
+        final String params = "[{\"to\":\"" + check(to, ADDRESS, "to") + "\",\"data\":\"0x"
+                + HexFormat.of().formatHex(data) + "\"},\"" + check(block, BLOCK, "block") + "\"]";
+        return submit("eth_call", params, json -> parseHex(getJsonConverter().toText(json)
+                .orElseThrow(() -> new IllegalStateException("eth_call returned no result"))));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<BigInteger> getBalanceAsync(@NonNull final String address,
+            @NonNull final String block) {
+        final String params = "[\"" + check(address, ADDRESS, "address") + "\",\"" + check(block, BLOCK, "block")
+                + "\"]";
+        return submit("eth_getBalance", params, json -> parseQuantity(getJsonConverter().toText(json)
+                .orElseThrow(() -> new IllegalStateException("eth_getBalance returned no result"))));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<List<EthereumLog>> getLogsAsync(@NonNull final EthereumLogFilter filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+        final List<String> fields = new ArrayList<>();
+        if (filter.address() != null) {
+            fields.add("\"address\":\"" + check(filter.address(), ADDRESS, "address") + "\"");
+        }
+        if (filter.fromBlock() != null) {
+            fields.add("\"fromBlock\":\"" + check(filter.fromBlock(), BLOCK, "fromBlock") + "\"");
+        }
+        if (filter.toBlock() != null) {
+            fields.add("\"toBlock\":\"" + check(filter.toBlock(), BLOCK, "toBlock") + "\"");
+        }
+        if (filter.blockHash() != null) {
+            fields.add("\"blockHash\":\"" + check(filter.blockHash(), HASH, "blockHash") + "\"");
+        }
+        if (!filter.topics().isEmpty()) {
+            fields.add(filter.topics().stream()
+                    .map(topic -> topic == null ? "null" : "\"" + check(topic, HASH, "topic") + "\"")
+                    .collect(Collectors.joining(",", "\"topics\":[", "]")));
+        }
+        final String params = fields.stream().collect(Collectors.joining(",", "[{", "}]"));
+        return submit("eth_getLogs", params, json -> getJsonConverter().toLogs(json));
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Optional<EthereumTransactionReceipt>> getTransactionReceiptAsync(
+            @NonNull final String transactionHash) {
+        final String params = "[\"" + check(transactionHash, HASH, "transactionHash") + "\"]";
+        return submit("eth_getTransactionReceipt", params, json -> getJsonConverter().toTransactionReceipt(json));
+    }
+
+    /**
+     * Adds a call to the current batch.
+     *
+     * @param method          the JSON-RPC method
+     * @param params          the JSON encoded parameters
+     * @param resultConverter the converter of the result
+     * @param <T>             the type of the result
+     * @return the future of the result
+     */
+    @NonNull
+    protected final <T> CompletableFuture<T> submit(@NonNull final String method, @NonNull final String params,
+            @NonNull final Function<JSON, T> resultConverter) {
+        final PendingCall<T> call = new PendingCall<>(ids.incrementAndGet(), method, params, resultConverter,
+                new CompletableFuture<>());
+        List<PendingCall<?>> batch = null;
+        synchronized (lock) {
+            if (closed) {
+                call.future().completeExceptionally(new HieroException("Relay client is closed"));
+                return call.future();
+            }
+            pending.add(call);
+            if (pending.size() >= maxBatchSize) {
+                batch = takePending();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            final List<PendingCall<?>> fullBatch = batch;
+            sender.execute(() -> send(fullBatch));
+        }
+        return call.future();
+    }
+
+    private void flush() {
+        final List<PendingCall<?>> batch;
+        synchronized (lock) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            sender.execute(() -> send(batch));
+        }
+    }
+
+    @NonNull
+    private List<PendingCall<?>> takePending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        final List<PendingCall<?>> batch = pending;
+        pending = new ArrayList<>();
+        inFlight.addAll(batch);
+        return batch;
+    }
+
+    private void send(@NonNull final List<PendingCall<?>> batch) {
+        try {
+            sendBatch(batch);
+        } finally {
+            batch.forEach(inFlight::remove);
+        }
+    }
+
+    private void sendBatch(@NonNull final List<PendingCall<?>> batch) {
+        final String body;
+        if (batch.size() == 1) {
+            body = batch.get(0).toRequest();
+        } else {
+            body = batch.stream().map(PendingCall::toRequest).collect(Collectors.joining(",", "[", "]"));
+        }
+        final Map<Long, JsonRpcResponse<JSON>> responses;
+        try {
+            responses = getJsonConverter().toResponses(doPost(body)).stream()
+                    .collect(Collectors.toMap(JsonRpcResponse::id, Function.identity(), (first, second) -> first));
+        } catch (final Exception e) {
+            final HieroException exception = e instanceof HieroException hieroException ? hieroException
+                    : new HieroException("Relay request failed", e);
+            batch.forEach(call -> call.future().completeExceptionally(exception));
+            return;
+        }
+        // an error that is not related to a single call (like a rejected batch) has no id
+        final JsonRpcResponse<JSON> requestError = responses.get(JsonRpcResponse.NO_ID);
+        batch.forEach(call -> call.complete(responses.getOrDefault(call.id(), requestError)));
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            takePending();
+        }
+        scheduler.shutdownNow();
+        // fails the calls that have not been sent and the calls that still wait for the response of the relay
+        final HieroException exception = new HieroException("Relay client is closed");
+        inFlight.forEach(call -> call.future().completeExceptionally(exception));
+    }
+
+    @NonNull
+    private static String check(@Nullable final String value, @NonNull final Pattern pattern,
+            @NonNull final String name) {
+        Objects.requireNonNull(value, name + " must not be null");
+        if (!pattern.matcher(value).matches()) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+        return value;
+    }
+
+    @NonNull
+    private static byte[] parseHex(@NonNull final String value) {
+        return HexFormat.of().parseHex(value.startsWith("0x") ? value.substring(2) : value);
+    }
+
+    @NonNull
+    private static BigInteger parseQuantity(@NonNull final String value) {
+        final String hex = value.startsWith("0x") ? value.substring(2) : value;
+        return hex.isEmpty() ? BigInteger.ZERO : new BigInteger(hex, 16);
+    }
+
+    private record PendingCall<T>(long id, @NonNull String method, @NonNull String params,
+                                  @NonNull Function<?, T> resultConverter, @NonNull CompletableFuture<T> future) {
+
+        @NonNull
+        String toRequest() {
+            return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"" + method + "\",\"params\":" + params + "}";
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(@Nullable final JsonRpcResponse<?> response) {
+            if (response == null) {
+                future.completeExceptionally(new HieroException("Relay returned no response for " + method));
+                return;
+            }
+            if (response.isError()) {
+                future.completeExceptionally(new HieroException("Relay call " + method + " failed with error "
+                        + response.errorCode() + ": " + response.errorMessage()));
+                return;
+            }
+            try {
+                future.complete(((Function<Object, T>) resultConverter).apply(response.result()));
+            } catch (final RuntimeException e) {
+                future.completeExceptionally(new HieroException("Invalid result of relay call " + method, e));
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.openelements.hiero.base.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogFilter;
 import com.openelements.hiero.base.data.ExchangeRates;
 import com.openelements.hiero.base.data.NetworkFee;
 import com.openelements.hiero.base.data.NetworkStake;
@@ -16,13 +19,21 @@ import com.openelements.hiero.base.data.TransactionInfo;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
 import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public abstract class AbstractMirrorNodeClient<JSON> implements MirrorNodeClient {
 
+    private static final int CONTRACT_LOGS_PAGE_SIZE = 100;
+
+    private static final int MAX_TOPIC_MESSAGES_LIMIT = MirrorNodeClient.MAX_PAGE_LIMIT;
+
     @NonNull
     protected abstract MirrorNodeRestClient<JSON> getRestClient();
 
@@ -100,6 +111,165 @@ public abstract class AbstractMirrorNodeClient<JSON> implements MirrorNodeClient
         return getJsonConverter().toTopicMessage(json);
     }
 
+    @Override
+    @NonNull
+    public final Stream<ContractLog> streamContractLogs(@NonNull final ContractId contractId,
+            @NonNull final ContractLogFilter filter) throws HieroException {
+        return PrefetchingPageIterator.stream(queryContractLogs(contractId, filter));
+    }
+
+    /**
+     * Returns the path (including the query) of the first page of the logs of a contract that match the given
+     * filter. Logs are requested in ascending order. If the filter has a cursor, the query starts at the timestamp of
+     * the cursor; the logs of that timestamp that do not follow the cursor are removed by
+     * {@link #toContractLogs(Object, ContractLogFilter)}.
+     *
+     * @param contractId the contract
+     * @param filter     the filter
+     * @return the path
+     */
+    @NonNull
+    protected static String contractLogsPath(@NonNull final ContractId contractId,
+            @NonNull final ContractLogFilter filter) {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        final StringBuilder path = new StringBuilder("/api/v1/contracts/").append(contractId)
+                .append("/results/logs?order=asc&limit=").append(CONTRACT_LOGS_PAGE_SIZE);
+        for (int i = 0; i < 4; i++) {
+            final String topic = filter.topic(i);
+            if (topic != null) {
+                path.append("&topic").append(i).append('=').append(topic);
+            }
+        }
+        final Instant from = filter.effectiveFrom();
+        if (from != null) {
+            path.append("&timestamp=gte:").append(toTimestamp(from));
+        }
+        if (filter.to() != null) {
+            path.append("&timestamp=lte:").append(toTimestamp(filter.to()));
+        }
+        return path.toString();
+    }
+
+    /**
+     * Converts a page of the {@code /api/v1/contracts/{id}/results/logs} endpoint and removes the logs that do not
+     * match the filter.
+     *
+     * @param json   the page
+     * @param filter the filter
+     * @return the matching logs
+     */
+    @NonNull
+    protected final List<ContractLog> toContractLogs(@NonNull final JSON json,
+            @NonNull final ContractLogFilter filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+        return getJsonConverter().toContractLogs(json).stream()
+                .filter(filter::matches)
+                .toList();
+    }
+
+    /**
+     * Returns the path (including the query) of the topic messages with a sequence number greater than the given
+     * one. Messages are requested in ascending order.
+     *
+     * @param topicId             the topic
+     * @param afterSequenceNumber the sequence number of the last known message
+     * @param limit               the maximum number of messages per page
+     * @return the path
+     */
+    @NonNull
+    protected static String topicMessagesPath(@NonNull final TopicId topicId, final long afterSequenceNumber,
+            final int limit) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (afterSequenceNumber < 0) {
+            throw new IllegalArgumentException("afterSequenceNumber must not be negative");
+        }
+        return topicMessagesPath(topicId, limit) + "&sequencenumber=gt:" + afterSequenceNumber;
+    }
+
+    /**
+     * Returns the path (including the query) of the topic messages with a consensus timestamp that is not before the
+     * given time. Messages are requested in ascending order.
+     *
+     * @param topicId   the topic
+     * @param startTime the consensus time of the first message
+     * @param limit     the maximum number of messages per page
+     * @return the path
+     */
+    @NonNull
+    protected static String topicMessagesPath(@NonNull final TopicId topicId, @NonNull final Instant startTime,
+            final int limit) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(startTime, "startTime must not be null");
+        return topicMessagesPath(topicId, limit) + "&timestamp=gte:" + toTimestamp(startTime);
+    }
+
+    @NonNull
+    private static String topicMessagesPath(@NonNull final TopicId topicId, final int limit) {
+        if (limit < 1 || limit > MAX_TOPIC_MESSAGES_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOPIC_MESSAGES_LIMIT);
+        }
+        return "/api/v1/topics/" + topicId + "/messages?order=asc&limit=" + limit;
+    }
+
+    @NonNull
+    private static String toTimestamp(@NonNull final Instant instant) {
+        return instant.getEpochSecond() + "." + String.format("%09d", instant.getNano());
+    }
+
+    @Override
+    public final long estimateContractGas(@Nullable final ContractId contractId, @NonNull final byte[] data,
+            @Nullable final AccountId from) throws HieroException {
+        final String result = doContractCall(contractId, data, from, true);
+        try {
+            final String hex = result.startsWith("0x") ? result.substring(2) : result;
+            return Long.parseLong(hex, 16);
+        } catch (final NumberFormatException e) {
+            throw new HieroException("Mirror node returned an invalid gas estimate: " + result, e);
+        }
+    }
+
+    @Override
+    @NonNull
+    public final byte[] simulateContractCall(@NonNull final ContractId contractId, @NonNull final byte[] callData)
+            throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        final String result = doContractCall(contractId, callData, null, false);
+        try {
+            final String hex = result.startsWith("0x") ? result.substring(2) : result;
+            return HexFormat.of().parseHex(hex);
+        } catch (final IllegalArgumentException e) {
+            throw new HieroException("Mirror node returned an invalid call result: " + result, e);
+        }
+    }
+
+    @Override
+    @NonNull
+    public final Optional<Instant> queryLatestBlockTimestamp() throws HieroException {
+        final JSON json = getRestClient().queryLatestBlock();
+        return getJsonConverter().toLatestBlockTimestamp(json);
+    }
+
+    @NonNull
+    private String doContractCall(@Nullable final ContractId contractId, @NonNull final byte[] data,
+            @Nullable final AccountId from, final boolean estimate) throws HieroException {
+        Objects.requireNonNull(data, "data must not be null");
+        final StringBuilder body = new StringBuilder("{\"block\":\"latest\",\"estimate\":").append(estimate)
+                .append(",\"data\":\"0x").append(HexFormat.of().formatHex(data)).append('"');
+        if (from != null) {
+            final String address = from.evmAddress != null ? from.evmAddress.toString() : from.toSolidityAddress();
+            body.append(",\"from\":\"0x").append(address.startsWith("0x") ? address.substring(2) : address)
+                    .append('"');
+        }
+        if (contractId != null) {
+            body.append(",\"to\":\"0x").append(contractId.toSolidityAddress()).append('"');
+        }
+        body.append('}');
+        final JSON json = getRestClient().queryContractCall(body.toString());
+        return getJsonConverter().toContractCallResult(json)
+                .orElseThrow(() -> new HieroException("Mirror node did not return a result for the contract call"));
+    }
+
     @Override
     public @NonNull Optional<NftMetadata> getNftMetadata(TokenId tokenId) throws HieroException {
         throw new UnsupportedOperationException("Not yet implemented");
@@ -10,6 +10,7 @@ import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
 import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
 import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -67,4 +68,19 @@ public class AccountClientImpl implements AccountClient {
     public @NonNull Hbar getOperatorAccountBalance() throws HieroException {
         return getAccountBalance(client.getOperatorAccountId());
     }
+
+    @Override
+    public void transferHbar(@NonNull final AccountId toAccountId, @NonNull final Hbar amount)
+            throws HieroException {
+        client.executeHbarTransferTransaction(HbarTransferRequest.of(client.getOperatorAccountId(), null,
+                toAccountId, amount));
+    }
+
+    @Override
+    public void transferHbar(@NonNull final Account fromAccount, @NonNull final AccountId toAccountId,
+            @NonNull final Hbar amount) throws HieroException {
+        Objects.requireNonNull(fromAccount, "fromAccount must not be null");
+        client.executeHbarTransferTransaction(HbarTransferRequest.of(fromAccount.accountId(),
+                fromAccount.privateKey(), toAccountId, amount));
+    }
 }
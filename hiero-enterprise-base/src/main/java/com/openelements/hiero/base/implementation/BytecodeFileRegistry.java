@@ -0,0 +1,272 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.FileClient;
+import com.openelements.hiero.base.HieroException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry that keeps uploaded contract bytecode files alive and reuses them for later deployments of the same
+ * bytecode. Files are identified by the SHA-256 hash of the bytecode. Each file is created with an explicit expiration
+ * time that is extended once it gets close to expiring. If more than {@code maxEntries} files are registered the least
+ * recently used file is deleted on the network. Every file that is returned by {@link #getOrCreateFile(byte[])} is in
+ * use until it is passed to {@link #release(FileId)}; files that are evicted while they are in use are deleted once
+ * the last usage has been released.
+ */
+public class BytecodeFileRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(BytecodeFileRegistry.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    public static final Duration DEFAULT_FILE_LIFETIME = Duration.ofDays(60);
+
+    public static final Duration DEFAULT_RENEWAL_THRESHOLD = Duration.ofDays(7);
+
+    private static final int UPLOAD_LOCK_STRIPES = 64;
+
+    private final FileClient fileClient;
+
+    private final int maxEntries;
+
+    private final Duration fileLifetime;
+
+    private final Duration renewalThreshold;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final Map<FileId, Integer> usages;
+
+    private final Map<FileId, Entry> pendingDeletions;
+
+    private final Object[] uploadLocks;
+
+    public BytecodeFileRegistry(@NonNull final FileClient fileClient) {
+        this(fileClient, DEFAULT_MAX_ENTRIES, DEFAULT_FILE_LIFETIME, DEFAULT_RENEWAL_THRESHOLD);
+    }
+
+    public BytecodeFileRegistry(@NonNull final FileClient fileClient, final int maxEntries,
+            @NonNull final Duration fileLifetime, @NonNull final Duration renewalThreshold) {
+        this.fileClient = Objects.requireNonNull(fileClient, "fileClient must not be null");
+        this.fileLifetime = Objects.requireNonNull(fileLifetime, "fileLifetime must not be null");
+        this.renewalThreshold = Objects.requireNonNull(renewalThreshold, "renewalThreshold must not be null");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (!fileLifetime.isPositive()) {
+            throw new IllegalArgumentException("fileLifetime must be positive");
+        }
+        if (renewalThreshold.isNegative() || renewalThreshold.compareTo(fileLifetime) > 0) {
+            throw new IllegalArgumentException("renewalThreshold must be non-negative and not exceed fileLifetime");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.usages = new HashMap<>();
+        this.pendingDeletions = new HashMap<>();
+        // striped locks are never removed, so a lock can not be replaced while it is held
+        this.uploadLocks = new Object[UPLOAD_LOCK_STRIPES];
+        for (int i = 0; i < uploadLocks.length; i++) {
+            uploadLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Returns the ID of a file that contains the given bytecode. If the bytecode has been uploaded before and the file
+     * is still alive, the existing file is reused. Otherwise, a new file is created and registered. The returned file
+     * is in use and will not be deleted until it is passed to {@link #release(FileId)}.
+     *
+     * @param bytecode the contract bytecode
+     * @return the ID of the file containing the bytecode
+     * @throws HieroException if the file could not be created or its expiration could not be extended
+     */
+    @NonNull
+    public FileId getOrCreateFile(@NonNull final byte[] bytecode) throws HieroException {
+        Objects.requireNonNull(bytecode, "bytecode must not be null");
+        final String hash = hash(bytecode);
+        synchronized (uploadLocks[Math.floorMod(hash.hashCode(), uploadLocks.length)]) {
+            final Optional<Entry> existing = acquireEntry(hash);
+            if (existing.isPresent()) {
+                final Entry entry = existing.get();
+                final Instant now = Instant.now();
+                if (entry.expirationTime().isAfter(now.plus(renewalThreshold))) {
+                    log.debug("Reusing bytecode file {} for hash {}", entry.fileId(), hash);
+                    return entry.fileId();
+                }
+                if (entry.expirationTime().isAfter(now)) {
+                    final Instant newExpirationTime = now.plus(fileLifetime);
+                    log.debug("Extending expiration of bytecode file {} to {}", entry.fileId(), newExpirationTime);
+                    try {
+                        fileClient.updateExpirationTime(entry.fileId(), newExpirationTime);
+                    } catch (final HieroException e) {
+                        release(entry.fileId());
+                        throw e;
+                    }
+                    putEntry(hash, new Entry(entry.fileId(), newExpirationTime), false);
+                    return entry.fileId();
+                }
+                log.debug("Bytecode file {} for hash {} is expired", entry.fileId(), hash);
+                removeEntry(hash);
+                release(entry.fileId());
+            }
+            final Instant expirationTime = Instant.now().plus(fileLifetime);
+            final FileId fileId = fileClient.createFile(bytecode, expirationTime);
+            log.debug("Uploaded bytecode file {} for hash {}", fileId, hash);
+            putEntry(hash, new Entry(fileId, expirationTime), true);
+            return fileId;
+        }
+    }
+
+    /**
+     * Releases a usage of a file that has been returned by {@link #getOrCreateFile(byte[])}. This must be called once
+     * the file is not needed anymore (for example after the contract has been created). If the file has been evicted
+     * in the meantime and this was its last usage, the file is deleted on the network.
+     *
+     * @param fileId the file
+     * @throws IllegalStateException if the file is not in use
+     */
+    public void release(@NonNull final FileId fileId) {
+        Objects.requireNonNull(fileId, "fileId must not be null");
+        final Entry deletion;
+        synchronized (entries) {
+            final Integer count = usages.get(fileId);
+            if (count == null) {
+                throw new IllegalStateException("Bytecode file " + fileId + " is not in use");
+            }
+            if (count > 1) {
+                usages.put(fileId, count - 1);
+                return;
+            }
+            usages.remove(fileId);
+            deletion = pendingDeletions.remove(fileId);
+        }
+        if (deletion != null) {
+            deleteQuietly(deletion);
+        }
+    }
+
+    /**
+     * Removes the registration for the given bytecode. The file is not deleted on the network. This should be used if
+     * a registered file is known to be unusable (for example because it has been deleted by someone else).
+     *
+     * @param bytecode the contract bytecode
+     */
+    public void invalidate(@NonNull final byte[] bytecode) {
+        Objects.requireNonNull(bytecode, "bytecode must not be null");
+        removeEntry(hash(bytecode));
+    }
+
+    /**
+     * Removes all registrations and deletes all registered files on the network. Files that are in use are deleted
+     * once their last usage has been released.
+     */
+    public void clear() {
+        final List<Entry> removed;
+        synchronized (entries) {
+            removed = entries.values().stream()
+                    .filter(this::deleteOrDefer)
+                    .toList();
+            entries.clear();
+        }
+        removed.forEach(this::deleteQuietly);
+    }
+
+    /**
+     * Returns the number of registered bytecode files.
+     *
+     * @return the number of registered bytecode files
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @NonNull
+    private Optional<Entry> acquireEntry(@NonNull final String hash) {
+        synchronized (entries) {
+            final Entry entry = entries.get(hash);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            usages.merge(entry.fileId(), 1, Integer::sum);
+            return Optional.of(entry);
+        }
+    }
+
+    private void putEntry(@NonNull final String hash, @NonNull final Entry entry, final boolean acquire) {
+        final List<Entry> evicted = new ArrayList<>();
+        synchronized (entries) {
+            entries.put(hash, entry);
+            if (acquire) {
+                usages.merge(entry.fileId(), 1, Integer::sum);
+            }
+            final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                final Map.Entry<String, Entry> eldest = iterator.next();
+                iterator.remove();
+                if (deleteOrDefer(eldest.getValue())) {
+                    evicted.add(eldest.getValue());
+                }
+            }
+        }
+        evicted.forEach(this::deleteQuietly);
+    }
+
+    /**
+     * Returns true if the file of a removed entry can be deleted directly. Otherwise, the deletion is deferred until
+     * the last usage of the file has been released. Must be called while holding the lock on {@code entries}.
+     */
+    private boolean deleteOrDefer(@NonNull final Entry entry) {
+        if (usages.containsKey(entry.fileId())) {
+            pendingDeletions.put(entry.fileId(), entry);
+            return false;
+        }
+        return true;
+    }
+
+    private void removeEntry(@NonNull final String hash) {
+        synchronized (entries) {
+            entries.remove(hash);
+        }
+    }
+
+    private void deleteQuietly(@NonNull final Entry entry) {
+        if (entry.expirationTime().isBefore(Instant.now())) {
+            return;
+        }
+        try {
+            log.debug("Deleting evicted bytecode file {}", entry.fileId());
+            fileClient.deleteFile(entry.fileId());
+        } catch (final Exception e) {
+            log.warn("Failed to delete evicted bytecode file {}", entry.fileId(), e);
+        }
+    }
+
+    @NonNull
+    private static String hash(@NonNull final byte[] bytecode) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bytecode));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record Entry(@NonNull FileId fileId, @NonNull Instant expirationTime) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.ContractCreateTransaction;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Helper to create the ABI encoded data of contract calls and contract creations out of {@link ContractParam}
+ * instances. Parameters are encoded by {@link AbiEncoder} if possible; only parameters with custom
+ * {@link com.openelements.hiero.base.implementation.data.ParamSupplier} implementations are encoded by
+ * {@link ContractFunctionParameters}.
+ */
+final class ContractCallData {
+
+    private ContractCallData() {
+    }
+
+    @NonNull
+    static ContractFunctionParameters toFunctionParameters(@NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        params.forEach(param -> addParam(param, functionParameters));
+        return functionParameters;
+    }
+
+    /**
+     * Returns the call data (function selector followed by the encoded parameters) for a call of the given function.
+     *
+     * @param functionName the name of the function
+     * @param params       the parameters of the call
+     * @return the call data
+     */
+    @NonNull
+    static byte[] encodeFunctionCall(@NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        if (AbiEncoder.isSupported(params)) {
+            return AbiEncoder.encodeFunctionCall(functionName, params);
+        }
+        return new ContractExecuteTransaction()
+                .setFunction(functionName, toFunctionParameters(params))
+                .getFunctionParameters()
+                .toByteArray();
+    }
+
+    /**
+     * Returns the encoded constructor parameters that are appended to the initcode of a contract.
+     *
+     * @param params the constructor parameters
+     * @return the encoded parameters
+     */
+    @NonNull
+    static byte[] encodeConstructorParameters(@NonNull final List<ContractParam<?>> params) {
+        if (AbiEncoder.isSupported(params)) {
+            return AbiEncoder.encodeParameters(params);
+        }
+        return new ContractCreateTransaction()
+                .setConstructorParameters(toFunctionParameters(params))
+                .getConstructorParameters()
+                .toByteArray();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addParam(@NonNull final ContractParam param,
+            @NonNull final ContractFunctionParameters functionParameters) {
+        param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+    }
+}
@@ -0,0 +1,228 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.data.ContractCallResult;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Cache for the results of read-only contract function calls. Entries are identified by the contract and the call
+ * data (function selector and encoded parameters) and are valid for a configurable maximum staleness. If the operator
+ * changes the state of a contract by a function call, all entries of that contract are invalidated. Results that have
+ * been observed at a consensus timestamp before the latest known state change of a contract are not cached, since a
+ * mirror node can lag behind consensus. If the cache contains more than {@code maxEntries} entries, the least recently
+ * used entry is evicted.
+ */
+public class ContractCallResultCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    public static final Duration DEFAULT_MAX_STALENESS = Duration.ofSeconds(30);
+
+    private static final Duration STATE_CHANGE_RETENTION = Duration.ofMinutes(10);
+
+    private final int maxEntries;
+
+    private final Duration maxStaleness;
+
+    private final Clock clock;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final Map<ContractId, Instant> lastStateChanges;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ContractCallResultCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_STALENESS);
+    }
+
+    public ContractCallResultCache(final int maxEntries, @NonNull final Duration maxStaleness) {
+        this(maxEntries, maxStaleness, Clock.systemUTC());
+    }
+
+    public ContractCallResultCache(final int maxEntries, @NonNull final Duration maxStaleness,
+            @NonNull final Clock clock) {
+        this.maxStaleness = Objects.requireNonNull(maxStaleness, "maxStaleness must not be null");
+        this.clock = Objects.requireNonNull(clock, "clock must not be null");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        if (!maxStaleness.isPositive()) {
+            throw new IllegalArgumentException("maxStaleness must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.lastStateChanges = new HashMap<>();
+    }
+
+    /**
+     * Returns the cached result of a call or empty if no valid result is cached.
+     *
+     * @param contractId the contract
+     * @param callData   the call data
+     * @return the cached result
+     */
+    @NonNull
+    public Optional<ContractCallResult> get(@NonNull final ContractId contractId, @NonNull final byte[] callData) {
+        final Key key = Key.of(contractId, callData);
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            if (entry.fetchedAt().plus(maxStaleness).isBefore(clock.instant())) {
+                entries.remove(key);
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+            hits.incrementAndGet();
+            return Optional.of(entry.result());
+        }
+    }
+
+    /**
+     * Returns the current time of the cache. For calls that are executed against the current state of the network
+     * (like a contract call query on a consensus node) the value should be taken before the call is executed and
+     * passed to {@link #put(ContractId, byte[], ContractCallResult, Instant)} afterwards.
+     *
+     * @return the current time
+     */
+    @NonNull
+    public Instant now() {
+        return clock.instant();
+    }
+
+    /**
+     * Adds the result of a call to the cache. The result is ignored if it has been observed at a consensus timestamp
+     * before the latest known state change of the contract.
+     *
+     * @param contractId the contract
+     * @param callData   the call data
+     * @param result     the result of the call
+     * @param observedAt the consensus timestamp of the state that has been observed by the call
+     */
+    public void put(@NonNull final ContractId contractId, @NonNull final byte[] callData,
+            @NonNull final ContractCallResult result, @NonNull final Instant observedAt) {
+        Objects.requireNonNull(result, "result must not be null");
+        Objects.requireNonNull(observedAt, "observedAt must not be null");
+        final Key key = Key.of(contractId, callData);
+        synchronized (entries) {
+            final Instant lastStateChange = lastStateChanges.get(contractId);
+            if (lastStateChange != null && observedAt.isBefore(lastStateChange)) {
+                return;
+            }
+            entries.put(key, new Entry(result, clock.instant()));
+            final Iterator<Key> iterator = entries.keySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Invalidates all cached results of the given contract. This must be called once a transaction that changes the
+     * state of the contract has reached consensus.
+     *
+     * @param contractId         the contract
+     * @param consensusTimestamp the consensus timestamp of the transaction that changed the state of the contract
+     */
+    public void invalidate(@NonNull final ContractId contractId, @NonNull final Instant consensusTimestamp) {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        final Instant now = clock.instant();
+        synchronized (entries) {
+            lastStateChanges.merge(contractId, consensusTimestamp, (a, b) -> a.isAfter(b) ? a : b);
+            if (entries.keySet().removeIf(key -> key.contractId().equals(contractId))) {
+                invalidations.incrementAndGet();
+            }
+            lastStateChanges.values().removeIf(instant -> instant.plus(STATE_CHANGE_RETENTION).isBefore(now));
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return the number of cached results
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the statistics
+     */
+    @NonNull
+    public Statistics getStatistics() {
+        return new Statistics(hits.get(), misses.get(), evictions.get(), invalidations.get());
+    }
+
+    /**
+     * Statistics of a {@link ContractCallResultCache}.
+     *
+     * @param hits          number of lookups that returned a cached result
+     * @param misses        number of lookups that did not return a cached result
+     * @param evictions     number of results that have been evicted because the cache was full
+     * @param invalidations number of invalidations that removed at least one result
+     */
+    public record Statistics(long hits, long misses, long evictions, long invalidations) {
+
+        /**
+         * Returns the ratio of lookups that returned a cached result.
+         *
+         * @return the hit rate between 0 and 1
+         */
+        public double hitRate() {
+            final long requests = hits + misses;
+            if (requests == 0) {
+                return 0;
+            }
+            return (double) hits / requests;
+        }
+    }
+
+    private record Key(@NonNull ContractId contractId, @NonNull String callData) {
+
+        @NonNull
+        static Key of(@NonNull final ContractId contractId, @NonNull final byte[] callData) {
+            Objects.requireNonNull(contractId, "contractId must not be null");
+            Objects.requireNonNull(callData, "callData must not be null");
+            return new Key(contractId, HexFormat.of().formatHex(callData));
+        }
+    }
+
+    private record Entry(@NonNull ContractCallResult result, @NonNull Instant fetchedAt) {
+    }
+}
@@ -4,6 +4,7 @@ import com.hedera.hashgraph.sdk.ContractFunctionResult;
 import com.hedera.hashgraph.sdk.Hbar;
 import com.openelements.hiero.base.data.ContractCallResult;
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
@@ -11,6 +12,8 @@ public class ContractCallResultImpl implements ContractCallResult {
 
     private final ContractFunctionResult innerResult;
 
+    private volatile EncodedContractCallResult encodedResult;
+
     public ContractCallResultImpl(@NonNull final ContractFunctionResult innerResult) {
         this.innerResult = Objects.requireNonNull(innerResult, "innerResult must not be null");
     }
@@ -30,6 +33,11 @@ public class ContractCallResultImpl implements ContractCallResult {
         return innerResult.getString(index);
     }
 
+    @Override
+    public byte[] getBytes(int index) {
+        return innerResult.getBytes(index);
+    }
+
     @Override
     public String getAddress(int index) {
         return innerResult.getAddress(index);
@@ -79,4 +87,63 @@ public class ContractCallResultImpl implements ContractCallResult {
     public BigInteger getUint256(int index) {
         return innerResult.getUint256(index);
     }
+
+    @Override
+    public List<String> getAddressArray(int index) {
+        return encodedResult().getAddressArray(index);
+    }
+
+    @Override
+    public List<Boolean> getBoolArray(int index) {
+        return encodedResult().getBoolArray(index);
+    }
+
+    @Override
+    public List<BigInteger> getInt256Array(int index) {
+        return encodedResult().getInt256Array(index);
+    }
+
+    @Override
+    public List<BigInteger> getUint256Array(int index) {
+        return encodedResult().getUint256Array(index);
+    }
+
+    @Override
+    public List<String> getStringArray(int index) {
+        return encodedResult().getStringArray(index);
+    }
+
+    @Override
+    public ContractCallResult getTuple(int index) {
+        return encodedResult().getTuple(index);
+    }
+
+    @Override
+    public List<ContractCallResult> getTupleArray(int index) {
+        return encodedResult().getTupleArray(index);
+    }
+
+    @Override
+    public <T> T decode(Class<T> type) {
+        return encodedResult().decode(type);
+    }
+
+    @Override
+    public <T> T decode(Class<T> type, String returnTypes) {
+        return encodedResult().decode(type, returnTypes);
+    }
+
+    /**
+     * The SDK does not support arrays, tuples and typed decoding of results, therefore these values are decoded from
+     * the raw result.
+     */
+    @NonNull
+    private EncodedContractCallResult encodedResult() {
+        EncodedContractCallResult result = encodedResult;
+        if (result == null) {
+            result = new EncodedContractCallResult(innerResult.asBytes());
+            encodedResult = result;
+        }
+        return result;
+    }
 }
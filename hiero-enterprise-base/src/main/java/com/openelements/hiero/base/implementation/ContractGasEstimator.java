@@ -0,0 +1,283 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Bytes;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates the gas of contract calls and contract creations by simulating them on the mirror node
+ * ({@code /api/v1/contracts/call} with {@code estimate=true}). Since the gas of a function mostly depends on the
+ * function and the shape of its parameters (types and the length of dynamic values) and not on the concrete values,
+ * estimates are cached per contract, function and parameter shape. A configurable safety margin is added to every
+ * estimate, and the result is limited to the range that is accepted by the network. Calls are simulated with the given
+ * sender (normally the operator account), so functions that are restricted to {@code msg.sender} do not revert during
+ * the estimation. Failed estimates are cached per key as well (for at most {@link #MAX_FAILURE_CACHE_DURATION}), so a
+ * call that can not be estimated does not hit the mirror node on every execution.
+ */
+public class ContractGasEstimator {
+
+    private static final Logger log = LoggerFactory.getLogger(ContractGasEstimator.class);
+
+    public static final int DEFAULT_SAFETY_MARGIN_PERCENT = 20;
+
+    public static final Duration DEFAULT_CACHE_DURATION = Duration.ofMinutes(10);
+
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    /**
+     * The maximum duration a failed estimate is cached.
+     */
+    public static final Duration MAX_FAILURE_CACHE_DURATION = Duration.ofMinutes(1);
+
+    /**
+     * The intrinsic gas of every call on the network.
+     */
+    public static final long MIN_GAS = 21_000;
+
+    /**
+     * The maximum gas limit of a single transaction on the network.
+     */
+    public static final long MAX_GAS = 15_000_000;
+
+    private static final int WORD_SIZE = 32;
+
+    private final MirrorNodeClient mirrorNodeClient;
+
+    private final AccountId sender;
+
+    private final int safetyMarginPercent;
+
+    private final Duration cacheDuration;
+
+    private final int maxEntries;
+
+    private final LinkedHashMap<Key, Estimate> cache;
+
+    public ContractGasEstimator(@NonNull final MirrorNodeClient mirrorNodeClient, @NonNull final AccountId sender) {
+        this(mirrorNodeClient, sender, DEFAULT_SAFETY_MARGIN_PERCENT, DEFAULT_CACHE_DURATION, DEFAULT_MAX_ENTRIES);
+    }
+
+    public ContractGasEstimator(@NonNull final MirrorNodeClient mirrorNodeClient, @NonNull final AccountId sender,
+            final int safetyMarginPercent, @NonNull final Duration cacheDuration, final int maxEntries) {
+        this.mirrorNodeClient = Objects.requireNonNull(mirrorNodeClient, "mirrorNodeClient must not be null");
+        this.sender = Objects.requireNonNull(sender, "sender must not be null");
+        this.cacheDuration = Objects.requireNonNull(cacheDuration, "cacheDuration must not be null");
+        if (safetyMarginPercent < 0) {
+            throw new IllegalArgumentException("safetyMarginPercent must be non-negative");
+        }
+        if (cacheDuration.isNegative()) {
+            throw new IllegalArgumentException("cacheDuration must be non-negative");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.safetyMarginPercent = safetyMarginPercent;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the gas limit for a call of the given function.
+     *
+     * @param contractId   the contract
+     * @param functionName the name of the function
+     * @param params       the parameters of the call
+     * @return the estimated gas including the safety margin
+     * @throws HieroException if the gas could not be estimated
+     */
+    public long estimateCallGas(@NonNull final ContractId contractId, @NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        final Key key = new Key(contractId.toString(), functionName, shapeOf(params));
+        final Long cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        final byte[] callData = ContractCallData.encodeFunctionCall(functionName, params);
+        return estimate(key, contractId, callData);
+    }
+
+    /**
+     * Returns the gas limit for a call with the given encoded call data. Since the parameters are already encoded,
+     * estimates are cached per contract, function selector and length of the call data.
+     *
+     * @param contractId the contract
+     * @param callData   the encoded call data (function selector followed by the encoded parameters)
+     * @return the estimated gas including the safety margin
+     * @throws HieroException if the gas could not be estimated
+     */
+    public long estimateCallGas(@NonNull final ContractId contractId, @NonNull final byte[] callData)
+            throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(callData, "callData must not be null");
+        if (callData.length < 4) {
+            throw new IllegalArgumentException("callData must contain at least a function selector");
+        }
+        final Key key = new Key(contractId.toString(), "0x" + HexFormat.of().formatHex(callData, 0, 4),
+                List.of("[" + words(callData.length - 4) + "]"));
+        final Long cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        return estimate(key, contractId, callData);
+    }
+
+    /**
+     * Returns the gas limit for the creation of a contract with the given initcode.
+     *
+     * @param initcode          the initcode of the contract
+     * @param constructorParams the constructor parameters
+     * @return the estimated gas including the safety margin
+     * @throws HieroException if the gas could not be estimated
+     */
+    public long estimateCreateGas(@NonNull final byte[] initcode,
+            @NonNull final List<ContractParam<?>> constructorParams) throws HieroException {
+        Objects.requireNonNull(initcode, "initcode must not be null");
+        Objects.requireNonNull(constructorParams, "constructorParams must not be null");
+        final Key key = new Key(hash(initcode), "<init>", shapeOf(constructorParams));
+        final Long cached = getCached(key);
+        if (cached != null) {
+            return cached;
+        }
+        final byte[] encodedParams = ContractCallData.encodeConstructorParameters(constructorParams);
+        final byte[] data = new byte[initcode.length + encodedParams.length];
+        System.arraycopy(initcode, 0, data, 0, initcode.length);
+        System.arraycopy(encodedParams, 0, data, initcode.length, encodedParams.length);
+        return estimate(key, null, data);
+    }
+
+    /**
+     * Removes all cached estimates.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached estimates.
+     *
+     * @return the number of cached estimates
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private Long getCached(@NonNull final Key key) throws HieroException {
+        synchronized (cache) {
+            final Estimate estimate = cache.get(key);
+            if (estimate == null) {
+                return null;
+            }
+            if (estimate.validUntil().isBefore(Instant.now())) {
+                cache.remove(key);
+                return null;
+            }
+            if (estimate.failure() != null) {
+                throw new HieroException("Gas estimation failed recently for " + key, estimate.failure());
+            }
+            log.debug("Using cached gas estimate {} for {}", estimate.gas(), key);
+            return estimate.gas();
+        }
+    }
+
+    private long estimate(@NonNull final Key key, @Nullable final ContractId contractId, @NonNull final byte[] data)
+            throws HieroException {
+        final long estimate;
+        try {
+            estimate = mirrorNodeClient.estimateContractGas(contractId, data, sender);
+        } catch (final HieroException e) {
+            final Duration failureCacheDuration = cacheDuration.compareTo(MAX_FAILURE_CACHE_DURATION) < 0
+                    ? cacheDuration : MAX_FAILURE_CACHE_DURATION;
+            putEstimate(key, new Estimate(0, e, Instant.now().plus(failureCacheDuration)));
+            throw e;
+        }
+        final long gas = withSafetyMargin(estimate);
+        log.debug("Estimated gas {} (limit {}) for {}", estimate, gas, key);
+        putEstimate(key, new Estimate(gas, null, Instant.now().plus(cacheDuration)));
+        return gas;
+    }
+
+    private void putEstimate(@NonNull final Key key, @NonNull final Estimate estimate) {
+        synchronized (cache) {
+            cache.put(key, estimate);
+            if (cache.size() > maxEntries) {
+                final Map.Entry<Key, Estimate> eldest = cache.entrySet().iterator().next();
+                cache.remove(eldest.getKey());
+            }
+        }
+    }
+
+    private long withSafetyMargin(final long estimate) {
+        final long gas = estimate + Math.ceilDiv(estimate * safetyMarginPercent, 100);
+        return Math.min(MAX_GAS, Math.max(MIN_GAS, gas));
+    }
+
+    @NonNull
+    private static List<String> shapeOf(@NonNull final List<ContractParam<?>> params) {
+        return params.stream()
+                .map(ContractGasEstimator::shapeOf)
+                .toList();
+    }
+
+    @NonNull
+    private static String shapeOf(@NonNull final ContractParam<?> param) {
+        final Object value = param.value();
+        if (value instanceof String string) {
+            return param.nativeType() + "[" + words(string.getBytes(StandardCharsets.UTF_8).length) + "]";
+        }
+        if (value instanceof Bytes bytes) {
+            return param.nativeType() + "[" + words(bytes.bytes().length) + "]";
+        }
+        if (value instanceof List<?> components) {
+            // the gas of arrays and tuples depends on the number and the shape of the elements
+            return components.stream()
+                    .map(component -> shapeOf((ContractParam<?>) component))
+                    .collect(Collectors.joining(",", param.nativeType() + "{", "}"));
+        }
+        return param.nativeType();
+    }
+
+    private static int words(final int length) {
+        return Math.ceilDiv(length, WORD_SIZE);
+    }
+
+    @NonNull
+    private static String hash(@NonNull final byte[] data) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(data));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record Key(@NonNull String target, @NonNull String functionName, @NonNull List<String> shape) {
+    }
+
+    private record Estimate(long gas, @Nullable HieroException failure, @NonNull Instant validUntil) {
+    }
+}
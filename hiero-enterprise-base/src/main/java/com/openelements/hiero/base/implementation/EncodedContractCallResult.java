@@ -0,0 +1,234 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.implementation.data.AbiDecoder;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link ContractCallResult} that decodes the values directly from the ABI encoded return data of a function. This is
+ * used for results that do not come from a transaction record (like simulated calls on the mirror node), therefore
+ * {@link #gasUsed()} and {@link #cost()} are always zero.
+ */
+public class EncodedContractCallResult implements ContractCallResult {
+
+    private static final int WORD_SIZE = 32;
+
+    private final byte[] data;
+
+    public EncodedContractCallResult(@NonNull final byte[] data) {
+        Objects.requireNonNull(data, "data must not be null");
+        this.data = data.clone();
+    }
+
+    /**
+     * Returns the ABI encoded return data.
+     *
+     * @return the return data
+     */
+    @NonNull
+    public byte[] asBytes() {
+        return data.clone();
+    }
+
+    @Override
+    public long gasUsed() {
+        return 0;
+    }
+
+    @Override
+    public Hbar cost() {
+        return Hbar.ZERO;
+    }
+
+    @Override
+    public String getString(int index) {
+        return readString(readOffset(index * WORD_SIZE, 0));
+    }
+
+    @Override
+    public byte[] getBytes(int index) {
+        final int offset = readOffset(index * WORD_SIZE, 0);
+        final int length = toIntExact(readWord(offset, false));
+        checkRange(offset + WORD_SIZE, length);
+        return Arrays.copyOfRange(data, offset + WORD_SIZE, offset + WORD_SIZE + length);
+    }
+
+    @Override
+    public String getAddress(int index) {
+        return readAddress(index * WORD_SIZE);
+    }
+
+    @Override
+    public boolean getBool(int index) {
+        return getUint8(index) != 0;
+    }
+
+    @Override
+    public byte getInt8(int index) {
+        return readWord(index * WORD_SIZE, true).byteValue();
+    }
+
+    @Override
+    public int getInt32(int index) {
+        return readWord(index * WORD_SIZE, true).intValue();
+    }
+
+    @Override
+    public long getInt64(int index) {
+        return readWord(index * WORD_SIZE, true).longValue();
+    }
+
+    @Override
+    public BigInteger getInt256(int index) {
+        return readWord(index * WORD_SIZE, true);
+    }
+
+    @Override
+    public long getUint8(int index) {
+        return readWord(index * WORD_SIZE, false).longValue() & 0xFFL;
+    }
+
+    @Override
+    public long getUint32(int index) {
+        return readWord(index * WORD_SIZE, false).longValue() & 0xFFFF_FFFFL;
+    }
+
+    @Override
+    public long getUint64(int index) {
+        return readWord(index * WORD_SIZE, false).longValue();
+    }
+
+    @Override
+    public BigInteger getUint256(int index) {
+        return readWord(index * WORD_SIZE, false);
+    }
+
+    @Override
+    public List<String> getAddressArray(int index) {
+        return readArray(index, this::readAddress);
+    }
+
+    @Override
+    public List<Boolean> getBoolArray(int index) {
+        return readArray(index, offset -> readWord(offset, false).signum() != 0);
+    }
+
+    @Override
+    public List<BigInteger> getInt256Array(int index) {
+        return readArray(index, offset -> readWord(offset, true));
+    }
+
+    @Override
+    public List<BigInteger> getUint256Array(int index) {
+        return readArray(index, offset -> readWord(offset, false));
+    }
+
+    @Override
+    public List<String> getStringArray(int index) {
+        final int start = readOffset(index * WORD_SIZE, 0) + WORD_SIZE;
+        // the elements are dynamic, therefore the array contains offsets relative to the first element
+        return readArray(index, offset -> readString(readOffset(offset, start)));
+    }
+
+    @Override
+    public ContractCallResult getTuple(int index) {
+        final int offset = readOffset(index * WORD_SIZE, 0);
+        checkRange(offset, 0);
+        return new EncodedContractCallResult(Arrays.copyOfRange(data, offset, data.length));
+    }
+
+    @Override
+    public List<ContractCallResult> getTupleArray(int index) {
+        final int start = readOffset(index * WORD_SIZE, 0) + WORD_SIZE;
+        final List<Integer> offsets = readArray(index, offset -> readOffset(offset, start));
+        final List<ContractCallResult> result = new ArrayList<>(offsets.size());
+        for (int i = 0; i < offsets.size(); i++) {
+            final int offset = offsets.get(i);
+            checkRange(offset, 0);
+            // in a canonical encoding a tuple ends where the next one starts
+            final int end = i + 1 < offsets.size() && offsets.get(i + 1) >= offset ? offsets.get(i + 1) : data.length;
+            result.add(new EncodedContractCallResult(Arrays.copyOfRange(data, offset, Math.min(end, data.length))));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public <T> T decode(Class<T> type) {
+        return AbiDecoder.decode(data, type);
+    }
+
+    @Override
+    public <T> T decode(Class<T> type, String returnTypes) {
+        return AbiDecoder.decode(data, type, returnTypes);
+    }
+
+    @NonNull
+    private <T> List<T> readArray(final int index, @NonNull final IntFunction<T> elementReader) {
+        final int offset = readOffset(index * WORD_SIZE, 0);
+        final int length = toIntExact(readWord(offset, false));
+        final int start = offset + WORD_SIZE;
+        if (length > (data.length - start) / WORD_SIZE) {
+            throw new IndexOutOfBoundsException(
+                    "Array with " + length + " elements at offset " + offset + " exceeds result with " + data.length
+                            + " bytes");
+        }
+        final List<T> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            result.add(elementReader.apply(start + i * WORD_SIZE));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private int readOffset(final int position, final int base) {
+        return base + toIntExact(readWord(position, false));
+    }
+
+    @NonNull
+    private String readString(final int offset) {
+        final int length = toIntExact(readWord(offset, false));
+        checkRange(offset + WORD_SIZE, length);
+        return new String(data, offset + WORD_SIZE, length, StandardCharsets.UTF_8);
+    }
+
+    @NonNull
+    private String readAddress(final int offset) {
+        checkRange(offset, WORD_SIZE);
+        return HexFormat.of().formatHex(data, offset + 12, offset + WORD_SIZE);
+    }
+
+    @NonNull
+    private BigInteger readWord(final int offset, final boolean signed) {
+        checkRange(offset, WORD_SIZE);
+        final byte[] word = Arrays.copyOfRange(data, offset, offset + WORD_SIZE);
+        if (signed) {
+            return new BigInteger(word);
+        }
+        return new BigInteger(1, word);
+    }
+
+    private void checkRange(final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Can not read " + length + " bytes at offset " + offset + " of result with " + data.length
+                            + " bytes");
+        }
+    }
+
+    private static int toIntExact(@NonNull final BigInteger value) {
+        try {
+            return value.intValueExact();
+        } catch (final ArithmeticException e) {
+            throw new IllegalStateException("Invalid offset or length in result: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import java.util.List;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+public interface EthereumRelayJsonConverter<JSON> {
+
+    /**
+     * Returns the responses of a JSON-RPC response body. The body is either a single response or an array of
+     * responses (for a batch request).
+     *
+     * @param json the body
+     * @return the responses
+     */
+    @NonNull
+    List<JsonRpcResponse<JSON>> toResponses(@NonNull JSON json);
+
+    /**
+     * Returns the text of a result that is a JSON string (like the hex encoded result of {@code eth_call}).
+     *
+     * @param json the result
+     * @return the text or empty if the result is null
+     */
+    @NonNull
+    Optional<String> toText(@Nullable JSON json);
+
+    /**
+     * Returns the logs of an {@code eth_getLogs} result.
+     *
+     * @param json the result
+     * @return the logs
+     */
+    @NonNull
+    List<EthereumLog> toLogs(@Nullable JSON json);
+
+    /**
+     * Returns the receipt of an {@code eth_getTransactionReceipt} result.
+     *
+     * @param json the result
+     * @return the receipt or empty if the result is null
+     */
+    @NonNull
+    Optional<EthereumTransactionReceipt> toTransactionReceipt(@Nullable JSON json);
+}
@@ -0,0 +1,71 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link TopicMessageSource} that subscribes to a topic by the gRPC API of the mirror node. The SDK already
+ * reassembles chunked messages. The gRPC messages of the SDK do not contain the payer of messages that have not been
+ * chunked and the version of the running hash, therefore the payer of these messages is {@link #UNKNOWN_PAYER} and the
+ * running hash version is {@link #RUNNING_HASH_VERSION}.
+ */
+public class GrpcTopicMessageSource implements TopicMessageSource {
+
+    /**
+     * The payer of messages whose payer is not known.
+     */
+    public static final AccountId UNKNOWN_PAYER = new AccountId(0, 0, 0);
+
+    /**
+     * The version of the running hash that is used by the network.
+     */
+    public static final int RUNNING_HASH_VERSION = 3;
+
+    private final ProtocolLayerClient protocolLayerClient;
+
+    public GrpcTopicMessageSource(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient,
+                "protocolLayerClient must not be null");
+    }
+
+    @Override
+    public @NonNull Connection open(@NonNull final TopicId topicId, @Nullable final Instant startTime,
+            @NonNull final Listener listener) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        final TopicMessageRequest request = TopicMessageRequest.of(topicId,
+                message -> listener.onMessage(toTopicMessage(topicId, message)), startTime, listener::onError,
+                listener::onComplete);
+        final TopicMessageResult result = protocolLayerClient.executeTopicMessageQuery(request);
+        return result::unsubscribe;
+    }
+
+    @NonNull
+    private static TopicMessage toTopicMessage(@NonNull final TopicId topicId,
+            final com.hedera.hashgraph.sdk.@NonNull TopicMessage message) {
+        ChunkInfo chunkInfo = null;
+        AccountId payer = UNKNOWN_PAYER;
+        if (message.transactionId != null) {
+            if (message.transactionId.accountId != null) {
+                payer = message.transactionId.accountId;
+            }
+            // the SDK only sets the transaction id of chunked messages and has already reassembled them
+            chunkInfo = new ChunkInfo(message.transactionId, 0, 1, 1, false);
+        }
+        return new TopicMessage(chunkInfo, message.consensusTimestamp,
+                TopicMessagePayload.of(message.contents), payer, message.runningHash,
+                RUNNING_HASH_VERSION, message.sequenceNumber, topicId);
+    }
+}
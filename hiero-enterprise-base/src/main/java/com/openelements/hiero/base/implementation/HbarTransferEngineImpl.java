@@ -0,0 +1,296 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.payment.HbarTransferEngine;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link HbarTransferEngine} that keeps one buffer per sender. A buffer is submitted as transfer
+ * transaction on a virtual thread when it contains {@link HbarTransferRequest#MAX_RECEIVERS} receivers or when its
+ * first payment has waited for the linger time. Payments to a receiver that is already part of the buffer are added
+ * to the amount of that receiver and do not take another slot of the transaction. A semaphore bounds the number of
+ * buffered and in-flight payments. A buffer is removed once it has been submitted, so senders that stop paying do not
+ * keep a buffer.
+ * <p>
+ * If a transaction fails with a status that can be caused by a single receiver (for example a deleted account or a
+ * receiver that must sign), the payments of the transaction are submitted again as one transaction per receiver, so
+ * that only the payments to the failing receiver fail.
+ */
+public class HbarTransferEngineImpl implements HbarTransferEngine {
+
+    /**
+     * The default time a payment waits for further payments before its transaction is submitted.
+     */
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(50);
+
+    /**
+     * The default maximum number of buffered and in-flight payments.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_PAYMENTS = 10_000;
+
+    private static final Set<Status> RECEIVER_STATUSES = Set.of(Status.ACCOUNT_DELETED, Status.INVALID_ACCOUNT_ID,
+            Status.ACCOUNT_EXPIRED_AND_PENDING_REMOVAL, Status.RECEIVER_SIG_REQUIRED, Status.INVALID_SIGNATURE);
+
+    private final ProtocolLayerClient protocolLayerClient;
+
+    private final Duration linger;
+
+    private final Semaphore permits;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor sender;
+
+    private final Object lock = new Object();
+
+    private final Map<BufferKey, Buffer> buffers = new HashMap<>();
+
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private boolean closed;
+
+    public HbarTransferEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        this(protocolLayerClient, DEFAULT_LINGER, DEFAULT_MAX_BUFFERED_PAYMENTS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param protocolLayerClient the client that executes the transactions
+     * @param linger              the time a payment waits for further payments before its transaction is submitted
+     * @param maxBufferedPayments the maximum number of buffered and in-flight payments
+     */
+    public HbarTransferEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final Duration linger, final int maxBufferedPayments) {
+        this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient,
+                "protocolLayerClient must not be null");
+        this.linger = Objects.requireNonNull(linger, "linger must not be null");
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        if (maxBufferedPayments < 1) {
+            throw new IllegalArgumentException("maxBufferedPayments must be positive");
+        }
+        this.permits = new Semaphore(maxBufferedPayments);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-hbar-transfer-linger")
+                .factory());
+        this.sender = runnable -> Thread.ofVirtual().name("hiero-hbar-transfer").start(runnable);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<HbarTransferResult> transfer(@Nullable final Account senderAccount,
+            @NonNull final AccountId receiver, @NonNull final Hbar amount) throws HieroException {
+        Objects.requireNonNull(receiver, "receiver must not be null");
+        Objects.requireNonNull(amount, "amount must not be null");
+        if (amount.toTinybars() <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        final BufferKey key = senderAccount == null
+                ? new BufferKey(Objects.requireNonNull(protocolLayerClient.getOperatorAccountId(),
+                "operator account must not be null"), null)
+                : new BufferKey(senderAccount.accountId(), senderAccount.privateKey());
+        if (key.sender().equals(receiver)) {
+            throw new IllegalArgumentException("receiver must not be the sender");
+        }
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for space in the transfer buffer", e);
+        }
+        final CompletableFuture<HbarTransferResult> future = new CompletableFuture<>();
+        final List<Batch> batches = new ArrayList<>(1);
+        synchronized (lock) {
+            if (closed) {
+                permits.release();
+                throw new IllegalStateException("Transfer engine is closed");
+            }
+            final Buffer buffer = buffers.computeIfAbsent(key, k -> new Buffer());
+            try {
+                buffer.add(receiver, amount.toTinybars(), future);
+            } catch (final ArithmeticException e) {
+                if (buffer.payments == 0) {
+                    buffers.remove(key);
+                }
+                permits.release();
+                throw new IllegalArgumentException("Total amount of receiver " + receiver + " is too large", e);
+            }
+            if (buffer.amounts.size() == HbarTransferRequest.MAX_RECEIVERS) {
+                batches.add(buffer.take());
+                buffers.remove(key);
+            } else if (buffer.payments == 1) {
+                buffer.scheduledFlush = scheduler.schedule(() -> flush(key), linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        batches.forEach(batch -> send(key, batch));
+        return future;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> flush() {
+        final Map<BufferKey, Batch> batches = new HashMap<>();
+        synchronized (lock) {
+            final Iterator<Map.Entry<BufferKey, Buffer>> iterator = buffers.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<BufferKey, Buffer> entry = iterator.next();
+                batches.put(entry.getKey(), entry.getValue().take());
+                iterator.remove();
+            }
+        }
+        batches.forEach(this::send);
+        return CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new));
+    }
+
+    private void flush(@NonNull final BufferKey key) {
+        final Batch batch;
+        synchronized (lock) {
+            final Buffer buffer = buffers.remove(key);
+            if (buffer == null) {
+                return;
+            }
+            batch = buffer.take();
+        }
+        send(key, batch);
+    }
+
+    private void send(@NonNull final BufferKey key, @NonNull final Batch batch) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.add(done);
+        sender.execute(() -> {
+            try {
+                final HbarTransferResult result = execute(key, batch.amounts());
+                batch.futures().values().forEach(futures -> futures.forEach(future -> future.complete(result)));
+            } catch (final HieroException e) {
+                if (batch.amounts().size() > 1 && isReceiverFailure(e)) {
+                    sendPerReceiver(key, batch);
+                } else {
+                    batch.futures().values().forEach(futures -> futures.forEach(
+                            future -> future.completeExceptionally(e)));
+                }
+            } finally {
+                permits.release(batch.payments());
+                inFlight.remove(done);
+                done.complete(null);
+            }
+        });
+    }
+
+    private void sendPerReceiver(@NonNull final BufferKey key, @NonNull final Batch batch) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            batch.amounts().forEach((receiver, tinybars) -> executor.execute(() -> {
+                final List<CompletableFuture<HbarTransferResult>> futures = batch.futures().get(receiver);
+                try {
+                    final HbarTransferResult result = execute(key, Map.of(receiver, tinybars));
+                    futures.forEach(future -> future.complete(result));
+                } catch (final HieroException e) {
+                    futures.forEach(future -> future.completeExceptionally(e));
+                }
+            }));
+        }
+    }
+
+    @NonNull
+    private HbarTransferResult execute(@NonNull final BufferKey key, @NonNull final Map<AccountId, Long> amounts)
+            throws HieroException {
+        try {
+            final Map<AccountId, Hbar> receivers = new HashMap<>();
+            amounts.forEach((receiver, tinybars) -> receivers.put(receiver, Hbar.fromTinybars(tinybars)));
+            return protocolLayerClient.executeHbarTransferTransaction(
+                    HbarTransferRequest.of(key.sender(), key.senderKey(), receivers));
+        } catch (final HieroException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw new HieroException("Failed to transfer hbar from " + key.sender(), e);
+        }
+    }
+
+    private static boolean isReceiverFailure(@NonNull final Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ReceiptStatusException receiptStatus) {
+                return RECEIVER_STATUSES.contains(receiptStatus.receipt.status);
+            }
+            if (current instanceof PrecheckStatusException precheck) {
+                return RECEIVER_STATUSES.contains(precheck.status);
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush().join();
+        scheduler.shutdown();
+    }
+
+    private record BufferKey(@NonNull AccountId sender, @Nullable PrivateKey senderKey) {
+    }
+
+    private record Batch(@NonNull Map<AccountId, Long> amounts,
+                         @NonNull Map<AccountId, List<CompletableFuture<HbarTransferResult>>> futures,
+                         int payments) {
+    }
+
+    private static final class Buffer {
+
+        private final Map<AccountId, Long> amounts = new LinkedHashMap<>();
+
+        private final Map<AccountId, List<CompletableFuture<HbarTransferResult>>> futures = new HashMap<>();
+
+        private int payments;
+
+        @Nullable
+        private ScheduledFuture<?> scheduledFlush;
+
+        private void add(@NonNull final AccountId receiver, final long tinybars,
+                @NonNull final CompletableFuture<HbarTransferResult> future) {
+            final long current = amounts.getOrDefault(receiver, 0L);
+            amounts.put(receiver, Math.addExact(current, tinybars));
+            futures.computeIfAbsent(receiver, r -> new ArrayList<>()).add(future);
+            payments++;
+        }
+
+        @NonNull
+        private Batch take() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            return new Batch(amounts, futures, payments);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.openelements.hiero.base.implementation;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single response of a JSON-RPC call.
+ *
+ * @param id           the id of the request or {@link #NO_ID} if the response has no id
+ * @param result       the result or null if the call failed or has no result
+ * @param errorCode    the error code or null if the call has been successful
+ * @param errorMessage the error message or null if the call has been successful
+ * @param <JSON>       the JSON type
+ */
+public record JsonRpcResponse<JSON>(long id, @Nullable JSON result, @Nullable Integer errorCode,
+                                    @Nullable String errorMessage) {
+
+    /**
+     * The id of a response without id (for example an error response for an invalid request).
+     */
+    public static final long NO_ID = -1;
+
+    @NonNull
+    public static <JSON> JsonRpcResponse<JSON> ofResult(final long id, @Nullable final JSON result) {
+        return new JsonRpcResponse<>(id, result, null, null);
+    }
+
+    @NonNull
+    public static <JSON> JsonRpcResponse<JSON> ofError(final long id, final int errorCode,
+            @Nullable final String errorMessage) {
+        return new JsonRpcResponse<>(id, null, errorCode, errorMessage);
+    }
+
+    /**
+     * Returns true if the call failed.
+     *
+     * @return true if the call failed
+     */
+    public boolean isError() {
+        return errorCode != null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.openelements.hiero.base.implementation;
 
 import com.openelements.hiero.base.data.AccountInfo;
+import com.openelements.hiero.base.data.ContractLog;
 import com.openelements.hiero.base.data.ExchangeRates;
 import com.openelements.hiero.base.data.NetworkFee;
 import com.openelements.hiero.base.data.NetworkStake;
@@ -13,6 +14,7 @@ import com.openelements.hiero.base.data.Balance;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.jspecify.annotations.NonNull;
@@ -59,4 +61,31 @@ public interface MirrorNodeJsonConverter<JSON> {
 
     @NonNull
     List<TopicMessage> toTopicMessages(JSON json);
+
+    /**
+     * Returns the hex encoded {@code result} of a {@code /api/v1/contracts/call} response.
+     *
+     * @param json the response
+     * @return the hex encoded result or empty if the response does not contain a result
+     */
+    @NonNull
+    Optional<String> toContractCallResult(@NonNull JSON json);
+
+    /**
+     * Returns the logs of a {@code /api/v1/contracts/{id}/results/logs} response.
+     *
+     * @param json the response
+     * @return the logs
+     */
+    @NonNull
+    List<ContractLog> toContractLogs(@NonNull JSON json);
+
+    /**
+     * Returns the consensus timestamp of the end of the first block of a {@code /api/v1/blocks} response.
+     *
+     * @param json the response
+     * @return the consensus timestamp or empty if the response does not contain a block
+     */
+    @NonNull
+    Optional<Instant> toLatestBlockTimestamp(@NonNull JSON json);
 }
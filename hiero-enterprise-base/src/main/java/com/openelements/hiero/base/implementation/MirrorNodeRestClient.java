@@ -66,6 +66,20 @@ public interface MirrorNodeRestClient<JSON> {
         return doGetCall("/api/v1/topics/" + topicId + "/messages/" + sequenceNumber);
     }
 
+    @NonNull
+    default JSON queryContractCall(@NonNull final String requestBody) throws HieroException {
+        Objects.requireNonNull(requestBody, "requestBody must not be null");
+        return doPostCall("/api/v1/contracts/call", requestBody);
+    }
+
+    @NonNull
+    default JSON queryLatestBlock() throws HieroException {
+        return doGetCall("/api/v1/blocks?order=desc&limit=1");
+    }
+
     @NonNull
     JSON doGetCall(@NonNull String path) throws HieroException;
+
+    @NonNull
+    JSON doPostCall(@NonNull String path, @NonNull String jsonBody) throws HieroException;
 }
@@ -0,0 +1,192 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link TopicMessageSource} that tails a topic by polling the REST API of a mirror node
+ * ({@code /api/v1/topics/{id}/messages?sequencenumber=gt:N}). It can be used with a
+ * {@link TopicSubscriptionManagerImpl} if the gRPC API of the mirror node is not reachable.
+ * <p>
+ * The poll interval follows the observed message rate: it is chosen so that a poll returns a few messages, it is
+ * doubled after every empty poll, and it always stays between the minimum and the maximum poll interval. If a page is
+ * full the source is behind the topic and catches up by requesting the following pages immediately with the
+ * maximum page size of the mirror node.
+ */
+public class MirrorNodeTopicMessageSource implements TopicMessageSource {
+
+    /**
+     * The default minimum time between two polls.
+     */
+    public static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofMillis(250);
+
+    /**
+     * The default maximum time between two polls.
+     */
+    public static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private static final int LIMIT = 25;
+
+    private static final int CATCH_UP_LIMIT = MirrorNodeClient.MAX_PAGE_LIMIT;
+
+    private static final double TARGET_MESSAGES_PER_POLL = 5;
+
+    private static final double RATE_SMOOTHING = 0.3;
+
+    private final MirrorNodeClient mirrorNodeClient;
+
+    private final Duration minPollInterval;
+
+    private final Duration maxPollInterval;
+
+    public MirrorNodeTopicMessageSource(@NonNull final MirrorNodeClient mirrorNodeClient) {
+        this(mirrorNodeClient, DEFAULT_MIN_POLL_INTERVAL, DEFAULT_MAX_POLL_INTERVAL);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param mirrorNodeClient the mirror node client
+     * @param minPollInterval  the minimum time between two polls
+     * @param maxPollInterval  the maximum time between two polls
+     */
+    public MirrorNodeTopicMessageSource(@NonNull final MirrorNodeClient mirrorNodeClient,
+            @NonNull final Duration minPollInterval, @NonNull final Duration maxPollInterval) {
+        this.mirrorNodeClient = Objects.requireNonNull(mirrorNodeClient, "mirrorNodeClient must not be null");
+        this.minPollInterval = Objects.requireNonNull(minPollInterval, "minPollInterval must not be null");
+        this.maxPollInterval = Objects.requireNonNull(maxPollInterval, "maxPollInterval must not be null");
+        if (minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new IllegalArgumentException("minPollInterval must be positive");
+        }
+        if (maxPollInterval.compareTo(minPollInterval) < 0) {
+            throw new IllegalArgumentException("maxPollInterval must not be less than minPollInterval");
+        }
+    }
+
+    @Override
+    public @NonNull Connection open(@NonNull final TopicId topicId, @Nullable final Instant startTime,
+            @NonNull final Listener listener) {
+        return open(topicId, startTime, 0, listener);
+    }
+
+    @Override
+    public @NonNull Connection open(@NonNull final TopicId topicId, @Nullable final Instant startTime,
+            final long afterSequenceNumber, @NonNull final Listener listener) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        if (afterSequenceNumber < 0) {
+            throw new IllegalArgumentException("afterSequenceNumber must not be negative");
+        }
+        final Poller poller = new Poller(topicId, startTime == null ? Instant.now() : startTime,
+                afterSequenceNumber, listener);
+        poller.thread = Thread.ofVirtual().name("hiero-topic-poller-" + topicId).start(poller);
+        return poller;
+    }
+
+    private final class Poller implements Runnable, Connection {
+
+        private final TopicId topicId;
+
+        private final Instant startTime;
+
+        private final Listener listener;
+
+        private long afterSequenceNumber;
+
+        private double rate;
+
+        private Duration pollInterval = minPollInterval;
+
+        private volatile boolean closed;
+
+        @Nullable
+        private volatile Thread thread;
+
+        private Poller(@NonNull final TopicId topicId, @NonNull final Instant startTime,
+                final long afterSequenceNumber, @NonNull final Listener listener) {
+            this.topicId = topicId;
+            this.startTime = startTime;
+            this.afterSequenceNumber = afterSequenceNumber;
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int limit = LIMIT;
+                long lastPoll = System.nanoTime();
+                while (!closed) {
+                    final List<TopicMessage> messages = poll(limit).getData();
+                    for (final TopicMessage message : messages) {
+                        if (closed) {
+                            return;
+                        }
+                        listener.onMessage(message);
+                        afterSequenceNumber = message.sequenceNumber();
+                    }
+                    final long now = System.nanoTime();
+                    updateRate(messages.size(), now - lastPoll);
+                    lastPoll = now;
+                    if (messages.size() >= limit) {
+                        limit = CATCH_UP_LIMIT;
+                        continue;
+                    }
+                    limit = LIMIT;
+                    pollInterval = nextPollInterval(messages.isEmpty());
+                    Thread.sleep(pollInterval);
+                }
+            } catch (final Exception e) {
+                if (!closed) {
+                    listener.onError(e);
+                }
+            }
+        }
+
+        @NonNull
+        private Page<TopicMessage> poll(final int limit) throws HieroException {
+            if (afterSequenceNumber > 0) {
+                return mirrorNodeClient.queryTopicMessages(topicId, afterSequenceNumber, limit);
+            }
+            return mirrorNodeClient.queryTopicMessages(topicId, startTime, limit);
+        }
+
+        private void updateRate(final int count, final long elapsedNanos) {
+            final double observed = count * 1_000_000_000.0 / Math.max(elapsedNanos, 1);
+            rate = RATE_SMOOTHING * observed + (1 - RATE_SMOOTHING) * rate;
+        }
+
+        @NonNull
+        private Duration nextPollInterval(final boolean empty) {
+            final Duration next;
+            if (empty || rate <= 0) {
+                next = pollInterval.multipliedBy(2);
+            } else {
+                next = Duration.ofNanos((long) Math.min(TARGET_MESSAGES_PER_POLL / rate * 1_000_000_000.0,
+                        maxPollInterval.toNanos()));
+            }
+            if (next.compareTo(minPollInterval) < 0) {
+                return minPollInterval;
+            }
+            return next.compareTo(maxPollInterval) > 0 ? maxPollInterval : next;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            final Thread pollingThread = thread;
+            if (pollingThread != null && pollingThread != Thread.currentThread()) {
+                pollingThread.interrupt();
+            }
+        }
+    }
+}
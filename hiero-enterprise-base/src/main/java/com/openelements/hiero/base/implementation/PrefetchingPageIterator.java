@@ -0,0 +1,128 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.data.Page;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Iterator over the elements of all pages that follow a {@link Page} (including the page). Pages are only fetched when
+ * they are needed, but the next page is requested in the background as soon as the iteration reaches a page, so that
+ * the network round trip overlaps with the processing of the current page. At most one page is prefetched.
+ *
+ * @param <T> the type of the elements
+ */
+public final class PrefetchingPageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final Executor DEFAULT_EXECUTOR = runnable -> Thread.ofVirtual()
+            .name("hiero-page-prefetch")
+            .start(runnable);
+
+    private final Executor executor;
+
+    private List<T> data;
+
+    private int position;
+
+    @Nullable
+    private CompletableFuture<Page<T>> nextPage;
+
+    /**
+     * Creates an iterator that prefetches pages on virtual threads.
+     *
+     * @param firstPage the first page of the iteration
+     */
+    public PrefetchingPageIterator(@NonNull final Page<T> firstPage) {
+        this(firstPage, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates an iterator that prefetches pages by the given executor.
+     *
+     * @param firstPage the first page of the iteration
+     * @param executor  the executor that fetches the next page
+     */
+    public PrefetchingPageIterator(@NonNull final Page<T> firstPage, @NonNull final Executor executor) {
+        Objects.requireNonNull(firstPage, "firstPage must not be null");
+        this.executor = Objects.requireNonNull(executor, "executor must not be null");
+        moveTo(firstPage);
+    }
+
+    /**
+     * Returns a sequential stream over the elements of all pages that follow the given page. Closing the stream
+     * cancels a pending prefetch.
+     *
+     * @param firstPage the first page
+     * @param <T>       the type of the elements
+     * @return the stream
+     */
+    @NonNull
+    public static <T> Stream<T> stream(@NonNull final Page<T> firstPage) {
+        final PrefetchingPageIterator<T> iterator = new PrefetchingPageIterator<>(firstPage);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private void moveTo(@NonNull final Page<T> page) {
+        data = page.getData();
+        position = 0;
+        if (page.hasNext()) {
+            nextPage = CompletableFuture.supplyAsync(page::next, executor);
+        } else {
+            nextPage = null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (position >= data.size()) {
+            if (nextPage == null) {
+                return false;
+            }
+            moveTo(await(nextPage));
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return data.get(position++);
+    }
+
+    @Override
+    public void close() {
+        if (nextPage != null) {
+            nextPage.cancel(false);
+            nextPage = null;
+        }
+        data = List.of();
+    }
+
+    @NonNull
+    private static <T> Page<T> await(@NonNull final CompletableFuture<Page<T>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        } catch (final CancellationException e) {
+            throw new IllegalStateException("Iteration has been closed", e);
+        }
+    }
+}
@@ -1,15 +1,17 @@
 package com.openelements.hiero.base.implementation;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.AccountBalance;
 import com.hedera.hashgraph.sdk.AccountBalanceQuery;
 import com.hedera.hashgraph.sdk.AccountCreateTransaction;
 import com.hedera.hashgraph.sdk.AccountDeleteTransaction;
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractCallQuery;
 import com.hedera.hashgraph.sdk.ContractCreateTransaction;
 import com.hedera.hashgraph.sdk.ContractDeleteTransaction;
 import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
-import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.hedera.hashgraph.sdk.ContractFunctionResult;
 import com.hedera.hashgraph.sdk.FileAppendTransaction;
 import com.hedera.hashgraph.sdk.FileContentsQuery;
 import com.hedera.hashgraph.sdk.FileCreateTransaction;
@@ -17,10 +19,12 @@ import com.hedera.hashgraph.sdk.FileDeleteTransaction;
 import com.hedera.hashgraph.sdk.FileInfo;
 import com.hedera.hashgraph.sdk.FileInfoQuery;
 import com.hedera.hashgraph.sdk.FileUpdateTransaction;
+import com.hedera.hashgraph.sdk.Hbar;
 import com.hedera.hashgraph.sdk.NftId;
 import com.hedera.hashgraph.sdk.PrivateKey;
 import com.hedera.hashgraph.sdk.PublicKey;
 import com.hedera.hashgraph.sdk.Query;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.SubscriptionHandle;
 import com.hedera.hashgraph.sdk.TokenAssociateTransaction;
 import com.hedera.hashgraph.sdk.TokenBurnTransaction;
@@ -33,16 +37,21 @@ import com.hedera.hashgraph.sdk.TopicMessageQuery;
 import com.hedera.hashgraph.sdk.TopicMessageSubmitTransaction;
 import com.hedera.hashgraph.sdk.TopicUpdateTransaction;
 import com.hedera.hashgraph.sdk.Transaction;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.hedera.hashgraph.sdk.TransactionReceipt;
 import com.hedera.hashgraph.sdk.TransactionRecord;
 import com.hedera.hashgraph.sdk.TransactionResponse;
 import com.hedera.hashgraph.sdk.TransferTransaction;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionList;
 import com.openelements.hiero.base.HieroContext;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
-import com.openelements.hiero.base.data.ContractParam;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor.ReceiveRecordHandler;
+import com.openelements.hiero.base.protocol.ChunkedMessageSubmitException;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.TransactionListener;
 import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
@@ -51,12 +60,19 @@ import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
 import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
 import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallDataQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallDataRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateInitcodeRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
 import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
@@ -69,6 +85,8 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferResult;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
 import com.openelements.hiero.base.protocol.data.TokenBurnRequest;
@@ -87,17 +105,27 @@ import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
 import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
 import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
 import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -242,12 +270,27 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     @Override
     public ContractCreateResult executeContractCreateTransaction(@NonNull final ContractCreateRequest request)
             throws HieroException {
-        final ContractFunctionParameters constructorParams = createParameters(request.constructorParams());
+        final byte[] constructorParams = ContractCallData.encodeConstructorParameters(request.constructorParams());
         final ContractCreateTransaction transaction = new ContractCreateTransaction()
                 .setMaxTransactionFee(request.maxTransactionFee())
                 .setTransactionValidDuration(request.transactionValidDuration())
                 .setBytecodeFileId(request.fileId())
-                .setGas(DEFAULT_GAS)
+                .setGas(gasOrDefault(request.gas()))
+                .setConstructorParameters(constructorParams);
+        final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+        return new ContractCreateResult(receipt.transactionId, receipt.status, receipt.contractId);
+    }
+
+    @Override
+    public ContractCreateResult executeContractCreateInitcodeTransaction(
+            @NonNull final ContractCreateInitcodeRequest request) throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final byte[] constructorParams = ContractCallData.encodeConstructorParameters(request.constructorParams());
+        final ContractCreateTransaction transaction = new ContractCreateTransaction()
+                .setMaxTransactionFee(request.maxTransactionFee())
+                .setTransactionValidDuration(request.transactionValidDuration())
+                .setBytecode(request.initcode())
+                .setGas(gasOrDefault(request.gas()))
                 .setConstructorParameters(constructorParams);
         final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
         return new ContractCreateResult(receipt.transactionId, receipt.status, receipt.contractId);
@@ -276,18 +319,54 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
     public ContractCallResult executeContractCallTransaction(@NonNull final ContractCallRequest request)
             throws HieroException {
         Objects.requireNonNull(request, "request must not be null");
-        final ContractFunctionParameters functionParams = createParameters(request.constructorParams());
+        final byte[] callData = ContractCallData.encodeFunctionCall(request.functionName(),
+                request.constructorParams());
+        return executeContractCallDataTransaction(new ContractCallDataRequest(request.maxTransactionFee(),
+                request.transactionValidDuration(), request.contractId(), callData, request.gas()));
+    }
+
+    @Override
+    public ContractCallQueryResponse executeContractCallQuery(@NonNull final ContractCallQueryRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final byte[] callData = ContractCallData.encodeFunctionCall(request.functionName(), request.params());
+        return executeContractCallDataQuery(new ContractCallDataQueryRequest(request.contractId(), callData,
+                request.gas(), request.queryPayment(), request.maxQueryPayment()));
+    }
+
+    @Override
+    public ContractCallResult executeContractCallDataTransaction(@NonNull final ContractCallDataRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
         final ContractExecuteTransaction transaction = new ContractExecuteTransaction()
                 .setMaxTransactionFee(request.maxTransactionFee())
                 .setTransactionValidDuration(request.transactionValidDuration())
                 .setContractId(request.contractId())
-                .setFunction(request.functionName(), functionParams)
-                .setGas(DEFAULT_GAS);
+                .setFunctionParameters(UnsafeByteOperations.unsafeWrap(request.callData()))
+                .setGas(gasOrDefault(request.gas()));
         final TransactionRecord record = executeTransactionAndWaitOnRecord(transaction);
         return new ContractCallResult(record.transactionId, record.receipt.status, record.transactionHash.toByteArray(),
                 record.consensusTimestamp, record.transactionFee, record.contractFunctionResult);
     }
 
+    @Override
+    public ContractCallQueryResponse executeContractCallDataQuery(@NonNull final ContractCallDataQueryRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final ContractCallQuery query = new ContractCallQuery()
+                .setContractId(request.contractId())
+                .setFunctionParameters(request.callData())
+                .setGas(gasOrDefault(request.gas()));
+        if (request.queryPayment() != null) {
+            query.setQueryPayment(request.queryPayment());
+        }
+        if (request.maxQueryPayment() != null) {
+            query.setMaxQueryPayment(request.maxQueryPayment());
+        }
+        final ContractFunctionResult result = executeQueryAndWait(query);
+        return new ContractCallQueryResponse(result);
+    }
+
     @Override
     @NonNull
     public AccountCreateResult executeAccountCreateTransaction(@NonNull final AccountCreateRequest request)
@@ -418,6 +497,86 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
         }
     }
 
+    @Override
+    public TopicSubmitChunkedMessageResult executeChunkedTopicMessageSubmitTransaction(
+            @NonNull final TopicSubmitChunkedMessageRequest request) throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final List<TopicMessageSubmitTransaction> chunks;
+        try {
+            final TopicMessageSubmitTransaction transaction = new TopicMessageSubmitTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration())
+                    .setTopicId(request.topicId())
+                    .setMaxChunks(request.chunkCount())
+                    .setChunkSize(request.chunkSize())
+                    .setMessage(request.message());
+            transaction.freezeWith(hieroContext.getClient());
+            if (request.submitKey() != null) {
+                transaction.sign(request.submitKey());
+            }
+            transaction.signWithOperator(hieroContext.getClient());
+            chunks = splitChunks(transaction);
+        } catch (final Exception e) {
+            throw new HieroException("Failed to create chunks of submit message transaction", e);
+        }
+        // the SDK executes the chunks of a transaction one after another and waits for every receipt, since the
+        // chunks are independent transactions they are executed concurrently instead
+        final List<Future<TransactionReceipt>> receipts = new ArrayList<>(chunks.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            chunks.forEach(chunk -> receipts.add(executor.submit(() -> executeTransactionAndWaitOnReceipt(chunk))));
+        }
+        final List<TransactionId> transactionIds = new ArrayList<>(chunks.size());
+        final List<Integer> submittedChunks = new ArrayList<>(chunks.size());
+        final List<Integer> missingChunks = new ArrayList<>();
+        Throwable failure = null;
+        Status status = Status.SUCCESS;
+        for (int i = 0; i < receipts.size(); i++) {
+            final TransactionReceipt receipt;
+            try {
+                receipt = receipts.get(i).get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HieroException("Interrupted while waiting for chunks of submit message transaction", e);
+            } catch (final ExecutionException e) {
+                missingChunks.add(i + 1);
+                failure = failure == null ? e.getCause() : failure;
+                continue;
+            }
+            transactionIds.add(receipt.transactionId);
+            submittedChunks.add(i + 1);
+            if (status == Status.SUCCESS && receipt.status != Status.SUCCESS) {
+                status = receipt.status;
+            }
+        }
+        if (failure != null) {
+            throw new ChunkedMessageSubmitException("Failed to execute chunks " + missingChunks
+                    + " of submit message transaction", failure, chunks.get(0).getTransactionId(), submittedChunks,
+                    missingChunks);
+        }
+        return new TopicSubmitChunkedMessageResult(transactionIds.get(0), status, transactionIds);
+    }
+
+    /**
+     * Splits a frozen chunked transaction into one transaction per chunk. The signed bodies of the chunks already
+     * contain the chunk info with the shared initial transaction id, therefore every chunk can be executed on its own.
+     */
+    @NonNull
+    private static List<TopicMessageSubmitTransaction> splitChunks(
+            @NonNull final TopicMessageSubmitTransaction transaction) throws Exception {
+        final Map<TransactionID, TransactionList.Builder> chunks = new LinkedHashMap<>();
+        for (final com.hedera.hashgraph.sdk.proto.Transaction signed : TransactionList.parseFrom(transaction.toBytes())
+                .getTransactionListList()) {
+            final TransactionBody body = TransactionBody.parseFrom(
+                    SignedTransaction.parseFrom(signed.getSignedTransactionBytes()).getBodyBytes());
+            chunks.computeIfAbsent(body.getTransactionID(), id -> TransactionList.newBuilder()).addTransactionList(signed);
+        }
+        final List<TopicMessageSubmitTransaction> result = new ArrayList<>(chunks.size());
+        for (final TransactionList.Builder chunk : chunks.values()) {
+            result.add((TopicMessageSubmitTransaction) Transaction.fromBytes(chunk.build().toByteArray()));
+        }
+        return result;
+    }
+
     @Override
     public TopicMessageResult executeTopicMessageQuery(TopicMessageRequest request) throws HieroException {
         Objects.requireNonNull(request, "request must not be null");
@@ -433,8 +592,15 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
             if (request.limit() >= 0) {
                 query.setLimit(request.limit());
             }
+            if (request.errorHandler() != null) {
+                final Consumer<Throwable> errorHandler = request.errorHandler();
+                query.setErrorHandler((throwable, message) -> errorHandler.accept(throwable));
+            }
+            if (request.completionHandler() != null) {
+                query.setCompletionHandler(request.completionHandler());
+            }
             final SubscriptionHandle subscribe = query.subscribe(hieroContext.getClient(), request.subscription());
-            return new TopicMessageResult();
+            return new TopicMessageResult(subscribe);
         } catch (final Exception e) {
             throw new HieroException("Failed to execute query message transaction", e);
         }
@@ -564,6 +730,55 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
         }
     }
 
+    @Override
+    public @NonNull HbarTransferResult executeHbarTransferTransaction(@NonNull final HbarTransferRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        try {
+            final TransferTransaction transaction = new TransferTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration());
+            long total = 0;
+            for (final Map.Entry<AccountId, Hbar> receiver : request.receivers().entrySet()) {
+                transaction.addHbarTransfer(receiver.getKey(), receiver.getValue());
+                total = Math.addExact(total, receiver.getValue().toTinybars());
+            }
+            transaction.addHbarTransfer(request.sender(), Hbar.fromTinybars(-total));
+            if (request.senderKey() != null) {
+                sign(transaction, request.senderKey());
+            }
+            final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+            return new HbarTransferResult(receipt.transactionId, receipt.status);
+        } catch (final Exception e) {
+            throw new HieroException("Failed to execute hbar transfer transaction", e);
+        }
+    }
+
+    @Override
+    public @NonNull CryptoTransferResult executeCryptoTransferTransaction(
+            @NonNull final CryptoTransferRequest request) throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        try {
+            final TransferTransaction transaction = new TransferTransaction()
+                    .setMaxTransactionFee(request.maxTransactionFee())
+                    .setTransactionValidDuration(request.transactionValidDuration());
+            request.hbarTransfers().forEach((accountId, tinybars) ->
+                    transaction.addHbarTransfer(accountId, Hbar.fromTinybars(tinybars)));
+            request.tokenTransfers().forEach((tokenId, transfers) -> transfers.forEach((accountId, amount) ->
+                    transaction.addTokenTransfer(tokenId, accountId, amount)));
+            if (request.transactionId() != null) {
+                transaction.setTransactionId(request.transactionId());
+            }
+            if (!request.signingKeys().isEmpty()) {
+                sign(transaction, request.signingKeys().toArray(PrivateKey[]::new));
+            }
+            final TransactionReceipt receipt = executeTransactionAndWaitOnReceipt(transaction);
+            return new CryptoTransferResult(receipt.transactionId, receipt.status);
+        } catch (final Exception e) {
+            throw new HieroException("Failed to execute crypto transfer transaction", e);
+        }
+    }
+
     @NonNull
     private <T extends Transaction<T>> Transaction<T> sign(Transaction<T> transaction, final PrivateKey... keys) {
         if (keys != null) {
@@ -575,14 +790,11 @@ public class ProtocolLayerClientImpl implements ProtocolLayerClient {
         return transaction;
     }
 
-    @NonNull
-    private ContractFunctionParameters createParameters(@NonNull final List<ContractParam<?>> params) {
-        Objects.requireNonNull(params, "params must not be null");
-        final ContractFunctionParameters constructorParams = new ContractFunctionParameters();
-        final Consumer<ContractParam> consumer = param -> param.supplier()
-                .addParamToFunctionParameters(param.value(), constructorParams);
-        params.forEach(consumer);
-        return constructorParams;
+    private static long gasOrDefault(@Nullable final Long gas) {
+        if (gas == null) {
+            return DEFAULT_GAS;
+        }
+        return gas;
     }
 
     @NonNull
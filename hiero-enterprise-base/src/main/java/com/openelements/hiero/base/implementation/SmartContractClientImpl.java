@@ -1,21 +1,37 @@
 package com.openelements.hiero.base.implementation;
 
-import com.hedera.hashgraph.sdk.ContractFunctionResult;
 import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.FileId;
 import com.openelements.hiero.base.FileClient;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.SmartContractClient;
+import com.openelements.hiero.base.data.Bytes;
 import com.openelements.hiero.base.data.ContractCallResult;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.ContractRead;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import com.openelements.hiero.base.protocol.data.ContractCallDataQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallDataRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateInitcodeRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
@@ -25,15 +41,71 @@ public class SmartContractClientImpl implements SmartContractClient {
 
     private static final Logger log = LoggerFactory.getLogger(SmartContractClientImpl.class);
 
+    private static final String MULTICALL_FUNCTION = "aggregate3";
+
+    private static final String MULTICALL_CALL_TYPE = "(address,bool,bytes)";
+
     private final ProtocolLayerClient protocolLayerClient;
 
     private final FileClient fileClient;
 
+    private final AtomicReference<BytecodeFileRegistry> bytecodeFileRegistry = new AtomicReference<>();
+
+    private final AtomicReference<ContractGasEstimator> gasEstimator = new AtomicReference<>();
+
+    private final AtomicReference<MirrorNodeClient> mirrorNodeClient = new AtomicReference<>();
+
+    private final AtomicReference<ContractCallResultCache> resultCache = new AtomicReference<>();
+
     public SmartContractClientImpl(@NonNull final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
         this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient, "protocolLevelClient must not be null");
         this.fileClient = Objects.requireNonNull(fileClient, "fileClient must not be null");
     }
 
+    /**
+     * Sets a registry that keeps uploaded bytecode files alive and reuses them for deployments of the same bytecode.
+     * If no registry is set (default) the bytecode file is deleted directly after the contract has been created.
+     *
+     * @param bytecodeFileRegistry the registry or {@code null} to disable the reuse of bytecode files
+     */
+    public void setBytecodeFileRegistry(@Nullable final BytecodeFileRegistry bytecodeFileRegistry) {
+        this.bytecodeFileRegistry.set(bytecodeFileRegistry);
+    }
+
+    /**
+     * Sets an estimator that is used to calculate the gas limit of contract calls and contract creations. If no
+     * estimator is set (default) or an estimation fails, the default gas limit of the protocol layer is used.
+     *
+     * @param gasEstimator the estimator or {@code null} to disable gas estimation
+     */
+    public void setGasEstimator(@Nullable final ContractGasEstimator gasEstimator) {
+        this.gasEstimator.set(gasEstimator);
+    }
+
+    /**
+     * Sets the mirror node client that is used to simulate read-only function calls (see
+     * {@link #queryContractFunction(ContractId, String, ContractParam[])}). Simulated calls are free of charge. If no
+     * mirror node client is set (default), read-only calls are executed as a contract call query on a consensus node.
+     *
+     * @param mirrorNodeClient the mirror node client or {@code null} to use contract call queries
+     */
+    public void setMirrorNodeClient(@Nullable final MirrorNodeClient mirrorNodeClient) {
+        this.mirrorNodeClient.set(mirrorNodeClient);
+    }
+
+    /**
+     * Sets a cache for the results of read-only function calls (see
+     * {@link #queryContractFunction(ContractId, String, ContractParam[])}). Cached results of a contract are
+     * invalidated once a function call of this client on that contract has reached consensus. Afterwards results are
+     * only cached again once the mirror node has imported the block of that function call. If no cache is set
+     * (default), every read-only call is sent to the network.
+     *
+     * @param resultCache the cache or {@code null} to disable caching
+     */
+    public void setResultCache(@Nullable final ContractCallResultCache resultCache) {
+        this.resultCache.set(resultCache);
+    }
+
     @NonNull
     @Override
     public ContractId createContract(@NonNull final FileId fileId,
@@ -59,8 +131,28 @@ public class SmartContractClientImpl implements SmartContractClient {
             @Nullable final ContractParam<?>... constructorParams)
             throws HieroException {
         try {
+            final Optional<byte[]> initcode = decodeInitcode(contents);
+            if (initcode.isPresent() && fitsIntoTransaction(initcode.get(), constructorParams)) {
+                log.debug("Creating contract with {} bytes of inline initcode", initcode.get().length);
+                final List<ContractParam<?>> params = toList(constructorParams);
+                final OptionalLong gas = estimateCreateGas(initcode.get(), params);
+                final ContractCreateInitcodeRequest request;
+                if (gas.isPresent()) {
+                    request = ContractCreateInitcodeRequest.of(initcode.get(), gas.getAsLong(), params);
+                } else {
+                    request = ContractCreateInitcodeRequest.of(initcode.get(), params);
+                }
+                return protocolLayerClient.executeContractCreateInitcodeTransaction(request).contractId();
+            }
+            final OptionalLong gas = initcode.isPresent()
+                    ? estimateCreateGas(initcode.get(), toList(constructorParams))
+                    : OptionalLong.empty();
+            final BytecodeFileRegistry registry = bytecodeFileRegistry.get();
+            if (registry != null) {
+                return createContractWithRegistry(registry, contents, gas, constructorParams);
+            }
             final FileId fileId = fileClient.createFile(contents);
-            final ContractId contract = createContract(fileId, constructorParams);
+            final ContractId contract = createContract(fileId, gas, constructorParams);
             fileClient.deleteFile(fileId);
             return contract;
         } catch (Exception e) {
@@ -68,6 +160,169 @@ public class SmartContractClientImpl implements SmartContractClient {
         }
     }
 
+    @NonNull
+    private ContractId createContractWithRegistry(@NonNull final BytecodeFileRegistry registry,
+            @NonNull final byte[] contents, @NonNull final OptionalLong gas,
+            @Nullable final ContractParam<?>... constructorParams) throws HieroException {
+        final FileId fileId = registry.getOrCreateFile(contents);
+        try {
+            return createContract(fileId, gas, constructorParams);
+        } catch (final HieroException e) {
+            if (isFileAvailable(fileId)) {
+                throw e;
+            }
+            log.debug("Registered bytecode file {} is not available anymore, uploading bytecode again", fileId);
+            registry.invalidate(contents);
+        } finally {
+            registry.release(fileId);
+        }
+        final FileId uploadedFileId = registry.getOrCreateFile(contents);
+        try {
+            return createContract(uploadedFileId, gas, constructorParams);
+        } finally {
+            registry.release(uploadedFileId);
+        }
+    }
+
+    @NonNull
+    private ContractId createContract(@NonNull final FileId fileId, @NonNull final OptionalLong gas,
+            @Nullable final ContractParam<?>... constructorParams) throws HieroException {
+        if (gas.isEmpty()) {
+            return createContract(fileId, constructorParams);
+        }
+        try {
+            final ContractCreateRequest request = ContractCreateRequest.of(fileId, gas.getAsLong(),
+                    toList(constructorParams));
+            return protocolLayerClient.executeContractCreateTransaction(request).contractId();
+        } catch (Exception e) {
+            throw new HieroException("Failed to create contract with fileId " + fileId, e);
+        }
+    }
+
+    @NonNull
+    private OptionalLong estimateCreateGas(@NonNull final byte[] initcode,
+            @NonNull final List<ContractParam<?>> constructorParams) {
+        final ContractGasEstimator estimator = gasEstimator.get();
+        if (estimator == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(estimator.estimateCreateGas(initcode, constructorParams));
+        } catch (final Exception e) {
+            log.warn("Failed to estimate gas for contract creation, using default gas", e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @NonNull
+    private OptionalLong estimateCallGas(@NonNull final ContractId contractId, @NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params) {
+        final ContractGasEstimator estimator = gasEstimator.get();
+        if (estimator == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(estimator.estimateCallGas(contractId, functionName, params));
+        } catch (final Exception e) {
+            log.warn("Failed to estimate gas for function '{}' on contract {}, using default gas", functionName,
+                    contractId, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @NonNull
+    private OptionalLong estimateCallGas(@NonNull final ContractId contractId, @NonNull final byte[] callData) {
+        final ContractGasEstimator estimator = gasEstimator.get();
+        if (estimator == null) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(estimator.estimateCallGas(contractId, callData));
+        } catch (final Exception e) {
+            log.warn("Failed to estimate gas for call on contract {}, using default gas", contractId, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @NonNull
+    private static List<ContractParam<?>> toList(@Nullable final ContractParam<?>... params) {
+        if (params == null) {
+            return List.of();
+        }
+        return List.of(params);
+    }
+
+    /**
+     * Decodes the given file contents to the initcode of a contract. Compiled contracts are stored as hex text (with
+     * an optional {@code 0x} prefix); if the content is not valid hex it is not initcode that can be passed inline.
+     *
+     * @param contents the file contents
+     * @return the initcode or empty if the contents are not hex encoded
+     */
+    @NonNull
+    private static Optional<byte[]> decodeInitcode(@NonNull final byte[] contents) {
+        Objects.requireNonNull(contents, "contents must not be null");
+        if (contents.length > 2 * ContractCreateInitcodeRequest.MAX_INITCODE_SIZE + 4) {
+            return Optional.empty();
+        }
+        String hex = new String(contents, StandardCharsets.US_ASCII).strip();
+        if (hex.startsWith("0x") || hex.startsWith("0X")) {
+            hex = hex.substring(2);
+        }
+        if (hex.isEmpty() || hex.length() % 2 != 0) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < hex.length(); i++) {
+            if (Character.digit(hex.charAt(i), 16) < 0) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(HexFormat.of().parseHex(hex));
+    }
+
+    private static boolean fitsIntoTransaction(@NonNull final byte[] initcode,
+            @Nullable final ContractParam<?>... constructorParams) {
+        long size = initcode.length;
+        if (constructorParams != null) {
+            for (final ContractParam<?> param : constructorParams) {
+                size += estimateEncodedSize(param);
+            }
+        }
+        return size <= ContractCreateInitcodeRequest.MAX_INITCODE_SIZE;
+    }
+
+    private static long estimateEncodedSize(@Nullable final ContractParam<?> param) {
+        if (param == null) {
+            return 32;
+        }
+        final Object value = param.value();
+        if (value instanceof String string) {
+            // head + length + padded UTF-8 content (hex strings are smaller once decoded)
+            return 64 + string.getBytes(StandardCharsets.UTF_8).length + 32;
+        }
+        if (value instanceof Bytes bytes) {
+            return 64 + bytes.bytes().length + 32;
+        }
+        if (value instanceof List<?> components) {
+            // head + length of the array + encoded components
+            long size = 64;
+            for (final Object component : components) {
+                size += estimateEncodedSize((ContractParam<?>) component);
+            }
+            return size;
+        }
+        return 32;
+    }
+
+    private boolean isFileAvailable(@NonNull final FileId fileId) {
+        try {
+            return !fileClient.isDeleted(fileId);
+        } catch (final Exception e) {
+            log.debug("Failed to check state of file {}", fileId, e);
+            return false;
+        }
+    }
+
     @NonNull
     @Override
     public ContractId createContract(@NonNull final Path pathToBin,
@@ -87,13 +342,227 @@ public class SmartContractClientImpl implements SmartContractClient {
             @NonNull final String functionName,
             @Nullable ContractParam<?>... params) throws HieroException {
         try {
-            final ContractCallRequest request = ContractCallRequest.of(contractId, functionName, params);
-            final ContractFunctionResult result = protocolLayerClient.executeContractCallTransaction(request)
-                    .contractFunctionResult();
-            return new ContractCallResultImpl(result);
+            final List<ContractParam<?>> paramList = toList(params);
+            final OptionalLong gas = estimateCallGas(contractId, functionName, paramList);
+            final ContractCallRequest request;
+            if (gas.isPresent()) {
+                request = ContractCallRequest.of(contractId, functionName, gas.getAsLong(), paramList);
+            } else {
+                request = ContractCallRequest.of(contractId, functionName, paramList);
+            }
+            return executeContractCall(request);
         } catch (Exception e) {
             throw new HieroException(
                     "Failed to call function '" + functionName + "' on contract with id " + contractId, e);
         }
     }
+
+    @NonNull
+    @Override
+    public ContractCallResult callContractFunction(@NonNull final ContractId contractId,
+            @NonNull final String functionName, final long gas, @Nullable final ContractParam<?>... params)
+            throws HieroException {
+        try {
+            final ContractCallRequest request = ContractCallRequest.of(contractId, functionName, gas, toList(params));
+            return executeContractCall(request);
+        } catch (Exception e) {
+            throw new HieroException(
+                    "Failed to call function '" + functionName + "' on contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult queryContractFunction(@NonNull final ContractId contractId,
+            @NonNull final String functionName, @Nullable final ContractParam<?>... params) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        try {
+            final List<ContractParam<?>> paramList = toList(params);
+            final ContractCallResultCache cache = resultCache.get();
+            if (cache == null) {
+                return executeContractQuery(contractId, functionName, paramList, null);
+            }
+            final byte[] callData = ContractCallData.encodeFunctionCall(functionName, paramList);
+            final Optional<ContractCallResult> cached = cache.get(contractId, callData);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            final Optional<Instant> observedAt = observedState(cache);
+            final ContractCallResult result = executeContractQuery(contractId, functionName, paramList, callData);
+            observedAt.ifPresent(timestamp -> cache.put(contractId, callData, result, timestamp));
+            return result;
+        } catch (Exception e) {
+            throw new HieroException(
+                    "Failed to query function '" + functionName + "' on contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult callContract(@NonNull final ContractId contractId, @NonNull final byte[] callData)
+            throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(callData, "callData must not be null");
+        try {
+            final OptionalLong gas = estimateCallGas(contractId, callData);
+            final ContractCallDataRequest request;
+            if (gas.isPresent()) {
+                request = ContractCallDataRequest.of(contractId, gas.getAsLong(), callData);
+            } else {
+                request = ContractCallDataRequest.of(contractId, callData);
+            }
+            final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = protocolLayerClient
+                    .executeContractCallDataTransaction(request);
+            invalidateCache(contractId, callResult.consensusTimestamp());
+            return new ContractCallResultImpl(callResult.contractFunctionResult());
+        } catch (Exception e) {
+            throw new HieroException("Failed to call contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ContractCallResult queryContract(@NonNull final ContractId contractId, @NonNull final byte[] callData)
+            throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(callData, "callData must not be null");
+        try {
+            final ContractCallResultCache cache = resultCache.get();
+            if (cache == null) {
+                return executeContractQuery(contractId, callData);
+            }
+            final Optional<ContractCallResult> cached = cache.get(contractId, callData);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+            final Optional<Instant> observedAt = observedState(cache);
+            final ContractCallResult result = executeContractQuery(contractId, callData);
+            observedAt.ifPresent(timestamp -> cache.put(contractId, callData, result, timestamp));
+            return result;
+        } catch (Exception e) {
+            throw new HieroException("Failed to query contract with id " + contractId, e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public List<Optional<ContractCallResult>> multicall(@NonNull final ContractId multicallContract,
+            @NonNull final List<ContractRead> reads) throws HieroException {
+        Objects.requireNonNull(multicallContract, "multicallContract must not be null");
+        Objects.requireNonNull(reads, "reads must not be null");
+        if (reads.isEmpty()) {
+            return List.of();
+        }
+        try {
+            final List<byte[]> callData = reads.stream()
+                    .map(read -> ContractCallData.encodeFunctionCall(read.functionName(), read.params()))
+                    .toList();
+            final List<ContractParam<?>> calls = new ArrayList<>(reads.size());
+            for (int i = 0; i < reads.size(); i++) {
+                calls.add(ContractParam.tuple(ContractParam.address(reads.get(i).contractId()),
+                        ContractParam.bool(true), ContractParam.bytes(callData.get(i))));
+            }
+            final ContractCallResultCache cache = resultCache.get();
+            final Optional<Instant> observedAt = cache != null ? observedState(cache) : Optional.empty();
+            // the cache is not used for the reads since all results must reflect the same state
+            final List<ContractCallResult> returnData = executeContractQuery(multicallContract, MULTICALL_FUNCTION,
+                    List.of(ContractParam.array(MULTICALL_CALL_TYPE, calls)), null).getTupleArray(0);
+            if (returnData.size() != reads.size()) {
+                throw new HieroException(
+                        "Multicall returned " + returnData.size() + " results for " + reads.size() + " reads");
+            }
+            final List<Optional<ContractCallResult>> results = new ArrayList<>(reads.size());
+            for (int i = 0; i < reads.size(); i++) {
+                final ContractRead read = reads.get(i);
+                if (!returnData.get(i).getBool(0)) {
+                    log.debug("Read of function '{}' on contract with id {} failed", read.functionName(),
+                            read.contractId());
+                    results.add(Optional.empty());
+                    continue;
+                }
+                final ContractCallResult result = new EncodedContractCallResult(returnData.get(i).getBytes(1));
+                if (observedAt.isPresent()) {
+                    cache.put(read.contractId(), callData.get(i), result, observedAt.get());
+                }
+                results.add(Optional.of(result));
+            }
+            log.debug("Executed {} reads by multicall contract {}", reads.size(), multicallContract);
+            return Collections.unmodifiableList(results);
+        } catch (Exception e) {
+            throw new HieroException("Failed to execute multicall on contract with id " + multicallContract, e);
+        }
+    }
+
+    @NonNull
+    private ContractCallResult executeContractQuery(@NonNull final ContractId contractId,
+            @NonNull final String functionName, @NonNull final List<ContractParam<?>> params,
+            @Nullable final byte[] callData) throws HieroException {
+        final MirrorNodeClient client = mirrorNodeClient.get();
+        if (client != null) {
+            final byte[] data = callData != null ? callData : ContractCallData.encodeFunctionCall(functionName, params);
+            return new EncodedContractCallResult(client.simulateContractCall(contractId, data));
+        }
+        final OptionalLong gas = estimateCallGas(contractId, functionName, params);
+        final ContractCallQueryRequest request;
+        if (gas.isPresent()) {
+            request = ContractCallQueryRequest.of(contractId, functionName, gas.getAsLong(), params);
+        } else {
+            request = ContractCallQueryRequest.of(contractId, functionName, params);
+        }
+        final ContractCallQueryResponse response = protocolLayerClient.executeContractCallQuery(request);
+        return new ContractCallResultImpl(response.contractFunctionResult());
+    }
+
+    @NonNull
+    private ContractCallResult executeContractQuery(@NonNull final ContractId contractId,
+            @NonNull final byte[] callData) throws HieroException {
+        final MirrorNodeClient client = mirrorNodeClient.get();
+        if (client != null) {
+            return new EncodedContractCallResult(client.simulateContractCall(contractId, callData));
+        }
+        final OptionalLong gas = estimateCallGas(contractId, callData);
+        final ContractCallDataQueryRequest request;
+        if (gas.isPresent()) {
+            request = ContractCallDataQueryRequest.of(contractId, gas.getAsLong(), callData);
+        } else {
+            request = ContractCallDataQueryRequest.of(contractId, callData);
+        }
+        final ContractCallQueryResponse response = protocolLayerClient.executeContractCallDataQuery(request);
+        return new ContractCallResultImpl(response.contractFunctionResult());
+    }
+
+    @NonNull
+    private ContractCallResult executeContractCall(@NonNull final ContractCallRequest request)
+            throws HieroException {
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = protocolLayerClient
+                .executeContractCallTransaction(request);
+        invalidateCache(request.contractId(), callResult.consensusTimestamp());
+        return new ContractCallResultImpl(callResult.contractFunctionResult());
+    }
+
+    private void invalidateCache(@NonNull final ContractId contractId, @NonNull final Instant consensusTimestamp) {
+        final ContractCallResultCache cache = resultCache.get();
+        if (cache != null) {
+            cache.invalidate(contractId, consensusTimestamp);
+        }
+    }
+
+    /**
+     * Returns the consensus timestamp of the state that is observed by a read-only call that is executed afterwards.
+     * Calls on the mirror node are simulated at its latest block that can lag behind consensus, calls on a consensus
+     * node observe the current state.
+     *
+     * @param cache the cache the result of the call is added to
+     * @return the consensus timestamp or empty if it is not known and the result must not be cached
+     * @throws HieroException if the latest block of the mirror node can not be queried
+     */
+    @NonNull
+    private Optional<Instant> observedState(@NonNull final ContractCallResultCache cache) throws HieroException {
+        final MirrorNodeClient client = mirrorNodeClient.get();
+        if (client != null) {
+            return client.queryLatestBlockTimestamp();
+        }
+        return Optional.of(cache.now());
+    }
 }
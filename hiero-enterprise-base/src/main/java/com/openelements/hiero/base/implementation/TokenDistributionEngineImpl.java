@@ -0,0 +1,403 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.ReceiptStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.payment.TokenDistribution;
+import com.openelements.hiero.base.payment.TokenDistributionEngine;
+import com.openelements.hiero.base.payment.TokenDistributionJournal;
+import com.openelements.hiero.base.payment.TokenDistributionJournalEntry;
+import com.openelements.hiero.base.payment.TokenDistributionJournalEntry.State;
+import com.openelements.hiero.base.payment.TokenDistributionMetrics;
+import com.openelements.hiero.base.payment.TokenDistributionRecipient;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
+import com.openelements.hiero.base.protocol.data.TransactionRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link TokenDistributionEngine}. Every distribution reads its recipients on a virtual thread and
+ * cuts them into batches of {@link #MAX_RECIPIENTS_PER_TRANSACTION} distinct recipients; amounts of a recipient that
+ * occurs several times in a batch are summed. Every batch is executed as one transfer transaction on its own virtual
+ * thread and a semaphore bounds the number of concurrently executed transactions.
+ * <p>
+ * The id of every transaction is generated by the engine, with the operator account as payer. Before a transaction is
+ * submitted, a {@link State#SUBMITTED} entry with a fingerprint of the batch and the transaction id is appended to the
+ * journal, followed by a {@link State#COMPLETED} or {@link State#FAILED} entry when the outcome is known. A batch is
+ * only marked as failed if the network rejected the transaction before consensus or reached consensus with a failure
+ * status. On a restart the fingerprint of every journaled batch is compared with the recipients of the batch,
+ * therefore a changed recipient list fails the distribution instead of paying the wrong recipients.
+ * <p>
+ * A batch whose last entry is {@link State#SUBMITTED} is resolved on a restart by looking up its transaction at the
+ * mirror node. The batch is completed if the transaction succeeded and failed if it reached consensus with a failure
+ * status. If the mirror node does not know the transaction, the batch is only considered as failed when the valid
+ * duration of the transaction has expired for more than {@link #MIRROR_NODE_DELAY}, since the transaction can not
+ * reach consensus after that time. Otherwise the batch stays in doubt and is resolved by a later run.
+ */
+public class TokenDistributionEngineImpl implements TokenDistributionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenDistributionEngineImpl.class);
+
+    /**
+     * The maximum number of recipients of a transaction, one adjustment of a transaction is used by the sender.
+     */
+    public static final int MAX_RECIPIENTS_PER_TRANSACTION = CryptoTransferRequest.MAX_TOKEN_TRANSFERS - 1;
+
+    /**
+     * The default maximum number of concurrently executed transactions of a distribution.
+     */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /**
+     * The time after the end of the valid duration of a transaction after which the mirror node must know the
+     * transaction if it has reached consensus.
+     */
+    public static final Duration MIRROR_NODE_DELAY = Duration.ofMinutes(1);
+
+    private static final String SUCCESS_RESULT = "SUCCESS";
+
+    private final ProtocolLayerClient protocolLayerClient;
+
+    private final TransactionRepository transactionRepository;
+
+    private final int parallelism;
+
+    public TokenDistributionEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final TransactionRepository transactionRepository) {
+        this(protocolLayerClient, transactionRepository, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param protocolLayerClient   the client that executes the transactions
+     * @param transactionRepository the repository that resolves transactions with an unknown outcome
+     * @param parallelism           the maximum number of concurrently executed transactions of a distribution
+     */
+    public TokenDistributionEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final TransactionRepository transactionRepository, final int parallelism) {
+        this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient,
+                "protocolLayerClient must not be null");
+        this.transactionRepository = Objects.requireNonNull(transactionRepository,
+                "transactionRepository must not be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public @NonNull TokenDistribution distribute(@NonNull final TokenId tokenId, @Nullable final Account sender,
+            @NonNull final Stream<TokenDistributionRecipient> recipients, final long expectedRecipients,
+            @NonNull final TokenDistributionJournal journal) {
+        Objects.requireNonNull(tokenId, "tokenId must not be null");
+        Objects.requireNonNull(recipients, "recipients must not be null");
+        Objects.requireNonNull(journal, "journal must not be null");
+        if (expectedRecipients < 0) {
+            throw new IllegalArgumentException("expectedRecipients must not be negative");
+        }
+        final AccountId operatorId = Objects.requireNonNull(protocolLayerClient.getOperatorAccountId(),
+                "operator account must not be null");
+        final AccountId senderId = sender == null ? operatorId : sender.accountId();
+        final List<PrivateKey> signingKeys = sender == null ? List.of() : List.of(sender.privateKey());
+        final Distribution distribution = new Distribution(tokenId, operatorId, senderId, signingKeys, recipients,
+                expectedRecipients, journal);
+        Thread.ofVirtual().name("hiero-token-distribution").start(distribution::run);
+        return distribution;
+    }
+
+    private static boolean isNotExecuted(@NonNull final Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof ReceiptStatusException) {
+                return true;
+            }
+            if (current instanceof PrecheckStatusException precheck) {
+                // a duplicate was already submitted by an earlier attempt of the SDK
+                return precheck.status != Status.DUPLICATE_TRANSACTION;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Returns the id of a transaction in the format of the mirror node, for example
+     * {@code 0.0.2-1700000000-000000001}.
+     */
+    @NonNull
+    private static String toMirrorNodeId(@NonNull final TransactionId transactionId) {
+        final Instant validStart = Objects.requireNonNull(transactionId.validStart, "validStart must not be null");
+        return transactionId.accountId + "-" + validStart.getEpochSecond() + "-"
+                + String.format("%09d", validStart.getNano());
+    }
+
+    private final class Distribution implements TokenDistribution {
+
+        private final TokenId tokenId;
+
+        private final AccountId operatorId;
+
+        private final AccountId senderId;
+
+        private final List<PrivateKey> signingKeys;
+
+        private final Stream<TokenDistributionRecipient> recipients;
+
+        private final long expectedRecipients;
+
+        private final TokenDistributionJournal journal;
+
+        private final Semaphore permits = new Semaphore(parallelism);
+
+        private final long startNanos = System.nanoTime();
+
+        private final LongAdder paidRecipients = new LongAdder();
+
+        private final LongAdder skippedRecipients = new LongAdder();
+
+        private final LongAdder failedRecipients = new LongAdder();
+
+        private final LongAdder inDoubtRecipients = new LongAdder();
+
+        private final LongAdder executedTransactions = new LongAdder();
+
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private final CompletableFuture<TokenDistributionMetrics> result = new CompletableFuture<>();
+
+        private volatile boolean cancelled;
+
+        private Distribution(@NonNull final TokenId tokenId, @NonNull final AccountId operatorId,
+                @NonNull final AccountId senderId,
+                @NonNull final List<PrivateKey> signingKeys,
+                @NonNull final Stream<TokenDistributionRecipient> recipients, final long expectedRecipients,
+                @NonNull final TokenDistributionJournal journal) {
+            this.tokenId = tokenId;
+            this.operatorId = operatorId;
+            this.senderId = senderId;
+            this.signingKeys = signingKeys;
+            this.recipients = recipients;
+            this.expectedRecipients = expectedRecipients;
+            this.journal = journal;
+        }
+
+        private void run() {
+            try (recipients) {
+                final Map<Long, TokenDistributionJournalEntry> journaled = new HashMap<>();
+                journal.load().forEach(entry -> journaled.put(entry.batch(), entry));
+                final Iterator<TokenDistributionRecipient> iterator = recipients.iterator();
+                long batch = 0;
+                Map<AccountId, Long> amounts = new LinkedHashMap<>();
+                int count = 0;
+                while (isRunning() && iterator.hasNext()) {
+                    final TokenDistributionRecipient recipient = Objects.requireNonNull(iterator.next(),
+                            "recipient must not be null");
+                    if (recipient.accountId().equals(senderId)) {
+                        throw new IllegalArgumentException("recipient must not be the sender");
+                    }
+                    if (amounts.size() == MAX_RECIPIENTS_PER_TRANSACTION
+                            && !amounts.containsKey(recipient.accountId())) {
+                        handle(batch++, amounts, count, journaled);
+                        amounts = new LinkedHashMap<>();
+                        count = 0;
+                    }
+                    amounts.merge(recipient.accountId(), recipient.amount(), Math::addExact);
+                    count++;
+                }
+                if (isRunning() && !amounts.isEmpty()) {
+                    handle(batch, amounts, count, journaled);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new IllegalStateException("Interrupted while distributing", e));
+            } catch (final RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+            permits.acquireUninterruptibly(parallelism);
+            final RuntimeException exception = failure.get();
+            if (exception != null) {
+                result.completeExceptionally(exception);
+            } else {
+                result.complete(getMetrics());
+            }
+        }
+
+        private boolean isRunning() {
+            return !cancelled && failure.get() == null;
+        }
+
+        private void handle(final long batch, @NonNull final Map<AccountId, Long> amounts, final int count,
+                @NonNull final Map<Long, TokenDistributionJournalEntry> journaled) throws InterruptedException {
+            final String fingerprint = fingerprint(amounts);
+            final TokenDistributionJournalEntry entry = journaled.get(batch);
+            if (entry != null) {
+                if (!entry.fingerprint().equals(fingerprint)) {
+                    throw new IllegalStateException("Batch " + batch + " does not match the journal, the "
+                            + "recipients or their order have changed");
+                }
+                final State state = entry.state() == State.SUBMITTED ? resolve(entry) : entry.state();
+                if (state == State.COMPLETED) {
+                    skippedRecipients.add(count);
+                    return;
+                }
+                if (state == State.SUBMITTED) {
+                    log.warn("Outcome of batch {} of the distribution of token {} is still unknown, transaction {}",
+                            batch, tokenId, entry.transactionId());
+                    inDoubtRecipients.add(count);
+                    return;
+                }
+            }
+            final Map<AccountId, Long> transfers = new HashMap<>(amounts);
+            final long total = amounts.values().stream().reduce(0L, Math::addExact);
+            transfers.put(senderId, -total);
+            permits.acquire();
+            Thread.ofVirtual().name("hiero-token-distribution-batch").start(() -> {
+                try {
+                    execute(batch, fingerprint, transfers, count);
+                } catch (final RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        /**
+         * Resolves the outcome of a submitted batch by its transaction. A resolved outcome is appended to the journal.
+         *
+         * @return the resolved state or {@link State#SUBMITTED} if the outcome is still unknown
+         */
+        @NonNull
+        private State resolve(@NonNull final TokenDistributionJournalEntry entry) {
+            final TransactionId transactionId = entry.transactionId();
+            if (transactionId == null || transactionId.accountId == null || transactionId.validStart == null) {
+                return State.SUBMITTED;
+            }
+            final Optional<TransactionInfo> transaction;
+            try {
+                transaction = transactionRepository.findById(toMirrorNodeId(transactionId));
+            } catch (final HieroException e) {
+                log.warn("Can not look up transaction {} of batch {}", transactionId, entry.batch(), e);
+                return State.SUBMITTED;
+            }
+            final State state;
+            if (transaction.isPresent()) {
+                state = SUCCESS_RESULT.equals(transaction.get().result()) ? State.COMPLETED : State.FAILED;
+            } else if (Instant.now().isAfter(transactionId.validStart
+                    .plus(TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION)
+                    .plus(MIRROR_NODE_DELAY))) {
+                state = State.FAILED;
+            } else {
+                return State.SUBMITTED;
+            }
+            journal.append(new TokenDistributionJournalEntry(entry.batch(), entry.fingerprint(), state,
+                    transactionId));
+            return state;
+        }
+
+        private void execute(final long batch, @NonNull final String fingerprint,
+                @NonNull final Map<AccountId, Long> transfers, final int count) {
+            final TransactionId transactionId = TransactionId.generate(operatorId);
+            final CryptoTransferRequest request = CryptoTransferRequest.of(Map.of(), Map.of(tokenId, transfers),
+                    signingKeys, transactionId);
+            journal.append(new TokenDistributionJournalEntry(batch, fingerprint, State.SUBMITTED, transactionId));
+            final CryptoTransferResult transferResult;
+            try {
+                transferResult = protocolLayerClient.executeCryptoTransferTransaction(request);
+            } catch (final Exception e) {
+                if (isNotExecuted(e)) {
+                    log.warn("Batch {} of the distribution of token {} failed", batch, tokenId, e);
+                    journal.append(new TokenDistributionJournalEntry(batch, fingerprint, State.FAILED,
+                            transactionId));
+                    failedRecipients.add(count);
+                } else {
+                    log.error("Outcome of batch {} of the distribution of token {} is unknown", batch, tokenId, e);
+                    inDoubtRecipients.add(count);
+                }
+                return;
+            }
+            paidRecipients.add(count);
+            executedTransactions.increment();
+            journal.append(new TokenDistributionJournalEntry(batch, fingerprint, State.COMPLETED,
+                    transferResult.transactionId()));
+        }
+
+        @NonNull
+        private String fingerprint(@NonNull final Map<AccountId, Long> amounts) {
+            final StringBuilder content = new StringBuilder()
+                    .append(tokenId).append('|')
+                    .append(senderId).append('|');
+            amounts.forEach((accountId, amount) -> content.append(accountId).append('=').append(amount).append(';'));
+            try {
+                final byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+
+        @Override
+        public @NonNull TokenDistributionMetrics getMetrics() {
+            final Duration elapsedTime = Duration.ofNanos(System.nanoTime() - startNanos);
+            final long paid = paidRecipients.sum();
+            final long handled = paid + skippedRecipients.sum() + failedRecipients.sum() + inDoubtRecipients.sum();
+            final double seconds = elapsedTime.toNanos() / 1_000_000_000.0;
+            final double recipientsPerSecond = seconds > 0 ? paid / seconds : 0;
+            Duration estimatedTimeRemaining = null;
+            if (expectedRecipients > 0) {
+                final long remaining = Math.max(0, expectedRecipients - handled);
+                if (remaining == 0) {
+                    estimatedTimeRemaining = Duration.ZERO;
+                } else if (recipientsPerSecond > 0) {
+                    estimatedTimeRemaining = Duration.ofMillis((long) (remaining / recipientsPerSecond * 1000));
+                }
+            }
+            return new TokenDistributionMetrics(expectedRecipients, paid, skippedRecipients.sum(),
+                    failedRecipients.sum(), inDoubtRecipients.sum(), executedTransactions.sum(), elapsedTime,
+                    recipientsPerSecond, estimatedTimeRemaining);
+        }
+
+        @Override
+        public @NonNull CompletableFuture<TokenDistributionMetrics> getResult() {
+            return result;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.openelements.hiero.base.implementation;
 
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.TopicClient;
 import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.messaging.TopicPayloadCodec;
+import com.openelements.hiero.base.messaging.TopicPayloadCodecs;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import com.openelements.hiero.base.protocol.data.*;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 public class TopicClientImpl implements TopicClient {
@@ -16,9 +21,26 @@ public class TopicClientImpl implements TopicClient {
 
     private final Account operationalAccount;
 
+    @Nullable
+    private final TopicPayloadCodec codec;
+
     public TopicClientImpl(@NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount) {
+        this(client, operationalAccount, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param client             the protocol layer client
+     * @param operationalAccount the operational account
+     * @param codec              the codec that encodes the payload of submitted messages or {@code null}, see
+     *                           {@link TopicPayloadCodecs}
+     */
+    public TopicClientImpl(@NonNull final ProtocolLayerClient client, @NonNull final Account operationalAccount,
+            @Nullable final TopicPayloadCodec codec) {
         this.client = Objects.requireNonNull(client, "client must not be null");
         this.operationalAccount = Objects.requireNonNull(operationalAccount, "operationalAccount must not be null");
+        this.codec = codec;
     }
 
     @Override
@@ -174,14 +196,14 @@ public class TopicClientImpl implements TopicClient {
     public void submitMessage(@NonNull TopicId topicId, @NonNull String message) throws HieroException {
         Objects.requireNonNull(topicId, "topicId must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        submitMessage(topicId, message.getBytes());
+        submitMessage(topicId, message.getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
     public void submitMessage(@NonNull TopicId topicId, @NonNull byte[] message) throws HieroException {
         Objects.requireNonNull(topicId, "topicId must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, message);
+        TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, encode(message));
         client.executeTopicMessageSubmitTransaction(request);
     }
 
@@ -190,7 +212,7 @@ public class TopicClientImpl implements TopicClient {
         Objects.requireNonNull(topicId, "topicId must not be null");
         Objects.requireNonNull(submitKey, "submitKey must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        submitMessage(topicId, submitKey, message.getBytes());
+        submitMessage(topicId, submitKey, message.getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
@@ -199,7 +221,43 @@ public class TopicClientImpl implements TopicClient {
         Objects.requireNonNull(topicId, "topicId must not be null");
         Objects.requireNonNull(submitKey, "submitKey must not be null");
         Objects.requireNonNull(message, "message must not be null");
-        TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, submitKey, message);
+        TopicSubmitMessageRequest request = TopicSubmitMessageRequest.of(topicId, submitKey, encode(message));
         client.executeTopicMessageSubmitTransaction(request);
     }
+
+    @Override
+    public void submitChunkedMessage(@NonNull TopicId topicId, @NonNull byte[] message) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        final TopicSubmitChunkedMessageRequest request = TopicSubmitChunkedMessageRequest.of(topicId,
+                encode(message));
+        checkChunkedResult(client.executeChunkedTopicMessageSubmitTransaction(request));
+    }
+
+    @Override
+    public void submitChunkedMessage(@NonNull TopicId topicId, @NonNull PrivateKey submitKey,
+            @NonNull byte[] message) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(submitKey, "submitKey must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        final TopicSubmitChunkedMessageRequest request = TopicSubmitChunkedMessageRequest.of(topicId, submitKey,
+                encode(message));
+        checkChunkedResult(client.executeChunkedTopicMessageSubmitTransaction(request));
+    }
+
+    @NonNull
+    private byte[] encode(@NonNull final byte[] message) {
+        if (codec == null) {
+            return message;
+        }
+        return TopicPayloadCodecs.encode(codec, message);
+    }
+
+    private static void checkChunkedResult(@NonNull final TopicSubmitChunkedMessageResult result)
+            throws HieroException {
+        if (result.status() != Status.SUCCESS) {
+            throw new HieroException("Chunked message '" + result.transactionId() + "' failed with status "
+                    + result.status());
+        }
+    }
 }
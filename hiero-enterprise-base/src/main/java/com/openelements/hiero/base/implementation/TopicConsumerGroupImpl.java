@@ -0,0 +1,390 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicCheckpoint;
+import com.openelements.hiero.base.messaging.TopicCheckpointStore;
+import com.openelements.hiero.base.messaging.TopicConsumerGroup;
+import com.openelements.hiero.base.messaging.TopicGroupCoordinationStore;
+import com.openelements.hiero.base.messaging.TopicSubscriptionManager;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link TopicConsumerGroup} on top of a {@link TopicSubscriptionManager}. Every member sends a
+ * heartbeat and rebalances in a fixed interval; a member is alive as long as its last heartbeat is not older than
+ * {@value #SESSION_TIMEOUT_FACTOR} heartbeat intervals. All members compute the same assignment from the same set of
+ * live members (see {@link #assign(Collection, Collection)}), therefore no leader is needed. Until all members have
+ * seen a join or leave, a topic can be subscribed by two members or by none for up to one heartbeat interval.
+ * <p>
+ * A member that can not send heartbeats for a session timeout stops all subscriptions, since the other members take
+ * over its topics.
+ */
+public class TopicConsumerGroupImpl implements TopicConsumerGroup {
+
+    /**
+     * The default interval of heartbeats and rebalances.
+     */
+    public static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * The number of heartbeat intervals after which a member without heartbeat is removed from the group.
+     */
+    public static final int SESSION_TIMEOUT_FACTOR = 3;
+
+    private static final Logger log = LoggerFactory.getLogger(TopicConsumerGroupImpl.class);
+
+    private final TopicSubscriptionManager subscriptionManager;
+
+    private final TopicGroupCoordinationStore coordinationStore;
+
+    private final String groupName;
+
+    private final String memberId;
+
+    private final List<TopicId> topics;
+
+    private final Consumer<TopicMessage> handler;
+
+    @Nullable
+    private final Instant startTime;
+
+    private final Duration sessionTimeout;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final TopicCheckpointStore checkpointStore = new GroupCheckpointStore();
+
+    private final Map<TopicId, GroupSubscriber> subscribers = new ConcurrentHashMap<>();
+
+    private volatile Set<String> members = Set.of();
+
+    private volatile Set<TopicId> assignedTopics = Set.of();
+
+    @Nullable
+    private Instant lastHeartbeat;
+
+    private boolean closed;
+
+    private TopicConsumerGroupImpl(@NonNull final TopicSubscriptionManager subscriptionManager,
+            @NonNull final TopicGroupCoordinationStore coordinationStore, @NonNull final String groupName,
+            @NonNull final String memberId, @NonNull final Collection<TopicId> topics,
+            @NonNull final Consumer<TopicMessage> handler, @Nullable final Instant startTime,
+            @NonNull final Duration heartbeatInterval) {
+        this.subscriptionManager = Objects.requireNonNull(subscriptionManager,
+                "subscriptionManager must not be null");
+        this.coordinationStore = Objects.requireNonNull(coordinationStore, "coordinationStore must not be null");
+        this.groupName = Objects.requireNonNull(groupName, "groupName must not be null");
+        this.memberId = Objects.requireNonNull(memberId, "memberId must not be null");
+        this.topics = List.copyOf(Objects.requireNonNull(topics, "topics must not be null"));
+        this.handler = Objects.requireNonNull(handler, "handler must not be null");
+        Objects.requireNonNull(heartbeatInterval, "heartbeatInterval must not be null");
+        if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+            throw new IllegalArgumentException("heartbeatInterval must be positive");
+        }
+        this.startTime = startTime;
+        this.sessionTimeout = heartbeatInterval.multipliedBy(SESSION_TIMEOUT_FACTOR);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-topic-consumer-group-" + groupName)
+                .factory());
+    }
+
+    /**
+     * Joins the group with a random member id and starts all topics that have no checkpoint with the current time.
+     *
+     * @param subscriptionManager the manager of the subscriptions
+     * @param coordinationStore   the store that is shared by all members of the group
+     * @param groupName           the name of the group
+     * @param topics              the topics of the group
+     * @param handler             the handler of the messages
+     * @return the new member of the group
+     */
+    @NonNull
+    public static TopicConsumerGroupImpl join(@NonNull final TopicSubscriptionManager subscriptionManager,
+            @NonNull final TopicGroupCoordinationStore coordinationStore, @NonNull final String groupName,
+            @NonNull final Collection<TopicId> topics, @NonNull final Consumer<TopicMessage> handler) {
+        return join(subscriptionManager, coordinationStore, groupName, UUID.randomUUID().toString(), topics, handler,
+                null, DEFAULT_HEARTBEAT_INTERVAL);
+    }
+
+    /**
+     * Joins the group. The first rebalance is executed immediately, the heartbeats and rebalances are only scheduled
+     * after the member has been created completely.
+     *
+     * @param subscriptionManager the manager of the subscriptions
+     * @param coordinationStore   the store that is shared by all members of the group
+     * @param groupName           the name of the group
+     * @param memberId            the id of this member, which must be unique in the group
+     * @param topics              the topics of the group, which must be the same for all members
+     * @param handler             the handler of the messages
+     * @param startTime           the consensus time of the first message of a topic that has no checkpoint or null to
+     *                            start with the current time
+     * @param heartbeatInterval   the interval of heartbeats and rebalances
+     * @return the new member of the group
+     */
+    @NonNull
+    public static TopicConsumerGroupImpl join(@NonNull final TopicSubscriptionManager subscriptionManager,
+            @NonNull final TopicGroupCoordinationStore coordinationStore, @NonNull final String groupName,
+            @NonNull final String memberId, @NonNull final Collection<TopicId> topics,
+            @NonNull final Consumer<TopicMessage> handler, @Nullable final Instant startTime,
+            @NonNull final Duration heartbeatInterval) {
+        final TopicConsumerGroupImpl member = new TopicConsumerGroupImpl(subscriptionManager, coordinationStore,
+                groupName, memberId, topics, handler, startTime, heartbeatInterval);
+        member.scheduler.scheduleWithFixedDelay(member::scheduledRebalance, 0, heartbeatInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        return member;
+    }
+
+    @Override
+    public @NonNull String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public @NonNull String getMemberId() {
+        return memberId;
+    }
+
+    @Override
+    public @NonNull Set<String> getMembers() {
+        return members;
+    }
+
+    @Override
+    public @NonNull Set<TopicId> getAssignedTopics() {
+        return assignedTopics;
+    }
+
+    @Override
+    public synchronized void rebalance() {
+        if (closed) {
+            throw new IllegalStateException("Consumer group member is closed");
+        }
+        final Instant now = Instant.now();
+        coordinationStore.heartbeat(groupName, memberId, now);
+        lastHeartbeat = now;
+        final Set<String> liveMembers = new HashSet<>(coordinationStore.getMembers(groupName,
+                now.minus(sessionTimeout)));
+        liveMembers.add(memberId);
+        final Set<TopicId> assigned = assign(topics, liveMembers).get(memberId);
+        subscribers.forEach((topicId, subscriber) -> {
+            if (!assigned.contains(topicId)) {
+                log.debug("Topic {} of group '{}' is no longer assigned to member '{}'", topicId, groupName,
+                        memberId);
+                subscriber.cancel();
+            }
+        });
+        for (final TopicId topicId : assigned) {
+            if (!subscribers.containsKey(topicId)) {
+                log.debug("Topic {} of group '{}' is assigned to member '{}'", topicId, groupName, memberId);
+                final GroupSubscriber subscriber = new GroupSubscriber(topicId);
+                subscribers.put(topicId, subscriber);
+                subscriptionManager.subscribe(topicId, startTime, checkpointStore, topicId.toString())
+                        .subscribe(subscriber);
+            }
+        }
+        members = Set.copyOf(liveMembers);
+        assignedTopics = Set.copyOf(assigned);
+    }
+
+    private void scheduledRebalance() {
+        try {
+            rebalance();
+        } catch (final RuntimeException e) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                log.warn("Rebalance of member '{}' of group '{}' failed", memberId, groupName, e);
+                if (lastHeartbeat == null || lastHeartbeat.plus(sessionTimeout).isBefore(Instant.now())) {
+                    stopSubscriptions();
+                }
+            }
+        }
+    }
+
+    private void stopSubscriptions() {
+        subscribers.values().forEach(GroupSubscriber::cancel);
+        assignedTopics = Set.of();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            scheduler.shutdownNow();
+            stopSubscriptions();
+            members = Set.of();
+        }
+        try {
+            coordinationStore.leave(groupName, memberId);
+        } catch (final RuntimeException e) {
+            log.warn("Member '{}' can not leave group '{}', its topics move after the session timeout", memberId,
+                    groupName, e);
+        }
+    }
+
+    /**
+     * Assigns every topic to one member. The members are ordered by a hash of member and topic (rendezvous hashing)
+     * and a topic is assigned to the first member in that order that has not reached its share of the topics. The
+     * shares differ by at most 1, and the result only depends on the given topics and members, so all members of a
+     * group compute the same assignment.
+     *
+     * @param topics  the topics
+     * @param members the ids of the members
+     * @return the topics of every member
+     */
+    @NonNull
+    public static Map<String, Set<TopicId>> assign(@NonNull final Collection<TopicId> topics,
+            @NonNull final Collection<String> members) {
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(members, "members must not be null");
+        final List<String> sortedMembers = members.stream().distinct().sorted().toList();
+        final Map<String, Set<TopicId>> assignment = new HashMap<>();
+        sortedMembers.forEach(member -> assignment.put(member, new HashSet<>()));
+        if (sortedMembers.isEmpty()) {
+            return assignment;
+        }
+        final List<TopicId> sortedTopics = topics.stream()
+                .distinct()
+                .sorted(Comparator.comparing(TopicId::toString))
+                .toList();
+        final int share = sortedTopics.size() / sortedMembers.size();
+        int largerShares = sortedTopics.size() % sortedMembers.size();
+        for (final TopicId topicId : sortedTopics) {
+            final List<String> candidates = new ArrayList<>(sortedMembers);
+            candidates.sort(Comparator.comparing((String member) -> weight(member, topicId),
+                    Long::compareUnsigned).reversed());
+            for (final String member : candidates) {
+                final Set<TopicId> memberTopics = assignment.get(member);
+                if (memberTopics.size() < share) {
+                    memberTopics.add(topicId);
+                    break;
+                }
+                if (memberTopics.size() == share && largerShares > 0) {
+                    largerShares--;
+                    memberTopics.add(topicId);
+                    break;
+                }
+            }
+        }
+        return assignment;
+    }
+
+    /**
+     * FNV-1a hash of member and topic with a final mix, since the hash must be the same in every JVM.
+     */
+    private static long weight(@NonNull final String member, @NonNull final TopicId topicId) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte b : (member + '/' + topicId).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * View of the checkpoints of the group for the subscriptions of this member, which are named by their topic.
+     */
+    private final class GroupCheckpointStore implements TopicCheckpointStore {
+
+        @Override
+        public @NonNull Optional<TopicCheckpoint> load(@NonNull final String name) {
+            return coordinationStore.loadCheckpoint(groupName, TopicId.fromString(name));
+        }
+
+        @Override
+        public void store(@NonNull final String name, @NonNull final TopicCheckpoint checkpoint) {
+            coordinationStore.commitCheckpoint(groupName, TopicId.fromString(name), memberId, checkpoint);
+        }
+    }
+
+    private final class GroupSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final TopicId topicId;
+
+        private Flow.@Nullable Subscription subscription;
+
+        private boolean cancelled;
+
+        private GroupSubscriber(@NonNull final TopicId topicId) {
+            this.topicId = topicId;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.@NonNull Subscription subscription) {
+            synchronized (this) {
+                if (!cancelled) {
+                    this.subscription = subscription;
+                    subscription.request(Long.MAX_VALUE);
+                    return;
+                }
+            }
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(@NonNull final TopicMessage message) {
+            try {
+                handler.accept(message);
+            } catch (final RuntimeException e) {
+                // the subscription is cancelled without a checkpoint, the next rebalance retries the message
+                subscribers.remove(topicId, this);
+                throw e;
+            }
+        }
+
+        @Override
+        public void onError(@NonNull final Throwable throwable) {
+            subscribers.remove(topicId, this);
+            log.warn("Subscription of topic {} of group '{}' failed, retrying with the next rebalance", topicId,
+                    groupName, throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscribers.remove(topicId, this);
+        }
+
+        private void cancel() {
+            subscribers.remove(topicId, this);
+            final Flow.Subscription toCancel;
+            synchronized (this) {
+                cancelled = true;
+                toCancel = subscription;
+                subscription = null;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+        }
+    }
+}
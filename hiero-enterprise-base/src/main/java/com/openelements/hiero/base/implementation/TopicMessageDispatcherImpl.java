@@ -0,0 +1,319 @@
+package com.openelements.hiero.base.implementation;
+
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicDispatchMetrics;
+import com.openelements.hiero.base.messaging.TopicMessageDispatcher;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link TopicMessageDispatcher}. A lane is created for every key and holds a bounded queue. A
+ * virtual thread is started for a lane when a message is added to its empty queue and ends once the queue is empty
+ * again, therefore idle lanes do not hold a thread. The keys should have a bounded number of values, like topic ids;
+ * keys with many values can be mapped to a fixed number of shards by the key function, for example
+ * {@code message -> Math.floorMod(key(message).hashCode(), 16)}.
+ */
+public class TopicMessageDispatcherImpl implements TopicMessageDispatcher {
+
+    /**
+     * The default number of messages that can wait in the queue of a lane.
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+
+    private static final Logger log = LoggerFactory.getLogger(TopicMessageDispatcherImpl.class);
+
+    private final Function<TopicMessage, ?> keyFunction;
+
+    private final int queueCapacity;
+
+    private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a dispatcher that uses the topic id of a message as key.
+     */
+    public TopicMessageDispatcherImpl() {
+        this(TopicMessage::topicId, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param keyFunction   the function that returns the key of a message
+     * @param queueCapacity the number of messages that can wait in the queue of a lane
+     */
+    public TopicMessageDispatcherImpl(@NonNull final Function<TopicMessage, ?> keyFunction,
+            final int queueCapacity) {
+        this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction must not be null");
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be positive");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> dispatch(@NonNull final TopicMessage message,
+            @NonNull final Consumer<TopicMessage> handler) throws InterruptedException {
+        final Task task = new Task(message, handler);
+        lane(message).put(task);
+        return task.future;
+    }
+
+    @Override
+    public @NonNull Optional<CompletableFuture<Void>> tryDispatch(@NonNull final TopicMessage message,
+            @NonNull final Consumer<TopicMessage> handler) {
+        final Task task = new Task(message, handler);
+        if (lane(message).offer(task)) {
+            return Optional.of(task.future);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @NonNull Consumer<TopicMessage> consumer(@NonNull final Consumer<TopicMessage> handler) {
+        Objects.requireNonNull(handler, "handler must not be null");
+        return message -> {
+            try {
+                dispatch(message, handler).whenComplete((result, error) -> logError(message, error));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while dispatching message " + message.sequenceNumber()
+                        + " of topic " + message.topicId(), e);
+            }
+        };
+    }
+
+    @Override
+    public Flow.@NonNull Subscriber<TopicMessage> subscriber(@NonNull final Consumer<TopicMessage> handler) {
+        Objects.requireNonNull(handler, "handler must not be null");
+        return new Flow.Subscriber<>() {
+
+            private Flow.@Nullable Subscription subscription;
+
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(queueCapacity);
+            }
+
+            @Override
+            public void onNext(final TopicMessage message) {
+                final Flow.Subscription current = Objects.requireNonNull(subscription);
+                try {
+                    dispatch(message, handler).whenComplete((result, error) -> {
+                        logError(message, error);
+                        if (!(error instanceof CancellationException)) {
+                            current.request(1);
+                        }
+                    });
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    current.cancel();
+                } catch (final IllegalStateException e) {
+                    current.cancel();
+                }
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                log.error("Subscription of dispatcher failed", throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+    }
+
+    private static void logError(@NonNull final TopicMessage message, @Nullable final Throwable error) {
+        if (error != null && !(error instanceof CancellationException)) {
+            log.error("Handler of message {} of topic {} failed", message.sequenceNumber(), message.topicId(), error);
+        }
+    }
+
+    @Override
+    public @NonNull List<TopicDispatchMetrics> getMetrics() {
+        return lanes.values().stream().map(Lane::metrics).toList();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        lanes.values().forEach(Lane::close);
+    }
+
+    @NonNull
+    private Lane lane(@NonNull final TopicMessage message) {
+        Objects.requireNonNull(message, "message must not be null");
+        if (closed) {
+            throw new IllegalStateException("Dispatcher is closed");
+        }
+        final Object key = Objects.requireNonNull(keyFunction.apply(message), "key of message must not be null");
+        return lanes.computeIfAbsent(key, Lane::new);
+    }
+
+    private record Task(@NonNull TopicMessage message, @NonNull Consumer<TopicMessage> handler,
+                        @NonNull CompletableFuture<Void> future, long dispatchTime) {
+
+        private Task(@NonNull final TopicMessage message, @NonNull final Consumer<TopicMessage> handler) {
+            this(message, Objects.requireNonNull(handler, "handler must not be null"), new CompletableFuture<>(),
+                    System.nanoTime());
+        }
+    }
+
+    /**
+     * A lane processes its queue on a single virtual thread. The lock is a {@link ReentrantLock} and not a monitor,
+     * so that waiting callers do not pin the carrier thread of a virtual thread.
+     */
+    private final class Lane {
+
+        private final Object key;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Condition notFull = lock.newCondition();
+
+        private final ArrayDeque<Task> queue = new ArrayDeque<>();
+
+        private boolean running;
+
+        private boolean laneClosed;
+
+        private long handledMessages;
+
+        private long failedMessages;
+
+        private long totalLatency;
+
+        private long maxLatency;
+
+        private long totalProcessingTime;
+
+        private Lane(@NonNull final Object key) {
+            this.key = key;
+        }
+
+        private void put(@NonNull final Task task) throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (queue.size() >= queueCapacity && !laneClosed) {
+                    notFull.await();
+                }
+                enqueue(task);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean offer(@NonNull final Task task) {
+            lock.lock();
+            try {
+                if (queue.size() >= queueCapacity && !laneClosed) {
+                    return false;
+                }
+                enqueue(task);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void enqueue(@NonNull final Task task) {
+            if (laneClosed) {
+                throw new IllegalStateException("Dispatcher is closed");
+            }
+            queue.add(task);
+            if (!running) {
+                running = true;
+                Thread.ofVirtual().name("hiero-topic-dispatcher-" + key).start(this::run);
+            }
+        }
+
+        private void run() {
+            while (true) {
+                final Task task;
+                lock.lock();
+                try {
+                    task = queue.poll();
+                    if (task == null) {
+                        running = false;
+                        return;
+                    }
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                final long start = System.nanoTime();
+                Throwable error = null;
+                try {
+                    task.handler().accept(task.message());
+                } catch (final Throwable e) {
+                    error = e;
+                }
+                final long end = System.nanoTime();
+                lock.lock();
+                try {
+                    handledMessages++;
+                    if (error != null) {
+                        failedMessages++;
+                    }
+                    final long latency = end - task.dispatchTime();
+                    totalLatency += latency;
+                    maxLatency = Math.max(maxLatency, latency);
+                    totalProcessingTime += end - start;
+                } finally {
+                    lock.unlock();
+                }
+                if (error == null) {
+                    task.future().complete(null);
+                } else {
+                    task.future().completeExceptionally(error);
+                }
+            }
+        }
+
+        private void close() {
+            final List<Task> discarded;
+            lock.lock();
+            try {
+                laneClosed = true;
+                discarded = List.copyOf(queue);
+                queue.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            discarded.forEach(task -> task.future().cancel(false));
+        }
+
+        @NonNull
+        private TopicDispatchMetrics metrics() {
+            lock.lock();
+            try {
+                final long handled = Math.max(handledMessages, 1);
+                return new TopicDispatchMetrics(key, queue.size(), handledMessages, failedMessages,
+                        Duration.ofNanos(totalLatency / handled), Duration.ofNanos(maxLatency),
+                        Duration.ofNanos(totalProcessingTime / handled));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicMessageLog;
+import com.openelements.hiero.base.messaging.TopicMessageLogRetention;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link TopicMessageLog} that stores the messages of every topic in a sub directory of the log
+ * directory. The log of a topic consists of memory-mapped segments of a fixed capacity (see
+ * {@link TopicMessageLogSegment}); a new segment is started if a message does not fit into the current segment.
+ * Reads use the sparse index of the segments and never block appends, therefore replays are served at memory speed
+ * from the page cache.
+ * <p>
+ * Appended messages are written to the storage device by the operating system or by {@link #flush()}. If the
+ * application crashes, messages that have not been flushed can be lost, but the log is never corrupted.
+ */
+public class TopicMessageLogImpl implements TopicMessageLog {
+
+    /**
+     * The default capacity of a segment in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private final Path directory;
+
+    private final TopicMessageLogRetention retention;
+
+    private final int segmentSize;
+
+    private final Map<TopicId, TopicLog> logs = new ConcurrentHashMap<>();
+
+    private volatile boolean closed;
+
+    public TopicMessageLogImpl(@NonNull final Path directory) {
+        this(directory, TopicMessageLogRetention.unlimited(), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory   the directory of the log
+     * @param retention   the retention of the log of every topic
+     * @param segmentSize the capacity of a segment in bytes
+     */
+    public TopicMessageLogImpl(@NonNull final Path directory, @NonNull final TopicMessageLogRetention retention,
+            final int segmentSize) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+        this.retention = Objects.requireNonNull(retention, "retention must not be null");
+        if (segmentSize < TopicMessageLogSegment.INDEX_INTERVAL) {
+            throw new IllegalArgumentException("segmentSize must be at least " + TopicMessageLogSegment.INDEX_INTERVAL);
+        }
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public boolean append(@NonNull final TopicMessage message) {
+        Objects.requireNonNull(message, "message must not be null");
+        return log(message.topicId()).append(message);
+    }
+
+    @Override
+    public @NonNull Optional<TopicMessage> read(@NonNull final TopicId topicId, final long sequenceNumber) {
+        try (Stream<TopicMessage> messages = read(topicId, sequenceNumber, sequenceNumber)) {
+            return messages.findFirst();
+        }
+    }
+
+    @Override
+    public @NonNull Stream<TopicMessage> read(@NonNull final TopicId topicId, final long fromSequenceNumber,
+            final long toSequenceNumber) {
+        return log(topicId).read(fromSequenceNumber, toSequenceNumber, true);
+    }
+
+    @Override
+    public @NonNull Stream<TopicMessage> read(@NonNull final TopicId topicId, @NonNull final Instant from,
+            @NonNull final Instant to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        return log(topicId).read(TopicMessageLogSegment.toEpochNanos(from), TopicMessageLogSegment.toEpochNanos(to),
+                false);
+    }
+
+    @Override
+    public @NonNull OptionalLong getFirstSequenceNumber(@NonNull final TopicId topicId) {
+        final List<TopicMessageLogSegment> segments = log(topicId).segments;
+        if (segments.isEmpty() || segments.get(0).size() == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(segments.get(0).baseSequenceNumber());
+    }
+
+    @Override
+    public @NonNull OptionalLong getLastSequenceNumber(@NonNull final TopicId topicId) {
+        final List<TopicMessageLogSegment> segments = log(topicId).segments;
+        if (segments.isEmpty() || segments.get(segments.size() - 1).size() == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(segments.get(segments.size() - 1).lastSequenceNumber());
+    }
+
+    @Override
+    public void applyRetention() {
+        logs.values().forEach(TopicLog::applyRetention);
+    }
+
+    @Override
+    public void flush() {
+        logs.values().forEach(TopicLog::flush);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        logs.values().forEach(TopicLog::close);
+    }
+
+    @NonNull
+    private TopicLog log(@NonNull final TopicId topicId) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (closed) {
+            throw new IllegalStateException("Log is closed");
+        }
+        return logs.computeIfAbsent(topicId, TopicLog::new);
+    }
+
+    /**
+     * The log of a single topic. Appends and retention are synchronized; reads use an immutable snapshot of the
+     * segments.
+     */
+    private final class TopicLog {
+
+        private final TopicId topicId;
+
+        private final Path topicDirectory;
+
+        private volatile List<TopicMessageLogSegment> segments;
+
+        private TopicLog(@NonNull final TopicId topicId) {
+            this.topicId = topicId;
+            this.topicDirectory = directory.resolve(topicId.toString());
+            this.segments = load();
+        }
+
+        @NonNull
+        private List<TopicMessageLogSegment> load() {
+            if (!Files.isDirectory(topicDirectory)) {
+                return List.of();
+            }
+            try (Stream<Path> files = Files.list(topicDirectory)) {
+                final List<Path> segmentFiles = files
+                        .filter(file -> file.getFileName().toString().endsWith(TopicMessageLogSegment.LOG_SUFFIX))
+                        .sorted()
+                        .toList();
+                final List<TopicMessageLogSegment> loaded = new ArrayList<>();
+                for (int i = 0; i < segmentFiles.size(); i++) {
+                    final TopicMessageLogSegment segment = TopicMessageLogSegment.open(topicId, segmentFiles.get(i),
+                            i == segmentFiles.size() - 1);
+                    if (segment.size() == 0) {
+                        segment.delete();
+                    } else {
+                        loaded.add(segment);
+                    }
+                }
+                return List.copyOf(loaded);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not open log of topic " + topicId, e);
+            }
+        }
+
+        private synchronized boolean append(@NonNull final TopicMessage message) {
+            if (closed) {
+                throw new IllegalStateException("Log is closed");
+            }
+            final TopicMessageLogSegment active = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (active != null && message.sequenceNumber() <= active.lastSequenceNumber()) {
+                return false;
+            }
+            final byte[] body = TopicMessageLogSegment.encode(message);
+            if (TopicMessageLogSegment.recordSize(body) + Integer.BYTES > segmentSize) {
+                throw new IllegalArgumentException("Message " + message.sequenceNumber() + " of topic " + topicId
+                        + " is larger than a segment");
+            }
+            if (active != null && active.append(message, body)) {
+                return true;
+            }
+            try {
+                if (active != null) {
+                    active.seal();
+                }
+                final TopicMessageLogSegment segment = TopicMessageLogSegment.create(topicDirectory, topicId,
+                        message.sequenceNumber(), segmentSize);
+                segment.append(message, body);
+                final List<TopicMessageLogSegment> updated = new ArrayList<>(segments);
+                updated.add(segment);
+                segments = List.copyOf(updated);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not create segment of topic " + topicId, e);
+            }
+            applyRetention();
+            return true;
+        }
+
+        private synchronized void applyRetention() {
+            final List<TopicMessageLogSegment> retained = new ArrayList<>(segments);
+            long totalSize = retained.stream().mapToLong(TopicMessageLogSegment::size).sum();
+            final long minTimestamp = retention.maxAge() == null ? Long.MIN_VALUE
+                    : TopicMessageLogSegment.toEpochNanos(Instant.now().minus(retention.maxAge()));
+            while (retained.size() > 1) {
+                final TopicMessageLogSegment oldest = retained.get(0);
+                if (totalSize <= retention.maxBytes() && oldest.lastTimestamp() >= minTimestamp) {
+                    break;
+                }
+                try {
+                    oldest.delete();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Can not delete segment of topic " + topicId, e);
+                }
+                retained.remove(0);
+                totalSize -= oldest.size();
+            }
+            if (retained.size() != segments.size()) {
+                segments = List.copyOf(retained);
+            }
+        }
+
+        private void flush() {
+            final List<TopicMessageLogSegment> current = segments;
+            if (!current.isEmpty()) {
+                current.get(current.size() - 1).force();
+            }
+        }
+
+        private synchronized void close() {
+            if (segments.isEmpty()) {
+                return;
+            }
+            try {
+                segments.get(segments.size() - 1).seal();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Can not close log of topic " + topicId, e);
+            }
+        }
+
+        @NonNull
+        private Stream<TopicMessage> read(final long from, final long to, final boolean bySequence) {
+            final List<TopicMessageLogSegment> snapshot = segments;
+            int first = 0;
+            for (int i = 0; i < snapshot.size(); i++) {
+                final TopicMessageLogSegment segment = snapshot.get(i);
+                if (bySequence ? segment.baseSequenceNumber() <= from : segment.lastTimestamp() < from) {
+                    first = bySequence ? i : i + 1;
+                }
+            }
+            final Iterator<TopicMessage> iterator = new RangeIterator(snapshot, first, from, to, bySequence);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                    Spliterator.ORDERED | Spliterator.NONNULL), false);
+        }
+    }
+
+    /**
+     * Iterates the records of a snapshot of segments with a sequence number (or timestamp) in a range. Only the
+     * records that have been appended when a segment is reached are read.
+     */
+    private static final class RangeIterator implements Iterator<TopicMessage> {
+
+        private final List<TopicMessageLogSegment> segments;
+
+        private final long from;
+
+        private final long to;
+
+        private final boolean bySequence;
+
+        private int segmentIndex;
+
+        private int position;
+
+        private int limit;
+
+        private boolean done;
+
+        @Nullable
+        private TopicMessage next;
+
+        private RangeIterator(@NonNull final List<TopicMessageLogSegment> segments, final int segmentIndex,
+                final long from, final long to, final boolean bySequence) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.bySequence = bySequence;
+            this.segmentIndex = segmentIndex;
+            if (segmentIndex < segments.size()) {
+                final TopicMessageLogSegment segment = segments.get(segmentIndex);
+                this.position = segment.floorPosition(from, bySequence);
+                this.limit = segment.size();
+            }
+            this.done = from > to || segmentIndex >= segments.size();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done) {
+                if (position >= limit) {
+                    segmentIndex++;
+                    if (segmentIndex >= segments.size()) {
+                        done = true;
+                        break;
+                    }
+                    position = 0;
+                    limit = segments.get(segmentIndex).size();
+                    continue;
+                }
+                final TopicMessageLogSegment segment = segments.get(segmentIndex);
+                final long key = bySequence ? segment.sequenceNumberAt(position) : segment.timestampAt(position);
+                if (key > to) {
+                    done = true;
+                } else if (key >= from) {
+                    next = segment.read(position);
+                }
+                position = segment.nextPosition(position);
+            }
+            return next != null;
+        }
+
+        @Override
+        public TopicMessage next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final TopicMessage result = next;
+            next = null;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Topic;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicMessageLog;
+import com.openelements.hiero.base.mirrornode.TopicRepository;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicRepository} that serves messages from a {@link TopicMessageLog} first and queries the delegate only for
+ * the messages that are not in the log. Messages of the delegate that directly follow the last message of the log are
+ * appended to the log, therefore the log of a topic never has gaps and a replay fills the log for the next replay.
+ */
+public class TopicMessageLogRepository implements TopicRepository {
+
+    private final TopicRepository delegate;
+
+    private final TopicMessageLog log;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the repository that is used for messages that are not in the log
+     * @param log      the log
+     */
+    public TopicMessageLogRepository(@NonNull final TopicRepository delegate, @NonNull final TopicMessageLog log) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.log = Objects.requireNonNull(log, "log must not be null");
+    }
+
+    @Override
+    public @NonNull Optional<Topic> findTopicById(TopicId topicId) throws HieroException {
+        return delegate.findTopicById(topicId);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> getMessages(TopicId topicId) throws HieroException {
+        return delegate.getMessages(topicId);
+    }
+
+    @Override
+    public @NonNull Stream<TopicMessage> streamMessages(TopicId topicId, long fromSequenceNumber,
+            long toSequenceNumber) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (fromSequenceNumber < 1) {
+            throw new IllegalArgumentException("fromSequenceNumber must be greater than 0");
+        }
+        if (toSequenceNumber < fromSequenceNumber) {
+            throw new IllegalArgumentException("toSequenceNumber must not be less than fromSequenceNumber");
+        }
+        final OptionalLong first = log.getFirstSequenceNumber(topicId);
+        final OptionalLong last = log.getLastSequenceNumber(topicId);
+        if (first.isEmpty() || last.isEmpty() || fromSequenceNumber < first.getAsLong()
+                || fromSequenceNumber > last.getAsLong()) {
+            return fromDelegate(topicId, fromSequenceNumber, toSequenceNumber);
+        }
+        final long localTo = Math.min(toSequenceNumber, last.getAsLong());
+        final Stream<TopicMessage> local = log.read(topicId, fromSequenceNumber, localTo);
+        if (localTo == toSequenceNumber) {
+            return local;
+        }
+        // the delegate is only queried if the stream reaches the end of the log
+        final Stream<TopicMessage> remote = Stream.of(localTo + 1).flatMap(from -> {
+            try {
+                return fromDelegate(topicId, from, toSequenceNumber);
+            } catch (final HieroException e) {
+                throw new IllegalStateException("Can not query messages of topic " + topicId, e);
+            }
+        });
+        return Stream.concat(local, remote);
+    }
+
+    @NonNull
+    private Stream<TopicMessage> fromDelegate(@NonNull final TopicId topicId, final long fromSequenceNumber,
+            final long toSequenceNumber) throws HieroException {
+        return delegate.streamMessages(topicId, fromSequenceNumber, toSequenceNumber).peek(this::appendIfNext);
+    }
+
+    @Override
+    public @NonNull Optional<TopicMessage> getMessageBySequenceNumber(TopicId topicId, long sequenceNumber)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (sequenceNumber < 1) {
+            throw new IllegalArgumentException("sequenceNumber must be greater than 0");
+        }
+        final Optional<TopicMessage> local = log.read(topicId, sequenceNumber);
+        if (local.isPresent()) {
+            return local;
+        }
+        final Optional<TopicMessage> remote = delegate.getMessageBySequenceNumber(topicId, sequenceNumber);
+        remote.ifPresent(this::appendIfNext);
+        return remote;
+    }
+
+    private void appendIfNext(@NonNull final TopicMessage message) {
+        final OptionalLong last = log.getLastSequenceNumber(message.topicId());
+        if (last.isEmpty() || message.sequenceNumber() == last.getAsLong() + 1) {
+            log.append(message);
+        }
+    }
+}
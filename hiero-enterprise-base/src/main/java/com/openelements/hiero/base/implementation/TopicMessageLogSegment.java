@@ -0,0 +1,410 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Segment of a {@link TopicMessageLogImpl}. A segment is a memory-mapped file of fixed capacity that contains the
+ * records of consecutive messages of a topic. The file is named by the sequence number of its first message.
+ * <p>
+ * Every record starts with the length and the CRC32C checksum of its body. The body starts with the sequence number
+ * and the consensus timestamp of the message, therefore both can be read without decoding the message. A record with
+ * a length of 0 marks the end of the segment; a torn record at the end of a segment is detected by its checksum and
+ * removed when the segment is opened again.
+ * <p>
+ * The segment holds a sparse index that contains the position of a record at least every {@link #INDEX_INTERVAL}
+ * bytes. The index is written to an index file when the segment is sealed and is rebuilt by scanning the segment if
+ * the index file is missing.
+ */
+final class TopicMessageLogSegment {
+
+    static final String LOG_SUFFIX = ".log";
+
+    static final String INDEX_SUFFIX = ".idx";
+
+    static final int RECORD_HEADER_SIZE = 8;
+
+    static final int INDEX_INTERVAL = 4096;
+
+    private static final int INDEX_MAGIC = 0x48544c49;
+
+    private final TopicId topicId;
+
+    private final Path file;
+
+    private final long baseSequenceNumber;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private volatile int size;
+
+    private long lastSequenceNumber;
+
+    private long lastTimestamp;
+
+    private long[] indexSequenceNumbers = new long[16];
+
+    private long[] indexTimestamps = new long[16];
+
+    private int[] indexPositions = new int[16];
+
+    private int indexSize;
+
+    private int lastIndexedPosition = -INDEX_INTERVAL;
+
+    private TopicMessageLogSegment(@NonNull final TopicId topicId, @NonNull final Path file,
+            final long baseSequenceNumber, @NonNull final MappedByteBuffer buffer) {
+        this.topicId = topicId;
+        this.file = file;
+        this.baseSequenceNumber = baseSequenceNumber;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.lastSequenceNumber = baseSequenceNumber - 1;
+    }
+
+    /**
+     * Creates a new segment.
+     *
+     * @param directory          the directory of the log of the topic
+     * @param topicId            the topic
+     * @param baseSequenceNumber the sequence number of the first message of the segment
+     * @param capacity           the capacity of the segment in bytes
+     * @return the segment
+     * @throws IOException if the file can not be created
+     */
+    @NonNull
+    static TopicMessageLogSegment create(@NonNull final Path directory, @NonNull final TopicId topicId,
+            final long baseSequenceNumber, final int capacity) throws IOException {
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(fileName(baseSequenceNumber, LOG_SUFFIX));
+        return new TopicMessageLogSegment(topicId, file, baseSequenceNumber, map(file, capacity));
+    }
+
+    /**
+     * Opens an existing segment. The index is loaded from the index file if the segment is not active and the index
+     * file is valid, otherwise the segment is scanned.
+     *
+     * @param topicId the topic
+     * @param file    the file of the segment
+     * @param active  true if the segment is the segment that is written
+     * @return the segment
+     * @throws IOException if the file can not be read
+     */
+    @NonNull
+    static TopicMessageLogSegment open(@NonNull final TopicId topicId, @NonNull final Path file,
+            final boolean active) throws IOException {
+        final String name = file.getFileName().toString();
+        final long baseSequenceNumber = Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+        final TopicMessageLogSegment segment = new TopicMessageLogSegment(topicId, file, baseSequenceNumber,
+                map(file, Math.toIntExact(Files.size(file))));
+        final Path indexFile = segment.indexFile();
+        if (active || !segment.loadIndex(indexFile)) {
+            segment.scan();
+        }
+        if (active) {
+            Files.deleteIfExists(indexFile);
+        }
+        return segment;
+    }
+
+    @NonNull
+    private static MappedByteBuffer map(@NonNull final Path file, final int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel has been closed
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+    }
+
+    @NonNull
+    static String fileName(final long baseSequenceNumber, @NonNull final String suffix) {
+        return String.format("%020d%s", baseSequenceNumber, suffix);
+    }
+
+    /**
+     * Returns the size of the record of the message.
+     *
+     * @param body the encoded message
+     * @return the size in bytes
+     */
+    static int recordSize(final byte @NonNull [] body) {
+        return RECORD_HEADER_SIZE + body.length;
+    }
+
+    /**
+     * Appends a message.
+     *
+     * @param message the message
+     * @param body    the encoded message
+     * @return false if the segment has not enough space for the message
+     */
+    synchronized boolean append(@NonNull final TopicMessage message, final byte @NonNull [] body) {
+        final int position = size;
+        if (position + recordSize(body) + Integer.BYTES > capacity) {
+            return false;
+        }
+        final CRC32C crc = new CRC32C();
+        crc.update(body);
+        buffer.put(position + RECORD_HEADER_SIZE, body);
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, body.length);
+        register(position, message.sequenceNumber(), toEpochNanos(message.consensusTimestamp()));
+        size = position + recordSize(body);
+        return true;
+    }
+
+    private void register(final int position, final long sequenceNumber, final long timestamp) {
+        if (position - lastIndexedPosition >= INDEX_INTERVAL) {
+            if (indexSize == indexPositions.length) {
+                indexSequenceNumbers = Arrays.copyOf(indexSequenceNumbers, indexSize * 2);
+                indexTimestamps = Arrays.copyOf(indexTimestamps, indexSize * 2);
+                indexPositions = Arrays.copyOf(indexPositions, indexSize * 2);
+            }
+            indexSequenceNumbers[indexSize] = sequenceNumber;
+            indexTimestamps[indexSize] = timestamp;
+            indexPositions[indexSize] = position;
+            indexSize++;
+            lastIndexedPosition = position;
+        }
+        lastSequenceNumber = sequenceNumber;
+        lastTimestamp = timestamp;
+    }
+
+    private void scan() {
+        int position = 0;
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            final int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > capacity) {
+                break;
+            }
+            final CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            register(position, sequenceNumberAt(position), timestampAt(position));
+            position += RECORD_HEADER_SIZE + length;
+        }
+        size = position;
+        if (position + Integer.BYTES <= capacity && buffer.getInt(position) != 0) {
+            // remove the torn record
+            final int length = Math.max(buffer.getInt(position), 0);
+            final int end = (int) Math.min(capacity, (long) position + RECORD_HEADER_SIZE + length);
+            for (int i = position; i < end; i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private boolean loadIndex(@NonNull final Path indexFile) throws IOException {
+        if (!Files.exists(indexFile)) {
+            return false;
+        }
+        final ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        if (index.remaining() < 28 || index.getInt() != INDEX_MAGIC) {
+            return false;
+        }
+        final int indexedSize = index.getInt();
+        final long indexedLastSequenceNumber = index.getLong();
+        final long indexedLastTimestamp = index.getLong();
+        final int count = index.getInt();
+        if (indexedSize > capacity || index.remaining() != count * 20) {
+            return false;
+        }
+        indexSequenceNumbers = new long[Math.max(count, 16)];
+        indexTimestamps = new long[Math.max(count, 16)];
+        indexPositions = new int[Math.max(count, 16)];
+        for (int i = 0; i < count; i++) {
+            indexSequenceNumbers[i] = index.getLong();
+            indexTimestamps[i] = index.getLong();
+            indexPositions[i] = index.getInt();
+        }
+        indexSize = count;
+        lastIndexedPosition = count == 0 ? -INDEX_INTERVAL : indexPositions[count - 1];
+        lastSequenceNumber = indexedLastSequenceNumber;
+        lastTimestamp = indexedLastTimestamp;
+        size = indexedSize;
+        return true;
+    }
+
+    /**
+     * Writes the segment and its index to the storage device. No messages must be appended afterwards.
+     *
+     * @throws IOException if the index can not be written
+     */
+    synchronized void seal() throws IOException {
+        buffer.force();
+        final ByteBuffer index = ByteBuffer.allocate(28 + indexSize * 20);
+        index.putInt(INDEX_MAGIC).putInt(size).putLong(lastSequenceNumber).putLong(lastTimestamp).putInt(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            index.putLong(indexSequenceNumbers[i]).putLong(indexTimestamps[i]).putInt(indexPositions[i]);
+        }
+        Files.write(indexFile(), index.array());
+    }
+
+    /**
+     * Writes the appended messages to the storage device.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Deletes the files of the segment. Streams that read the segment can still read it.
+     *
+     * @throws IOException if a file can not be deleted
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(indexFile());
+        Files.deleteIfExists(file);
+    }
+
+    @NonNull
+    private Path indexFile() {
+        return file.resolveSibling(fileName(baseSequenceNumber, INDEX_SUFFIX));
+    }
+
+    /**
+     * Returns the position of the last indexed record with a sequence number (or timestamp) that is not greater than
+     * the given one.
+     *
+     * @param key         the sequence number or the consensus timestamp in nanoseconds since the epoch
+     * @param bySequence  true to search by sequence number
+     * @return the position
+     */
+    synchronized int floorPosition(final long key, final boolean bySequence) {
+        final long[] keys = bySequence ? indexSequenceNumbers : indexTimestamps;
+        int low = 0;
+        int high = indexSize - 1;
+        int result = 0;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                result = indexPositions[mid];
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long baseSequenceNumber() {
+        return baseSequenceNumber;
+    }
+
+    synchronized long lastSequenceNumber() {
+        return lastSequenceNumber;
+    }
+
+    synchronized long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    int nextPosition(final int position) {
+        return position + RECORD_HEADER_SIZE + buffer.getInt(position);
+    }
+
+    long sequenceNumberAt(final int position) {
+        return buffer.getLong(position + RECORD_HEADER_SIZE);
+    }
+
+    long timestampAt(final int position) {
+        final long seconds = buffer.getLong(position + RECORD_HEADER_SIZE + Long.BYTES);
+        final int nanos = buffer.getInt(position + RECORD_HEADER_SIZE + 2 * Long.BYTES);
+        return seconds * 1_000_000_000L + nanos;
+    }
+
+    @NonNull
+    TopicMessage read(final int position) {
+        return decode(topicId, buffer.slice(position + RECORD_HEADER_SIZE, buffer.getInt(position)));
+    }
+
+    static long toEpochNanos(@NonNull final Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    /**
+     * Encodes the body of the record of a message.
+     *
+     * @param message the message
+     * @return the body
+     */
+    static byte @NonNull [] encode(@NonNull final TopicMessage message) {
+        final byte[] payer = message.payerAccountId().toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] runningHash = message.runningHash() == null ? new byte[0] : message.runningHash();
+        final ChunkInfo chunkInfo = message.chunkInfo();
+        final byte[] initialTransactionId = chunkInfo == null ? new byte[0]
+                : chunkInfo.initialTransactionId().toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer payload = message.payload().asByteBuffer();
+        final int chunkInfoSize = chunkInfo == null ? 0 : Short.BYTES + initialTransactionId.length + 13;
+        final int size = 24 + Short.BYTES + payer.length + Short.BYTES + runningHash.length + 1 + chunkInfoSize
+                + Integer.BYTES + payload.remaining();
+        final ByteBuffer body = ByteBuffer.allocate(size);
+        body.putLong(message.sequenceNumber());
+        body.putLong(message.consensusTimestamp().getEpochSecond());
+        body.putInt(message.consensusTimestamp().getNano());
+        body.putInt(message.runningHashVersion());
+        body.putShort((short) payer.length).put(payer);
+        body.putShort((short) runningHash.length).put(runningHash);
+        if (chunkInfo == null) {
+            body.put((byte) 0);
+        } else {
+            body.put((byte) 1);
+            body.putShort((short) initialTransactionId.length).put(initialTransactionId);
+            body.putInt(chunkInfo.nonce()).putInt(chunkInfo.number()).putInt(chunkInfo.total());
+            body.put((byte) (chunkInfo.scheduled() ? 1 : 0));
+        }
+        body.putInt(payload.remaining()).put(payload);
+        return body.array();
+    }
+
+    @NonNull
+    private static TopicMessage decode(@NonNull final TopicId topicId, @NonNull final ByteBuffer body) {
+        final long sequenceNumber = body.getLong();
+        final Instant consensusTimestamp = Instant.ofEpochSecond(body.getLong(), body.getInt());
+        final int runningHashVersion = body.getInt();
+        final AccountId payerAccountId = AccountId.fromString(new String(readBytes(body, body.getShort()),
+                StandardCharsets.UTF_8));
+        final byte[] runningHash = readBytes(body, body.getShort());
+        @Nullable ChunkInfo chunkInfo = null;
+        if (body.get() == 1) {
+            final TransactionId initialTransactionId = TransactionId.fromString(
+                    new String(readBytes(body, body.getShort()), StandardCharsets.UTF_8));
+            chunkInfo = new ChunkInfo(initialTransactionId, body.getInt(), body.getInt(), body.getInt(),
+                    body.get() == 1);
+        }
+        final TopicMessagePayload payload = TopicMessagePayload.of(readBytes(body, body.getInt()));
+        return new TopicMessage(chunkInfo, consensusTimestamp, payload, payerAccountId, runningHash,
+                runningHashVersion, sequenceNumber, topicId);
+    }
+
+    private static byte @NonNull [] readBytes(@NonNull final ByteBuffer buffer, final int length) {
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,136 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.Topic;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicMessageReassembler;
+import com.openelements.hiero.base.messaging.TopicPayloadCodecs;
+import com.openelements.hiero.base.mirrornode.TopicRepository;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicRepository} that decodes the payload of the messages of the delegate by {@link TopicPayloadCodecs}.
+ * Chunks of messages that have been submitted in chunks can not be decoded on their own and are returned unchanged;
+ * the messages of {@link #getReassembledMessages(TopicId)} are decoded after the chunks have been reassembled.
+ */
+public class TopicPayloadCodecRepository implements TopicRepository {
+
+    private final TopicRepository delegate;
+
+    private final TopicPayloadCodecs codecs;
+
+    /**
+     * Creates a repository that decodes by the codecs of {@link TopicPayloadCodecs#getDefault()}.
+     *
+     * @param delegate the repository that provides the encoded messages
+     */
+    public TopicPayloadCodecRepository(@NonNull final TopicRepository delegate) {
+        this(delegate, TopicPayloadCodecs.getDefault());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the repository that provides the encoded messages
+     * @param codecs   the codecs
+     */
+    public TopicPayloadCodecRepository(@NonNull final TopicRepository delegate,
+            @NonNull final TopicPayloadCodecs codecs) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.codecs = Objects.requireNonNull(codecs, "codecs must not be null");
+    }
+
+    @Override
+    public @NonNull Optional<Topic> findTopicById(TopicId topicId) throws HieroException {
+        return delegate.findTopicById(topicId);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> getMessages(TopicId topicId) throws HieroException {
+        return new DecodedPage(delegate.getMessages(topicId), this::decodeIfComplete);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> getReassembledMessages(TopicId topicId) throws HieroException {
+        return new DecodedPage(TopicMessageReassembler.reassemble(delegate.getMessages(topicId)), codecs::decode);
+    }
+
+    @Override
+    public @NonNull Stream<TopicMessage> streamMessages(TopicId topicId, long fromSequenceNumber,
+            long toSequenceNumber) throws HieroException {
+        return delegate.streamMessages(topicId, fromSequenceNumber, toSequenceNumber).map(this::decodeIfComplete);
+    }
+
+    @Override
+    public @NonNull Optional<TopicMessage> getMessageBySequenceNumber(TopicId topicId, long sequenceNumber)
+            throws HieroException {
+        return delegate.getMessageBySequenceNumber(topicId, sequenceNumber).map(this::decodeIfComplete);
+    }
+
+    @NonNull
+    private TopicMessage decodeIfComplete(@NonNull final TopicMessage message) {
+        final ChunkInfo chunkInfo = message.chunkInfo();
+        if (chunkInfo != null && chunkInfo.total() > 1) {
+            return message;
+        }
+        return codecs.decode(message);
+    }
+
+    private static final class DecodedPage implements Page<TopicMessage> {
+
+        private final Page<TopicMessage> page;
+
+        private final UnaryOperator<TopicMessage> decoder;
+
+        private final List<TopicMessage> data;
+
+        private DecodedPage(@NonNull final Page<TopicMessage> page, @NonNull final UnaryOperator<TopicMessage> decoder) {
+            this.page = page;
+            this.decoder = decoder;
+            this.data = page.getData().stream().map(decoder).toList();
+        }
+
+        @Override
+        public int getPageIndex() {
+            return page.getPageIndex();
+        }
+
+        @Override
+        public int getSize() {
+            return data.size();
+        }
+
+        @Override
+        public List<TopicMessage> getData() {
+            return data;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return page.hasNext();
+        }
+
+        @Override
+        public Page<TopicMessage> next() {
+            return new DecodedPage(page.next(), decoder);
+        }
+
+        @Override
+        public Page<TopicMessage> first() {
+            return new DecodedPage(page.first(), decoder);
+        }
+
+        @Override
+        public boolean isFirst() {
+            return page.isFirst();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.messaging.TopicMessageEnvelope;
+import com.openelements.hiero.base.messaging.TopicPublisher;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link TopicPublisher} that keeps one buffer per topic and submit key. A buffer is submitted as
+ * envelope on a virtual thread when the next message does not fit into it or when its first message has waited for
+ * the linger time. A semaphore bounds the number of buffered and in-flight messages.
+ */
+public class TopicPublisherImpl implements TopicPublisher {
+
+    /**
+     * The default time a message waits for further messages before its envelope is submitted.
+     */
+    public static final Duration DEFAULT_LINGER = Duration.ofMillis(50);
+
+    /**
+     * The default maximum number of buffered and in-flight messages.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_MESSAGES = 10_000;
+
+    private final ProtocolLayerClient protocolLayerClient;
+
+    private final Duration linger;
+
+    private final Semaphore permits;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor sender;
+
+    private final Object lock = new Object();
+
+    private final Map<BufferKey, Buffer> buffers = new HashMap<>();
+
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private boolean closed;
+
+    public TopicPublisherImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        this(protocolLayerClient, DEFAULT_LINGER, DEFAULT_MAX_BUFFERED_MESSAGES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param protocolLayerClient the client that submits the envelopes
+     * @param linger              the time a message waits for further messages before its envelope is submitted
+     * @param maxBufferedMessages the maximum number of buffered and in-flight messages
+     */
+    public TopicPublisherImpl(@NonNull final ProtocolLayerClient protocolLayerClient, @NonNull final Duration linger,
+            final int maxBufferedMessages) {
+        this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient,
+                "protocolLayerClient must not be null");
+        this.linger = Objects.requireNonNull(linger, "linger must not be null");
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("linger must not be negative");
+        }
+        if (maxBufferedMessages < 1) {
+            throw new IllegalArgumentException("maxBufferedMessages must be positive");
+        }
+        this.permits = new Semaphore(maxBufferedMessages);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-topic-publisher-linger")
+                .factory());
+        this.sender = runnable -> Thread.ofVirtual().name("hiero-topic-publisher").start(runnable);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<TopicSubmitMessageResult> publish(@NonNull final TopicId topicId,
+            @Nullable final PrivateKey submitKey, @NonNull final byte[] message) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        if (message.length > TopicMessageEnvelope.MAX_MESSAGE_SIZE) {
+            throw new IllegalArgumentException("Message of " + message.length + " bytes exceeds the maximum of "
+                    + TopicMessageEnvelope.MAX_MESSAGE_SIZE + " bytes");
+        }
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for space in the publisher buffer", e);
+        }
+        final PendingMessage pendingMessage = new PendingMessage(message.clone(), new CompletableFuture<>());
+        final int size = TopicMessageEnvelope.encodedSize(message.length);
+        final BufferKey key = new BufferKey(topicId, submitKey);
+        final List<List<PendingMessage>> batches = new ArrayList<>(2);
+        synchronized (lock) {
+            if (closed) {
+                permits.release();
+                throw new IllegalStateException("Publisher is closed");
+            }
+            final Buffer buffer = buffers.computeIfAbsent(key, k -> new Buffer());
+            if (buffer.size + size > TopicMessageEnvelope.MAX_SIZE) {
+                batches.add(buffer.take());
+            }
+            buffer.add(pendingMessage, size);
+            if (buffer.size == TopicMessageEnvelope.MAX_SIZE) {
+                batches.add(buffer.take());
+            } else if (buffer.messages.size() == 1) {
+                buffer.scheduledFlush = scheduler.schedule(() -> flush(key), linger.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        batches.forEach(batch -> send(key, batch));
+        return pendingMessage.future();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> flush() {
+        final Map<BufferKey, List<PendingMessage>> batches = new HashMap<>();
+        synchronized (lock) {
+            buffers.forEach((key, buffer) -> {
+                if (!buffer.messages.isEmpty()) {
+                    batches.put(key, buffer.take());
+                }
+            });
+        }
+        batches.forEach(this::send);
+        return CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new));
+    }
+
+    private void flush(@NonNull final BufferKey key) {
+        final List<PendingMessage> batch;
+        synchronized (lock) {
+            final Buffer buffer = buffers.get(key);
+            if (buffer == null || buffer.messages.isEmpty()) {
+                return;
+            }
+            batch = buffer.take();
+        }
+        send(key, batch);
+    }
+
+    private void send(@NonNull final BufferKey key, @NonNull final List<PendingMessage> batch) {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.add(done);
+        sender.execute(() -> {
+            try {
+                final byte[] envelope = TopicMessageEnvelope.encode(batch.stream().map(PendingMessage::message)
+                        .toList());
+                final TopicSubmitMessageResult result = protocolLayerClient.executeTopicMessageSubmitTransaction(
+                        TopicSubmitMessageRequest.of(key.topicId(), key.submitKey(), envelope));
+                batch.forEach(message -> message.future().complete(result));
+            } catch (final Exception e) {
+                final HieroException exception = e instanceof HieroException hieroException ? hieroException
+                        : new HieroException("Failed to submit envelope to topic " + key.topicId(), e);
+                batch.forEach(message -> message.future().completeExceptionally(exception));
+            } finally {
+                permits.release(batch.size());
+                inFlight.remove(done);
+                done.complete(null);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush().join();
+        scheduler.shutdown();
+    }
+
+    private record BufferKey(@NonNull TopicId topicId, @Nullable PrivateKey submitKey) {
+    }
+
+    private record PendingMessage(@NonNull byte[] message,
+                                  @NonNull CompletableFuture<TopicSubmitMessageResult> future) {
+    }
+
+    private static final class Buffer {
+
+        private List<PendingMessage> messages = new ArrayList<>();
+
+        private int size = TopicMessageEnvelope.HEADER_SIZE;
+
+        @Nullable
+        private ScheduledFuture<?> scheduledFlush;
+
+        private void add(@NonNull final PendingMessage message, final int encodedSize) {
+            messages.add(message);
+            size += encodedSize;
+        }
+
+        @NonNull
+        private List<PendingMessage> take() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            final List<PendingMessage> batch = messages;
+            messages = new ArrayList<>();
+            size = TopicMessageEnvelope.HEADER_SIZE;
+            return batch;
+        }
+    }
+}
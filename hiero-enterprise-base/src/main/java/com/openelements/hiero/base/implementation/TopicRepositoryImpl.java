@@ -11,6 +11,7 @@ import org.jspecify.annotations.NonNull;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class TopicRepositoryImpl implements TopicRepository {
     private final MirrorNodeClient mirrorNodeClient;
@@ -31,6 +32,22 @@ public class TopicRepositoryImpl implements TopicRepository {
         return mirrorNodeClient.queryTopicMessages(topicId);
     }
 
+    @Override
+    public @NonNull Stream<TopicMessage> streamMessages(TopicId topicId, long fromSequenceNumber,
+            long toSequenceNumber) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (fromSequenceNumber < 1) {
+            throw new IllegalArgumentException("fromSequenceNumber must be greater than 0");
+        }
+        if (toSequenceNumber < fromSequenceNumber) {
+            throw new IllegalArgumentException("toSequenceNumber must not be less than fromSequenceNumber");
+        }
+        final Page<TopicMessage> firstPage = mirrorNodeClient.queryTopicMessages(topicId, fromSequenceNumber - 1,
+                MirrorNodeClient.MAX_PAGE_LIMIT);
+        return PrefetchingPageIterator.stream(firstPage)
+                .takeWhile(message -> message.sequenceNumber() <= toSequenceNumber);
+    }
+
     @Override
     public @NonNull Optional<TopicMessage> getMessageBySequenceNumber(TopicId topicId, long sequenceNumber) throws HieroException {
         Objects.requireNonNull(topicId, "topicId must not be null");
@@ -0,0 +1,464 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicCheckpoint;
+import com.openelements.hiero.base.messaging.TopicCheckpointStore;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import com.openelements.hiero.base.messaging.TopicMessageSource.Connection;
+import com.openelements.hiero.base.messaging.TopicSubscriptionManager;
+import com.openelements.hiero.base.messaging.TopicSubscriptionMetrics;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link TopicSubscriptionManager} on top of a {@link TopicMessageSource}. Every subscription tracks
+ * the sequence number and consensus timestamp of the last received message. A new connection of the source starts 1
+ * nanosecond after the last received message and messages with a sequence number that is not greater than the last
+ * one are ignored, therefore reconnects neither lose nor duplicate messages. If the buffer of a subscription is full,
+ * the connection is closed and reopened once the subscriber has consumed half of the buffer.
+ * <p>
+ * The manager subscribes by the gRPC API of the mirror node if it is created with a {@link ProtocolLayerClient} and
+ * polls the REST API of the mirror node by a {@link MirrorNodeTopicMessageSource} if it is created with a
+ * {@link MirrorNodeClient}.
+ */
+public class TopicSubscriptionManagerImpl implements TopicSubscriptionManager {
+
+    /**
+     * The default number of messages that are buffered per subscription.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1_000;
+
+    /**
+     * The default maximum time between two reconnects.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(500);
+
+    private static final Logger log = LoggerFactory.getLogger(TopicSubscriptionManagerImpl.class);
+
+    private final TopicMessageSource source;
+
+    private final int bufferSize;
+
+    private final Duration maxBackoff;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Set<ManagedSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean closed;
+
+    public TopicSubscriptionManagerImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        this(new GrpcTopicMessageSource(protocolLayerClient), DEFAULT_BUFFER_SIZE, DEFAULT_MAX_BACKOFF);
+    }
+
+    public TopicSubscriptionManagerImpl(@NonNull final MirrorNodeClient mirrorNodeClient) {
+        this(new MirrorNodeTopicMessageSource(mirrorNodeClient), DEFAULT_BUFFER_SIZE, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param source     the source of the messages
+     * @param bufferSize the number of messages that are buffered per subscription
+     * @param maxBackoff the maximum time between two reconnects
+     */
+    public TopicSubscriptionManagerImpl(@NonNull final TopicMessageSource source, final int bufferSize,
+            @NonNull final Duration maxBackoff) {
+        this.source = Objects.requireNonNull(source, "source must not be null");
+        this.maxBackoff = Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        if (maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("maxBackoff must not be negative");
+        }
+        this.bufferSize = bufferSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-topic-subscription")
+                .factory());
+    }
+
+    @Override
+    public Flow.@NonNull Publisher<TopicMessage> subscribe(@NonNull final TopicId topicId,
+            @Nullable final Instant startTime) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+            new ManagedSubscription(topicId, startTime, null, null, subscriber).start();
+        };
+    }
+
+    @Override
+    public Flow.@NonNull Publisher<TopicMessage> subscribe(@NonNull final TopicId topicId,
+            @Nullable final Instant startTime, @NonNull final TopicCheckpointStore checkpointStore,
+            @NonNull final String name) {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(checkpointStore, "checkpointStore must not be null");
+        Objects.requireNonNull(name, "name must not be null");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+            new ManagedSubscription(topicId, startTime, checkpointStore, name, subscriber).start();
+        };
+    }
+
+    @Override
+    public @NonNull List<TopicSubscriptionMetrics> getMetrics() {
+        return subscriptions.stream().map(ManagedSubscription::metrics).toList();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subscriptions.forEach(ManagedSubscription::cancel);
+        scheduler.shutdownNow();
+    }
+
+    private final class ManagedSubscription implements Flow.Subscription {
+
+        private final TopicId topicId;
+
+        @Nullable
+        private final Instant startTime;
+
+        @Nullable
+        private final TopicCheckpointStore checkpointStore;
+
+        @Nullable
+        private final String checkpointName;
+
+        private final Flow.Subscriber<? super TopicMessage> subscriber;
+
+        private final ArrayDeque<TopicMessage> buffer = new ArrayDeque<>();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private long demand;
+
+        private long lastSequenceNumber;
+
+        @Nullable
+        private Instant lastConsensusTimestamp;
+
+        @Nullable
+        private Instant lastDeliveredTimestamp;
+
+        private long deliveredMessages;
+
+        private long reconnects;
+
+        private Duration backoff = INITIAL_BACKOFF.compareTo(maxBackoff) < 0 ? INITIAL_BACKOFF : maxBackoff;
+
+        @Nullable
+        private Connection connection;
+
+        private int generation;
+
+        private boolean paused;
+
+        private boolean completed;
+
+        private boolean cancelled;
+
+        @Nullable
+        private Throwable error;
+
+        private ManagedSubscription(@NonNull final TopicId topicId, @Nullable final Instant startTime,
+                @Nullable final TopicCheckpointStore checkpointStore, @Nullable final String checkpointName,
+                final Flow.@NonNull Subscriber<? super TopicMessage> subscriber) {
+            this.topicId = topicId;
+            this.startTime = startTime;
+            this.checkpointStore = checkpointStore;
+            this.checkpointName = checkpointName;
+            this.subscriber = subscriber;
+        }
+
+        private void start() {
+            subscriptions.add(this);
+            subscriber.onSubscribe(this);
+            if (closed) {
+                fail(new IllegalStateException("Subscription manager is closed"));
+                return;
+            }
+            if (checkpointStore != null) {
+                try {
+                    checkpointStore.load(checkpointName).ifPresent(checkpoint -> {
+                        synchronized (this) {
+                            lastSequenceNumber = checkpoint.sequenceNumber();
+                            lastConsensusTimestamp = checkpoint.consensusTimestamp();
+                        }
+                    });
+                } catch (final RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+            }
+            connect();
+        }
+
+        private void connect() {
+            final int connectionGeneration;
+            final Instant start;
+            final long afterSequenceNumber;
+            synchronized (this) {
+                if (cancelled || paused) {
+                    return;
+                }
+                connectionGeneration = ++generation;
+                start = lastConsensusTimestamp == null ? startTime : lastConsensusTimestamp.plusNanos(1);
+                afterSequenceNumber = lastSequenceNumber;
+            }
+            final Connection opened;
+            try {
+                opened = source.open(topicId, start, afterSequenceNumber,
+                        new ConnectionListener(connectionGeneration));
+            } catch (final Exception e) {
+                onConnectionError(connectionGeneration, e);
+                return;
+            }
+            synchronized (this) {
+                if (connectionGeneration == generation && !cancelled) {
+                    connection = opened;
+                    return;
+                }
+            }
+            opened.close();
+        }
+
+        private void onMessage(final int connectionGeneration, @NonNull final TopicMessage message) {
+            Connection toClose = null;
+            synchronized (this) {
+                if (connectionGeneration != generation || cancelled
+                        || message.sequenceNumber() <= lastSequenceNumber) {
+                    return;
+                }
+                buffer.add(message);
+                lastSequenceNumber = message.sequenceNumber();
+                lastConsensusTimestamp = message.consensusTimestamp();
+                backoff = INITIAL_BACKOFF.compareTo(maxBackoff) < 0 ? INITIAL_BACKOFF : maxBackoff;
+                if (buffer.size() >= bufferSize) {
+                    paused = true;
+                    generation++;
+                    toClose = connection;
+                    connection = null;
+                }
+            }
+            if (toClose != null) {
+                toClose.close();
+            }
+            drain();
+        }
+
+        private void onConnectionError(final int connectionGeneration, @NonNull final Throwable throwable) {
+            final Duration delay;
+            final Connection toClose;
+            synchronized (this) {
+                if (connectionGeneration != generation || cancelled) {
+                    return;
+                }
+                generation++;
+                toClose = connection;
+                connection = null;
+                reconnects++;
+                delay = backoff;
+                backoff = backoff.multipliedBy(2).compareTo(maxBackoff) < 0 ? backoff.multipliedBy(2) : maxBackoff;
+            }
+            if (toClose != null) {
+                toClose.close();
+            }
+            log.warn("Subscription of topic {} failed, reconnecting in {} ms", topicId, delay.toMillis(), throwable);
+            try {
+                scheduler.schedule(this::connect, delay.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (final RejectedExecutionException e) {
+                fail(new IllegalStateException("Subscription manager is closed", throwable));
+            }
+        }
+
+        private void onComplete(final int connectionGeneration) {
+            synchronized (this) {
+                if (connectionGeneration != generation || cancelled) {
+                    return;
+                }
+                completed = true;
+                connection = null;
+            }
+            drain();
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested number of messages must be positive, was " + n));
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            final Connection toClose;
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                generation++;
+                toClose = connection;
+                connection = null;
+                buffer.clear();
+            }
+            subscriptions.remove(this);
+            if (toClose != null) {
+                toClose.close();
+            }
+        }
+
+        private void fail(@NonNull final Throwable throwable) {
+            synchronized (this) {
+                if (error == null) {
+                    error = throwable;
+                }
+            }
+            drain();
+        }
+
+        /**
+         * Delivers the buffered messages on a virtual thread. The work-in-progress counter guarantees that only one
+         * thread calls the subscriber at a time.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            Thread.ofVirtual().name("hiero-topic-subscription-" + topicId).start(() -> {
+                int missed = 1;
+                do {
+                    while (deliverNext()) {
+                        // deliver until there is no demand or no message
+                    }
+                    missed = wip.addAndGet(-missed);
+                } while (missed != 0);
+            });
+        }
+
+        private boolean deliverNext() {
+            final TopicMessage message;
+            final Throwable failure;
+            boolean resume = false;
+            boolean complete = false;
+            synchronized (this) {
+                if (cancelled) {
+                    return false;
+                }
+                failure = error;
+                if (failure != null) {
+                    message = null;
+                } else if (demand > 0 && !buffer.isEmpty()) {
+                    message = buffer.poll();
+                    demand--;
+                    if (paused && buffer.size() <= bufferSize / 2) {
+                        paused = false;
+                        resume = true;
+                    }
+                } else if (completed && buffer.isEmpty()) {
+                    message = null;
+                    complete = true;
+                } else {
+                    return false;
+                }
+            }
+            if (failure != null) {
+                cancel();
+                subscriber.onError(failure);
+                return false;
+            }
+            if (complete) {
+                cancel();
+                subscriber.onComplete();
+                return false;
+            }
+            if (resume) {
+                try {
+                    scheduler.execute(this::connect);
+                } catch (final RejectedExecutionException e) {
+                    fail(new IllegalStateException("Subscription manager is closed"));
+                }
+            }
+            try {
+                subscriber.onNext(message);
+            } catch (final RuntimeException e) {
+                cancel();
+                log.error("Subscriber of topic {} failed, subscription is cancelled", topicId, e);
+                return false;
+            }
+            synchronized (this) {
+                deliveredMessages++;
+                lastDeliveredTimestamp = message.consensusTimestamp();
+            }
+            if (checkpointStore != null) {
+                try {
+                    checkpointStore.store(checkpointName,
+                            TopicCheckpoint.of(message.sequenceNumber(), message.consensusTimestamp()));
+                } catch (final RuntimeException e) {
+                    fail(e);
+                }
+            }
+            return true;
+        }
+
+        @NonNull
+        private synchronized TopicSubscriptionMetrics metrics() {
+            final Duration lag = lastDeliveredTimestamp == null ? Duration.ZERO
+                    : Duration.between(lastDeliveredTimestamp, Instant.now());
+            return new TopicSubscriptionMetrics(topicId, lastSequenceNumber, lastConsensusTimestamp, buffer.size(),
+                    deliveredMessages, reconnects, lag.isNegative() ? Duration.ZERO : lag);
+        }
+
+        private final class ConnectionListener implements TopicMessageSource.Listener {
+
+            private final int connectionGeneration;
+
+            private ConnectionListener(final int connectionGeneration) {
+                this.connectionGeneration = connectionGeneration;
+            }
+
+            @Override
+            public void onMessage(@NonNull final TopicMessage message) {
+                Objects.requireNonNull(message, "message must not be null");
+                ManagedSubscription.this.onMessage(connectionGeneration, message);
+            }
+
+            @Override
+            public void onError(@NonNull final Throwable throwable) {
+                onConnectionError(connectionGeneration, throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                ManagedSubscription.this.onComplete(connectionGeneration);
+            }
+        }
+    }
+}
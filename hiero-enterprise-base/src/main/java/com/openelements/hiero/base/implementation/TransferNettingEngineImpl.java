@@ -0,0 +1,416 @@
+package com.openelements.hiero.base.implementation;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.payment.TransferNettingEngine;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Implementation of {@link TransferNettingEngine}. The window starts with the first pending transfer. At the end of
+ * the window the net change of every account is computed per token, and the debtors and creditors of a token are
+ * matched greedily (largest debtor with largest creditor), which needs at most one flow less than accounts with a net
+ * change. The flows of all tokens are packed into transactions in that order until a transaction reaches
+ * {@link CryptoTransferRequest#MAX_HBAR_TRANSFERS} hbar or {@link CryptoTransferRequest#MAX_TOKEN_TRANSFERS} token
+ * adjustments. Since every flow is balanced, every transaction is balanced. The transactions of a window are executed
+ * concurrently on virtual threads and a semaphore bounds the number of pending transfers.
+ * <p>
+ * A transfer is completed by the transactions that carry a flow of its token from or to its sender or receivers. If one
+ * of these transactions fails, the transfer fails, while transfers that only depend on other transactions complete
+ * with their receipts. Every debtor of a flow is the sender of a pending transfer, so every sender except the operator
+ * account must come with its key.
+ */
+public class TransferNettingEngineImpl implements TransferNettingEngine {
+
+    /**
+     * The default time in which transfers are collected before they are netted.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+
+    /**
+     * The default maximum number of pending transfers.
+     */
+    public static final int DEFAULT_MAX_PENDING_TRANSFERS = 100_000;
+
+    private static final Comparator<Asset> ASSET_ORDER = Comparator.comparing(
+            (Asset asset) -> asset.tokenId() == null ? "" : asset.tokenId().toString());
+
+    private final ProtocolLayerClient protocolLayerClient;
+
+    private final Duration window;
+
+    private final Semaphore permits;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor sender;
+
+    private final Object lock = new Object();
+
+    private List<PendingTransfer> pending = new ArrayList<>();
+
+    @Nullable
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private boolean closed;
+
+    public TransferNettingEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        this(protocolLayerClient, DEFAULT_WINDOW, DEFAULT_MAX_PENDING_TRANSFERS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param protocolLayerClient the client that executes the transactions
+     * @param window              the time in which transfers are collected before they are netted
+     * @param maxPendingTransfers the maximum number of pending transfers
+     */
+    public TransferNettingEngineImpl(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final Duration window, final int maxPendingTransfers) {
+        this.protocolLayerClient = Objects.requireNonNull(protocolLayerClient,
+                "protocolLayerClient must not be null");
+        this.window = Objects.requireNonNull(window, "window must not be null");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window must not be negative");
+        }
+        if (maxPendingTransfers < 1) {
+            throw new IllegalArgumentException("maxPendingTransfers must be positive");
+        }
+        this.permits = new Semaphore(maxPendingTransfers);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("hiero-transfer-netting-window")
+                .factory());
+        this.sender = runnable -> Thread.ofVirtual().name("hiero-transfer-netting").start(runnable);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<List<CryptoTransferResult>> submit(@NonNull final HbarTransferRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        final Map<AccountId, Long> receivers = new HashMap<>();
+        request.receivers().forEach((receiver, amount) -> receivers.put(receiver, amount.toTinybars()));
+        return enqueue(new Asset(null), request.sender(), request.senderKey(), receivers);
+    }
+
+    @Override
+    public @NonNull CompletableFuture<List<CryptoTransferResult>> submit(@NonNull final TokenTransferRequest request)
+            throws HieroException {
+        Objects.requireNonNull(request, "request must not be null");
+        if (!request.serials().isEmpty() || request.amount() == null) {
+            throw new IllegalArgumentException("Only fungible token transfers can be netted");
+        }
+        if (request.amount() <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+        if (request.sender().equals(request.receiver())) {
+            throw new IllegalArgumentException("receiver must not be the sender");
+        }
+        return enqueue(new Asset(request.tokenId()), request.sender(), request.senderKey(),
+                Map.of(request.receiver(), request.amount()));
+    }
+
+    @NonNull
+    private CompletableFuture<List<CryptoTransferResult>> enqueue(@NonNull final Asset asset,
+            @NonNull final AccountId senderId, @Nullable final PrivateKey senderKey,
+            @NonNull final Map<AccountId, Long> receivers) throws HieroException {
+        if (senderKey == null && !senderId.equals(protocolLayerClient.getOperatorAccountId())) {
+            throw new IllegalArgumentException("senderKey must not be null if the sender is not the operator account");
+        }
+        try {
+            permits.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HieroException("Interrupted while waiting for space in the netting buffer", e);
+        }
+        final PendingTransfer transfer = new PendingTransfer(asset, senderId, senderKey, receivers,
+                new CompletableFuture<>());
+        synchronized (lock) {
+            if (closed) {
+                permits.release();
+                throw new IllegalStateException("Netting engine is closed");
+            }
+            pending.add(transfer);
+            if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return transfer.future();
+    }
+
+    @Override
+    public @NonNull CompletableFuture<Void> flush() {
+        final List<PendingTransfer> transfers;
+        synchronized (lock) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+            transfers = pending;
+            pending = new ArrayList<>();
+        }
+        if (!transfers.isEmpty()) {
+            settle(transfers);
+        }
+        return CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new));
+    }
+
+    private void settle(@NonNull final List<PendingTransfer> transfers) {
+        final Map<Asset, List<PendingTransfer>> transfersByAsset = new TreeMap<>(ASSET_ORDER);
+        transfers.forEach(transfer -> transfersByAsset.computeIfAbsent(transfer.asset(), a -> new ArrayList<>())
+                .add(transfer));
+        final Map<AccountId, Set<PrivateKey>> keys = new HashMap<>();
+        transfers.stream()
+                .filter(transfer -> transfer.senderKey() != null)
+                .forEach(transfer -> keys.computeIfAbsent(transfer.sender(), a -> new LinkedHashSet<>())
+                        .add(transfer.senderKey()));
+        final Map<Asset, List<NetFlow>> flows = new LinkedHashMap<>();
+        transfersByAsset.forEach((asset, assetTransfers) -> {
+            try {
+                flows.put(asset, flows(netChanges(assetTransfers)));
+            } catch (final ArithmeticException e) {
+                final HieroException exception = new HieroException("Net change of " + asset + " overflows", e);
+                assetTransfers.forEach(transfer -> transfer.future().completeExceptionally(exception));
+                permits.release(assetTransfers.size());
+            }
+        });
+        final List<PlannedTransaction> transactions = plan(flows, keys);
+        final List<CompletableFuture<CryptoTransferResult>> results = transactions.stream()
+                .map(transaction -> execute(transaction.request()))
+                .toList();
+        final List<CompletableFuture<?>> completions = new ArrayList<>();
+        flows.keySet().forEach(asset -> transfersByAsset.get(asset).forEach(transfer -> {
+            final List<CompletableFuture<CryptoTransferResult>> carriers = new ArrayList<>();
+            for (int i = 0; i < transactions.size(); i++) {
+                if (transactions.get(i).carries(transfer)) {
+                    carriers.add(results.get(i));
+                }
+            }
+            completions.add(complete(transfer, carriers));
+        }));
+        // the futures of the transfers carry the failures, the tracked future always completes normally
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        inFlight.add(done);
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> {
+                    inFlight.remove(done);
+                    done.complete(null);
+                });
+    }
+
+    @NonNull
+    private CompletableFuture<Void> complete(@NonNull final PendingTransfer transfer,
+            @NonNull final List<CompletableFuture<CryptoTransferResult>> carriers) {
+        return CompletableFuture.allOf(carriers.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> {
+                    if (throwable == null) {
+                        transfer.future().complete(carriers.stream().map(CompletableFuture::join).toList());
+                    } else {
+                        final Throwable cause = throwable instanceof CompletionException
+                                && throwable.getCause() != null ? throwable.getCause() : throwable;
+                        transfer.future().completeExceptionally(cause);
+                    }
+                    permits.release();
+                });
+    }
+
+    @NonNull
+    private CompletableFuture<CryptoTransferResult> execute(@NonNull final CryptoTransferRequest request) {
+        final CompletableFuture<CryptoTransferResult> result = new CompletableFuture<>();
+        sender.execute(() -> {
+            try {
+                result.complete(protocolLayerClient.executeCryptoTransferTransaction(request));
+            } catch (final Exception e) {
+                result.completeExceptionally(e instanceof HieroException ? e
+                        : new HieroException("Failed to execute netted transfer", e));
+            }
+        });
+        return result;
+    }
+
+    @NonNull
+    private static Map<AccountId, Long> netChanges(@NonNull final List<PendingTransfer> transfers) {
+        final Map<AccountId, Long> changes = new HashMap<>();
+        for (final PendingTransfer transfer : transfers) {
+            transfer.receivers().forEach((receiver, amount) -> {
+                changes.merge(receiver, amount, Math::addExact);
+                changes.merge(transfer.sender(), -amount, Math::addExact);
+            });
+        }
+        return changes;
+    }
+
+    /**
+     * Matches the debtors and creditors of a token. The accounts are ordered by amount and id, so the flows do not
+     * depend on the order of the transfers.
+     */
+    @NonNull
+    private static List<NetFlow> flows(@NonNull final Map<AccountId, Long> changes) {
+        final Comparator<Map.Entry<AccountId, Long>> byId = Comparator.comparing(entry -> entry.getKey().toString());
+        final List<Map.Entry<AccountId, Long>> debtors = changes.entrySet().stream()
+                .filter(entry -> entry.getValue() < 0)
+                .sorted(Map.Entry.<AccountId, Long>comparingByValue().thenComparing(byId))
+                .toList();
+        final List<Map.Entry<AccountId, Long>> creditors = changes.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<AccountId, Long>comparingByValue().reversed().thenComparing(byId))
+                .toList();
+        final List<NetFlow> flows = new ArrayList<>();
+        int debtorIndex = 0;
+        int creditorIndex = 0;
+        long debt = debtors.isEmpty() ? 0 : -debtors.get(0).getValue();
+        long credit = creditors.isEmpty() ? 0 : creditors.get(0).getValue();
+        while (debtorIndex < debtors.size() && creditorIndex < creditors.size()) {
+            final long amount = Math.min(debt, credit);
+            flows.add(new NetFlow(debtors.get(debtorIndex).getKey(), creditors.get(creditorIndex).getKey(), amount));
+            debt -= amount;
+            credit -= amount;
+            if (debt == 0 && ++debtorIndex < debtors.size()) {
+                debt = -debtors.get(debtorIndex).getValue();
+            }
+            if (credit == 0 && ++creditorIndex < creditors.size()) {
+                credit = creditors.get(creditorIndex).getValue();
+            }
+        }
+        return flows;
+    }
+
+    @NonNull
+    private static List<PlannedTransaction> plan(@NonNull final Map<Asset, List<NetFlow>> flows,
+            @NonNull final Map<AccountId, Set<PrivateKey>> keys) {
+        final List<PlannedTransaction> transactions = new ArrayList<>();
+        TransactionBuilder builder = new TransactionBuilder();
+        for (final Map.Entry<Asset, List<NetFlow>> entry : flows.entrySet()) {
+            for (final NetFlow flow : entry.getValue()) {
+                if (!builder.fits(entry.getKey(), flow)) {
+                    transactions.add(builder.build(keys));
+                    builder = new TransactionBuilder();
+                }
+                builder.add(entry.getKey(), flow);
+            }
+        }
+        if (!builder.accounts.isEmpty()) {
+            transactions.add(builder.build(keys));
+        }
+        return transactions;
+    }
+
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        flush().join();
+        scheduler.shutdown();
+    }
+
+    /**
+     * Token of a transfer, hbar if the token id is null.
+     */
+    private record Asset(@Nullable TokenId tokenId) {
+    }
+
+    private record PendingTransfer(@NonNull Asset asset, @NonNull AccountId sender, @Nullable PrivateKey senderKey,
+                                   @NonNull Map<AccountId, Long> receivers,
+                                   @NonNull CompletableFuture<List<CryptoTransferResult>> future) {
+    }
+
+    private record NetFlow(@NonNull AccountId from, @NonNull AccountId to, long amount) {
+    }
+
+    /**
+     * Transaction with the accounts whose balance it changes, per token.
+     */
+    private record PlannedTransaction(@NonNull CryptoTransferRequest request,
+                                      @NonNull Map<Asset, Set<AccountId>> accounts) {
+
+        private boolean carries(@NonNull final PendingTransfer transfer) {
+            final Set<AccountId> changed = accounts.getOrDefault(transfer.asset(), Set.of());
+            return changed.contains(transfer.sender())
+                    || transfer.receivers().keySet().stream().anyMatch(changed::contains);
+        }
+    }
+
+    private static final class TransactionBuilder {
+
+        private final Map<AccountId, Long> hbarTransfers = new LinkedHashMap<>();
+
+        private final Map<TokenId, Map<AccountId, Long>> tokenTransfers = new LinkedHashMap<>();
+
+        private final Map<Asset, Set<AccountId>> accounts = new LinkedHashMap<>();
+
+        private final Set<AccountId> debtors = new LinkedHashSet<>();
+
+        private int tokenAdjustments;
+
+        private boolean fits(@NonNull final Asset asset, @NonNull final NetFlow flow) {
+            final Map<AccountId, Long> transfers = transfers(asset);
+            final int added = (transfers.containsKey(flow.from()) ? 0 : 1) + (transfers.containsKey(flow.to()) ? 0 : 1);
+            if (asset.tokenId() == null) {
+                return hbarTransfers.size() + added <= CryptoTransferRequest.MAX_HBAR_TRANSFERS;
+            }
+            return tokenAdjustments + added <= CryptoTransferRequest.MAX_TOKEN_TRANSFERS;
+        }
+
+        private void add(@NonNull final Asset asset, @NonNull final NetFlow flow) {
+            final Map<AccountId, Long> transfers = asset.tokenId() == null ? hbarTransfers
+                    : tokenTransfers.computeIfAbsent(asset.tokenId(), id -> new LinkedHashMap<>());
+            final int before = transfers.size();
+            transfers.merge(flow.from(), -flow.amount(), Math::addExact);
+            transfers.merge(flow.to(), flow.amount(), Math::addExact);
+            if (asset.tokenId() != null) {
+                tokenAdjustments += transfers.size() - before;
+            }
+            final Set<AccountId> assetAccounts = accounts.computeIfAbsent(asset, a -> new LinkedHashSet<>());
+            assetAccounts.add(flow.from());
+            assetAccounts.add(flow.to());
+            debtors.add(flow.from());
+        }
+
+        @NonNull
+        private Map<AccountId, Long> transfers(@NonNull final Asset asset) {
+            if (asset.tokenId() == null) {
+                return hbarTransfers;
+            }
+            return tokenTransfers.getOrDefault(asset.tokenId(), Map.of());
+        }
+
+        @NonNull
+        private PlannedTransaction build(@NonNull final Map<AccountId, Set<PrivateKey>> keys) {
+            final List<PrivateKey> signingKeys = debtors.stream()
+                    .flatMap(debtor -> keys.getOrDefault(debtor, Set.of()).stream())
+                    .distinct()
+                    .toList();
+            return new PlannedTransaction(CryptoTransferRequest.of(hbarTransfers, tokenTransfers, signingKeys),
+                    Map.copyOf(accounts));
+        }
+    }
+}
@@ -0,0 +1,667 @@
+package com.openelements.hiero.base.implementation.data;
+
+import com.openelements.hiero.base.data.ContractReturnTypes;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Decoder that maps the ABI encoded return data of a contract function onto a Java record or interface. The return
+ * types are defined by a signature like {@code uint256 balance, address owner, string name} (the names are optional
+ * for records). For every combination of Java type and signature a decoder plan is created once and cached. The plan
+ * contains a reader per value that is selected by the ABI type and the Java type, therefore no type dispatching is
+ * needed while decoding.
+ * <p>
+ * Records are created in a single pass over the data. For interfaces a proxy is created that decodes every value on
+ * the first call of the matching method; this is useful for results with many values of which only some are used.
+ * If the signature contains names, values are matched by name to record components and interface methods, and values
+ * without a matching component or method are skipped. Without names the values are mapped to the record components
+ * by position; interfaces always need names.
+ * <p>
+ * Supported ABI types are {@code intN}, {@code uintN}, {@code bool}, {@code address}, {@code string}, {@code bytes},
+ * {@code bytesN} and dynamic arrays of these types. Integers can be mapped to {@code long}, {@code int},
+ * {@code short}, {@code byte} (and their wrappers) or {@link BigInteger}, addresses and strings to {@link String},
+ * bytes to {@code byte[]}, and arrays to {@link List}.
+ * <p>
+ * Logs of events are decoded by {@link #decodeEvent(List, byte[], Class, String)}, the values of indexed parameters
+ * are read from the topics of the log.
+ */
+public final class AbiDecoder {
+
+    private static final int WORD_SIZE = 32;
+
+    private static final Map<PlanKey, Plan> PLANS = new ConcurrentHashMap<>();
+
+    private static final Map<PlanKey, EventPlan> EVENT_PLANS = new ConcurrentHashMap<>();
+
+    private AbiDecoder() {
+    }
+
+    /**
+     * Decodes the given data into an instance of the given type by using the signature of the
+     * {@link ContractReturnTypes} annotation of the type.
+     *
+     * @param data the ABI encoded return data
+     * @param type the record or interface
+     * @param <T>  the type
+     * @return the decoded result
+     */
+    @NonNull
+    public static <T> T decode(@NonNull final byte[] data, @NonNull final Class<T> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        final ContractReturnTypes returnTypes = type.getAnnotation(ContractReturnTypes.class);
+        if (returnTypes == null) {
+            throw new IllegalArgumentException(
+                    "Type " + type.getName() + " is not annotated with @" + ContractReturnTypes.class.getSimpleName());
+        }
+        return decode(data, type, returnTypes.value());
+    }
+
+    /**
+     * Decodes the given data into an instance of the given type.
+     *
+     * @param data        the ABI encoded return data
+     * @param type        the record or interface
+     * @param returnTypes the return types of the function (for example {@code uint256 balance, address owner})
+     * @param <T>         the type
+     * @return the decoded result
+     */
+    @NonNull
+    public static <T> T decode(@NonNull final byte[] data, @NonNull final Class<T> type,
+            @NonNull final String returnTypes) {
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(returnTypes, "returnTypes must not be null");
+        final Plan plan = PLANS.computeIfAbsent(new PlanKey(type, returnTypes), AbiDecoder::createPlan);
+        return type.cast(plan.decode(data));
+    }
+
+    @NonNull
+    private static Plan createPlan(@NonNull final PlanKey key) {
+        final List<Field> fields = parse(key.returnTypes());
+        if (key.type().isRecord()) {
+            return createRecordPlan(key.type(), fields);
+        }
+        if (key.type().isInterface()) {
+            return createInterfacePlan(key.type(), fields);
+        }
+        throw new IllegalArgumentException("Type " + key.type().getName() + " must be a record or an interface");
+    }
+
+    @NonNull
+    private static Plan createRecordPlan(@NonNull final Class<?> type, @NonNull final List<Field> fields) {
+        final RecordComponent[] components = type.getRecordComponents();
+        final boolean byName = fields.stream().allMatch(field -> field.name() != null);
+        if (!byName && components.length != fields.size()) {
+            throw new IllegalArgumentException("Record " + type.getName() + " has " + components.length
+                    + " components but the signature defines " + fields.size() + " values");
+        }
+        final Reader[] readers = new Reader[components.length];
+        final int[] positions = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final RecordComponent component = components[i];
+            final int index = byName ? indexOf(fields, component.getName(), type) : i;
+            readers[i] = reader(fields.get(index).type(), component.getGenericType());
+            positions[i] = index * WORD_SIZE;
+        }
+        final Constructor<?> constructor = canonicalConstructor(type, components);
+        return data -> {
+            final Object[] values = new Object[readers.length];
+            for (int i = 0; i < readers.length; i++) {
+                values[i] = readers[i].read(data, 0, positions[i]);
+            }
+            return newInstance(type, constructor, values);
+        };
+    }
+
+    @NonNull
+    private static Constructor<?> canonicalConstructor(@NonNull final Class<?> type,
+            @NonNull final RecordComponent[] components) {
+        final Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor(
+                    Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+        } catch (final NoSuchMethodException e) {
+            throw new IllegalArgumentException("Record " + type.getName() + " has no canonical constructor", e);
+        }
+        // records that are not public can be used if their package is open
+        constructor.trySetAccessible();
+        return constructor;
+    }
+
+    @NonNull
+    private static Object newInstance(@NonNull final Class<?> type, @NonNull final Constructor<?> constructor,
+            @NonNull final Object[] values) {
+        try {
+            return constructor.newInstance(values);
+        } catch (final InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create instance of " + type.getName(), e.getCause());
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create instance of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the canonical signature of an event. The event is defined like in Solidity, for example
+     * {@code Transfer(address indexed from, address indexed to, uint256 value)} has the canonical signature
+     * {@code Transfer(address,address,uint256)}.
+     *
+     * @param event the event definition
+     * @return the canonical signature
+     */
+    @NonNull
+    public static String eventSignature(@NonNull final String event) {
+        Objects.requireNonNull(event, "event must not be null");
+        final EventDefinition definition = parseEvent(event);
+        return definition.name() + definition.fields().stream()
+                .map(EventField::type)
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    /**
+     * Returns the first topic of the logs of an event, that is the Keccak-256 hash of the canonical signature.
+     *
+     * @param event the event definition
+     * @return the topic
+     * @see #eventSignature(String)
+     */
+    @NonNull
+    public static byte[] eventTopic(@NonNull final String event) {
+        return AbiEncoder.keccak256(eventSignature(event));
+    }
+
+    /**
+     * Decodes a log of an event into a record. The values of indexed parameters are read from the topics and the
+     * values of all other parameters from the data of the log. Indexed parameters of a dynamic type
+     * ({@code string}, {@code bytes} or arrays) are only stored as hash in the topic, therefore they can only be mapped
+     * to a {@code byte[]} that contains the hash. Values are mapped to the record components like by
+     * {@link #decode(byte[], Class, String)}. Anonymous events are not supported.
+     *
+     * @param topics the topics of the log (including the event topic)
+     * @param data   the data of the log
+     * @param type   the record
+     * @param event  the event definition (for example
+     *               {@code Transfer(address indexed from, address indexed to, uint256 value)})
+     * @param <T>    the type
+     * @return the decoded event
+     * @throws IllegalArgumentException if the log does not belong to the event
+     */
+    @NonNull
+    public static <T> T decodeEvent(@NonNull final List<byte[]> topics, @NonNull final byte[] data,
+            @NonNull final Class<T> type, @NonNull final String event) {
+        Objects.requireNonNull(topics, "topics must not be null");
+        Objects.requireNonNull(data, "data must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+        Objects.requireNonNull(event, "event must not be null");
+        final EventPlan plan = EVENT_PLANS.computeIfAbsent(new PlanKey(type, event), AbiDecoder::createEventPlan);
+        return type.cast(plan.decode(topics, data));
+    }
+
+    @NonNull
+    private static EventPlan createEventPlan(@NonNull final PlanKey key) {
+        final Class<?> type = key.type();
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("Type " + type.getName() + " must be a record");
+        }
+        final EventDefinition definition = parseEvent(key.returnTypes());
+        final List<EventField> fields = definition.fields();
+        final byte[] eventTopic = AbiEncoder.keccak256(definition.name() + fields.stream()
+                .map(EventField::type)
+                .collect(Collectors.joining(",", "(", ")")));
+        final int[] topicIndices = new int[fields.size()];
+        final int[] dataPositions = new int[fields.size()];
+        int indexedCount = 0;
+        int dataCount = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).indexed()) {
+                topicIndices[i] = ++indexedCount;
+            } else {
+                topicIndices[i] = -1;
+                dataPositions[i] = dataCount++ * WORD_SIZE;
+            }
+        }
+        final int topicCount = indexedCount + 1;
+        final RecordComponent[] components = type.getRecordComponents();
+        final boolean byName = !fields.isEmpty() && fields.stream().allMatch(field -> field.name() != null);
+        if (!byName && components.length != fields.size()) {
+            throw new IllegalArgumentException("Record " + type.getName() + " has " + components.length
+                    + " components but the event defines " + fields.size() + " values");
+        }
+        final Reader[] readers = new Reader[components.length];
+        final int[] topics = new int[components.length];
+        final int[] positions = new int[components.length];
+        for (int i = 0; i < components.length; i++) {
+            final RecordComponent component = components[i];
+            final int index = byName ? indexOfEventField(fields, component.getName(), type) : i;
+            final EventField field = fields.get(index);
+            if (field.indexed() && isDynamic(field.type())) {
+                if (component.getType() != byte[].class) {
+                    throw incompatible(field.type() + " indexed", component.getGenericType());
+                }
+                readers[i] = (topic, base, position) -> {
+                    checkRange(topic, position, WORD_SIZE);
+                    return Arrays.copyOfRange(topic, position, position + WORD_SIZE);
+                };
+            } else {
+                readers[i] = reader(field.type(), component.getGenericType());
+            }
+            topics[i] = topicIndices[index];
+            positions[i] = field.indexed() ? 0 : dataPositions[index];
+        }
+        final Constructor<?> constructor = canonicalConstructor(type, components);
+        return (logTopics, data) -> {
+            if (logTopics.size() != topicCount || !Arrays.equals(eventTopic, logTopics.get(0))) {
+                throw new IllegalArgumentException("Log does not belong to event " + key.returnTypes());
+            }
+            final Object[] values = new Object[readers.length];
+            for (int i = 0; i < readers.length; i++) {
+                final byte[] source = topics[i] < 0 ? data : logTopics.get(topics[i]);
+                values[i] = readers[i].read(source, 0, positions[i]);
+            }
+            return newInstance(type, constructor, values);
+        };
+    }
+
+    private static int indexOfEventField(@NonNull final List<EventField> fields, @NonNull final String name,
+            @NonNull final Class<?> type) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (name.equals(fields.get(i).name())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No value with name '" + name + "' for " + type.getName()
+                + " defined in the event");
+    }
+
+    @NonNull
+    private static EventDefinition parseEvent(@NonNull final String event) {
+        final String trimmed = event.trim();
+        final int start = trimmed.indexOf('(');
+        if (start <= 0 || !trimmed.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid event definition '" + event + "'");
+        }
+        final String name = trimmed.substring(0, start).trim();
+        final String parameters = trimmed.substring(start + 1, trimmed.length() - 1).trim();
+        if (parameters.isEmpty()) {
+            return new EventDefinition(name, List.of());
+        }
+        final List<EventField> fields = new ArrayList<>();
+        for (final String part : parameters.split(",")) {
+            final String[] tokens = part.trim().split("\\s+");
+            if (tokens.length == 0 || tokens.length > 3 || tokens[0].isEmpty() || tokens[0].contains("(")
+                    || (tokens.length == 3 && !tokens[1].equals("indexed"))) {
+                throw new IllegalArgumentException("Unsupported event parameter '" + part.trim() + "'");
+            }
+            final boolean indexed = tokens.length > 1 && tokens[1].equals("indexed");
+            final String fieldName = tokens.length == 3 || (tokens.length == 2 && !indexed) ? tokens[tokens.length - 1]
+                    : null;
+            fields.add(new EventField(tokens[0], fieldName, indexed));
+        }
+        if (fields.stream().filter(EventField::indexed).count() > 3) {
+            throw new IllegalArgumentException("An event can not have more than 3 indexed parameters");
+        }
+        return new EventDefinition(name, Collections.unmodifiableList(fields));
+    }
+
+    @NonNull
+    private static Plan createInterfacePlan(@NonNull final Class<?> type, @NonNull final List<Field> fields) {
+        final Map<Method, Integer> slots = new HashMap<>();
+        final List<Reader> readers = new ArrayList<>();
+        final List<Integer> positions = new ArrayList<>();
+        for (final Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || method.getDeclaringClass() == Object.class) {
+                continue;
+            }
+            if (method.getParameterCount() != 0) {
+                throw new IllegalArgumentException("Method " + method.getName() + " of " + type.getName()
+                        + " must not have parameters");
+            }
+            final int index = indexOf(fields, method.getName(), type);
+            slots.put(method, readers.size());
+            readers.add(reader(fields.get(index).type(), method.getGenericReturnType()));
+            positions.add(index * WORD_SIZE);
+        }
+        final Reader[] readerArray = readers.toArray(Reader[]::new);
+        final int[] positionArray = positions.stream().mapToInt(Integer::intValue).toArray();
+        return data -> Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new LazyHandler(type, data.clone(), slots, readerArray, positionArray));
+    }
+
+    private static int indexOf(@NonNull final List<Field> fields, @NonNull final String name,
+            @NonNull final Class<?> type) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (name.equals(fields.get(i).name())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No value with name '" + name + "' for " + type.getName()
+                + " defined in the signature");
+    }
+
+    @NonNull
+    private static List<Field> parse(@NonNull final String returnTypes) {
+        String signature = returnTypes.trim();
+        if (signature.startsWith("(") && signature.endsWith(")")) {
+            signature = signature.substring(1, signature.length() - 1).trim();
+        }
+        if (signature.isEmpty()) {
+            throw new IllegalArgumentException("returnTypes must not be empty");
+        }
+        final List<Field> fields = new ArrayList<>();
+        for (final String part : signature.split(",")) {
+            final String[] tokens = part.trim().split("\\s+");
+            if (tokens.length == 0 || tokens.length > 2 || tokens[0].isEmpty() || tokens[0].contains("(")) {
+                throw new IllegalArgumentException("Unsupported return type '" + part.trim() + "'");
+            }
+            fields.add(new Field(tokens[0], tokens.length == 2 ? tokens[1] : null));
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    @NonNull
+    private static Reader reader(@NonNull final String abiType, @NonNull final Type javaType) {
+        if (abiType.endsWith("[]")) {
+            final String elementType = abiType.substring(0, abiType.length() - 2);
+            if (!(javaType instanceof ParameterizedType parameterizedType)
+                    || parameterizedType.getRawType() != List.class) {
+                throw incompatible(abiType, javaType);
+            }
+            final Reader elementReader = reader(elementType, parameterizedType.getActualTypeArguments()[0]);
+            final boolean dynamicElements = isDynamic(elementType);
+            return (data, base, position) -> {
+                final int offset = base + readOffset(data, position);
+                final int length = readOffset(data, offset);
+                final int start = offset + WORD_SIZE;
+                if (length > (data.length - start) / WORD_SIZE) {
+                    throw new IndexOutOfBoundsException("Array with " + length + " elements at offset " + offset
+                            + " exceeds result with " + data.length + " bytes");
+                }
+                final List<Object> result = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    // dynamic elements are referenced by offsets relative to the start of the elements
+                    result.add(elementReader.read(data, dynamicElements ? start : base, start + i * WORD_SIZE));
+                }
+                return Collections.unmodifiableList(result);
+            };
+        }
+        if (!(javaType instanceof Class<?> target)) {
+            throw incompatible(abiType, javaType);
+        }
+        if (abiType.startsWith("uint") || abiType.startsWith("int")) {
+            final boolean signed = abiType.startsWith("int");
+            final int bits = bits(abiType, signed ? 3 : 4);
+            if (bits < 8 || bits > 256 || bits % 8 != 0) {
+                throw new IllegalArgumentException("Unsupported return type '" + abiType + "'");
+            }
+            return integerReader(signed, target, abiType);
+        }
+        switch (abiType) {
+            case "bool" -> {
+                if (target != boolean.class && target != Boolean.class) {
+                    throw incompatible(abiType, target);
+                }
+                return (data, base, position) -> {
+                    checkRange(data, position, WORD_SIZE);
+                    return data[position + WORD_SIZE - 1] != 0;
+                };
+            }
+            case "address" -> {
+                if (target != String.class) {
+                    throw incompatible(abiType, target);
+                }
+                return (data, base, position) -> {
+                    checkRange(data, position, WORD_SIZE);
+                    return HexFormat.of().formatHex(data, position + 12, position + WORD_SIZE);
+                };
+            }
+            case "string" -> {
+                if (target != String.class) {
+                    throw incompatible(abiType, target);
+                }
+                return (data, base, position) -> {
+                    final int offset = base + readOffset(data, position);
+                    final int length = readOffset(data, offset);
+                    checkRange(data, offset + WORD_SIZE, length);
+                    return new String(data, offset + WORD_SIZE, length, StandardCharsets.UTF_8);
+                };
+            }
+            case "bytes" -> {
+                if (target != byte[].class) {
+                    throw incompatible(abiType, target);
+                }
+                return (data, base, position) -> {
+                    final int offset = base + readOffset(data, position);
+                    final int length = readOffset(data, offset);
+                    checkRange(data, offset + WORD_SIZE, length);
+                    return Arrays.copyOfRange(data, offset + WORD_SIZE, offset + WORD_SIZE + length);
+                };
+            }
+            default -> {
+                if (!abiType.startsWith("bytes") || target != byte[].class) {
+                    throw incompatible(abiType, target);
+                }
+                final int size = bits(abiType, 5);
+                if (size < 1 || size > WORD_SIZE) {
+                    throw new IllegalArgumentException("Unsupported return type '" + abiType + "'");
+                }
+                return (data, base, position) -> {
+                    checkRange(data, position, WORD_SIZE);
+                    return Arrays.copyOfRange(data, position, position + size);
+                };
+            }
+        }
+    }
+
+    @NonNull
+    private static Reader integerReader(final boolean signed, @NonNull final Class<?> target,
+            @NonNull final String abiType) {
+        if (target == BigInteger.class) {
+            return (data, base, position) -> {
+                checkRange(data, position, WORD_SIZE);
+                if (signed) {
+                    return new BigInteger(data, position, WORD_SIZE);
+                }
+                return new BigInteger(1, data, position, WORD_SIZE);
+            };
+        }
+        final long min;
+        final long max;
+        if (target == long.class || target == Long.class) {
+            min = Long.MIN_VALUE;
+            max = Long.MAX_VALUE;
+        } else if (target == int.class || target == Integer.class) {
+            min = Integer.MIN_VALUE;
+            max = Integer.MAX_VALUE;
+        } else if (target == short.class || target == Short.class) {
+            min = Short.MIN_VALUE;
+            max = Short.MAX_VALUE;
+        } else if (target == byte.class || target == Byte.class) {
+            min = Byte.MIN_VALUE;
+            max = Byte.MAX_VALUE;
+        } else {
+            throw incompatible(abiType, target);
+        }
+        return (data, base, position) -> {
+            final long value = readLong(data, position, signed);
+            if (value < min || value > max) {
+                throw new ArithmeticException("Value " + value + " of type " + abiType + " does not fit into "
+                        + target.getSimpleName());
+            }
+            if (target == long.class || target == Long.class) {
+                return value;
+            }
+            if (target == int.class || target == Integer.class) {
+                return (int) value;
+            }
+            if (target == short.class || target == Short.class) {
+                return (short) value;
+            }
+            return (byte) value;
+        };
+    }
+
+    /**
+     * Reads a word as long without creating a {@link BigInteger}. Fails if the value does not fit into a long.
+     */
+    private static long readLong(@NonNull final byte[] data, final int position, final boolean signed) {
+        checkRange(data, position, WORD_SIZE);
+        long value = 0;
+        for (int i = position + WORD_SIZE - 8; i < position + WORD_SIZE; i++) {
+            value = (value << 8) | (data[i] & 0xFFL);
+        }
+        final byte padding = signed && value < 0 ? (byte) 0xFF : 0;
+        for (int i = position; i < position + WORD_SIZE - 8; i++) {
+            if (data[i] != padding) {
+                throw new ArithmeticException("Value at offset " + position + " does not fit into long");
+            }
+        }
+        if (!signed && value < 0) {
+            throw new ArithmeticException("Value at offset " + position + " does not fit into long");
+        }
+        return value;
+    }
+
+    private static int readOffset(@NonNull final byte[] data, final int position) {
+        final long value = readLong(data, position, false);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Invalid offset or length in result: " + value);
+        }
+        return (int) value;
+    }
+
+    private static void checkRange(@NonNull final byte[] data, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Can not read " + length + " bytes at offset " + offset + " of result with " + data.length
+                            + " bytes");
+        }
+    }
+
+    private static boolean isDynamic(@NonNull final String abiType) {
+        return abiType.equals("string") || abiType.equals("bytes") || abiType.endsWith("[]");
+    }
+
+    private static int bits(@NonNull final String abiType, final int prefixLength) {
+        final String size = abiType.substring(prefixLength);
+        if (size.isEmpty()) {
+            return 256;
+        }
+        try {
+            return Integer.parseInt(size);
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Unsupported return type '" + abiType + "'", e);
+        }
+    }
+
+    @NonNull
+    private static IllegalArgumentException incompatible(@NonNull final String abiType, @NonNull final Type javaType) {
+        return new IllegalArgumentException(
+                "Return type '" + abiType + "' can not be mapped to Java type " + javaType.getTypeName());
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+
+        /**
+         * Reads a value.
+         *
+         * @param data     the data
+         * @param base     the start of the sequence that contains the value (offsets of dynamic values are relative
+         *                 to it)
+         * @param position the position of the head of the value
+         * @return the value
+         */
+        Object read(byte[] data, int base, int position);
+    }
+
+    @FunctionalInterface
+    private interface Plan {
+        Object decode(byte[] data);
+    }
+
+    @FunctionalInterface
+    private interface EventPlan {
+        Object decode(List<byte[]> topics, byte[] data);
+    }
+
+    private record PlanKey(@NonNull Class<?> type, @NonNull String returnTypes) {
+    }
+
+    private record Field(@NonNull String type, String name) {
+    }
+
+    private record EventField(@NonNull String type, String name, boolean indexed) {
+    }
+
+    private record EventDefinition(@NonNull String name, @NonNull List<EventField> fields) {
+    }
+
+    private static final class LazyHandler implements InvocationHandler {
+
+        private final Class<?> type;
+
+        private final byte[] data;
+
+        private final Map<Method, Integer> slots;
+
+        private final Reader[] readers;
+
+        private final int[] positions;
+
+        private final AtomicReferenceArray<Object> values;
+
+        private LazyHandler(@NonNull final Class<?> type, @NonNull final byte[] data,
+                @NonNull final Map<Method, Integer> slots, @NonNull final Reader[] readers,
+                @NonNull final int[] positions) {
+            this.type = type;
+            this.data = data;
+            this.slots = slots;
+            this.readers = readers;
+            this.positions = positions;
+            this.values = new AtomicReferenceArray<>(readers.length);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            final Integer slot = slots.get(method);
+            if (slot != null) {
+                final Object value = values.get(slot);
+                if (value != null) {
+                    return value;
+                }
+                final Object decoded = readers[slot].read(data, 0, positions[slot]);
+                values.compareAndSet(slot, null, decoded);
+                return values.get(slot);
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> type.getSimpleName() + "[" + data.length + " bytes]";
+                default -> throw new UnsupportedOperationException("Method " + method + " is not supported");
+            };
+        }
+    }
+}
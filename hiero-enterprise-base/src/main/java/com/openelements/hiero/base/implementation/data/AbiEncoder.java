@@ -0,0 +1,564 @@
+package com.openelements.hiero.base.implementation.data;
+
+import com.openelements.hiero.base.data.Bytes;
+import com.openelements.hiero.base.data.ContractParam;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Encoder for the ABI encoding of contract function calls and constructor parameters. In contrast to
+ * {@link com.hedera.hashgraph.sdk.ContractFunctionParameters} the encoder calculates the size of the encoded data
+ * upfront and writes all values directly into the target buffer. Numeric values that fit into a {@code long} are
+ * written without creating intermediate {@link BigInteger} byte arrays, and {@code address}, {@code bytes32} and
+ * {@code string} values are written without intermediate copies. Function selectors are cached per signature.
+ * Dynamic arrays, fixed-size arrays and tuples (see {@link CompositeDatatype}) are encoded recursively.
+ * <p>
+ * Only parameters that are created by the factory methods of {@link ContractParam} are supported (see
+ * {@link #isSupported(List)}).
+ */
+public final class AbiEncoder {
+
+    /**
+     * The size of a single ABI word in bytes.
+     */
+    public static final int WORD_SIZE = 32;
+
+    /**
+     * The size of a function selector in bytes.
+     */
+    public static final int SELECTOR_SIZE = 4;
+
+    private static final int MAX_CACHED_SELECTORS = 4096;
+
+    private static final Map<String, byte[]> SELECTORS = new ConcurrentHashMap<>();
+
+    private AbiEncoder() {
+    }
+
+    /**
+     * Checks if all given parameters can be encoded by this encoder.
+     *
+     * @param params the parameters
+     * @return true if all parameters are supported
+     */
+    public static boolean isSupported(@NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        for (final ContractParam<?> param : params) {
+            if (!isSupported(param)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupported(@NonNull final ContractParam<?> param) {
+        final ParamSupplier<?> supplier = param.supplier();
+        if (supplier instanceof CompositeDatatype) {
+            for (final ContractParam<?> component : components(param)) {
+                if (!isSupported(component)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return supplier instanceof LongBasedNumericDatatypes
+                || supplier instanceof BigIntegerBasedNumericDatatypes
+                || supplier instanceof BooleanDatatype
+                || supplier instanceof StringBasedDatatype
+                || supplier instanceof BytesBasedDatatype;
+    }
+
+    /**
+     * Returns the signature of a function (for example {@code transfer(address,uint256)}).
+     *
+     * @param functionName the name of the function
+     * @param params       the parameters of the function
+     * @return the signature
+     */
+    @NonNull
+    public static String functionSignature(@NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        final StringBuilder builder = new StringBuilder(functionName.length() + 2 + params.size() * 8);
+        builder.append(functionName).append('(');
+        for (int i = 0; i < params.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(params.get(i).nativeType());
+        }
+        return builder.append(')').toString();
+    }
+
+    /**
+     * Returns the 4 byte selector of the function with the given signature.
+     *
+     * @param signature the signature of the function (see {@link #functionSignature(String, List)})
+     * @return the selector
+     */
+    @NonNull
+    public static byte[] functionSelector(@NonNull final String signature) {
+        return selector(signature).clone();
+    }
+
+    /**
+     * Returns the Keccak-256 hash of the UTF-8 bytes of the given text, as it is used by the EVM for function
+     * selectors and event topics. Keccak-256 differs from the standardized SHA3-256 in the padding.
+     *
+     * @param text the text
+     * @return the 32 byte hash
+     */
+    @NonNull
+    public static byte[] keccak256(@NonNull final String text) {
+        Objects.requireNonNull(text, "text must not be null");
+        return new Keccak.Digest256().digest(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @NonNull
+    private static byte[] selector(@NonNull final String signature) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        final byte[] cached = SELECTORS.get(signature);
+        if (cached != null) {
+            return cached;
+        }
+        final byte[] selector = Arrays.copyOf(keccak256(signature), SELECTOR_SIZE);
+        if (SELECTORS.size() >= MAX_CACHED_SELECTORS) {
+            SELECTORS.clear();
+        }
+        SELECTORS.put(signature, selector);
+        return selector;
+    }
+
+    /**
+     * Returns the size of the encoded call data of a function call.
+     *
+     * @param params the parameters of the call
+     * @return the size in bytes
+     */
+    public static int encodedFunctionCallSize(@NonNull final List<ContractParam<?>> params) {
+        return SELECTOR_SIZE + encodedSize(params);
+    }
+
+    /**
+     * Returns the size of the encoded parameters.
+     *
+     * @param params the parameters
+     * @return the size in bytes
+     */
+    public static int encodedSize(@NonNull final List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        return sequenceSize(params);
+    }
+
+    /**
+     * Encodes the call of a function (selector followed by the encoded parameters).
+     *
+     * @param functionName the name of the function
+     * @param params       the parameters of the call
+     * @return the call data
+     */
+    @NonNull
+    public static byte[] encodeFunctionCall(@NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params) {
+        final byte[] result = new byte[encodedFunctionCallSize(params)];
+        encodeFunctionCall(functionName, params, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    /**
+     * Encodes the call of a function (selector followed by the encoded parameters) into the given buffer. The buffer
+     * must have at least {@link #encodedFunctionCallSize(List)} bytes remaining. This can be used to write into a
+     * reused buffer.
+     *
+     * @param functionName the name of the function
+     * @param params       the parameters of the call
+     * @param target       the buffer to write to
+     */
+    public static void encodeFunctionCall(@NonNull final String functionName,
+            @NonNull final List<ContractParam<?>> params, @NonNull final ByteBuffer target) {
+        Objects.requireNonNull(target, "target must not be null");
+        final byte[] selector = selector(functionSignature(functionName, params));
+        checkRemaining(target, encodedFunctionCallSize(params));
+        target.put(selector);
+        writeParameters(params, target);
+    }
+
+    /**
+     * Encodes the given parameters (for example constructor parameters).
+     *
+     * @param params the parameters
+     * @return the encoded parameters
+     */
+    @NonNull
+    public static byte[] encodeParameters(@NonNull final List<ContractParam<?>> params) {
+        final byte[] result = new byte[encodedSize(params)];
+        encodeParameters(params, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    /**
+     * Encodes the given parameters into the given buffer. The buffer must have at least {@link #encodedSize(List)}
+     * bytes remaining.
+     *
+     * @param params the parameters
+     * @param target the buffer to write to
+     */
+    public static void encodeParameters(@NonNull final List<ContractParam<?>> params,
+            @NonNull final ByteBuffer target) {
+        Objects.requireNonNull(target, "target must not be null");
+        checkRemaining(target, encodedSize(params));
+        writeParameters(params, target);
+    }
+
+    private static void checkRemaining(@NonNull final ByteBuffer target, final int size) {
+        if (target.remaining() < size) {
+            throw new IllegalArgumentException(
+                    "target has only " + target.remaining() + " bytes remaining but " + size + " are needed");
+        }
+    }
+
+    /**
+     * Writes a sequence of values (the parameters of a call, the elements of an array or the components of a tuple).
+     * Static values are written in place, dynamic values are referenced by their offset relative to the start of the
+     * sequence and written after all static values.
+     */
+    private static void writeParameters(@NonNull final List<ContractParam<?>> params,
+            @NonNull final ByteBuffer target) {
+        int tailOffset = headSize(params);
+        for (final ContractParam<?> param : params) {
+            if (isDynamic(param)) {
+                writeLong(target, tailOffset);
+                tailOffset += valueSize(param);
+            } else {
+                writeValue(param, target);
+            }
+        }
+        for (final ContractParam<?> param : params) {
+            if (isDynamic(param)) {
+                writeValue(param, target);
+            }
+        }
+    }
+
+    private static int sequenceSize(@NonNull final List<ContractParam<?>> params) {
+        int size = 0;
+        for (final ContractParam<?> param : params) {
+            size += isDynamic(param) ? WORD_SIZE + valueSize(param) : valueSize(param);
+        }
+        return size;
+    }
+
+    private static int headSize(@NonNull final List<ContractParam<?>> params) {
+        int size = 0;
+        for (final ContractParam<?> param : params) {
+            size += isDynamic(param) ? WORD_SIZE : valueSize(param);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of the encoded value of a parameter (without the offset of dynamic values).
+     */
+    private static int valueSize(@NonNull final ContractParam<?> param) {
+        final ParamSupplier<?> supplier = param.supplier();
+        if (supplier == CompositeDatatype.ARRAY) {
+            return WORD_SIZE + sequenceSize(components(param));
+        }
+        if (supplier instanceof CompositeDatatype) {
+            return sequenceSize(components(param));
+        }
+        if (isDynamicScalar(param)) {
+            return WORD_SIZE + padded(dynamicLength(param));
+        }
+        return WORD_SIZE;
+    }
+
+    private static void writeValue(@NonNull final ContractParam<?> param, @NonNull final ByteBuffer target) {
+        final ParamSupplier<?> supplier = param.supplier();
+        if (supplier == CompositeDatatype.ARRAY) {
+            final List<ContractParam<?>> elements = components(param);
+            writeLong(target, elements.size());
+            writeParameters(elements, target);
+        } else if (supplier instanceof CompositeDatatype) {
+            writeParameters(components(param), target);
+        } else if (isDynamicScalar(param)) {
+            writeDynamic(param, target);
+        } else {
+            writeStatic(param, target);
+        }
+    }
+
+    private static boolean isDynamic(@NonNull final ContractParam<?> param) {
+        final ParamSupplier<?> supplier = param.supplier();
+        if (supplier == CompositeDatatype.ARRAY) {
+            return true;
+        }
+        if (supplier instanceof CompositeDatatype) {
+            for (final ContractParam<?> component : components(param)) {
+                if (isDynamic(component)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isDynamicScalar(param);
+    }
+
+    private static boolean isDynamicScalar(@NonNull final ContractParam<?> param) {
+        final ParamSupplier<?> supplier = param.supplier();
+        return supplier == StringBasedDatatype.STRING
+                || supplier == StringBasedDatatype.BYTES
+                || supplier == BytesBasedDatatype.BYTES;
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    private static List<ContractParam<?>> components(@NonNull final ContractParam<?> param) {
+        return (List<ContractParam<?>>) param.value();
+    }
+
+    private static int dynamicLength(@NonNull final ContractParam<?> param) {
+        final Object value = param.value();
+        if (value instanceof String string) {
+            return utf8Length(string);
+        }
+        if (value instanceof Bytes bytes) {
+            return bytes.bytes().length;
+        }
+        throw unsupported(param);
+    }
+
+    private static void writeStatic(@NonNull final ContractParam<?> param, @NonNull final ByteBuffer target) {
+        final ParamSupplier<?> supplier = param.supplier();
+        final Object value = param.value();
+        if (supplier instanceof LongBasedNumericDatatypes) {
+            writeLong(target, (Long) value);
+        } else if (supplier instanceof BigIntegerBasedNumericDatatypes) {
+            writeBigInteger(target, (BigInteger) value);
+        } else if (supplier instanceof BooleanDatatype) {
+            writeLong(target, ((Boolean) value) ? 1 : 0);
+        } else if (supplier == StringBasedDatatype.ADDRESS) {
+            writeAddress(target, (String) value);
+        } else if (supplier == StringBasedDatatype.BYTES32) {
+            final String string = (String) value;
+            final int length = utf8Length(string);
+            if (length > WORD_SIZE) {
+                throw new IllegalArgumentException("bytes32 value must be 32 bytes or less");
+            }
+            writeUtf8(target, string);
+            writeZeros(target, WORD_SIZE - length);
+        } else if (supplier == BytesBasedDatatype.BYTES32) {
+            final byte[] bytes = ((Bytes) value).bytes();
+            if (bytes.length > WORD_SIZE) {
+                throw new IllegalArgumentException("bytes32 value must be 32 bytes or less");
+            }
+            writeFixedBytes(target, bytes, WORD_SIZE);
+        } else {
+            throw unsupported(param);
+        }
+    }
+
+    private static void writeDynamic(@NonNull final ContractParam<?> param, @NonNull final ByteBuffer target) {
+        final Object value = param.value();
+        if (value instanceof String string) {
+            writeString(target, string);
+        } else if (value instanceof Bytes bytes) {
+            writeBytes(target, bytes.bytes());
+        } else {
+            throw unsupported(param);
+        }
+    }
+
+    /**
+     * Returns the size of the encoded content of a dynamic {@code string} value (length word and padded UTF-8 data).
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    public static int dynamicValueSize(@NonNull final String value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return WORD_SIZE + padded(utf8Length(value));
+    }
+
+    /**
+     * Returns the size of the encoded content of a dynamic {@code bytes} value (length word and padded data).
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    public static int dynamicValueSize(@NonNull final byte[] value) {
+        Objects.requireNonNull(value, "value must not be null");
+        return WORD_SIZE + padded(value.length);
+    }
+
+    /**
+     * Writes the content of a dynamic {@code string} value (length word and padded UTF-8 data).
+     *
+     * @param target the target buffer
+     * @param value  the value
+     */
+    public static void writeString(@NonNull final ByteBuffer target, @NonNull final String value) {
+        final int length = utf8Length(value);
+        writeLong(target, length);
+        writeUtf8(target, value);
+        writeZeros(target, padded(length) - length);
+    }
+
+    /**
+     * Writes the content of a dynamic {@code bytes} value (length word and padded data).
+     *
+     * @param target the target buffer
+     * @param value  the value
+     */
+    public static void writeBytes(@NonNull final ByteBuffer target, @NonNull final byte[] value) {
+        writeLong(target, value.length);
+        target.put(value);
+        writeZeros(target, padded(value.length) - value.length);
+    }
+
+    /**
+     * Writes a {@code bytesN} value as a single word. The value is padded with zeros on the right.
+     *
+     * @param target the target buffer
+     * @param value  the value
+     * @param size   the size {@code N} of the type
+     */
+    public static void writeFixedBytes(@NonNull final ByteBuffer target, @NonNull final byte[] value,
+            final int size) {
+        if (size < 1 || size > WORD_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + WORD_SIZE);
+        }
+        if (value.length > size) {
+            throw new IllegalArgumentException("bytes" + size + " value must be " + size + " bytes or less");
+        }
+        target.put(value);
+        writeZeros(target, WORD_SIZE - value.length);
+    }
+
+    /**
+     * Writes a numeric value as a single word in two's complement.
+     *
+     * @param target the target buffer
+     * @param value  the value
+     */
+    public static void writeLong(@NonNull final ByteBuffer target, final long value) {
+        final long sign = value < 0 ? -1L : 0L;
+        target.putLong(sign).putLong(sign).putLong(sign).putLong(value);
+    }
+
+    /**
+     * Writes a numeric value as a single word in two's complement. Values that need more than 256 bits are not
+     * checked, the caller must validate the range of the value.
+     *
+     * @param target the target buffer
+     * @param value  the value
+     */
+    public static void writeBigInteger(@NonNull final ByteBuffer target, @NonNull final BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            writeLong(target, value.longValue());
+            return;
+        }
+        final byte[] bytes = value.toByteArray();
+        if (bytes.length > WORD_SIZE) {
+            // unsigned 256 bit values have an additional leading sign byte
+            target.put(bytes, bytes.length - WORD_SIZE, WORD_SIZE);
+            return;
+        }
+        final byte padding = value.signum() < 0 ? (byte) 0xFF : 0;
+        for (int i = bytes.length; i < WORD_SIZE; i++) {
+            target.put(padding);
+        }
+        target.put(bytes);
+    }
+
+    /**
+     * Writes a hex encoded (solidity) address as a single word.
+     *
+     * @param target  the target buffer
+     * @param address the address with or without {@code 0x} prefix
+     */
+    public static void writeAddress(@NonNull final ByteBuffer target, @NonNull final String address) {
+        final int start = address.startsWith("0x") || address.startsWith("0X") ? 2 : 0;
+        if (address.length() - start != 40) {
+            throw new IllegalArgumentException("address must be 20 bytes hex encoded: " + address);
+        }
+        writeZeros(target, 12);
+        for (int i = start; i < address.length(); i += 2) {
+            final int high = Character.digit(address.charAt(i), 16);
+            final int low = Character.digit(address.charAt(i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("address must be 20 bytes hex encoded: " + address);
+            }
+            target.put((byte) ((high << 4) | low));
+        }
+    }
+
+    private static void writeZeros(@NonNull final ByteBuffer target, final int count) {
+        for (int i = 0; i < count; i++) {
+            target.put((byte) 0);
+        }
+    }
+
+    private static int padded(final int length) {
+        return (length + WORD_SIZE - 1) / WORD_SIZE * WORD_SIZE;
+    }
+
+    private static int utf8Length(@NonNull final String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static void writeUtf8(@NonNull final ByteBuffer target, @NonNull final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                target.put((byte) c);
+            } else if (c < 0x800) {
+                target.put((byte) (0xC0 | (c >> 6)));
+                target.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                target.put((byte) (0xF0 | (codePoint >> 18)));
+                target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                target.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                // unpaired surrogates are replaced like String.getBytes(UTF_8) does
+                target.put((byte) '?');
+            } else {
+                target.put((byte) (0xE0 | (c >> 12)));
+                target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                target.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    @NonNull
+    private static IllegalArgumentException unsupported(@NonNull final ContractParam<?> param) {
+        return new IllegalArgumentException("Unsupported parameter of type '" + param.nativeType() + "'");
+    }
+}
@@ -0,0 +1,101 @@
+package com.openelements.hiero.base.implementation.data;
+
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.data.Bytes;
+import com.openelements.hiero.base.data.ContractParam;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Implementation of {@link ParamSupplier} for the composite smart contract datatypes: dynamic arrays ({@code T[]}),
+ * fixed-size arrays ({@code T[k]}) and tuples ({@code (T1,T2,...)}). The value of a composite parameter is the list of
+ * its elements or components. Since the native type depends on the elements, it is defined by the
+ * {@link ContractParam} and not by the supplier. {@link ContractFunctionParameters} supports non-empty dynamic
+ * arrays of elementary types, but neither empty arrays, fixed-size arrays, tuples nor nested arrays; such parameters can only be encoded by
+ * {@link AbiEncoder}. Since {@link AbiEncoder} is used for all calls with composite parameters, the factory methods of
+ * {@link ContractParam} reject elements and components with a custom {@link ParamSupplier}.
+ */
+public enum CompositeDatatype implements ParamSupplier<List<ContractParam<?>>> {
+
+    ARRAY("T[]"),
+    FIXED_ARRAY("T[k]"),
+    TUPLE("tuple");
+
+    private final String nativeType;
+
+    CompositeDatatype(final String nativeType) {
+        this.nativeType = nativeType;
+    }
+
+    @Override
+    public void addParamToFunctionParameters(final List<ContractParam<?>> value,
+            @NonNull final ContractFunctionParameters params) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        if (this != ARRAY) {
+            throw new UnsupportedOperationException(
+                    "ContractFunctionParameters does not support native type '" + nativeType + "', use AbiEncoder");
+        }
+        if (value.isEmpty()) {
+            throw new UnsupportedOperationException(
+                    "ContractFunctionParameters can not add an empty array without element type, use AbiEncoder");
+        }
+        final ParamSupplier<?> elementSupplier = value.get(0).supplier();
+        if (elementSupplier == StringBasedDatatype.STRING) {
+            params.addStringArray(values(value, String.class).toArray(String[]::new));
+        } else if (elementSupplier == StringBasedDatatype.ADDRESS) {
+            params.addAddressArray(values(value, String.class).toArray(String[]::new));
+        } else if (elementSupplier == StringBasedDatatype.BYTES) {
+            params.addBytesArray(values(value, String.class).stream()
+                    .map(v -> v.getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new));
+        } else if (elementSupplier == StringBasedDatatype.BYTES32) {
+            params.addBytes32Array(values(value, String.class).stream()
+                    .map(v -> v.getBytes(StandardCharsets.UTF_8))
+                    .toArray(byte[][]::new));
+        } else if (elementSupplier == BytesBasedDatatype.BYTES) {
+            params.addBytesArray(values(value, Bytes.class).stream().map(Bytes::bytes).toArray(byte[][]::new));
+        } else if (elementSupplier == BytesBasedDatatype.BYTES32) {
+            params.addBytes32Array(values(value, Bytes.class).stream().map(Bytes::bytes).toArray(byte[][]::new));
+        } else if (elementSupplier == BooleanDatatype.BOOL) {
+            final List<Boolean> booleans = values(value, Boolean.class);
+            final boolean[] array = new boolean[booleans.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = booleans.get(i);
+            }
+            params.addBoolArray(array);
+        } else if (elementSupplier instanceof LongBasedNumericDatatypes datatype) {
+            datatype.addArrayParam(values(value, Long.class), params);
+        } else if (elementSupplier instanceof BigIntegerBasedNumericDatatypes datatype) {
+            datatype.addArrayParam(values(value, BigInteger.class), params);
+        } else {
+            throw new UnsupportedOperationException(
+                    "ContractFunctionParameters does not support arrays of native type '"
+                            + value.get(0).nativeType() + "', use AbiEncoder");
+        }
+    }
+
+    @NonNull
+    private static <T> List<T> values(@NonNull final List<ContractParam<?>> value, @NonNull final Class<T> type) {
+        return value.stream().map(ContractParam::value).map(type::cast).toList();
+    }
+
+    @Override
+    public boolean isValidParam(final List<ContractParam<?>> value) {
+        if (value == null) {
+            return false;
+        }
+        if (this != ARRAY && value.isEmpty()) {
+            return false;
+        }
+        return value.stream().allMatch(Objects::nonNull);
+    }
+
+    @Override
+    public String getNativeType() {
+        return nativeType;
+    }
+}
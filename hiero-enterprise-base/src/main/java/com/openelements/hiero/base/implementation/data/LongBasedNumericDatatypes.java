@@ -1,28 +1,44 @@
 package com.openelements.hiero.base.implementation.data;
 
 import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import org.jspecify.annotations.NonNull;
 
 public enum LongBasedNumericDatatypes implements ParamSupplier<Long> {
-    INT8("int8", (v, params) -> params.addInt8(v.byteValue()), Byte.MIN_VALUE, Byte.MAX_VALUE),
-    UINT8("uint8", (v, params) -> params.addUint8(v.byteValue()), 0L, 255L),
-    INT16("int16", (v, params) -> params.addInt16(v.shortValue()), Short.MIN_VALUE, Short.MAX_VALUE),
-    UINT16("uint16", (v, params) -> params.addUint16(v.shortValue()), 0L, 65535L),
-    INT32("int32", (v, params) -> params.addInt32(v.intValue()), Integer.MIN_VALUE, Integer.MAX_VALUE),
-    UINT32("uint32", (v, params) -> params.addUint32(v.intValue()), 0L, 4294967295L),
-    INT40("int40", (v, params) -> params.addInt40(v), -549755813888L, 549755813887L),
-    UINT40("uint40", (v, params) -> params.addUint40(v), 0L, 1099511627775L),
-    INT48("int48", (v, params) -> params.addInt48(v), -140737488355328L, 140737488355327L),
-    UINT48("uint48", (v, params) -> params.addUint48(v), 0L, 281474976710655L),
-    INT56("int56", (v, params) -> params.addInt56(v), -72057594037927936L, 72057594037927935L),
-    UINT56("uint56", (v, params) -> params.addUint56(v), 0L, 144115188075855871L),
-    INT64("int64", (v, params) -> params.addInt64(v), Long.MIN_VALUE, Long.MAX_VALUE);
+    INT8("int8", (v, params) -> params.addInt8(v.byteValue()),
+            (v, params) -> params.addInt8Array(toByteArray(v)), Byte.MIN_VALUE, Byte.MAX_VALUE),
+    UINT8("uint8", (v, params) -> params.addUint8(v.byteValue()),
+            (v, params) -> params.addUint8Array(toByteArray(v)), 0L, 255L),
+    INT16("int16", (v, params) -> params.addInt16(v.shortValue()),
+            (v, params) -> params.addInt16Array(toIntArray(v)), Short.MIN_VALUE, Short.MAX_VALUE),
+    UINT16("uint16", (v, params) -> params.addUint16(v.shortValue()),
+            (v, params) -> params.addUint16Array(toIntArray(v)), 0L, 65535L),
+    INT32("int32", (v, params) -> params.addInt32(v.intValue()),
+            (v, params) -> params.addInt32Array(toIntArray(v)), Integer.MIN_VALUE, Integer.MAX_VALUE),
+    UINT32("uint32", (v, params) -> params.addUint32(v.intValue()),
+            (v, params) -> params.addUint32Array(toIntArray(v)), 0L, 4294967295L),
+    INT40("int40", (v, params) -> params.addInt40(v), (v, params) -> params.addInt40Array(v),
+            -549755813888L, 549755813887L),
+    UINT40("uint40", (v, params) -> params.addUint40(v), (v, params) -> params.addUint40Array(v),
+            0L, 1099511627775L),
+    INT48("int48", (v, params) -> params.addInt48(v), (v, params) -> params.addInt48Array(v),
+            -140737488355328L, 140737488355327L),
+    UINT48("uint48", (v, params) -> params.addUint48(v), (v, params) -> params.addUint48Array(v),
+            0L, 281474976710655L),
+    INT56("int56", (v, params) -> params.addInt56(v), (v, params) -> params.addInt56Array(v),
+            -72057594037927936L, 72057594037927935L),
+    UINT56("uint56", (v, params) -> params.addUint56(v), (v, params) -> params.addUint56Array(v),
+            0L, 144115188075855871L),
+    INT64("int64", (v, params) -> params.addInt64(v), (v, params) -> params.addInt64Array(v),
+            Long.MIN_VALUE, Long.MAX_VALUE);
     //TODO; UINT64 but max value is > long max value
 
     private final BiConsumer<Long, ContractFunctionParameters> addParam;
 
+    private final BiConsumer<long[], ContractFunctionParameters> addArrayParam;
+
     private final long minValue;
 
     private final long maxValue;
@@ -30,9 +46,10 @@ public enum LongBasedNumericDatatypes implements ParamSupplier<Long> {
     private final String nativeType;
 
     LongBasedNumericDatatypes(final String nativeType, final BiConsumer<Long, ContractFunctionParameters> addParam,
-            long minValue, long maxValue) {
+            final BiConsumer<long[], ContractFunctionParameters> addArrayParam, long minValue, long maxValue) {
         this.nativeType = nativeType;
         this.addParam = addParam;
+        this.addArrayParam = addArrayParam;
         this.minValue = minValue;
         this.maxValue = maxValue;
     }
@@ -63,4 +80,26 @@ public enum LongBasedNumericDatatypes implements ParamSupplier<Long> {
         }
         addParam.accept(value, params);
     }
+
+    void addArrayParam(@NonNull final List<Long> values, @NonNull final ContractFunctionParameters params) {
+        Objects.requireNonNull(values, "values must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        addArrayParam.accept(values.stream().mapToLong(Long::longValue).toArray(), params);
+    }
+
+    private static byte[] toByteArray(final long[] values) {
+        final byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+    private static int[] toIntArray(final long[] values) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (int) values[i];
+        }
+        return result;
+    }
 }
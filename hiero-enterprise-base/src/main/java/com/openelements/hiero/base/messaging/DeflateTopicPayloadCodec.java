@@ -0,0 +1,193 @@
+package com.openelements.hiero.base.messaging;
+
+import com.google.auto.service.AutoService;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Codec that compresses payloads by raw deflate (RFC 1951) without zlib header and checksum, since every byte counts
+ * for messages of at most 1024 bytes. Small messages like JSON events compress much better with a preset dictionary
+ * that contains the content that is common to the messages, like field names. A dictionary can be created from
+ * sample messages by {@link #trainDictionary(Collection, int)}. Writers and readers must use the same dictionary,
+ * therefore a codec with a dictionary must use its own id.
+ */
+@AutoService(TopicPayloadCodec.class)
+public final class DeflateTopicPayloadCodec implements TopicPayloadCodec {
+
+    /**
+     * The id of the codec without dictionary.
+     */
+    public static final byte ID = TopicPayloadCodecs.MIN_CODEC_ID;
+
+    /**
+     * The maximum size of a dictionary, defined by the window size of deflate.
+     */
+    public static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    /**
+     * The maximum size of a decoded payload, protects readers against payloads that decompress to huge sizes.
+     */
+    public static final int MAX_DECODED_SIZE = 16 * 1024 * 1024;
+
+    private static final int SEGMENT_LENGTH = 12;
+
+    private final byte id;
+
+    private final int level;
+
+    private final byte[] dictionary;
+
+    /**
+     * Creates a codec with the id {@link #ID} that compresses with the best compression and without dictionary.
+     */
+    public DeflateTopicPayloadCodec() {
+        this(ID, Deflater.BEST_COMPRESSION, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param id         the id of the codec
+     * @param level      the compression level from 0 to 9
+     * @param dictionary the preset dictionary or {@code null}
+     */
+    public DeflateTopicPayloadCodec(final byte id, final int level, final byte[] dictionary) {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("level must be between 0 and 9");
+        }
+        if (dictionary != null && (dictionary.length == 0 || dictionary.length > MAX_DICTIONARY_SIZE)) {
+            throw new IllegalArgumentException("dictionary must contain 1 to " + MAX_DICTIONARY_SIZE + " bytes");
+        }
+        this.id = id;
+        this.level = level;
+        this.dictionary = dictionary == null ? null : dictionary.clone();
+    }
+
+    /**
+     * Creates a codec that compresses with the best compression and the given dictionary.
+     *
+     * @param id         the id of the codec
+     * @param dictionary the preset dictionary
+     * @return the codec
+     */
+    @NonNull
+    public static DeflateTopicPayloadCodec withDictionary(final byte id, @NonNull final byte[] dictionary) {
+        Objects.requireNonNull(dictionary, "dictionary must not be null");
+        return new DeflateTopicPayloadCodec(id, Deflater.BEST_COMPRESSION, dictionary);
+    }
+
+    /**
+     * Creates a dictionary from sample payloads. The dictionary contains the segments that occur in the most samples.
+     * Deflate encodes short distances with fewer bits, therefore the most common segments are placed at the end of
+     * the dictionary.
+     *
+     * @param samples the sample payloads
+     * @param size    the maximum size of the dictionary
+     * @return the dictionary
+     */
+    @NonNull
+    public static byte[] trainDictionary(@NonNull final Collection<byte[]> samples, final int size) {
+        Objects.requireNonNull(samples, "samples must not be null");
+        if (size < SEGMENT_LENGTH || size > MAX_DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("size must be between " + SEGMENT_LENGTH + " and "
+                    + MAX_DICTIONARY_SIZE);
+        }
+        final Map<String, Integer> occurrences = new HashMap<>();
+        for (final byte[] sample : samples) {
+            Objects.requireNonNull(sample, "sample must not be null");
+            // ISO-8859-1 maps every byte to one char, therefore segments can be compared as strings
+            final String text = new String(sample, StandardCharsets.ISO_8859_1);
+            final Set<String> segments = new HashSet<>();
+            for (int i = 0; i + SEGMENT_LENGTH <= text.length(); i++) {
+                segments.add(text.substring(i, i + SEGMENT_LENGTH));
+            }
+            segments.forEach(segment -> occurrences.merge(segment, 1, Integer::sum));
+        }
+        final List<Map.Entry<String, Integer>> ranked = new ArrayList<>(occurrences.entrySet());
+        ranked.removeIf(entry -> entry.getValue() < 2);
+        ranked.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        final StringBuilder dictionary = new StringBuilder();
+        for (final Map.Entry<String, Integer> entry : ranked) {
+            if (dictionary.length() + SEGMENT_LENGTH > size) {
+                break;
+            }
+            final String segment = entry.getKey();
+            if (dictionary.indexOf(segment) < 0) {
+                dictionary.insert(0, segment);
+            }
+        }
+        return dictionary.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public byte getId() {
+        return id;
+    }
+
+    @Override
+    public @NonNull String getName() {
+        return dictionary == null ? "deflate" : "deflate-dictionary";
+    }
+
+    @Override
+    public @NonNull byte[] encode(@NonNull final byte[] payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(payload);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 16);
+            final byte[] buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public @NonNull byte[] decode(@NonNull final byte[] encoded) {
+        Objects.requireNonNull(encoded, "encoded must not be null");
+        final Inflater inflater = new Inflater(true);
+        try {
+            if (dictionary != null) {
+                inflater.setDictionary(dictionary);
+            }
+            inflater.setInput(encoded);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            final byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                final int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Payload is truncated");
+                }
+                if (out.size() + count > MAX_DECODED_SIZE) {
+                    throw new IllegalArgumentException("Decoded payload exceeds " + MAX_DECODED_SIZE + " bytes");
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("Payload is not valid deflate data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
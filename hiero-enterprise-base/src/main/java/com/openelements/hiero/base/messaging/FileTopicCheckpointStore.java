@@ -0,0 +1,76 @@
+package com.openelements.hiero.base.messaging;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicCheckpointStore} that holds every checkpoint in the file {@code <name>.checkpoint} of a directory. A
+ * checkpoint is written to a temporary file that replaces the checkpoint file by an atomic move.
+ */
+final class FileTopicCheckpointStore implements TopicCheckpointStore {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path directory;
+
+    FileTopicCheckpointStore(@NonNull final Path directory) {
+        this.directory = Objects.requireNonNull(directory, "directory must not be null");
+    }
+
+    @Override
+    public @NonNull Optional<TopicCheckpoint> load(@NonNull final String name) {
+        final Path file = file(name);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            final String[] parts = Files.readString(file, StandardCharsets.UTF_8).trim().split(" ");
+            if (parts.length != 2) {
+                throw new IllegalStateException("Invalid checkpoint file " + file);
+            }
+            return Optional.of(TopicCheckpoint.of(Long.parseLong(parts[0]), Instant.parse(parts[1])));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read checkpoint file " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void store(@NonNull final String name, @NonNull final TopicCheckpoint checkpoint) {
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        final Path file = file(name);
+        final Path temp = directory.resolve(name + SUFFIX + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(temp, checkpoint.sequenceNumber() + " " + checkpoint.consensusTimestamp(),
+                    StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not write checkpoint file " + file, e);
+        }
+    }
+
+    @NonNull
+    private Path file(@NonNull final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("name must only contain letters, digits, '.', '_' and '-'");
+        }
+        return directory.resolve(name + SUFFIX);
+    }
+}
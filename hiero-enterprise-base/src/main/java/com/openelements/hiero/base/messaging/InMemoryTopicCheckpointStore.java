@@ -0,0 +1,30 @@
+package com.openelements.hiero.base.messaging;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicCheckpointStore} that holds the checkpoints in memory. The checkpoints are lost when the application
+ * stops.
+ */
+final class InMemoryTopicCheckpointStore implements TopicCheckpointStore {
+
+    private final Map<String, TopicCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public @NonNull Optional<TopicCheckpoint> load(@NonNull final String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        return Optional.ofNullable(checkpoints.get(name));
+    }
+
+    @Override
+    public void store(@NonNull final String name, @NonNull final TopicCheckpoint checkpoint) {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        checkpoints.merge(name, checkpoint,
+                (current, update) -> current.sequenceNumber() < update.sequenceNumber() ? update : current);
+    }
+}
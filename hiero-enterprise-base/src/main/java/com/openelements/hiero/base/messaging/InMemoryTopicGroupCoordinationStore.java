@@ -0,0 +1,71 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicGroupCoordinationStore} that holds the members and checkpoints in memory. The state is lost when the
+ * application stops.
+ */
+final class InMemoryTopicGroupCoordinationStore implements TopicGroupCoordinationStore {
+
+    private final Map<String, Map<String, Instant>> members = new HashMap<>();
+
+    private final Map<String, Map<TopicId, TopicCheckpoint>> checkpoints = new HashMap<>();
+
+    @Override
+    public synchronized void heartbeat(@NonNull final String groupName, @NonNull final String memberId,
+            @NonNull final Instant timestamp) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        members.computeIfAbsent(groupName, name -> new HashMap<>()).put(memberId, timestamp);
+    }
+
+    @Override
+    public synchronized void leave(@NonNull final String groupName, @NonNull final String memberId) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        final Map<String, Instant> group = members.get(groupName);
+        if (group != null) {
+            group.remove(memberId);
+        }
+    }
+
+    @Override
+    public synchronized @NonNull Set<String> getMembers(@NonNull final String groupName,
+            @NonNull final Instant aliveSince) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(aliveSince, "aliveSince must not be null");
+        return members.getOrDefault(groupName, Map.of()).entrySet().stream()
+                .filter(entry -> !entry.getValue().isBefore(aliveSince))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public synchronized @NonNull Optional<TopicCheckpoint> loadCheckpoint(@NonNull final String groupName,
+            @NonNull final TopicId topicId) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return Optional.ofNullable(checkpoints.getOrDefault(groupName, Map.of()).get(topicId));
+    }
+
+    @Override
+    public synchronized void commitCheckpoint(@NonNull final String groupName, @NonNull final TopicId topicId,
+            @NonNull final String memberId, @NonNull final TopicCheckpoint checkpoint) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        checkpoints.computeIfAbsent(groupName, name -> new HashMap<>()).merge(topicId, checkpoint,
+                (current, update) -> current.sequenceNumber() < update.sequenceNumber() ? update : current);
+    }
+}
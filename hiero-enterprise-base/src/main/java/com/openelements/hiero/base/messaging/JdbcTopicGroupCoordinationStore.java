@@ -0,0 +1,217 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TopicGroupCoordinationStore} that holds the members and checkpoints in two tables of a database. Timestamps
+ * are stored as epoch seconds and nanos, therefore the tables only use types that every database supports. Every
+ * operation is a single statement in auto-commit mode; an insert that fails because another member has inserted the
+ * same row concurrently (SQL state class {@code 23}) is retried as an update.
+ */
+final class JdbcTopicGroupCoordinationStore implements TopicGroupCoordinationStore {
+
+    private static final String CREATE_MEMBER_TABLE = "CREATE TABLE IF NOT EXISTS hiero_topic_group_member ("
+            + "group_name VARCHAR(255) NOT NULL, member_id VARCHAR(255) NOT NULL, heartbeat_millis BIGINT NOT NULL, "
+            + "PRIMARY KEY (group_name, member_id))";
+
+    private static final String CREATE_CHECKPOINT_TABLE = "CREATE TABLE IF NOT EXISTS hiero_topic_group_checkpoint ("
+            + "group_name VARCHAR(255) NOT NULL, topic_id VARCHAR(64) NOT NULL, sequence_number BIGINT NOT NULL, "
+            + "consensus_seconds BIGINT NOT NULL, consensus_nanos INTEGER NOT NULL, member_id VARCHAR(255) NOT NULL, "
+            + "PRIMARY KEY (group_name, topic_id))";
+
+    private static final String UPDATE_MEMBER = "UPDATE hiero_topic_group_member SET heartbeat_millis = ? "
+            + "WHERE group_name = ? AND member_id = ?";
+
+    private static final String INSERT_MEMBER = "INSERT INTO hiero_topic_group_member "
+            + "(group_name, member_id, heartbeat_millis) VALUES (?, ?, ?)";
+
+    private static final String DELETE_MEMBER = "DELETE FROM hiero_topic_group_member "
+            + "WHERE group_name = ? AND member_id = ?";
+
+    private static final String SELECT_MEMBERS = "SELECT member_id FROM hiero_topic_group_member "
+            + "WHERE group_name = ? AND heartbeat_millis >= ?";
+
+    private static final String SELECT_CHECKPOINT = "SELECT sequence_number, consensus_seconds, consensus_nanos "
+            + "FROM hiero_topic_group_checkpoint WHERE group_name = ? AND topic_id = ?";
+
+    private static final String UPDATE_CHECKPOINT = "UPDATE hiero_topic_group_checkpoint "
+            + "SET sequence_number = ?, consensus_seconds = ?, consensus_nanos = ?, member_id = ? "
+            + "WHERE group_name = ? AND topic_id = ? AND sequence_number < ?";
+
+    private static final String INSERT_CHECKPOINT = "INSERT INTO hiero_topic_group_checkpoint "
+            + "(group_name, topic_id, sequence_number, consensus_seconds, consensus_nanos, member_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+
+    JdbcTopicGroupCoordinationStore(@NonNull final DataSource dataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource, "dataSource must not be null");
+    }
+
+    void createTables() {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_MEMBER_TABLE);
+            statement.execute(CREATE_CHECKPOINT_TABLE);
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not create tables of topic consumer groups", e);
+        }
+    }
+
+    @Override
+    public void heartbeat(@NonNull final String groupName, @NonNull final String memberId,
+            @NonNull final Instant timestamp) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        try (Connection connection = dataSource.getConnection()) {
+            if (updateMember(connection, groupName, memberId, timestamp) > 0) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_MEMBER)) {
+                statement.setString(1, groupName);
+                statement.setString(2, memberId);
+                statement.setLong(3, timestamp.toEpochMilli());
+                statement.executeUpdate();
+            } catch (final SQLException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                updateMember(connection, groupName, memberId, timestamp);
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not store heartbeat of member '" + memberId + "' of group '"
+                    + groupName + "'", e);
+        }
+    }
+
+    private static int updateMember(@NonNull final Connection connection, @NonNull final String groupName,
+            @NonNull final String memberId, @NonNull final Instant timestamp) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_MEMBER)) {
+            statement.setLong(1, timestamp.toEpochMilli());
+            statement.setString(2, groupName);
+            statement.setString(3, memberId);
+            return statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public void leave(@NonNull final String groupName, @NonNull final String memberId) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(DELETE_MEMBER)) {
+            statement.setString(1, groupName);
+            statement.setString(2, memberId);
+            statement.executeUpdate();
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not remove member '" + memberId + "' of group '" + groupName + "'",
+                    e);
+        }
+    }
+
+    @Override
+    public @NonNull Set<String> getMembers(@NonNull final String groupName, @NonNull final Instant aliveSince) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(aliveSince, "aliveSince must not be null");
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_MEMBERS)) {
+            statement.setString(1, groupName);
+            statement.setLong(2, aliveSince.toEpochMilli());
+            final Set<String> members = new HashSet<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    members.add(resultSet.getString(1));
+                }
+            }
+            return Set.copyOf(members);
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not load members of group '" + groupName + "'", e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<TopicCheckpoint> loadCheckpoint(@NonNull final String groupName,
+            @NonNull final TopicId topicId) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_CHECKPOINT)) {
+            statement.setString(1, groupName);
+            statement.setString(2, topicId.toString());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                return Optional.of(TopicCheckpoint.of(resultSet.getLong(1),
+                        Instant.ofEpochSecond(resultSet.getLong(2), resultSet.getInt(3))));
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not load checkpoint of topic " + topicId + " of group '"
+                    + groupName + "'", e);
+        }
+    }
+
+    @Override
+    public void commitCheckpoint(@NonNull final String groupName, @NonNull final TopicId topicId,
+            @NonNull final String memberId, @NonNull final TopicCheckpoint checkpoint) {
+        Objects.requireNonNull(groupName, "groupName must not be null");
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(memberId, "memberId must not be null");
+        Objects.requireNonNull(checkpoint, "checkpoint must not be null");
+        try (Connection connection = dataSource.getConnection()) {
+            if (updateCheckpoint(connection, groupName, topicId, memberId, checkpoint) > 0) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_CHECKPOINT)) {
+                statement.setString(1, groupName);
+                statement.setString(2, topicId.toString());
+                statement.setLong(3, checkpoint.sequenceNumber());
+                statement.setLong(4, checkpoint.consensusTimestamp().getEpochSecond());
+                statement.setInt(5, checkpoint.consensusTimestamp().getNano());
+                statement.setString(6, memberId);
+                statement.executeUpdate();
+            } catch (final SQLException e) {
+                if (!isConstraintViolation(e)) {
+                    throw e;
+                }
+                // the row exists, the update has not matched because the stored checkpoint is not older
+                updateCheckpoint(connection, groupName, topicId, memberId, checkpoint);
+            }
+        } catch (final SQLException e) {
+            throw new IllegalStateException("Can not commit checkpoint of topic " + topicId + " of group '"
+                    + groupName + "'", e);
+        }
+    }
+
+    private static int updateCheckpoint(@NonNull final Connection connection, @NonNull final String groupName,
+            @NonNull final TopicId topicId, @NonNull final String memberId, @NonNull final TopicCheckpoint checkpoint)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_CHECKPOINT)) {
+            statement.setLong(1, checkpoint.sequenceNumber());
+            statement.setLong(2, checkpoint.consensusTimestamp().getEpochSecond());
+            statement.setInt(3, checkpoint.consensusTimestamp().getNano());
+            statement.setString(4, memberId);
+            statement.setString(5, groupName);
+            statement.setString(6, topicId.toString());
+            statement.setLong(7, checkpoint.sequenceNumber());
+            return statement.executeUpdate();
+        }
+    }
+
+    private static boolean isConstraintViolation(@NonNull final SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+}
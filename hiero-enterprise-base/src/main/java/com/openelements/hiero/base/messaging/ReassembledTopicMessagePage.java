@@ -0,0 +1,73 @@
+package com.openelements.hiero.base.messaging;
+
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Page that reassembles the chunks of the messages of a page. The reassembler is shared with the following pages,
+ * therefore every page is only created once and cached.
+ */
+final class ReassembledTopicMessagePage implements Page<TopicMessage> {
+
+    private final Page<TopicMessage> page;
+
+    private final TopicMessageReassembler reassembler;
+
+    private final List<TopicMessage> data;
+
+    @Nullable
+    private ReassembledTopicMessagePage next;
+
+    ReassembledTopicMessagePage(@NonNull final Page<TopicMessage> page,
+            @NonNull final TopicMessageReassembler reassembler) {
+        this.page = Objects.requireNonNull(page, "page must not be null");
+        this.reassembler = Objects.requireNonNull(reassembler, "reassembler must not be null");
+        this.data = page.getData().stream()
+                .map(reassembler::accept)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    @Override
+    public int getPageIndex() {
+        return page.getPageIndex();
+    }
+
+    @Override
+    public int getSize() {
+        return data.size();
+    }
+
+    @Override
+    public List<TopicMessage> getData() {
+        return data;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return page.hasNext();
+    }
+
+    @Override
+    public synchronized Page<TopicMessage> next() {
+        if (next == null) {
+            next = new ReassembledTopicMessagePage(page.next(), reassembler);
+        }
+        return next;
+    }
+
+    @Override
+    public Page<TopicMessage> first() {
+        return TopicMessageReassembler.reassemble(page.first());
+    }
+
+    @Override
+    public boolean isFirst() {
+        return page.isFirst();
+    }
+}
@@ -0,0 +1,26 @@
+package com.openelements.hiero.base.messaging;
+
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Position of the last processed message of a topic.
+ *
+ * @param sequenceNumber     the sequence number of the message
+ * @param consensusTimestamp the consensus timestamp of the message
+ */
+public record TopicCheckpoint(long sequenceNumber, @NonNull Instant consensusTimestamp) {
+
+    public TopicCheckpoint {
+        Objects.requireNonNull(consensusTimestamp, "consensusTimestamp must not be null");
+        if (sequenceNumber < 1) {
+            throw new IllegalArgumentException("sequenceNumber must be positive");
+        }
+    }
+
+    @NonNull
+    public static TopicCheckpoint of(final long sequenceNumber, @NonNull final Instant consensusTimestamp) {
+        return new TopicCheckpoint(sequenceNumber, consensusTimestamp);
+    }
+}
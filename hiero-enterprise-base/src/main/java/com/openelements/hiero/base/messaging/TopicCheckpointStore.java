@@ -0,0 +1,55 @@
+package com.openelements.hiero.base.messaging;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Stores the position of the last processed message of a topic subscription, so that a subscription can continue
+ * after a restart without processing the messages that have already been processed. Implementations must be
+ * thread-safe.
+ *
+ * @see TopicSubscriptionManager#subscribe(com.hedera.hashgraph.sdk.TopicId, java.time.Instant, TopicCheckpointStore,
+ * String)
+ */
+public interface TopicCheckpointStore {
+
+    /**
+     * Loads the checkpoint of the subscription with the given name.
+     *
+     * @param name the name of the subscription
+     * @return the checkpoint or empty if the subscription has not processed any message
+     */
+    @NonNull
+    Optional<TopicCheckpoint> load(@NonNull String name);
+
+    /**
+     * Stores the checkpoint of the subscription with the given name.
+     *
+     * @param name       the name of the subscription
+     * @param checkpoint the checkpoint of the last processed message
+     */
+    void store(@NonNull String name, @NonNull TopicCheckpoint checkpoint);
+
+    /**
+     * Returns a new store that holds the checkpoints in memory.
+     *
+     * @return the store
+     */
+    @NonNull
+    static TopicCheckpointStore inMemory() {
+        return new InMemoryTopicCheckpointStore();
+    }
+
+    /**
+     * Returns a new store that holds every checkpoint in a file of the given directory. The files are replaced
+     * atomically, therefore a crash never leaves a partially written checkpoint.
+     *
+     * @param directory the directory
+     * @return the store
+     */
+    @NonNull
+    static TopicCheckpointStore ofDirectory(@NonNull Path directory) {
+        return new FileTopicCheckpointStore(directory);
+    }
+}
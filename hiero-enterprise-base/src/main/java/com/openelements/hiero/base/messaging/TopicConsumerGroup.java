@@ -0,0 +1,60 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import java.util.Set;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Member of a group of applications that process the messages of a set of topics together. Every topic is assigned to
+ * exactly one live member of the group, which subscribes to the topic and commits the checkpoint of every processed
+ * message to a {@link TopicGroupCoordinationStore}. If a member joins or leaves the group, the topics are assigned
+ * again and a member that takes over a topic continues after the last committed checkpoint. Messages are processed at
+ * least once: a message can be processed twice if a topic moves to another member while the message is processed.
+ */
+public interface TopicConsumerGroup extends AutoCloseable {
+
+    /**
+     * Returns the name of the group.
+     *
+     * @return the name of the group
+     */
+    @NonNull
+    String getGroupName();
+
+    /**
+     * Returns the id of this member.
+     *
+     * @return the id of this member
+     */
+    @NonNull
+    String getMemberId();
+
+    /**
+     * Returns the live members of the group as seen by the last rebalance.
+     *
+     * @return the ids of the members
+     */
+    @NonNull
+    Set<String> getMembers();
+
+    /**
+     * Returns the topics that are assigned to this member by the last rebalance.
+     *
+     * @return the topics
+     */
+    @NonNull
+    Set<TopicId> getAssignedTopics();
+
+    /**
+     * Sends a heartbeat, assigns the topics to the live members of the group and starts or stops the subscriptions of
+     * this member. A rebalance is executed periodically, this method executes it immediately.
+     */
+    void rebalance();
+
+    /**
+     * Stops all subscriptions of this member and leaves the group, so the other members take over its topics with
+     * their next rebalance.
+     */
+    @Override
+    void close();
+}
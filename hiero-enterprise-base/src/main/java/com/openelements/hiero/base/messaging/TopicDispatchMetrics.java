@@ -0,0 +1,28 @@
+package com.openelements.hiero.base.messaging;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Metrics of a lane of a {@link TopicMessageDispatcher}.
+ *
+ * @param key                   the key of the lane
+ * @param queueDepth            the number of messages that wait in the queue of the lane
+ * @param handledMessages       the number of messages that have been handled
+ * @param failedMessages        the number of messages whose handler has thrown an exception
+ * @param averageLatency        the average time from the dispatch to the end of the handler
+ * @param maxLatency            the maximum time from the dispatch to the end of the handler
+ * @param averageProcessingTime the average time of the handler
+ */
+public record TopicDispatchMetrics(@NonNull Object key, int queueDepth, long handledMessages, long failedMessages,
+                                   @NonNull Duration averageLatency, @NonNull Duration maxLatency,
+                                   @NonNull Duration averageProcessingTime) {
+
+    public TopicDispatchMetrics {
+        Objects.requireNonNull(key, "key must not be null");
+        Objects.requireNonNull(averageLatency, "averageLatency must not be null");
+        Objects.requireNonNull(maxLatency, "maxLatency must not be null");
+        Objects.requireNonNull(averageProcessingTime, "averageProcessingTime must not be null");
+    }
+}
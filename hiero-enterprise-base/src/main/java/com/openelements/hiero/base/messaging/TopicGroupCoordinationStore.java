@@ -0,0 +1,92 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Shared state of the consumer groups of topics: the members of a group, which are alive as long as they send
+ * heartbeats, and the checkpoints of the topics that the members of a group have committed. All members of a group
+ * must use the same store. Implementations must be thread-safe.
+ *
+ * @see TopicConsumerGroup
+ */
+public interface TopicGroupCoordinationStore {
+
+    /**
+     * Registers the member of a group or updates the time of its last heartbeat.
+     *
+     * @param groupName the name of the group
+     * @param memberId  the id of the member
+     * @param timestamp the time of the heartbeat
+     */
+    void heartbeat(@NonNull String groupName, @NonNull String memberId, @NonNull Instant timestamp);
+
+    /**
+     * Removes the member of a group.
+     *
+     * @param groupName the name of the group
+     * @param memberId  the id of the member
+     */
+    void leave(@NonNull String groupName, @NonNull String memberId);
+
+    /**
+     * Returns the members of a group whose last heartbeat is not before the given time.
+     *
+     * @param groupName  the name of the group
+     * @param aliveSince the time of the oldest heartbeat of a member that is alive
+     * @return the ids of the members
+     */
+    @NonNull
+    Set<String> getMembers(@NonNull String groupName, @NonNull Instant aliveSince);
+
+    /**
+     * Loads the checkpoint of a topic of a group.
+     *
+     * @param groupName the name of the group
+     * @param topicId   the topic
+     * @return the checkpoint or empty if no member has committed a checkpoint of the topic
+     */
+    @NonNull
+    Optional<TopicCheckpoint> loadCheckpoint(@NonNull String groupName, @NonNull TopicId topicId);
+
+    /**
+     * Commits the checkpoint of a topic of a group. A checkpoint that is not after the stored checkpoint is ignored,
+     * therefore a member that commits late after a rebalance never moves the checkpoint back.
+     *
+     * @param groupName  the name of the group
+     * @param topicId    the topic
+     * @param memberId   the id of the member that has processed the message
+     * @param checkpoint the checkpoint of the last processed message
+     */
+    void commitCheckpoint(@NonNull String groupName, @NonNull TopicId topicId, @NonNull String memberId,
+            @NonNull TopicCheckpoint checkpoint);
+
+    /**
+     * Returns a new store that holds the state in memory. The store can only coordinate members in the same
+     * application and is meant for tests.
+     *
+     * @return the store
+     */
+    @NonNull
+    static TopicGroupCoordinationStore inMemory() {
+        return new InMemoryTopicGroupCoordinationStore();
+    }
+
+    /**
+     * Returns a store that holds the state in the tables {@code hiero_topic_group_member} and
+     * {@code hiero_topic_group_checkpoint} of a database. The tables are created if they do not exist.
+     *
+     * @param dataSource the data source of the database
+     * @return the store
+     */
+    @NonNull
+    static TopicGroupCoordinationStore ofDataSource(@NonNull DataSource dataSource) {
+        final JdbcTopicGroupCoordinationStore store = new JdbcTopicGroupCoordinationStore(dataSource);
+        store.createTables();
+        return store;
+    }
+}
@@ -0,0 +1,80 @@
+package com.openelements.hiero.base.messaging;
+
+import com.openelements.hiero.base.data.TopicMessage;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Dispatches topic messages to handlers on lanes that are selected by a key of the message, by default the topic id.
+ * Every lane processes its messages one after another on its own virtual thread, therefore messages with the same key
+ * are handled in the order in which they have been dispatched, while messages with different keys are handled in
+ * parallel. A slow handler only delays the messages of its own key.
+ * <p>
+ * The queue of every lane is bounded. If the queue of a lane is full, {@link #dispatch(TopicMessage, Consumer)} blocks
+ * the caller and {@link #tryDispatch(TopicMessage, Consumer)} rejects the message.
+ */
+public interface TopicMessageDispatcher extends AutoCloseable {
+
+    /**
+     * Dispatches a message to the lane of its key. Blocks while the queue of the lane is full.
+     *
+     * @param message the message
+     * @param handler the handler of the message
+     * @return a future that is completed once the handler has processed the message
+     * @throws InterruptedException if the thread is interrupted while the queue of the lane is full
+     */
+    @NonNull
+    CompletableFuture<Void> dispatch(@NonNull TopicMessage message, @NonNull Consumer<TopicMessage> handler)
+            throws InterruptedException;
+
+    /**
+     * Dispatches a message to the lane of its key if the queue of the lane is not full.
+     *
+     * @param message the message
+     * @param handler the handler of the message
+     * @return a future that is completed once the handler has processed the message or an empty future if the queue
+     * of the lane is full
+     */
+    @NonNull
+    Optional<CompletableFuture<Void>> tryDispatch(@NonNull TopicMessage message,
+            @NonNull Consumer<TopicMessage> handler);
+
+    /**
+     * Returns a consumer that dispatches every message to the given handler, for example for the subscription of a
+     * {@link com.openelements.hiero.base.protocol.data.TopicMessageRequest}. The thread that delivers the messages
+     * only enqueues them and is blocked only while the queue of a lane is full. Errors of the handler are logged.
+     *
+     * @param handler the handler
+     * @return the consumer
+     */
+    @NonNull
+    Consumer<TopicMessage> consumer(@NonNull Consumer<TopicMessage> handler);
+
+    /**
+     * Returns a subscriber that dispatches every message to the given handler, for example for a publisher of a
+     * {@link TopicSubscriptionManager}. The subscriber only requests a new message once a dispatched message has been
+     * handled, therefore a full lane pauses the publisher instead of blocking it. Errors of the handler are logged.
+     *
+     * @param handler the handler
+     * @return the subscriber
+     */
+    Flow.@NonNull Subscriber<TopicMessage> subscriber(@NonNull Consumer<TopicMessage> handler);
+
+    /**
+     * Returns the metrics of all lanes.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    List<TopicDispatchMetrics> getMetrics();
+
+    /**
+     * Stops the dispatcher. Messages that have not been handled yet are discarded and their futures are cancelled.
+     */
+    @Override
+    void close();
+}
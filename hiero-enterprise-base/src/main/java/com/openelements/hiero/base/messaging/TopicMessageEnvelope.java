@@ -0,0 +1,155 @@
+package com.openelements.hiero.base.messaging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Envelope that packs several small messages into a single topic message. The envelope starts with the marker byte
+ * {@code 0xFE} (a byte that never occurs in UTF-8 text, therefore text messages are never mistaken for an envelope) and
+ * a version byte. Every message follows as an unsigned LEB128 varint length prefix and the bytes of the message. A
+ * message of 100 bytes therefore only needs 101 bytes in the envelope and 10 of these messages fit into one topic
+ * message of {@value #MAX_SIZE} bytes.
+ */
+public final class TopicMessageEnvelope {
+
+    /**
+     * The maximal size of a topic message and therefore of an envelope.
+     */
+    public static final int MAX_SIZE = 1024;
+
+    /**
+     * The size of the header of an envelope.
+     */
+    public static final int HEADER_SIZE = 2;
+
+    /**
+     * The maximal size of a single message in an envelope.
+     */
+    public static final int MAX_MESSAGE_SIZE = MAX_SIZE - HEADER_SIZE - 2;
+
+    private static final byte MARKER = (byte) 0xFE;
+
+    private static final byte VERSION = 1;
+
+    private TopicMessageEnvelope() {
+    }
+
+    /**
+     * Returns the number of bytes a message of the given size needs in an envelope (including its length prefix).
+     *
+     * @param messageSize the size of the message
+     * @return the encoded size
+     */
+    public static int encodedSize(final int messageSize) {
+        if (messageSize < 0) {
+            throw new IllegalArgumentException("messageSize must not be negative");
+        }
+        return varintSize(messageSize) + messageSize;
+    }
+
+    /**
+     * Packs the given messages into an envelope.
+     *
+     * @param messages the messages
+     * @return the envelope
+     * @throws IllegalArgumentException if the messages do not fit into one envelope
+     */
+    @NonNull
+    public static byte[] encode(@NonNull final List<byte[]> messages) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        int size = HEADER_SIZE;
+        for (final byte[] message : messages) {
+            Objects.requireNonNull(message, "message must not be null");
+            size += encodedSize(message.length);
+        }
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Messages need " + size + " bytes but an envelope is limited to "
+                    + MAX_SIZE + " bytes");
+        }
+        final byte[] envelope = new byte[size];
+        envelope[0] = MARKER;
+        envelope[1] = VERSION;
+        int position = HEADER_SIZE;
+        for (final byte[] message : messages) {
+            int length = message.length;
+            while (length >= 0x80) {
+                envelope[position++] = (byte) ((length & 0x7F) | 0x80);
+                length >>>= 7;
+            }
+            envelope[position++] = (byte) length;
+            System.arraycopy(message, 0, envelope, position, message.length);
+            position += message.length;
+        }
+        return envelope;
+    }
+
+    /**
+     * Returns true if the given topic message is an envelope.
+     *
+     * @param message the topic message
+     * @return true if the message is an envelope
+     */
+    public static boolean isEnvelope(@NonNull final byte[] message) {
+        Objects.requireNonNull(message, "message must not be null");
+        return message.length >= HEADER_SIZE && message[0] == MARKER && message[1] == VERSION;
+    }
+
+    /**
+     * Unpacks the messages of an envelope.
+     *
+     * @param envelope the envelope
+     * @return the messages
+     * @throws IllegalArgumentException if the envelope is malformed
+     */
+    @NonNull
+    public static List<byte[]> decode(@NonNull final byte[] envelope) {
+        if (!isEnvelope(envelope)) {
+            throw new IllegalArgumentException("Message is not an envelope");
+        }
+        final List<byte[]> messages = new ArrayList<>();
+        int position = HEADER_SIZE;
+        while (position < envelope.length) {
+            int length = 0;
+            int shift = 0;
+            byte current;
+            do {
+                if (position >= envelope.length || shift > 14) {
+                    throw new IllegalArgumentException("Malformed length prefix at offset " + position);
+                }
+                current = envelope[position++];
+                length |= (current & 0x7F) << shift;
+                shift += 7;
+            } while ((current & 0x80) != 0);
+            if (length > envelope.length - position) {
+                throw new IllegalArgumentException("Message of " + length + " bytes at offset " + position
+                        + " exceeds envelope of " + envelope.length + " bytes");
+            }
+            messages.add(Arrays.copyOfRange(envelope, position, position + length));
+            position += length;
+        }
+        return Collections.unmodifiableList(messages);
+    }
+
+    /**
+     * Returns the messages of a topic message: the unpacked messages if the topic message is an envelope or the topic
+     * message itself otherwise. This allows consumers to read topics that contain envelopes and plain messages.
+     *
+     * @param message the topic message
+     * @return the messages
+     */
+    @NonNull
+    public static List<byte[]> unpack(@NonNull final byte[] message) {
+        if (isEnvelope(message)) {
+            return decode(message);
+        }
+        return List.of(message);
+    }
+
+    private static int varintSize(final int value) {
+        return value < 0x80 ? 1 : value < 0x4000 ? 2 : value < 0x200000 ? 3 : value < 0x10000000 ? 4 : 5;
+    }
+}
@@ -0,0 +1,112 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Durable local append-only log of topic messages. Messages of a topic are appended in ascending order of their
+ * sequence number and can be read again by sequence number or by consensus timestamp without querying a mirror node.
+ * Old messages are removed by a {@link TopicMessageLogRetention}. Implementations must be thread-safe.
+ */
+public interface TopicMessageLog extends AutoCloseable {
+
+    /**
+     * Appends a message to the log of its topic. Messages with a sequence number that is not greater than the last
+     * sequence number of the log are ignored.
+     *
+     * @param message the message
+     * @return true if the message has been appended
+     */
+    boolean append(@NonNull TopicMessage message);
+
+    /**
+     * Appends messages to the logs of their topics.
+     *
+     * @param messages the messages
+     * @return the number of appended messages
+     * @see #append(TopicMessage)
+     */
+    default int append(@NonNull List<TopicMessage> messages) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        int appended = 0;
+        for (final TopicMessage message : messages) {
+            if (append(message)) {
+                appended++;
+            }
+        }
+        return appended;
+    }
+
+    /**
+     * Reads the message with the given sequence number.
+     *
+     * @param topicId        the topic
+     * @param sequenceNumber the sequence number
+     * @return the message or empty if the log does not contain the message
+     */
+    @NonNull
+    Optional<TopicMessage> read(@NonNull TopicId topicId, long sequenceNumber);
+
+    /**
+     * Reads the messages with a sequence number in the given range as a lazy stream in ascending order.
+     *
+     * @param topicId            the topic
+     * @param fromSequenceNumber the sequence number of the first message (inclusive)
+     * @param toSequenceNumber   the sequence number of the last message (inclusive)
+     * @return the messages
+     */
+    @NonNull
+    Stream<TopicMessage> read(@NonNull TopicId topicId, long fromSequenceNumber, long toSequenceNumber);
+
+    /**
+     * Reads the messages with a consensus timestamp in the given range as a lazy stream in ascending order.
+     *
+     * @param topicId the topic
+     * @param from    the consensus time of the first message (inclusive)
+     * @param to      the consensus time of the last message (inclusive)
+     * @return the messages
+     */
+    @NonNull
+    Stream<TopicMessage> read(@NonNull TopicId topicId, @NonNull Instant from, @NonNull Instant to);
+
+    /**
+     * Returns the sequence number of the first message of the log of a topic.
+     *
+     * @param topicId the topic
+     * @return the sequence number or empty if the log does not contain messages of the topic
+     */
+    @NonNull
+    OptionalLong getFirstSequenceNumber(@NonNull TopicId topicId);
+
+    /**
+     * Returns the sequence number of the last message of the log of a topic.
+     *
+     * @param topicId the topic
+     * @return the sequence number or empty if the log does not contain messages of the topic
+     */
+    @NonNull
+    OptionalLong getLastSequenceNumber(@NonNull TopicId topicId);
+
+    /**
+     * Removes the messages that are no longer retained by the retention of the log.
+     */
+    void applyRetention();
+
+    /**
+     * Writes all appended messages to the storage device.
+     */
+    void flush();
+
+    /**
+     * Flushes and closes the log.
+     */
+    @Override
+    void close();
+}
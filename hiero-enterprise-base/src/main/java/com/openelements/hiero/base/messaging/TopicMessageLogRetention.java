@@ -0,0 +1,48 @@
+package com.openelements.hiero.base.messaging;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Retention of a {@link TopicMessageLog}. The log of a topic is stored in segments and the oldest segments are
+ * removed if the log of the topic is larger than the maximum size or if their newest message is older than the maximum
+ * age. The segment that is currently written is never removed.
+ *
+ * @param maxBytes the maximum size of the log of a topic in bytes or {@link Long#MAX_VALUE} for no limit
+ * @param maxAge   the maximum age of a message by its consensus timestamp or null for no limit
+ */
+public record TopicMessageLogRetention(long maxBytes, @Nullable Duration maxAge) {
+
+    public TopicMessageLogRetention {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        if (maxAge != null && (maxAge.isNegative() || maxAge.isZero())) {
+            throw new IllegalArgumentException("maxAge must be positive");
+        }
+    }
+
+    @NonNull
+    public static TopicMessageLogRetention of(final long maxBytes, @NonNull final Duration maxAge) {
+        Objects.requireNonNull(maxAge, "maxAge must not be null");
+        return new TopicMessageLogRetention(maxBytes, maxAge);
+    }
+
+    @NonNull
+    public static TopicMessageLogRetention ofBytes(final long maxBytes) {
+        return new TopicMessageLogRetention(maxBytes, null);
+    }
+
+    @NonNull
+    public static TopicMessageLogRetention ofAge(@NonNull final Duration maxAge) {
+        Objects.requireNonNull(maxAge, "maxAge must not be null");
+        return new TopicMessageLogRetention(Long.MAX_VALUE, maxAge);
+    }
+
+    @NonNull
+    public static TopicMessageLogRetention unlimited() {
+        return new TopicMessageLogRetention(Long.MAX_VALUE, null);
+    }
+}
@@ -0,0 +1,241 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Reassembles the chunks of topic messages that have been submitted in chunks. Chunks are grouped by the initial
+ * transaction id of their {@link ChunkInfo}. Once all chunks of a group have been received, one message is emitted that
+ * contains the messages of all chunks in chunk order, the chunk info of the first chunk and the consensus data (like
+ * timestamp and sequence number) of the chunk that completed the group. Messages without chunk info are emitted
+ * unchanged. The payloads of the chunks are joined as bytes, therefore a multibyte UTF-8 character or a compressed
+ * payload that is split by a chunk boundary is restored.
+ * <p>
+ * The memory is bounded: if more than {@code maxPendingChunks} chunks are pending, the oldest groups are dropped.
+ * Groups whose first chunk is older than the timeout (measured in consensus time of the latest accepted message) are
+ * dropped as well, since they will never be completed. The number of dropped groups is available by
+ * {@link #getDroppedGroups()}.
+ * <p>
+ * Chunks are validated before they are stored: a chunk whose number is not between 1 and its total, whose total
+ * exceeds {@code maxPendingChunks} or whose total differs from the total of the first chunk of its group is rejected
+ * and not emitted. The number of rejected chunks is available by {@link #getRejectedChunks()}.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class TopicMessageReassembler {
+
+    /**
+     * The default maximum number of pending chunks (about 10 MB for chunks of 1024 bytes).
+     */
+    public static final int DEFAULT_MAX_PENDING_CHUNKS = 10_000;
+
+    /**
+     * The default timeout for incomplete groups.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    private final int maxPendingChunks;
+
+    private final Duration timeout;
+
+    private final Map<TransactionId, ChunkGroup> groups = new LinkedHashMap<>();
+
+    private int pendingChunks;
+
+    private long droppedGroups;
+
+    private long rejectedChunks;
+
+    /**
+     * Constructor.
+     *
+     * @param maxPendingChunks the maximum number of pending chunks
+     * @param timeout          the time after that an incomplete group is dropped
+     */
+    public TopicMessageReassembler(final int maxPendingChunks, @NonNull final Duration timeout) {
+        if (maxPendingChunks < 1) {
+            throw new IllegalArgumentException("maxPendingChunks must be positive");
+        }
+        this.maxPendingChunks = maxPendingChunks;
+        this.timeout = Objects.requireNonNull(timeout, "timeout must not be null");
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative");
+        }
+    }
+
+    /**
+     * Creates a reassembler with the default bounds.
+     *
+     * @return the reassembler
+     */
+    @NonNull
+    public static TopicMessageReassembler of() {
+        return new TopicMessageReassembler(DEFAULT_MAX_PENDING_CHUNKS, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Returns a page that contains the reassembled messages of the given page and of all following pages. Chunks of a
+     * message can be spread over several pages; the message is part of the page that contains its last chunk.
+     *
+     * @param page the first page of topic messages
+     * @return the page of reassembled messages
+     */
+    @NonNull
+    public static Page<TopicMessage> reassemble(@NonNull final Page<TopicMessage> page) {
+        Objects.requireNonNull(page, "page must not be null");
+        return new ReassembledTopicMessagePage(page, of());
+    }
+
+    /**
+     * Returns a consumer that reassembles the messages before they are passed to the given consumer.
+     *
+     * @param downstream the consumer of the reassembled messages
+     * @return the consumer of the chunks
+     */
+    @NonNull
+    public Consumer<TopicMessage> consumer(@NonNull final Consumer<TopicMessage> downstream) {
+        Objects.requireNonNull(downstream, "downstream must not be null");
+        return message -> accept(message).ifPresent(downstream);
+    }
+
+    /**
+     * Accepts a message.
+     *
+     * @param message the message or chunk
+     * @return the complete message if the given message has no chunk info or is the last missing chunk of a group
+     */
+    @NonNull
+    public synchronized Optional<TopicMessage> accept(@NonNull final TopicMessage message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final ChunkInfo chunkInfo = message.chunkInfo();
+        if (chunkInfo == null || (chunkInfo.total() == 1 && chunkInfo.number() == 1)) {
+            return Optional.of(message);
+        }
+        if (chunkInfo.total() < 1 || chunkInfo.total() > maxPendingChunks || chunkInfo.number() < 1
+                || chunkInfo.number() > chunkInfo.total()) {
+            rejectedChunks++;
+            return Optional.empty();
+        }
+        expire(message.consensusTimestamp());
+        final ChunkGroup group = groups.computeIfAbsent(chunkInfo.initialTransactionId(),
+                id -> new ChunkGroup(chunkInfo.total(), message.consensusTimestamp()));
+        if (group.chunks.length != chunkInfo.total()) {
+            rejectedChunks++;
+            return Optional.empty();
+        }
+        if (group.chunks[chunkInfo.number() - 1] != null) {
+            return Optional.empty();
+        }
+        group.chunks[chunkInfo.number() - 1] = message;
+        group.received++;
+        pendingChunks++;
+        if (group.received < group.chunks.length) {
+            evict();
+            return Optional.empty();
+        }
+        groups.remove(chunkInfo.initialTransactionId());
+        pendingChunks -= group.received;
+        return Optional.of(group.toMessage(message));
+    }
+
+    /**
+     * Returns the number of groups that have been dropped because of the timeout or the memory bound.
+     *
+     * @return the number of dropped groups
+     */
+    public synchronized long getDroppedGroups() {
+        return droppedGroups;
+    }
+
+    /**
+     * Returns the number of chunks that have been rejected because of an invalid number or total.
+     *
+     * @return the number of rejected chunks
+     */
+    public synchronized long getRejectedChunks() {
+        return rejectedChunks;
+    }
+
+    /**
+     * Returns the number of incomplete groups.
+     *
+     * @return the number of incomplete groups
+     */
+    public synchronized int getPendingGroups() {
+        return groups.size();
+    }
+
+    /**
+     * Returns the number of chunks of incomplete groups.
+     *
+     * @return the number of pending chunks
+     */
+    public synchronized int getPendingChunks() {
+        return pendingChunks;
+    }
+
+    private void expire(@NonNull final Instant now) {
+        final Instant limit = now.minus(timeout);
+        final Iterator<ChunkGroup> iterator = groups.values().iterator();
+        while (iterator.hasNext()) {
+            final ChunkGroup group = iterator.next();
+            if (!group.firstTimestamp.isBefore(limit)) {
+                return;
+            }
+            drop(iterator, group);
+        }
+    }
+
+    private void evict() {
+        final Iterator<ChunkGroup> iterator = groups.values().iterator();
+        while (pendingChunks > maxPendingChunks && iterator.hasNext()) {
+            drop(iterator, iterator.next());
+        }
+    }
+
+    private void drop(@NonNull final Iterator<ChunkGroup> iterator, @NonNull final ChunkGroup group) {
+        iterator.remove();
+        pendingChunks -= group.received;
+        droppedGroups++;
+    }
+
+    private static final class ChunkGroup {
+
+        private final TopicMessage[] chunks;
+
+        private final Instant firstTimestamp;
+
+        private int received;
+
+        private ChunkGroup(final int total, @NonNull final Instant firstTimestamp) {
+            this.chunks = new TopicMessage[total];
+            this.firstTimestamp = firstTimestamp;
+        }
+
+        @NonNull
+        private TopicMessage toMessage(@NonNull final TopicMessage last) {
+            final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            for (final TopicMessage chunk : chunks) {
+                payload.writeBytes(chunk.payload().toByteArray());
+            }
+            final TopicMessage first = chunks[0];
+            return new TopicMessage(first.chunkInfo(), last.consensusTimestamp(),
+                    TopicMessagePayload.of(payload.toByteArray()),
+                    first.payerAccountId(), last.runningHash(), last.runningHashVersion(), last.sequenceNumber(),
+                    last.topicId());
+        }
+    }
+}
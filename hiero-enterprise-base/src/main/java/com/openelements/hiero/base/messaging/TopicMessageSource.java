@@ -0,0 +1,86 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.time.Instant;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Source of the messages of a topic, like a gRPC subscription of a mirror node. A {@link TopicSubscriptionManager}
+ * opens a connection of the source for every subscription and reopens it after errors, therefore a source does not
+ * need to retry or to track its position.
+ */
+@FunctionalInterface
+public interface TopicMessageSource {
+
+    /**
+     * Opens a connection that passes the messages of the topic to the listener in consensus order.
+     *
+     * @param topicId   the topic
+     * @param startTime the consensus time of the first message or null to start with the current time
+     * @param listener  the listener
+     * @return the connection
+     * @throws HieroException if the connection can not be opened
+     */
+    @NonNull
+    Connection open(@NonNull TopicId topicId, @Nullable Instant startTime, @NonNull Listener listener)
+            throws HieroException;
+
+    /**
+     * Opens a connection that passes the messages of the topic that follow the given sequence number to the listener
+     * in consensus order. Sources that can query messages by sequence number, like the REST API of a mirror node,
+     * should override this method. By default the connection is opened by the start time.
+     *
+     * @param topicId             the topic
+     * @param startTime           the consensus time of the first message or null to start with the current time
+     * @param afterSequenceNumber the sequence number of the last received message or 0 if no message has been
+     *                            received
+     * @param listener            the listener
+     * @return the connection
+     * @throws HieroException if the connection can not be opened
+     */
+    @NonNull
+    default Connection open(@NonNull TopicId topicId, @Nullable Instant startTime, long afterSequenceNumber,
+            @NonNull Listener listener) throws HieroException {
+        return open(topicId, startTime, listener);
+    }
+
+    /**
+     * Listener of a connection.
+     */
+    interface Listener {
+
+        /**
+         * Called for every message.
+         *
+         * @param message the message
+         */
+        void onMessage(@NonNull TopicMessage message);
+
+        /**
+         * Called if the connection failed. No further methods are called afterwards.
+         *
+         * @param throwable the error
+         */
+        void onError(@NonNull Throwable throwable);
+
+        /**
+         * Called if the source has no further messages. No further methods are called afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * An open connection of a source.
+     */
+    interface Connection extends AutoCloseable {
+
+        /**
+         * Closes the connection. Messages that are already in transit can still be passed to the listener.
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,48 @@
+package com.openelements.hiero.base.messaging;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * SPI interface for codecs that encode the payload of topic messages, for example by compression. An encoded payload
+ * starts with a header byte that contains the id of the codec, therefore readers can decode payloads without knowing
+ * the codec that has been used by the writer. Codecs are found by {@link TopicPayloadCodecs#getDefault()} by using
+ * Java SPI; codecs that depend on data like a dictionary can be passed to {@link TopicPayloadCodecs#of}. Java SPI
+ * functionality is documented at {@link java.util.ServiceLoader}.
+ */
+public interface TopicPayloadCodec {
+
+    /**
+     * Returns the id of the codec that is stored in the header byte of encoded payloads. The id must be in the range
+     * from {@link TopicPayloadCodecs#MIN_CODEC_ID} to {@link TopicPayloadCodecs#MAX_CODEC_ID}.
+     *
+     * @return the id of the codec
+     */
+    byte getId();
+
+    /**
+     * Returns the name of the codec.
+     *
+     * @return the name of the codec
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Encodes a payload. The result does not contain the header byte.
+     *
+     * @param payload the payload
+     * @return the encoded payload
+     */
+    @NonNull
+    byte[] encode(@NonNull byte[] payload);
+
+    /**
+     * Decodes a payload that has been encoded by {@link #encode(byte[])}.
+     *
+     * @param encoded the encoded payload without the header byte
+     * @return the payload
+     * @throws IllegalArgumentException if the encoded payload is invalid
+     */
+    @NonNull
+    byte[] decode(@NonNull byte[] encoded);
+}
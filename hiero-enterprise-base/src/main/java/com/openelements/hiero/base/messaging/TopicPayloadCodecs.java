@@ -0,0 +1,212 @@
+package com.openelements.hiero.base.messaging;
+
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Encodes and decodes the payload of topic messages by {@link TopicPayloadCodec} instances. An encoded payload starts
+ * with a header byte that contains the id of the codec. The ids are in the range of {@code 0xF5} to {@code 0xFE}, these
+ * bytes never occur in UTF-8 text, therefore text payloads that have been submitted without a codec are decoded
+ * unchanged. A payload that is not encoded but starts with a byte of that range is prefixed by {@link #RAW_ID}. If the
+ * encoded payload is not smaller than the payload, the payload is submitted without encoding.
+ * <p>
+ * Messages that have been submitted in chunks can only be decoded after the chunks have been reassembled by a
+ * {@link TopicMessageReassembler}.
+ */
+public final class TopicPayloadCodecs {
+
+    /**
+     * The smallest id of a codec.
+     */
+    public static final byte MIN_CODEC_ID = (byte) 0xF5;
+
+    /**
+     * The largest id of a codec.
+     */
+    public static final byte MAX_CODEC_ID = (byte) 0xFE;
+
+    /**
+     * The header byte of payloads that are not encoded but would otherwise be mistaken for encoded payloads.
+     */
+    public static final byte RAW_ID = (byte) 0xFF;
+
+    private final static Logger logger = LoggerFactory.getLogger(TopicPayloadCodecs.class);
+
+    private final Map<Byte, TopicPayloadCodec> codecs;
+
+    private TopicPayloadCodecs(@NonNull final Collection<TopicPayloadCodec> codecs) {
+        final Map<Byte, TopicPayloadCodec> byId = new HashMap<>();
+        codecs.forEach(codec -> {
+            Objects.requireNonNull(codec, "codec must not be null");
+            checkId(codec);
+            if (byId.putIfAbsent(codec.getId(), codec) != null) {
+                throw new IllegalArgumentException("Codec with id " + toHex(codec.getId()) + " already defined");
+            }
+        });
+        this.codecs = Collections.unmodifiableMap(byId);
+    }
+
+    /**
+     * Returns the codecs that are provided by Java SPI, like the {@link DeflateTopicPayloadCodec}.
+     *
+     * @return the codecs
+     */
+    @NonNull
+    public static TopicPayloadCodecs getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Creates an instance that contains the given codecs.
+     *
+     * @param codecs the codecs
+     * @return the instance
+     */
+    @NonNull
+    public static TopicPayloadCodecs of(@NonNull final TopicPayloadCodec... codecs) {
+        Objects.requireNonNull(codecs, "codecs must not be null");
+        return new TopicPayloadCodecs(Arrays.asList(codecs));
+    }
+
+    /**
+     * Encodes the payload with the given codec and adds the header byte.
+     *
+     * @param codec   the codec or {@code null} if the payload should not be encoded
+     * @param payload the payload
+     * @return the payload that can be submitted
+     */
+    @NonNull
+    public static byte[] encode(@Nullable final TopicPayloadCodec codec, @NonNull final byte[] payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        if (codec != null) {
+            checkId(codec);
+            final byte[] encoded = codec.encode(payload);
+            if (encoded.length + 1 < payload.length) {
+                return withHeader(codec.getId(), encoded);
+            }
+        }
+        if (payload.length > 0 && isReserved(payload[0])) {
+            return withHeader(RAW_ID, payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Decodes a payload that has been encoded by {@link #encode(TopicPayloadCodec, byte[])}. Payloads without header
+     * byte are returned unchanged.
+     *
+     * @param payload the payload
+     * @return the decoded payload
+     * @throws IllegalArgumentException if the header byte contains the id of an unknown codec or the payload is invalid
+     */
+    @NonNull
+    public byte[] decode(@NonNull final byte[] payload) {
+        Objects.requireNonNull(payload, "payload must not be null");
+        if (payload.length == 0 || !isReserved(payload[0])) {
+            return payload;
+        }
+        final byte[] encoded = Arrays.copyOfRange(payload, 1, payload.length);
+        if (payload[0] == RAW_ID) {
+            return encoded;
+        }
+        final TopicPayloadCodec codec = get(payload[0])
+                .orElseThrow(() -> new IllegalArgumentException("No codec with id " + toHex(payload[0])));
+        return codec.decode(encoded);
+    }
+
+    /**
+     * Returns the message with the decoded payload. The message must not be a single chunk of a larger message. Since
+     * the running hash covers the submitted payload, a decoded message can not be verified by a
+     * {@link TopicRunningHashVerifier}.
+     *
+     * @param message the message
+     * @return the message with the decoded payload
+     * @throws IllegalArgumentException if the header byte contains the id of an unknown codec or the payload is invalid
+     */
+    @NonNull
+    public TopicMessage decode(@NonNull final TopicMessage message) {
+        Objects.requireNonNull(message, "message must not be null");
+        final byte[] payload = message.payload().toByteArray();
+        final byte[] decoded = decode(payload);
+        if (decoded == payload) {
+            return message;
+        }
+        return new TopicMessage(message.chunkInfo(), message.consensusTimestamp(), TopicMessagePayload.of(decoded),
+                message.payerAccountId(), message.runningHash(), message.runningHashVersion(),
+                message.sequenceNumber(), message.topicId());
+    }
+
+    /**
+     * Returns the codec with the given id.
+     *
+     * @param id the id
+     * @return the codec
+     */
+    @NonNull
+    public Optional<TopicPayloadCodec> get(final byte id) {
+        return Optional.ofNullable(codecs.get(id));
+    }
+
+    /**
+     * Returns all codecs.
+     *
+     * @return all codecs
+     */
+    @NonNull
+    public Collection<TopicPayloadCodec> all() {
+        return codecs.values();
+    }
+
+    private static boolean isReserved(final byte value) {
+        return (value & 0xFF) >= (MIN_CODEC_ID & 0xFF);
+    }
+
+    private static void checkId(@NonNull final TopicPayloadCodec codec) {
+        final int id = codec.getId() & 0xFF;
+        if (id < (MIN_CODEC_ID & 0xFF) || id > (MAX_CODEC_ID & 0xFF)) {
+            throw new IllegalArgumentException("Id " + toHex(codec.getId()) + " of codec " + codec.getName()
+                    + " is not in range " + toHex(MIN_CODEC_ID) + "-" + toHex(MAX_CODEC_ID));
+        }
+    }
+
+    @NonNull
+    private static byte[] withHeader(final byte header, @NonNull final byte[] payload) {
+        final byte[] result = new byte[payload.length + 1];
+        result[0] = header;
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    @NonNull
+    private static String toHex(final byte value) {
+        return String.format("0x%02X", value & 0xFF);
+    }
+
+    private static final class DefaultHolder {
+
+        private static final TopicPayloadCodecs INSTANCE = load();
+
+        @NonNull
+        private static TopicPayloadCodecs load() {
+            final List<TopicPayloadCodec> codecs = ServiceLoader.load(TopicPayloadCodec.class).stream()
+                    .map(ServiceLoader.Provider::get)
+                    .peek(codec -> logger.debug("Loaded topic payload codec {} with id {}", codec.getName(),
+                            toHex(codec.getId())))
+                    .toList();
+            return new TopicPayloadCodecs(codecs);
+        }
+    }
+}
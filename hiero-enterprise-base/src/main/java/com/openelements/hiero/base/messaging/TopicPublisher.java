@@ -0,0 +1,82 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Publisher for a high number of small topic messages. Messages are buffered per topic and packed into a
+ * {@link TopicMessageEnvelope}. An envelope is submitted as soon as it is full or when the first message of the
+ * envelope has waited for the linger time. Submissions happen in the background; the returned future completes when
+ * the envelope that contains the message has been submitted. Consumers must unpack the messages by
+ * {@link TopicMessageEnvelope#unpack(byte[])}.
+ * <p>
+ * The number of buffered and in-flight messages is bounded. If the bound is reached, {@code publish} blocks until
+ * earlier messages have been submitted. The order of the messages is kept within an envelope, but envelopes of the
+ * same topic can be submitted concurrently and reach consensus in a different order.
+ */
+public interface TopicPublisher extends AutoCloseable {
+
+    /**
+     * Publishes a message to a topic.
+     *
+     * @param topicId   the topic
+     * @param submitKey the submit key of the topic or null if the topic has no submit key
+     * @param message   the message (at most {@link TopicMessageEnvelope#MAX_MESSAGE_SIZE} bytes)
+     * @return the future of the submission of the envelope that contains the message
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    CompletableFuture<TopicSubmitMessageResult> publish(@NonNull TopicId topicId, @Nullable PrivateKey submitKey,
+            @NonNull byte[] message) throws HieroException;
+
+    /**
+     * Publishes a message to a topic without submit key.
+     *
+     * @param topicId the topic
+     * @param message the message (at most {@link TopicMessageEnvelope#MAX_MESSAGE_SIZE} bytes)
+     * @return the future of the submission of the envelope that contains the message
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    default CompletableFuture<TopicSubmitMessageResult> publish(@NonNull final TopicId topicId,
+            @NonNull final byte[] message) throws HieroException {
+        return publish(topicId, null, message);
+    }
+
+    /**
+     * Publishes a UTF-8 encoded message to a topic without submit key.
+     *
+     * @param topicId the topic
+     * @param message the message
+     * @return the future of the submission of the envelope that contains the message
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    default CompletableFuture<TopicSubmitMessageResult> publish(@NonNull final TopicId topicId,
+            @NonNull final String message) throws HieroException {
+        Objects.requireNonNull(message, "message must not be null");
+        return publish(topicId, null, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Submits all buffered messages without waiting for the linger time.
+     *
+     * @return a future that completes when all messages that have been published before have been submitted
+     */
+    @NonNull
+    CompletableFuture<Void> flush();
+
+    /**
+     * Submits all buffered messages and waits until all submissions have finished. Messages can not be published
+     * after the publisher has been closed.
+     */
+    @Override
+    void close();
+}
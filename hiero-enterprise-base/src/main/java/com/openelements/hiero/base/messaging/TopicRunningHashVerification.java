@@ -0,0 +1,43 @@
+package com.openelements.hiero.base.messaging;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Result of the verification of a list of topic messages by a {@link TopicRunningHashVerifier}.
+ *
+ * @param verifiedMessages            the number of messages that have been verified before the first invalid message
+ * @param firstInvalidSequenceNumber  the sequence number of the first invalid message or null if all messages are
+ *                                    valid
+ * @param duration                    the duration of the verification
+ */
+public record TopicRunningHashVerification(long verifiedMessages, @Nullable Long firstInvalidSequenceNumber,
+                                           @NonNull Duration duration) {
+
+    public TopicRunningHashVerification {
+        Objects.requireNonNull(duration, "duration must not be null");
+        if (verifiedMessages < 0) {
+            throw new IllegalArgumentException("verifiedMessages must not be negative");
+        }
+    }
+
+    /**
+     * Returns true if all messages are valid.
+     *
+     * @return true if all messages are valid
+     */
+    public boolean isValid() {
+        return firstInvalidSequenceNumber == null;
+    }
+
+    /**
+     * Returns the number of verified messages per second.
+     *
+     * @return the verification rate
+     */
+    public double rate() {
+        return duration.isZero() ? 0 : verifiedMessages * 1_000_000_000.0 / duration.toNanos();
+    }
+}
@@ -0,0 +1,383 @@
+package com.openelements.hiero.base.messaging;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Verifies the running hash chain of the messages of a topic. Every message of a topic contains the running hash of
+ * the topic after the message (version 3): the SHA-384 hash of the previous running hash, the running hash version,
+ * the payer account, the topic, the consensus timestamp, the sequence number and the SHA-384 hash of the message. A
+ * verified chain proves that no message of the topic is missing, added or modified.
+ * <p>
+ * A verifier is incremental: it keeps the running hash and the sequence number of the last verified message and
+ * verifies every following message against them. If the verifier is not created with a known message and the first
+ * message is not the first message of the topic, the running hash of the first message is trusted. Messages that have
+ * been submitted in chunks must be verified before they are reassembled.
+ * <p>
+ * Large lists of historical messages can be verified by {@link #verify(List, int)} in parallel: the list is split
+ * into segments, every segment is verified from the running hash of the message before the segment, and the
+ * verification of the previous segment proves that running hash.
+ */
+public final class TopicRunningHashVerifier {
+
+    /**
+     * The supported running hash version.
+     */
+    public static final int RUNNING_HASH_VERSION = 3;
+
+    /**
+     * The size of a running hash in bytes.
+     */
+    public static final int HASH_SIZE = 48;
+
+    private static final int PREIMAGE_SIZE = HASH_SIZE + 7 * Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+            + HASH_SIZE;
+
+    private static final int SEGMENTS_PER_THREAD = 4;
+
+    private final RunningHashFunction hashFunction = new RunningHashFunction();
+
+    private byte @Nullable [] runningHash;
+
+    private long sequenceNumber;
+
+    private long verifiedMessages;
+
+    private long verificationNanos;
+
+    /**
+     * Creates a verifier that starts with the first message it verifies.
+     */
+    public TopicRunningHashVerifier() {
+    }
+
+    /**
+     * Creates a verifier that starts after a known message.
+     *
+     * @param sequenceNumber the sequence number of the known message or 0 to start with the first message of the
+     *                       topic
+     * @param runningHash    the running hash of the known message
+     */
+    public TopicRunningHashVerifier(final long sequenceNumber, final byte @NonNull [] runningHash) {
+        Objects.requireNonNull(runningHash, "runningHash must not be null");
+        if (sequenceNumber < 0) {
+            throw new IllegalArgumentException("sequenceNumber must not be negative");
+        }
+        if (runningHash.length != HASH_SIZE) {
+            throw new IllegalArgumentException("runningHash must have " + HASH_SIZE + " bytes");
+        }
+        this.sequenceNumber = sequenceNumber;
+        this.runningHash = runningHash.clone();
+    }
+
+    /**
+     * Verifies the next message.
+     *
+     * @param message the message
+     * @throws HieroException if the message does not follow the last verified message or if its running hash is
+     *                        invalid
+     */
+    public synchronized void verify(@NonNull final TopicMessage message) throws HieroException {
+        Objects.requireNonNull(message, "message must not be null");
+        final long start = System.nanoTime();
+        checkVersion(message);
+        if (runningHash == null && message.sequenceNumber() != 1) {
+            runningHash = message.runningHash().clone();
+            sequenceNumber = message.sequenceNumber();
+            return;
+        }
+        final byte[] previous = runningHash == null ? new byte[HASH_SIZE] : runningHash;
+        if (message.sequenceNumber() != sequenceNumber + 1) {
+            throw new HieroException("Expected message " + (sequenceNumber + 1) + " of topic " + message.topicId()
+                    + " but got message " + message.sequenceNumber());
+        }
+        if (!MessageDigest.isEqual(hashFunction.apply(previous, message), message.runningHash())) {
+            throw new HieroException("Invalid running hash of message " + message.sequenceNumber() + " of topic "
+                    + message.topicId());
+        }
+        runningHash = message.runningHash().clone();
+        sequenceNumber = message.sequenceNumber();
+        verifiedMessages++;
+        verificationNanos += System.nanoTime() - start;
+    }
+
+    /**
+     * Verifies a list of consecutive messages that follow the last verified message in parallel. The verifier
+     * continues after the last valid message of the list.
+     *
+     * @param messages    the messages in ascending order of their sequence number
+     * @param parallelism the number of threads that compute hashes
+     * @return the result of the verification
+     */
+    @NonNull
+    public synchronized TopicRunningHashVerification verify(@NonNull final List<TopicMessage> messages,
+            final int parallelism) {
+        Objects.requireNonNull(messages, "messages must not be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        final long start = System.nanoTime();
+        if (messages.isEmpty()) {
+            return new TopicRunningHashVerification(0, null, Duration.ZERO);
+        }
+        int offset = 0;
+        if (runningHash == null && messages.get(0).sequenceNumber() != 1) {
+            try {
+                checkVersion(messages.get(0));
+            } catch (final HieroException e) {
+                return new TopicRunningHashVerification(0, messages.get(0).sequenceNumber(),
+                        Duration.ofNanos(System.nanoTime() - start));
+            }
+            runningHash = messages.get(0).runningHash().clone();
+            sequenceNumber = messages.get(0).sequenceNumber();
+            offset = 1;
+        }
+        final byte[] initial = runningHash == null ? new byte[HASH_SIZE] : runningHash;
+        final List<TopicMessage> toVerify = messages.subList(offset, messages.size());
+        final int invalidIndex = firstInvalidIndex(toVerify, initial, sequenceNumber, parallelism);
+        final int valid = invalidIndex < 0 ? toVerify.size() : invalidIndex;
+        if (valid > 0) {
+            final TopicMessage last = toVerify.get(valid - 1);
+            runningHash = last.runningHash().clone();
+            sequenceNumber = last.sequenceNumber();
+        }
+        final long duration = System.nanoTime() - start;
+        verifiedMessages += valid;
+        verificationNanos += duration;
+        return new TopicRunningHashVerification(valid,
+                invalidIndex < 0 ? null : toVerify.get(invalidIndex).sequenceNumber(), Duration.ofNanos(duration));
+    }
+
+    private static int firstInvalidIndex(@NonNull final List<TopicMessage> messages, final byte @NonNull [] initial,
+            final long previousSequenceNumber, final int parallelism) {
+        // the sequence numbers and versions are checked first, the hashes are only computed up to the first gap
+        int consecutive = 0;
+        while (consecutive < messages.size()
+                && messages.get(consecutive).sequenceNumber() == previousSequenceNumber + 1 + consecutive
+                && messages.get(consecutive).runningHashVersion() == RUNNING_HASH_VERSION) {
+            consecutive++;
+        }
+        final int invalidHash = firstInvalidHash(messages, initial, 0, consecutive, parallelism);
+        if (invalidHash >= 0) {
+            return invalidHash;
+        }
+        return consecutive < messages.size() ? consecutive : -1;
+    }
+
+    private static int firstInvalidHash(@NonNull final List<TopicMessage> messages, final byte @NonNull [] initial,
+            final int from, final int to, final int parallelism) {
+        final int count = to - from;
+        if (count == 0) {
+            return -1;
+        }
+        final int segments = Math.min(count, parallelism == 1 ? 1 : parallelism * SEGMENTS_PER_THREAD);
+        if (segments == 1) {
+            return verifySegment(messages, initial, from, to);
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, segments))) {
+            final List<Future<Integer>> results = new ArrayList<>(segments);
+            for (int i = 0; i < segments; i++) {
+                final int segmentFrom = from + (int) ((long) count * i / segments);
+                final int segmentTo = from + (int) ((long) count * (i + 1) / segments);
+                final byte[] previous = segmentFrom == 0 ? initial : messages.get(segmentFrom - 1).runningHash();
+                results.add(executor.submit(() -> verifySegment(messages, previous, segmentFrom, segmentTo)));
+            }
+            for (final Future<Integer> result : results) {
+                final int invalid = result.get();
+                if (invalid >= 0) {
+                    results.forEach(future -> future.cancel(true));
+                    return invalid;
+                }
+            }
+            return -1;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verification has been interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Verification failed", e.getCause());
+        }
+    }
+
+    private static int verifySegment(@NonNull final List<TopicMessage> messages, final byte @NonNull [] initial,
+            final int from, final int to) {
+        final RunningHashFunction hashFunction = new RunningHashFunction();
+        byte[] previous = initial;
+        for (int i = from; i < to; i++) {
+            final TopicMessage message = messages.get(i);
+            if (!MessageDigest.isEqual(hashFunction.apply(previous, message), message.runningHash())) {
+                return i;
+            }
+            previous = message.runningHash();
+        }
+        return -1;
+    }
+
+    private static void checkVersion(@NonNull final TopicMessage message) throws HieroException {
+        if (message.runningHashVersion() != RUNNING_HASH_VERSION) {
+            throw new HieroException("Unsupported running hash version " + message.runningHashVersion()
+                    + " of message " + message.sequenceNumber() + " of topic " + message.topicId());
+        }
+    }
+
+    /**
+     * Returns a publisher that verifies the messages of the source before they are passed to the subscriber. If a
+     * message can not be verified, the source is cancelled and the subscriber is notified by
+     * {@link Flow.Subscriber#onError(Throwable)} with a {@link HieroException}. All subscribers of the returned
+     * publisher share this verifier, therefore it should only be subscribed once.
+     *
+     * @param source the source of the messages, like a subscription of a {@link TopicSubscriptionManager}
+     * @return the publisher
+     */
+    public Flow.@NonNull Publisher<TopicMessage> verifying(final Flow.@NonNull Publisher<TopicMessage> source) {
+        Objects.requireNonNull(source, "source must not be null");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber must not be null");
+            source.subscribe(new VerifyingSubscriber(subscriber));
+        };
+    }
+
+    /**
+     * Returns the number of verified messages.
+     *
+     * @return the number of verified messages
+     */
+    public synchronized long getVerifiedMessages() {
+        return verifiedMessages;
+    }
+
+    /**
+     * Returns the number of messages that are verified per second of verification time.
+     *
+     * @return the verification rate
+     */
+    public synchronized double getVerificationRate() {
+        return verificationNanos == 0 ? 0 : verifiedMessages * 1_000_000_000.0 / verificationNanos;
+    }
+
+    /**
+     * Returns the sequence number of the last verified (or trusted) message.
+     *
+     * @return the sequence number or 0 if no message has been verified
+     */
+    public synchronized long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Computes the running hash (version 3) of a message.
+     *
+     * @param previousRunningHash the running hash of the previous message or 48 zero bytes for the first message
+     * @param message             the message
+     * @return the running hash
+     */
+    public static byte @NonNull [] runningHash(final byte @NonNull [] previousRunningHash,
+            @NonNull final TopicMessage message) {
+        Objects.requireNonNull(previousRunningHash, "previousRunningHash must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        return new RunningHashFunction().apply(previousRunningHash, message);
+    }
+
+    /**
+     * Computes running hashes with a reused digest and buffer. Instances must not be shared between threads.
+     */
+    private static final class RunningHashFunction {
+
+        private final MessageDigest digest;
+
+        private final ByteBuffer preimage = ByteBuffer.allocate(PREIMAGE_SIZE);
+
+        private RunningHashFunction() {
+            try {
+                digest = MessageDigest.getInstance("SHA-384");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-384 is not supported", e);
+            }
+        }
+
+        private byte @NonNull [] apply(final byte @NonNull [] previousRunningHash,
+                @NonNull final TopicMessage message) {
+            preimage.clear();
+            preimage.put(previousRunningHash);
+            preimage.putLong(RUNNING_HASH_VERSION);
+            preimage.putLong(message.payerAccountId().shard);
+            preimage.putLong(message.payerAccountId().realm);
+            preimage.putLong(message.payerAccountId().num);
+            preimage.putLong(message.topicId().shard);
+            preimage.putLong(message.topicId().realm);
+            preimage.putLong(message.topicId().num);
+            preimage.putLong(message.consensusTimestamp().getEpochSecond());
+            preimage.putInt(message.consensusTimestamp().getNano());
+            preimage.putLong(message.sequenceNumber());
+            digest.update(message.payload().asByteBuffer());
+            preimage.put(digest.digest());
+            return digest.digest(preimage.array());
+        }
+    }
+
+    private final class VerifyingSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final Flow.Subscriber<? super TopicMessage> downstream;
+
+        private Flow.@Nullable Subscription upstream;
+
+        private boolean done;
+
+        private VerifyingSubscriber(final Flow.@NonNull Subscriber<? super TopicMessage> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(final TopicMessage item) {
+            if (done) {
+                return;
+            }
+            try {
+                verify(item);
+            } catch (final HieroException e) {
+                done = true;
+                if (upstream != null) {
+                    upstream.cancel();
+                }
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Manages subscriptions of topics. Every subscriber of a returned publisher gets its own subscription that
+ * <ul>
+ *     <li>delivers the messages in consensus order and only as many messages as the subscriber has requested,</li>
+ *     <li>buffers a bounded number of messages and pauses the underlying connection if the buffer is full,</li>
+ *     <li>reconnects with an exponential backoff after errors and resumes after the last received message without
+ *     gaps or duplicates,</li>
+ *     <li>can be cancelled by {@link Flow.Subscription#cancel()}.</li>
+ * </ul>
+ * Messages are delivered on virtual threads and never on the thread of the underlying connection.
+ */
+public interface TopicSubscriptionManager extends AutoCloseable {
+
+    /**
+     * Returns a publisher of the messages of a topic, starting with the current time.
+     *
+     * @param topicId the topic
+     * @return the publisher
+     */
+    default Flow.@NonNull Publisher<TopicMessage> subscribe(@NonNull TopicId topicId) {
+        return subscribe(topicId, null);
+    }
+
+    /**
+     * Returns a publisher of the messages of a topic.
+     *
+     * @param topicId   the topic
+     * @param startTime the consensus time of the first message or null to start with the current time
+     * @return the publisher
+     */
+    Flow.@NonNull Publisher<TopicMessage> subscribe(@NonNull TopicId topicId, @Nullable Instant startTime);
+
+    /**
+     * Returns a publisher of the messages of a topic that continues after the checkpoint of the subscription with the
+     * given name. The checkpoint is stored after every message that has been passed to the subscriber, therefore a
+     * message is only delivered again if the application stops while the subscriber processes it.
+     *
+     * @param topicId         the topic
+     * @param startTime       the consensus time of the first message if no checkpoint is stored or null to start with
+     *                        the current time
+     * @param checkpointStore the store of the checkpoint
+     * @param name            the name of the subscription
+     * @return the publisher
+     */
+    Flow.@NonNull Publisher<TopicMessage> subscribe(@NonNull TopicId topicId, @Nullable Instant startTime,
+            @NonNull TopicCheckpointStore checkpointStore, @NonNull String name);
+
+    /**
+     * Returns the metrics of all active subscriptions.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    List<TopicSubscriptionMetrics> getMetrics();
+
+    /**
+     * Cancels all subscriptions.
+     */
+    @Override
+    void close();
+}
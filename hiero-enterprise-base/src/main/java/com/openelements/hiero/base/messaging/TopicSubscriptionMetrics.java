@@ -0,0 +1,29 @@
+package com.openelements.hiero.base.messaging;
+
+import com.hedera.hashgraph.sdk.TopicId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Metrics of a subscription of a {@link TopicSubscriptionManager}.
+ *
+ * @param topicId                the topic
+ * @param lastSequenceNumber     the sequence number of the last received message or 0 if no message has been received
+ * @param lastConsensusTimestamp the consensus timestamp of the last received message or null
+ * @param bufferedMessages       the number of received messages that have not been delivered to the subscriber
+ * @param deliveredMessages      the number of messages that have been delivered to the subscriber
+ * @param reconnects             the number of reconnects after errors
+ * @param lag                    the time between the consensus timestamp of the last delivered message and now
+ */
+public record TopicSubscriptionMetrics(@NonNull TopicId topicId, long lastSequenceNumber,
+                                       @Nullable Instant lastConsensusTimestamp, int bufferedMessages,
+                                       long deliveredMessages, long reconnects, @NonNull Duration lag) {
+
+    public TopicSubscriptionMetrics {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(lag, "lag must not be null");
+    }
+}
@@ -1,11 +1,15 @@
 package com.openelements.hiero.base.mirrornode;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.AccountInfo;
 import com.openelements.hiero.base.data.Balance;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogCursor;
+import com.openelements.hiero.base.data.ContractLogFilter;
 import com.openelements.hiero.base.data.ExchangeRates;
 import com.openelements.hiero.base.data.NetworkFee;
 import com.openelements.hiero.base.data.NetworkStake;
@@ -20,18 +24,26 @@ import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
 import com.openelements.hiero.base.data.Result;
 import com.openelements.hiero.base.data.BalanceModification;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A client for querying the Hiero Mirror Node REST API.
  */
 public interface MirrorNodeClient {
 
+    /**
+     * The maximum number of elements that the mirror node returns per page.
+     */
+    int MAX_PAGE_LIMIT = 100;
+
     /**
      * Queries the NFTs owned by an account.
      *
@@ -426,6 +438,34 @@ public interface MirrorNodeClient {
         return queryTopicMessages(TopicId.fromString(topicId));
     }
 
+    /**
+     * Queries the messages of a topic with a sequence number greater than the given one in ascending order. This can
+     * be used to follow a topic by polling from the last processed message.
+     *
+     * @param topicId             id of the topic
+     * @param afterSequenceNumber sequence number of the last known message, 0 to start with the first message
+     * @param limit               maximum number of messages per page, at most {@link #MAX_PAGE_LIMIT}
+     * @return the first page of the messages
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    Page<TopicMessage> queryTopicMessages(@NonNull TopicId topicId, long afterSequenceNumber, int limit)
+            throws HieroException;
+
+    /**
+     * Queries the messages of a topic with a consensus timestamp that is not before the given time in ascending
+     * order.
+     *
+     * @param topicId   id of the topic
+     * @param startTime consensus time of the first message
+     * @param limit     maximum number of messages per page, at most {@link #MAX_PAGE_LIMIT}
+     * @return the first page of the messages
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    Page<TopicMessage> queryTopicMessages(@NonNull TopicId topicId, @NonNull Instant startTime, int limit)
+            throws HieroException;
+
     /**
      * Return TopicMessage for given topicId.
      *
@@ -451,6 +491,116 @@ public interface MirrorNodeClient {
         return queryTopicMessageBySequenceNumber(TopicId.fromString(topicId), sequenceNumber);
     }
 
+    /**
+     * Queries the logs (events) of a contract. The logs are returned in ascending order of their consensus timestamp
+     * and their index in the transaction. To resume a query after the last processed log, use
+     * {@link ContractLogFilter#withAfter(ContractLogCursor)} with the {@link ContractLog#cursor()} of that log.
+     *
+     * @param contractId the contract
+     * @param filter     the filter for the logs
+     * @return the first page of the logs
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    Page<ContractLog> queryContractLogs(@NonNull ContractId contractId, @NonNull ContractLogFilter filter)
+            throws HieroException;
+
+    /**
+     * Queries all logs (events) of a contract.
+     *
+     * @param contractId the contract
+     * @return the first page of the logs
+     * @throws HieroException if the search fails
+     * @see #queryContractLogs(ContractId, ContractLogFilter)
+     */
+    @NonNull
+    default Page<ContractLog> queryContractLogs(@NonNull ContractId contractId) throws HieroException {
+        return queryContractLogs(contractId, ContractLogFilter.all());
+    }
+
+    /**
+     * Queries all logs (events) of a contract.
+     *
+     * @param contractId the contract
+     * @return the first page of the logs
+     * @throws HieroException if the search fails
+     * @see #queryContractLogs(ContractId, ContractLogFilter)
+     */
+    @NonNull
+    default Page<ContractLog> queryContractLogs(@NonNull String contractId) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        return queryContractLogs(ContractId.fromString(contractId));
+    }
+
+    /**
+     * Returns the logs (events) of a contract as a lazy stream over all pages of
+     * {@link #queryContractLogs(ContractId, ContractLogFilter)}. A page is only requested when the stream reaches it,
+     * but the request for the following page is sent in the background while the elements of the current page are
+     * processed. The stream should be closed if it is not consumed completely.
+     *
+     * @param contractId the contract
+     * @param filter     the filter for the logs
+     * @return the stream of logs
+     * @throws HieroException if the first page can not be queried
+     */
+    @NonNull
+    Stream<ContractLog> streamContractLogs(@NonNull ContractId contractId, @NonNull ContractLogFilter filter)
+            throws HieroException;
+
+    /**
+     * Estimates the gas that is needed to execute the given data by simulating it on the mirror node. If a contract
+     * is given, the data is the call data of a function call on that contract. Otherwise, the data is the initcode of a
+     * contract (including the encoded constructor parameters) and the estimate is done for the creation of the
+     * contract.
+     *
+     * @param contractId the contract to call or {@code null} for a contract creation
+     * @param data       the call data or the initcode
+     * @return the estimated gas
+     * @throws HieroException if the estimation fails (for example because the call reverts)
+     */
+    default long estimateContractGas(@Nullable ContractId contractId, @NonNull byte[] data) throws HieroException {
+        return estimateContractGas(contractId, data, null);
+    }
+
+    /**
+     * Estimates the gas that is needed to execute the given data by simulating it on the mirror node with the given
+     * sender. The sender is the {@code msg.sender} of the simulation, therefore it must be the account that executes
+     * the transaction later on if the called function is restricted to a sender. If the account has an EVM address,
+     * that address is used as sender, otherwise the long-zero address of the account is used.
+     *
+     * @param contractId the contract to call or {@code null} for a contract creation
+     * @param data       the call data or the initcode
+     * @param from       the sender of the call or {@code null} to simulate the call without a sender
+     * @return the estimated gas
+     * @throws HieroException if the estimation fails (for example because the call reverts)
+     */
+    long estimateContractGas(@Nullable ContractId contractId, @NonNull byte[] data, @Nullable AccountId from)
+            throws HieroException;
+
+    /**
+     * Simulates the call of a contract function on the mirror node and returns the ABI encoded result. The call does
+     * not change the state of the contract and is free of charge, therefore this should be used for {@code view} and
+     * {@code pure} functions.
+     *
+     * @param contractId the contract to call
+     * @param callData   the call data (function selector followed by the encoded parameters)
+     * @return the ABI encoded result of the call
+     * @throws HieroException if the call fails (for example because the call reverts)
+     */
+    @NonNull
+    byte[] simulateContractCall(@NonNull ContractId contractId, @NonNull byte[] callData) throws HieroException;
+
+    /**
+     * Returns the consensus timestamp of the end of the latest block that has been imported by the mirror node. Calls
+     * that are simulated afterwards (see {@link #simulateContractCall(ContractId, byte[])}) observe at least the state
+     * of the network at that timestamp.
+     *
+     * @return the consensus timestamp of the latest block or empty if the mirror node has not imported a block yet
+     * @throws HieroException if the latest block can not be queried
+     */
+    @NonNull
+    Optional<Instant> queryLatestBlockTimestamp() throws HieroException;
+
     @NonNull
     Optional<NftMetadata> getNftMetadata(@NonNull TokenId tokenId) throws HieroException;
 
@@ -5,10 +5,13 @@ import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Page;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.PrefetchingPageIterator;
+import com.openelements.hiero.base.messaging.TopicMessageReassembler;
 import org.jspecify.annotations.NonNull;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface for interacting with a Hiero network. This interface provides methods
@@ -61,6 +64,77 @@ public interface TopicRepository {
         return getMessages(TopicId.fromString(topicId));
     };
 
+    /**
+     * Return TopicMessages for given topicId. Messages that have been submitted in chunks are reassembled by a
+     * {@link TopicMessageReassembler}.
+     *
+     * @param topicId id of the topic
+     * @return Page of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    default Page<TopicMessage> getReassembledMessages(TopicId topicId) throws HieroException {
+        return TopicMessageReassembler.reassemble(getMessages(topicId));
+    }
+
+    /**
+     * Return TopicMessages for given topicId. Messages that have been submitted in chunks are reassembled by a
+     * {@link TopicMessageReassembler}.
+     *
+     * @param topicId id of the topic
+     * @return Page of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    default Page<TopicMessage> getReassembledMessages(String topicId) throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return getReassembledMessages(TopicId.fromString(topicId));
+    }
+
+    /**
+     * Return the TopicMessages for given topicId with a sequence number in the given range as a lazy stream in
+     * ascending order. The stream should be closed if it is not consumed completely. The default implementation
+     * iterates the pages of {@link #getMessages(TopicId)} from the first message on; implementations should override
+     * it if they can start at {@code fromSequenceNumber}.
+     *
+     * @param topicId            id of the topic
+     * @param fromSequenceNumber sequence number of the first message (inclusive)
+     * @param toSequenceNumber   sequence number of the last message (inclusive)
+     * @return Stream of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    default Stream<TopicMessage> streamMessages(TopicId topicId, long fromSequenceNumber, long toSequenceNumber)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        if (fromSequenceNumber < 1) {
+            throw new IllegalArgumentException("fromSequenceNumber must be greater than 0");
+        }
+        if (toSequenceNumber < fromSequenceNumber) {
+            throw new IllegalArgumentException("toSequenceNumber must not be less than fromSequenceNumber");
+        }
+        return PrefetchingPageIterator.stream(getMessages(topicId))
+                .dropWhile(message -> message.sequenceNumber() < fromSequenceNumber)
+                .takeWhile(message -> message.sequenceNumber() <= toSequenceNumber);
+    }
+
+    /**
+     * Return the TopicMessages for given topicId with a sequence number in the given range as a lazy stream in
+     * ascending order. The stream should be closed if it is not consumed completely.
+     *
+     * @param topicId            id of the topic
+     * @param fromSequenceNumber sequence number of the first message (inclusive)
+     * @param toSequenceNumber   sequence number of the last message (inclusive)
+     * @return Stream of TopicMessage
+     * @throws HieroException if the search fails
+     */
+    @NonNull
+    default Stream<TopicMessage> streamMessages(String topicId, long fromSequenceNumber, long toSequenceNumber)
+            throws HieroException {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        return streamMessages(TopicId.fromString(topicId), fromSequenceNumber, toSequenceNumber);
+    }
+
     /**
      * Return TopicMessage for given topicId.
      *
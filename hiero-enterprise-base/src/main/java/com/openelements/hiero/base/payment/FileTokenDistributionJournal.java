@@ -0,0 +1,84 @@
+package com.openelements.hiero.base.payment;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.payment.TokenDistributionJournalEntry.State;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TokenDistributionJournal} that appends every entry as line {@code <batch> <state> <fingerprint>
+ * [<transactionId>]} to a file.
+ */
+final class FileTokenDistributionJournal implements TokenDistributionJournal {
+
+    private final Path file;
+
+    FileTokenDistributionJournal(@NonNull final Path file) {
+        this.file = Objects.requireNonNull(file, "file must not be null");
+    }
+
+    @Override
+    public synchronized @NonNull List<TokenDistributionJournalEntry> load() {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        final String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read journal file " + file, e);
+        }
+        final String[] lines = content.split("\n", -1);
+        // the last element is empty for a complete file and a partially written line after a crash otherwise
+        final List<TokenDistributionJournalEntry> entries = new ArrayList<>(lines.length);
+        for (int i = 0; i < lines.length - 1; i++) {
+            entries.add(parse(lines[i]));
+        }
+        return List.copyOf(entries);
+    }
+
+    @NonNull
+    private TokenDistributionJournalEntry parse(@NonNull final String line) {
+        final String[] parts = line.split(" ");
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalStateException("Invalid line '" + line + "' in journal file " + file);
+        }
+        try {
+            return new TokenDistributionJournalEntry(Long.parseLong(parts[0]), parts[2], State.valueOf(parts[1]),
+                    parts.length == 4 ? TransactionId.fromString(parts[3]) : null);
+        } catch (final RuntimeException e) {
+            throw new IllegalStateException("Invalid line '" + line + "' in journal file " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void append(@NonNull final TokenDistributionJournalEntry entry) {
+        Objects.requireNonNull(entry, "entry must not be null");
+        final StringBuilder line = new StringBuilder()
+                .append(entry.batch()).append(' ')
+                .append(entry.state()).append(' ')
+                .append(entry.fingerprint());
+        if (entry.transactionId() != null) {
+            line.append(' ').append(entry.transactionId());
+        }
+        line.append('\n');
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, line, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not write journal file " + file, e);
+        }
+    }
+}
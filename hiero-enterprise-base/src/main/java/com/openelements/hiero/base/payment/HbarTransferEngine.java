@@ -0,0 +1,68 @@
+package com.openelements.hiero.base.payment;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferResult;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Engine for a high number of hbar payments, for example payouts to many accounts. Payments are buffered per sender
+ * and packed into one transfer transaction with up to {@link HbarTransferRequest#MAX_RECEIVERS} receivers. A
+ * transaction is submitted as soon as it is full or when its first payment has waited for the linger time.
+ * Transactions are submitted concurrently in the background; the returned future of a payment completes when the
+ * transaction that contains the payment has been executed.
+ * <p>
+ * A transfer transaction is atomic, therefore all payments of a failed transaction fail together. A payment that
+ * fails because the receipt could not be received can have been executed; it should be checked by the transaction id
+ * before it is sent again. The number of buffered and in-flight payments is bounded. If the bound is reached,
+ * {@code transfer} blocks until earlier payments have been executed.
+ */
+public interface HbarTransferEngine extends AutoCloseable {
+
+    /**
+     * Transfers hbar from the given account to the receiver.
+     *
+     * @param sender   the sending account or null to send from the operator account
+     * @param receiver the receiving account
+     * @param amount   the amount to transfer, which must be positive
+     * @return the future of the transaction that contains the payment
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    CompletableFuture<HbarTransferResult> transfer(@Nullable Account sender, @NonNull AccountId receiver,
+            @NonNull Hbar amount) throws HieroException;
+
+    /**
+     * Transfers hbar from the operator account to the receiver.
+     *
+     * @param receiver the receiving account
+     * @param amount   the amount to transfer, which must be positive
+     * @return the future of the transaction that contains the payment
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    default CompletableFuture<HbarTransferResult> transfer(@NonNull final AccountId receiver,
+            @NonNull final Hbar amount) throws HieroException {
+        return transfer(null, receiver, amount);
+    }
+
+    /**
+     * Submits all buffered payments.
+     *
+     * @return a future that completes when all submitted transactions have been executed
+     */
+    @NonNull
+    CompletableFuture<Void> flush();
+
+    /**
+     * Submits all buffered payments and waits until all transactions have been executed. No payments are accepted
+     * after the engine has been closed.
+     */
+    @Override
+    void close();
+}
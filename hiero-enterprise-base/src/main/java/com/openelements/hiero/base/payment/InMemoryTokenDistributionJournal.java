@@ -0,0 +1,24 @@
+package com.openelements.hiero.base.payment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * {@link TokenDistributionJournal} that holds the entries in memory.
+ */
+final class InMemoryTokenDistributionJournal implements TokenDistributionJournal {
+
+    private final List<TokenDistributionJournalEntry> entries = new ArrayList<>();
+
+    @Override
+    public synchronized @NonNull List<TokenDistributionJournalEntry> load() {
+        return List.copyOf(entries);
+    }
+
+    @Override
+    public synchronized void append(@NonNull final TokenDistributionJournalEntry entry) {
+        entries.add(Objects.requireNonNull(entry, "entry must not be null"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.openelements.hiero.base.payment;
+
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A running distribution of a {@link TokenDistributionEngine}.
+ */
+public interface TokenDistribution {
+
+    /**
+     * Returns the current progress of the distribution.
+     *
+     * @return the metrics
+     */
+    @NonNull
+    TokenDistributionMetrics getMetrics();
+
+    /**
+     * Returns a future that completes with the final metrics when all recipients have been handled or the distribution
+     * has been cancelled. The future fails if the recipients can not be read or the journal can not be written.
+     *
+     * @return the future of the distribution
+     */
+    @NonNull
+    CompletableFuture<TokenDistributionMetrics> getResult();
+
+    /**
+     * Stops the distribution after the transactions that are currently executed. The distribution can be resumed by
+     * starting it again with the same journal.
+     */
+    void cancel();
+}
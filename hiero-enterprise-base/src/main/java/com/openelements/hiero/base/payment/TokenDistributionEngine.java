@@ -0,0 +1,80 @@
+package com.openelements.hiero.base.payment;
+
+import com.hedera.hashgraph.sdk.TokenId;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Engine that distributes a fungible token to a large number of recipients, for example an airdrop to all holders of
+ * another token. The recipients are read from a stream and packed into transfer transactions with up to
+ * {@link CryptoTransferRequest#MAX_TOKEN_TRANSFERS} - 1 recipients, and several transactions are executed
+ * concurrently. All recipients must be associated with the token, a transaction with a recipient that is not
+ * associated fails for all its recipients.
+ * <p>
+ * The progress is recorded in a {@link TokenDistributionJournal}. A distribution that is started again with the same
+ * recipients in the same order and the same journal skips all batches that have been executed. A batch whose
+ * transaction failed is executed again. The journal contains the id of every transaction before it is submitted. A
+ * batch whose outcome is unknown, for example because the process crashed after the transaction had been submitted,
+ * is resolved by looking up its transaction at the mirror node. It is only executed again if the lookup confirms that
+ * the transaction has not been executed, therefore no recipient is paid twice. Until then the batch is counted as in
+ * doubt.
+ */
+public interface TokenDistributionEngine {
+
+    /**
+     * Starts a distribution in the background.
+     *
+     * @param tokenId            the fungible token to distribute
+     * @param sender             the account that holds the tokens or null to send from the operator account
+     * @param recipients         the recipients, the stream is closed when the distribution ends
+     * @param expectedRecipients the number of recipients to estimate the remaining time or 0 if the number is unknown
+     * @param journal            the journal of the distribution
+     * @return the running distribution
+     */
+    @NonNull
+    TokenDistribution distribute(@NonNull TokenId tokenId, @Nullable Account sender,
+            @NonNull Stream<TokenDistributionRecipient> recipients, long expectedRecipients,
+            @NonNull TokenDistributionJournal journal);
+
+    /**
+     * Starts a distribution in the background to the recipients of a file with one recipient per line in the format
+     * of {@link TokenDistributionRecipient#parse(String)}. Blank lines and lines that start with {@code #} are
+     * ignored. The file is read twice, once to count the recipients and once while they are paid.
+     *
+     * @param tokenId        the fungible token to distribute
+     * @param sender         the account that holds the tokens or null to send from the operator account
+     * @param recipientsFile the file of the recipients
+     * @param journal        the journal of the distribution
+     * @return the running distribution
+     */
+    @NonNull
+    default TokenDistribution distribute(@NonNull final TokenId tokenId, @Nullable final Account sender,
+            @NonNull final Path recipientsFile, @NonNull final TokenDistributionJournal journal) {
+        Objects.requireNonNull(recipientsFile, "recipientsFile must not be null");
+        try {
+            final long expectedRecipients;
+            try (Stream<String> lines = Files.lines(recipientsFile, StandardCharsets.UTF_8)) {
+                expectedRecipients = lines.filter(TokenDistributionEngine::isRecipientLine).count();
+            }
+            final Stream<TokenDistributionRecipient> recipients = Files.lines(recipientsFile, StandardCharsets.UTF_8)
+                    .filter(TokenDistributionEngine::isRecipientLine)
+                    .map(TokenDistributionRecipient::parse);
+            return distribute(tokenId, sender, recipients, expectedRecipients, journal);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Can not read recipients file " + recipientsFile, e);
+        }
+    }
+
+    private static boolean isRecipientLine(@NonNull final String line) {
+        return !line.isBlank() && !line.strip().startsWith("#");
+    }
+}
@@ -0,0 +1,49 @@
+package com.openelements.hiero.base.payment;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Journal that records the progress of one token distribution, so that a distribution can be resumed after a crash
+ * without paying a recipient twice. Entries are only appended; the last entry of a batch defines its state.
+ */
+public interface TokenDistributionJournal {
+
+    /**
+     * Returns all entries in the order in which they have been appended.
+     *
+     * @return the entries
+     */
+    @NonNull
+    List<TokenDistributionJournalEntry> load();
+
+    /**
+     * Appends an entry. The entry must be durable when the method returns.
+     *
+     * @param entry the entry
+     */
+    void append(@NonNull TokenDistributionJournalEntry entry);
+
+    /**
+     * Returns a new journal that holds the entries in memory.
+     *
+     * @return the journal
+     */
+    @NonNull
+    static TokenDistributionJournal inMemory() {
+        return new InMemoryTokenDistributionJournal();
+    }
+
+    /**
+     * Returns a journal that appends the entries to the given file. Every entry is synced to the device before
+     * {@code append} returns, and a partially written last line of a crashed process is ignored.
+     *
+     * @param file the file
+     * @return the journal
+     */
+    @NonNull
+    static TokenDistributionJournal ofFile(@NonNull Path file) {
+        return new FileTokenDistributionJournal(file);
+    }
+}
@@ -0,0 +1,58 @@
+package com.openelements.hiero.base.payment;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Entry of a {@link TokenDistributionJournal} that records the state of a batch of a distribution.
+ *
+ * @param batch         the index of the batch in the distribution
+ * @param fingerprint   the fingerprint of the token, sender and recipients of the batch
+ * @param state         the state of the batch
+ * @param transactionId the id of the transaction of the batch or null if it is not known
+ */
+public record TokenDistributionJournalEntry(long batch, @NonNull String fingerprint, @NonNull State state,
+                                            @Nullable TransactionId transactionId) {
+
+    public TokenDistributionJournalEntry {
+        if (batch < 0) {
+            throw new IllegalArgumentException("batch must not be negative");
+        }
+        Objects.requireNonNull(fingerprint, "fingerprint must not be null");
+        Objects.requireNonNull(state, "state must not be null");
+        if (fingerprint.isBlank() || fingerprint.contains(" ")) {
+            throw new IllegalArgumentException("fingerprint must not be blank or contain spaces");
+        }
+    }
+
+    @NonNull
+    public static TokenDistributionJournalEntry of(final long batch, @NonNull final String fingerprint,
+            @NonNull final State state) {
+        return new TokenDistributionJournalEntry(batch, fingerprint, state, null);
+    }
+
+    /**
+     * State of a batch.
+     */
+    public enum State {
+
+        /**
+         * The transaction of the batch is about to be submitted, its outcome is unknown until a later entry is
+         * written.
+         */
+        SUBMITTED,
+
+        /**
+         * The transaction of the batch has been executed successfully.
+         */
+        COMPLETED,
+
+        /**
+         * The transaction of the batch has not been executed or has been executed with a failure status, therefore
+         * the batch can be submitted again.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,41 @@
+package com.openelements.hiero.base.payment;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Progress of a {@link TokenDistribution}.
+ *
+ * @param expectedRecipients     the number of recipients of the distribution or 0 if the number is unknown
+ * @param paidRecipients         the number of recipients that have been paid by this run
+ * @param skippedRecipients      the number of recipients that have been paid by an earlier run
+ * @param failedRecipients       the number of recipients whose transaction has failed, they are retried by the next
+ *                               run
+ * @param inDoubtRecipients      the number of recipients whose transaction has an unknown outcome, they are resolved
+ *                               by the next run
+ * @param executedTransactions   the number of transactions that have been executed successfully by this run
+ * @param elapsedTime            the time since the start of the run
+ * @param recipientsPerSecond    the number of recipients that have been paid per second by this run
+ * @param estimatedTimeRemaining the estimated time until all recipients have been handled or null if it can not be
+ *                               estimated
+ */
+public record TokenDistributionMetrics(long expectedRecipients, long paidRecipients, long skippedRecipients,
+                                       long failedRecipients, long inDoubtRecipients, long executedTransactions,
+                                       @NonNull Duration elapsedTime, double recipientsPerSecond,
+                                       @Nullable Duration estimatedTimeRemaining) {
+
+    public TokenDistributionMetrics {
+        Objects.requireNonNull(elapsedTime, "elapsedTime must not be null");
+    }
+
+    /**
+     * Returns the number of recipients that have been handled, successfully or not.
+     *
+     * @return the number of handled recipients
+     */
+    public long handledRecipients() {
+        return paidRecipients + skippedRecipients + failedRecipients + inDoubtRecipients;
+    }
+}
@@ -0,0 +1,46 @@
+package com.openelements.hiero.base.payment;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Recipient of a token distribution.
+ *
+ * @param accountId the receiving account
+ * @param amount    the amount of the token in the smallest unit, which must be positive
+ */
+public record TokenDistributionRecipient(@NonNull AccountId accountId, long amount) {
+
+    public TokenDistributionRecipient {
+        Objects.requireNonNull(accountId, "accountId must not be null");
+        if (amount <= 0) {
+            throw new IllegalArgumentException("amount must be positive");
+        }
+    }
+
+    @NonNull
+    public static TokenDistributionRecipient of(@NonNull final AccountId accountId, final long amount) {
+        return new TokenDistributionRecipient(accountId, amount);
+    }
+
+    /**
+     * Parses a recipient of the form {@code <accountId>,<amount>}, for example {@code 0.0.1234,100}.
+     *
+     * @param line the line
+     * @return the recipient
+     */
+    @NonNull
+    public static TokenDistributionRecipient parse(@NonNull final String line) {
+        Objects.requireNonNull(line, "line must not be null");
+        final String[] parts = line.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid recipient '" + line + "', expected '<accountId>,<amount>'");
+        }
+        try {
+            return of(AccountId.fromString(parts[0].trim()), Long.parseLong(parts[1].trim()));
+        } catch (final RuntimeException e) {
+            throw new IllegalArgumentException("Invalid recipient '" + line + "'", e);
+        }
+    }
+}
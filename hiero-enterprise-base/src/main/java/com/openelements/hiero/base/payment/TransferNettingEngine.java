@@ -0,0 +1,64 @@
+package com.openelements.hiero.base.payment;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Engine that nets hbar and fungible token transfers before they are submitted, for example settlements between
+ * internal accounts. All transfers that are submitted within a window are collapsed into the net balance change of
+ * every account per token (hbar counts as one token). The net changes are executed by as few transfer transactions as
+ * the limits of a transaction allow; transfers that cancel each other out do not need a transaction at all.
+ * <p>
+ * Every transaction is signed by the keys of the accounts that it debits, therefore only transfers between accounts
+ * whose keys are known to the application can be netted, and a transfer without sender key is only accepted from the
+ * operator account. The fee and valid duration of the submitted requests are
+ * ignored, the transactions use the defaults of {@link com.openelements.hiero.base.protocol.data.TransactionRequest}.
+ * <p>
+ * The future of a transfer completes with the results of the transactions that contain net changes of its token for
+ * its sender or receivers. If one of these transactions fails, the future of the transfer fails, although the other
+ * transactions can have been executed; the balances of the accounts of the transfer must be reconciled in that case.
+ * Transfers that only depend on transactions that succeeded are completed normally.
+ */
+public interface TransferNettingEngine extends AutoCloseable {
+
+    /**
+     * Submits an hbar transfer for netting.
+     *
+     * @param request the transfer
+     * @return the future of the transactions that contain the net hbar changes of the accounts of the transfer
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     * @throws IllegalArgumentException if the request has no sender key and the sender is not the operator account
+     */
+    @NonNull
+    CompletableFuture<List<CryptoTransferResult>> submit(@NonNull HbarTransferRequest request) throws HieroException;
+
+    /**
+     * Submits a fungible token transfer for netting. Transfers of NFTs can not be netted.
+     *
+     * @param request the transfer, which must have a positive amount
+     * @return the future of the transactions that contain the net token changes of the accounts of the transfer
+     * @throws HieroException if the thread is interrupted while it waits for space in the buffer
+     */
+    @NonNull
+    CompletableFuture<List<CryptoTransferResult>> submit(@NonNull TokenTransferRequest request) throws HieroException;
+
+    /**
+     * Nets and submits all pending transfers without waiting for the end of the window.
+     *
+     * @return a future that completes when all submitted transactions have been executed
+     */
+    @NonNull
+    CompletableFuture<Void> flush();
+
+    /**
+     * Nets and submits all pending transfers and waits until all transactions have been executed. No transfers are
+     * accepted after the engine has been closed.
+     */
+    @Override
+    void close();
+}
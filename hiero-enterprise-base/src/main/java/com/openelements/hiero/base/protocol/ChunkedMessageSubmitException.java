@@ -0,0 +1,72 @@
+package com.openelements.hiero.base.protocol;
+
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageRequest;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Thrown if some chunks of a {@link TopicSubmitChunkedMessageRequest} could not be executed. The exception contains the
+ * initial transaction id of the message and the numbers of the chunks that have been executed, so that only the
+ * missing chunks have to be submitted again. A missing chunk can still have reached consensus if only waiting for its
+ * receipt failed.
+ */
+public class ChunkedMessageSubmitException extends HieroException {
+
+    private final TransactionId initialTransactionId;
+
+    private final List<Integer> submittedChunks;
+
+    private final List<Integer> missingChunks;
+
+    /**
+     * Constructor.
+     *
+     * @param message              the detail message
+     * @param cause                the failure of the first missing chunk
+     * @param initialTransactionId the initial transaction id that is shared by all chunks
+     * @param submittedChunks      the numbers (starting at 1) of the chunks that have been executed
+     * @param missingChunks        the numbers (starting at 1) of the chunks that could not be executed
+     */
+    public ChunkedMessageSubmitException(@NonNull final String message, @NonNull final Throwable cause,
+            @NonNull final TransactionId initialTransactionId, @NonNull final List<Integer> submittedChunks,
+            @NonNull final List<Integer> missingChunks) {
+        super(message, cause);
+        this.initialTransactionId = Objects.requireNonNull(initialTransactionId,
+                "initialTransactionId must not be null");
+        this.submittedChunks = List.copyOf(Objects.requireNonNull(submittedChunks, "submittedChunks must not be null"));
+        this.missingChunks = List.copyOf(Objects.requireNonNull(missingChunks, "missingChunks must not be null"));
+    }
+
+    /**
+     * Returns the initial transaction id that is shared by all chunks.
+     *
+     * @return the initial transaction id
+     */
+    @NonNull
+    public TransactionId getInitialTransactionId() {
+        return initialTransactionId;
+    }
+
+    /**
+     * Returns the numbers of the chunks that have been executed.
+     *
+     * @return the chunk numbers in ascending order
+     */
+    @NonNull
+    public List<Integer> getSubmittedChunks() {
+        return submittedChunks;
+    }
+
+    /**
+     * Returns the numbers of the chunks that could not be executed.
+     *
+     * @return the chunk numbers in ascending order
+     */
+    @NonNull
+    public List<Integer> getMissingChunks() {
+        return missingChunks;
+    }
+}
@@ -8,12 +8,19 @@ import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
 import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
 import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallDataQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallDataRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateInitcodeRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
 import com.openelements.hiero.base.protocol.data.ContractDeleteResult;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
 import com.openelements.hiero.base.protocol.data.FileAppendRequest;
 import com.openelements.hiero.base.protocol.data.FileAppendResult;
 import com.openelements.hiero.base.protocol.data.FileContentsRequest;
@@ -26,6 +33,8 @@ import com.openelements.hiero.base.protocol.data.FileInfoRequest;
 import com.openelements.hiero.base.protocol.data.FileInfoResponse;
 import com.openelements.hiero.base.protocol.data.FileUpdateRequest;
 import com.openelements.hiero.base.protocol.data.FileUpdateResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferResult;
 import com.openelements.hiero.base.protocol.data.TokenAssociateRequest;
 import com.openelements.hiero.base.protocol.data.TokenAssociateResult;
 import com.openelements.hiero.base.protocol.data.TokenDissociateRequest;
@@ -44,6 +53,8 @@ import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
 import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
 import com.openelements.hiero.base.protocol.data.TopicMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicMessageResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
@@ -136,6 +147,18 @@ public interface ProtocolLayerClient {
     ContractCreateResult executeContractCreateTransaction(@NonNull ContractCreateRequest request)
             throws HieroException;
 
+    /**
+     * Execute a contract create transaction that contains the initcode of the contract directly instead of referencing
+     * a file.
+     *
+     * @param request the request
+     * @return the result
+     * @throws HieroException if the transaction could not be executed
+     */
+    @NonNull
+    ContractCreateResult executeContractCreateInitcodeTransaction(@NonNull ContractCreateInitcodeRequest request)
+            throws HieroException;
+
     /**
      * Execute a contract call transaction.
      *
@@ -146,6 +169,40 @@ public interface ProtocolLayerClient {
     @NonNull
     ContractCallResult executeContractCallTransaction(@NonNull ContractCallRequest request) throws HieroException;
 
+    /**
+     * Execute a contract call query. The call does not change the state of the contract.
+     *
+     * @param request the request
+     * @return the response
+     * @throws HieroException if the query could not be executed
+     */
+    @NonNull
+    ContractCallQueryResponse executeContractCallQuery(@NonNull ContractCallQueryRequest request)
+            throws HieroException;
+
+    /**
+     * Execute a contract call transaction with call data that has already been encoded.
+     *
+     * @param request the request
+     * @return the result
+     * @throws HieroException if the transaction could not be executed
+     */
+    @NonNull
+    ContractCallResult executeContractCallDataTransaction(@NonNull ContractCallDataRequest request)
+            throws HieroException;
+
+    /**
+     * Execute a contract call query with call data that has already been encoded. The call does not change the state
+     * of the contract.
+     *
+     * @param request the request
+     * @return the response
+     * @throws HieroException if the query could not be executed
+     */
+    @NonNull
+    ContractCallQueryResponse executeContractCallDataQuery(@NonNull ContractCallDataQueryRequest request)
+            throws HieroException;
+
     /**
      * Executes a contract delete transaction.
      *
@@ -241,6 +298,28 @@ public interface ProtocolLayerClient {
     TokenTransferResult executeTransferTransaction(@NonNull final TokenTransferRequest request)
             throws HieroException;
 
+    /**
+     * Executes a transfer transaction that sends hbar from one account to up to
+     * {@link HbarTransferRequest#MAX_RECEIVERS} accounts.
+     *
+     * @param request the request containing the details of the hbar transfer transaction
+     * @return the result of the hbar transfer transaction
+     * @throws HieroException if the transaction could not be executed
+     */
+    @NonNull
+    HbarTransferResult executeHbarTransferTransaction(@NonNull HbarTransferRequest request) throws HieroException;
+
+    /**
+     * Executes a transfer transaction with arbitrary hbar and fungible token adjustments.
+     *
+     * @param request the request containing the details of the transfer transaction
+     * @return the result of the transfer transaction
+     * @throws HieroException if the transaction could not be executed
+     */
+    @NonNull
+    CryptoTransferResult executeCryptoTransferTransaction(@NonNull CryptoTransferRequest request)
+            throws HieroException;
+
     /**
      * Executes a topic create transaction.
      *
@@ -282,6 +361,20 @@ public interface ProtocolLayerClient {
     TopicSubmitMessageResult executeTopicMessageSubmitTransaction(@NonNull TopicSubmitMessageRequest request)
             throws HieroException;
 
+    /**
+     * Executes a topic message submit transaction for a message that is split into chunks. The chunks are submitted
+     * concurrently and share the transaction id of the first chunk as initial transaction id.
+     *
+     * @param request the request containing the details of the chunked topic message submit transaction
+     * @return the result of the chunked topic message submit transaction
+     * @throws ChunkedMessageSubmitException if some chunks could not be executed; the exception contains the initial
+     *                                       transaction id and the numbers of the executed and missing chunks
+     * @throws HieroException                if the transaction could not be executed
+     */
+    @NonNull
+    TopicSubmitChunkedMessageResult executeChunkedTopicMessageSubmitTransaction(
+            @NonNull TopicSubmitChunkedMessageRequest request) throws HieroException;
+
     /**
      * Executes a topic message query.
      *
@@ -0,0 +1,59 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to call a function of a contract as a query with call data that has already been encoded (4 byte function
+ * selector followed by the ABI encoded parameters). Like {@link ContractCallQueryRequest} the call is executed by a
+ * single node without changing the state of the contract.
+ *
+ * @param contractId      the contract to call
+ * @param callData        the encoded call data
+ * @param gas             the gas limit of the call or {@code null} to use the default of the protocol layer
+ * @param queryPayment    the payment for the query
+ * @param maxQueryPayment the maximum payment for the query
+ */
+public record ContractCallDataQueryRequest(@NonNull ContractId contractId,
+                                           @NonNull byte[] callData,
+                                           @Nullable Long gas,
+                                           @Nullable Hbar queryPayment,
+                                           @Nullable Hbar maxQueryPayment) implements QueryRequest {
+
+    public ContractCallDataQueryRequest {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(callData, "callData must not be null");
+        if (callData.length < 4) {
+            throw new IllegalArgumentException("callData must contain at least a function selector");
+        }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    @NonNull
+    public static ContractCallDataQueryRequest of(@NonNull ContractId contractId, @NonNull byte[] callData) {
+        Objects.requireNonNull(callData, "callData must not be null");
+        return new ContractCallDataQueryRequest(contractId, callData.clone(), null, null, null);
+    }
+
+    @NonNull
+    public static ContractCallDataQueryRequest of(@NonNull ContractId contractId, long gas,
+            @NonNull byte[] callData) {
+        Objects.requireNonNull(callData, "callData must not be null");
+        return new ContractCallDataQueryRequest(contractId, callData.clone(), gas, null, null);
+    }
+
+    @Override
+    public Hbar queryPayment() {
+        return queryPayment;
+    }
+
+    @Override
+    public Hbar maxQueryPayment() {
+        return maxQueryPayment;
+    }
+}
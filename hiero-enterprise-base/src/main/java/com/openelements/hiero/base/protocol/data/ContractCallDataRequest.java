@@ -0,0 +1,59 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.Hbar;
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to call a function of a contract with call data that has already been encoded (4 byte function selector
+ * followed by the ABI encoded parameters). In contrast to {@link ContractCallRequest} the protocol layer does not need
+ * to resolve or encode the function.
+ *
+ * @param maxTransactionFee        the maximum transaction fee
+ * @param transactionValidDuration the duration the transaction is valid
+ * @param contractId               the contract to call
+ * @param callData                 the encoded call data
+ * @param gas                      the gas limit of the call or {@code null} to use the default of the protocol layer
+ */
+public record ContractCallDataRequest(@NonNull Hbar maxTransactionFee,
+                                      @NonNull Duration transactionValidDuration,
+                                      @NonNull ContractId contractId,
+                                      @NonNull byte[] callData,
+                                      @Nullable Long gas) implements TransactionRequest {
+
+    public ContractCallDataRequest {
+        Objects.requireNonNull(maxTransactionFee, "maxTransactionFee is required");
+        Objects.requireNonNull(transactionValidDuration, "transactionValidDuration is required");
+        Objects.requireNonNull(contractId, "contractId is required");
+        Objects.requireNonNull(callData, "callData is required");
+        if (maxTransactionFee.toTinybars() < 0) {
+            throw new IllegalArgumentException("maxTransactionFee must be non-negative");
+        }
+        if (!transactionValidDuration.isPositive()) {
+            throw new IllegalArgumentException("transactionValidDuration must be positive");
+        }
+        if (callData.length < 4) {
+            throw new IllegalArgumentException("callData must contain at least a function selector");
+        }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    @NonNull
+    public static ContractCallDataRequest of(@NonNull ContractId contractId, @NonNull byte[] callData) {
+        Objects.requireNonNull(callData, "callData must not be null");
+        return new ContractCallDataRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
+                callData.clone(), null);
+    }
+
+    @NonNull
+    public static ContractCallDataRequest of(@NonNull ContractId contractId, long gas, @NonNull byte[] callData) {
+        Objects.requireNonNull(callData, "callData must not be null");
+        return new ContractCallDataRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
+                callData.clone(), gas);
+    }
+}
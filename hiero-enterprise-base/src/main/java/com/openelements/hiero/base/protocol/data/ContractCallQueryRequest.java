@@ -0,0 +1,64 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.data.ContractParam;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to call a function of a contract as a query. The call is executed by a single node without changing the
+ * state of the contract, therefore only {@code view} and {@code pure} functions should be called this way.
+ *
+ * @param contractId      the contract to call
+ * @param functionName    the name of the function
+ * @param params          the parameters of the call
+ * @param gas             the gas limit of the call or {@code null} to use the default of the protocol layer
+ * @param queryPayment    the payment for the query
+ * @param maxQueryPayment the maximum payment for the query
+ */
+public record ContractCallQueryRequest(@NonNull ContractId contractId,
+                                       @NonNull String functionName,
+                                       @NonNull List<ContractParam<?>> params,
+                                       @Nullable Long gas,
+                                       @Nullable Hbar queryPayment,
+                                       @Nullable Hbar maxQueryPayment) implements QueryRequest {
+
+    public ContractCallQueryRequest {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        Objects.requireNonNull(functionName, "functionName must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        if (functionName.isBlank() || functionName.contains(" ")) {
+            throw new IllegalArgumentException("functionName must not be blank or contain spaces");
+        }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    @NonNull
+    public static ContractCallQueryRequest of(@NonNull ContractId contractId, @NonNull String functionName,
+            @NonNull List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        return new ContractCallQueryRequest(contractId, functionName, List.copyOf(params), null, null, null);
+    }
+
+    @NonNull
+    public static ContractCallQueryRequest of(@NonNull ContractId contractId, @NonNull String functionName, long gas,
+            @NonNull List<ContractParam<?>> params) {
+        Objects.requireNonNull(params, "params must not be null");
+        return new ContractCallQueryRequest(contractId, functionName, List.copyOf(params), gas, null, null);
+    }
+
+    @Override
+    public Hbar queryPayment() {
+        return queryPayment;
+    }
+
+    @Override
+    public Hbar maxQueryPayment() {
+        return maxQueryPayment;
+    }
+}
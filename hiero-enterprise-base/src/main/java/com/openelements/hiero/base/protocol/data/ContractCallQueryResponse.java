@@ -0,0 +1,12 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.ContractFunctionResult;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record ContractCallQueryResponse(@NonNull ContractFunctionResult contractFunctionResult) {
+
+    public ContractCallQueryResponse {
+        Objects.requireNonNull(contractFunctionResult, "contractFunctionResult must not be null");
+    }
+}
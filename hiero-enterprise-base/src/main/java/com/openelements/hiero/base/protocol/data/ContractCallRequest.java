@@ -14,7 +14,8 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
                     @NonNull Duration transactionValidDuration,
                     @NonNull ContractId contractId,
                     @NonNull String functionName,
-                    @NonNull List<ContractParam<?>> constructorParams) implements TransactionRequest {
+                    @NonNull List<ContractParam<?>> constructorParams,
+                    @Nullable Long gas) implements TransactionRequest {
 
     public ContractCallRequest {
         Objects.requireNonNull(maxTransactionFee, "maxTransactionFee is required");
@@ -31,6 +32,19 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
         if (functionName.isBlank() || functionName.contains(" ")) {
             throw new IllegalArgumentException("functionName must not be blank or contain spaces");
         }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    /**
+     * Creates a request without an explicit gas limit. In that case the protocol layer decides which gas limit is
+     * used.
+     */
+    public ContractCallRequest(@NonNull Hbar maxTransactionFee, @NonNull Duration transactionValidDuration,
+            @NonNull ContractId contractId, @NonNull String functionName,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        this(maxTransactionFee, transactionValidDuration, contractId, functionName, constructorParams, null);
     }
 
     @NonNull
@@ -63,4 +77,11 @@ ContractCallRequest(@NonNull Hbar maxTransactionFee,
         return new ContractCallRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
                 functionName, List.copyOf(constructorParams));
     }
+
+    @NonNull
+    public static ContractCallRequest of(@NonNull ContractId contractId, @NonNull String functionName, long gas,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        return new ContractCallRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, contractId,
+                functionName, List.copyOf(constructorParams), gas);
+    }
 }
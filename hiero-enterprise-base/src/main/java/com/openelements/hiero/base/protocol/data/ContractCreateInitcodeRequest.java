@@ -0,0 +1,86 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.Hbar;
+import com.openelements.hiero.base.data.ContractParam;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to create a contract by passing the initcode directly in the contract create transaction instead of
+ * referencing a file that contains the bytecode. Since the initcode is part of the transaction, the request is only
+ * valid for small contracts that fit into the transaction size limit of the network.
+ */
+public record ContractCreateInitcodeRequest(@NonNull Hbar maxTransactionFee,
+                                            @NonNull Duration transactionValidDuration,
+                                            @NonNull byte[] initcode,
+                                            @NonNull List<ContractParam<?>> constructorParams,
+                                            @Nullable Long gas) implements TransactionRequest {
+
+    /**
+     * The maximum size of inline initcode in bytes. The network limits a signed transaction to 6 KiB, the remaining
+     * space is reserved for the transaction body, the constructor parameters and the signatures.
+     */
+    public static final int MAX_INITCODE_SIZE = 5 * 1024;
+
+    public ContractCreateInitcodeRequest {
+        Objects.requireNonNull(maxTransactionFee, "maxTransactionFee is required");
+        Objects.requireNonNull(transactionValidDuration, "transactionValidDuration is required");
+        Objects.requireNonNull(initcode, "initcode is required");
+        Objects.requireNonNull(constructorParams, "constructorParams is required");
+        if (maxTransactionFee.toTinybars() < 0) {
+            throw new IllegalArgumentException("maxTransactionFee must be non-negative");
+        }
+        if (transactionValidDuration.isNegative() || transactionValidDuration.isZero()) {
+            throw new IllegalArgumentException("transactionValidDuration must be positive");
+        }
+        if (initcode.length == 0) {
+            throw new IllegalArgumentException("initcode must not be empty");
+        }
+        if (initcode.length > MAX_INITCODE_SIZE) {
+            throw new IllegalArgumentException("initcode must not be larger than " + MAX_INITCODE_SIZE + " bytes");
+        }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    /**
+     * Creates a request without an explicit gas limit. In that case the protocol layer decides which gas limit is
+     * used.
+     */
+    public ContractCreateInitcodeRequest(@NonNull Hbar maxTransactionFee, @NonNull Duration transactionValidDuration,
+            @NonNull byte[] initcode, @NonNull List<ContractParam<?>> constructorParams) {
+        this(maxTransactionFee, transactionValidDuration, initcode, constructorParams, null);
+    }
+
+    @NonNull
+    public static ContractCreateInitcodeRequest of(@NonNull byte[] initcode,
+            @Nullable ContractParam<?>... constructorParams) {
+        if (constructorParams == null) {
+            return of(initcode, List.of());
+        } else {
+            return of(initcode, List.of(constructorParams));
+        }
+    }
+
+    @NonNull
+    public static ContractCreateInitcodeRequest of(@NonNull byte[] initcode,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        Objects.requireNonNull(initcode, "initcode must not be null");
+        Objects.requireNonNull(constructorParams, "constructorParams must not be null");
+        return new ContractCreateInitcodeRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION,
+                initcode.clone(), List.copyOf(constructorParams));
+    }
+
+    @NonNull
+    public static ContractCreateInitcodeRequest of(@NonNull byte[] initcode, long gas,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        Objects.requireNonNull(initcode, "initcode must not be null");
+        Objects.requireNonNull(constructorParams, "constructorParams must not be null");
+        return new ContractCreateInitcodeRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION,
+                initcode.clone(), List.copyOf(constructorParams), gas);
+    }
+}
@@ -12,7 +12,8 @@ import org.jspecify.annotations.Nullable;
 public record ContractCreateRequest(@NonNull Hbar maxTransactionFee,
                                     @NonNull Duration transactionValidDuration,
                                     @NonNull FileId fileId,
-                                    @NonNull List<ContractParam<?>> constructorParams) implements TransactionRequest {
+                                    @NonNull List<ContractParam<?>> constructorParams,
+                                    @Nullable Long gas) implements TransactionRequest {
 
     public ContractCreateRequest {
         Objects.requireNonNull(maxTransactionFee, "maxTransactionFee is required");
@@ -25,6 +26,18 @@ public record ContractCreateRequest(@NonNull Hbar maxTransactionFee,
         if (transactionValidDuration.isNegative() || transactionValidDuration.isZero()) {
             throw new IllegalArgumentException("transactionValidDuration must be positive");
         }
+        if (gas != null && gas <= 0) {
+            throw new IllegalArgumentException("gas must be positive");
+        }
+    }
+
+    /**
+     * Creates a request without an explicit gas limit. In that case the protocol layer decides which gas limit is
+     * used.
+     */
+    public ContractCreateRequest(@NonNull Hbar maxTransactionFee, @NonNull Duration transactionValidDuration,
+            @NonNull FileId fileId, @NonNull List<ContractParam<?>> constructorParams) {
+        this(maxTransactionFee, transactionValidDuration, fileId, constructorParams, null);
     }
 
     @NonNull
@@ -53,4 +66,11 @@ public record ContractCreateRequest(@NonNull Hbar maxTransactionFee,
         return new ContractCreateRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, fileId,
                 List.copyOf(constructorParams));
     }
+
+    @NonNull
+    public static ContractCreateRequest of(@NonNull FileId fileId, long gas,
+            @NonNull List<ContractParam<?>> constructorParams) {
+        return new ContractCreateRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION, fileId,
+                List.copyOf(constructorParams), gas);
+    }
 }
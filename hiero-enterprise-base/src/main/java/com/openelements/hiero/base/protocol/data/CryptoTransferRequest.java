@@ -0,0 +1,109 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to execute one transfer transaction with arbitrary hbar and fungible token adjustments. The adjustments of
+ * hbar and of every token must sum to zero.
+ *
+ * @param maxTransactionFee        the maximum transaction fee
+ * @param transactionValidDuration the valid duration of the transaction
+ * @param hbarTransfers            the hbar adjustment in tinybars of every account
+ * @param tokenTransfers           the adjustment of every account per token
+ * @param signingKeys              the keys of the debited accounts, the operator account does not need a key
+ * @param transactionId            the id of the transaction or null to let the SDK generate an id
+ */
+public record CryptoTransferRequest(@NonNull Hbar maxTransactionFee,
+                                    @NonNull Duration transactionValidDuration,
+                                    @NonNull Map<AccountId, Long> hbarTransfers,
+                                    @NonNull Map<TokenId, Map<AccountId, Long>> tokenTransfers,
+                                    @NonNull List<PrivateKey> signingKeys,
+                                    @Nullable TransactionId transactionId) implements TransactionRequest {
+
+    /**
+     * The maximum number of hbar adjustments of a transfer transaction.
+     */
+    public static final int MAX_HBAR_TRANSFERS = HbarTransferRequest.MAX_TRANSFERS;
+
+    /**
+     * The maximum number of token adjustments of a transfer transaction, summed over all tokens.
+     */
+    public static final int MAX_TOKEN_TRANSFERS = 10;
+
+    public CryptoTransferRequest {
+        Objects.requireNonNull(maxTransactionFee, "maxTransactionFee must not be null");
+        Objects.requireNonNull(transactionValidDuration, "transactionValidDuration must not be null");
+        Objects.requireNonNull(hbarTransfers, "hbarTransfers must not be null");
+        Objects.requireNonNull(tokenTransfers, "tokenTransfers must not be null");
+        Objects.requireNonNull(signingKeys, "signingKeys must not be null");
+        if (hbarTransfers.isEmpty() && tokenTransfers.isEmpty()) {
+            throw new IllegalArgumentException("hbarTransfers and tokenTransfers must not both be empty");
+        }
+        if (hbarTransfers.size() > MAX_HBAR_TRANSFERS) {
+            throw new IllegalArgumentException("hbarTransfers must not contain more than " + MAX_HBAR_TRANSFERS
+                    + " accounts");
+        }
+        checkBalanced("hbarTransfers", hbarTransfers);
+        final Map<TokenId, Map<AccountId, Long>> tokenTransfersCopy = new HashMap<>();
+        int tokenAdjustments = 0;
+        for (final Map.Entry<TokenId, Map<AccountId, Long>> entry : tokenTransfers.entrySet()) {
+            Objects.requireNonNull(entry.getKey(), "tokenId must not be null");
+            Objects.requireNonNull(entry.getValue(), "transfers must not be null");
+            if (entry.getValue().isEmpty()) {
+                throw new IllegalArgumentException("transfers of token " + entry.getKey() + " must not be empty");
+            }
+            checkBalanced("transfers of token " + entry.getKey(), entry.getValue());
+            tokenAdjustments += entry.getValue().size();
+            tokenTransfersCopy.put(entry.getKey(), Map.copyOf(entry.getValue()));
+        }
+        if (tokenAdjustments > MAX_TOKEN_TRANSFERS) {
+            throw new IllegalArgumentException("tokenTransfers must not contain more than " + MAX_TOKEN_TRANSFERS
+                    + " adjustments");
+        }
+        hbarTransfers = Map.copyOf(hbarTransfers);
+        tokenTransfers = Map.copyOf(tokenTransfersCopy);
+        signingKeys = List.copyOf(signingKeys);
+    }
+
+    private static void checkBalanced(@NonNull final String name, @NonNull final Map<AccountId, Long> transfers) {
+        long sum = 0;
+        for (final Map.Entry<AccountId, Long> transfer : transfers.entrySet()) {
+            Objects.requireNonNull(transfer.getKey(), "accountId must not be null");
+            Objects.requireNonNull(transfer.getValue(), "amount must not be null");
+            if (transfer.getValue() == 0) {
+                throw new IllegalArgumentException(name + " must not contain zero amounts");
+            }
+            sum = Math.addExact(sum, transfer.getValue());
+        }
+        if (sum != 0) {
+            throw new IllegalArgumentException(name + " must sum to zero");
+        }
+    }
+
+    @NonNull
+    public static CryptoTransferRequest of(@NonNull final Map<AccountId, Long> hbarTransfers,
+            @NonNull final Map<TokenId, Map<AccountId, Long>> tokenTransfers,
+            @NonNull final List<PrivateKey> signingKeys) {
+        return of(hbarTransfers, tokenTransfers, signingKeys, null);
+    }
+
+    @NonNull
+    public static CryptoTransferRequest of(@NonNull final Map<AccountId, Long> hbarTransfers,
+            @NonNull final Map<TokenId, Map<AccountId, Long>> tokenTransfers,
+            @NonNull final List<PrivateKey> signingKeys, @Nullable final TransactionId transactionId) {
+        return new CryptoTransferRequest(TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+                TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION, hbarTransfers, tokenTransfers, signingKeys,
+                transactionId);
+    }
+}
@@ -0,0 +1,74 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to transfer hbar from one sender to one or more receivers in a single transaction.
+ *
+ * @param maxTransactionFee        the maximum transaction fee
+ * @param transactionValidDuration the valid duration of the transaction
+ * @param sender                   the account that sends the hbar
+ * @param senderKey                the key of the sender or null if the sender is the operator account
+ * @param receivers                the amount of every receiver
+ */
+public record HbarTransferRequest(@NonNull Hbar maxTransactionFee,
+                                  @NonNull Duration transactionValidDuration,
+                                  @NonNull AccountId sender,
+                                  @Nullable PrivateKey senderKey,
+                                  @NonNull Map<AccountId, Hbar> receivers) implements TransactionRequest {
+
+    /**
+     * The maximum number of account adjustments of a transfer transaction, including the debit of the sender.
+     */
+    public static final int MAX_TRANSFERS = 10;
+
+    /**
+     * The maximum number of receivers of a request.
+     */
+    public static final int MAX_RECEIVERS = MAX_TRANSFERS - 1;
+
+    public HbarTransferRequest {
+        Objects.requireNonNull(maxTransactionFee, "maxTransactionFee must not be null");
+        Objects.requireNonNull(transactionValidDuration, "transactionValidDuration must not be null");
+        Objects.requireNonNull(sender, "sender must not be null");
+        Objects.requireNonNull(receivers, "receivers must not be null");
+        if (receivers.isEmpty()) {
+            throw new IllegalArgumentException("receivers must not be empty");
+        }
+        if (receivers.size() > MAX_RECEIVERS) {
+            throw new IllegalArgumentException("receivers must not contain more than " + MAX_RECEIVERS + " accounts");
+        }
+        if (receivers.containsKey(sender)) {
+            throw new IllegalArgumentException("sender must not be a receiver");
+        }
+        receivers.values().forEach(amount -> {
+            Objects.requireNonNull(amount, "amount must not be null");
+            if (amount.toTinybars() <= 0) {
+                throw new IllegalArgumentException("amount must be positive");
+            }
+        });
+        receivers = Map.copyOf(receivers);
+    }
+
+    @NonNull
+    public static HbarTransferRequest of(@NonNull final AccountId sender, @Nullable final PrivateKey senderKey,
+            @NonNull final Map<AccountId, Hbar> receivers) {
+        return new HbarTransferRequest(TransactionRequest.DEFAULT_MAX_TRANSACTION_FEE,
+                TransactionRequest.DEFAULT_TRANSACTION_VALID_DURATION, sender, senderKey, receivers);
+    }
+
+    @NonNull
+    public static HbarTransferRequest of(@NonNull final AccountId sender, @Nullable final PrivateKey senderKey,
+            @NonNull final AccountId receiver, @NonNull final Hbar amount) {
+        Objects.requireNonNull(receiver, "receiver must not be null");
+        Objects.requireNonNull(amount, "amount must not be null");
+        return of(sender, senderKey, Map.of(receiver, amount));
+    }
+}
@@ -12,7 +12,9 @@ import org.jspecify.annotations.Nullable;
 public record TopicMessageRequest(@NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription,
                                   @Nullable Instant startTime, @Nullable Instant endTime,
                                   long limit,
-                                  Hbar queryPayment, Hbar maxQueryPayment) implements
+                                  Hbar queryPayment, Hbar maxQueryPayment,
+                                  @Nullable Consumer<Throwable> errorHandler,
+                                  @Nullable Runnable completionHandler) implements
         QueryRequest {
 
     private final static long NO_LIMIT = -1;
@@ -24,6 +26,26 @@ public record TopicMessageRequest(@NonNull TopicId topicId, @NonNull Consumer<To
 
     @NonNull
     public static TopicMessageRequest of(@NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription) {
-        return new TopicMessageRequest(topicId, subscription, null, null, NO_LIMIT, null, null);
+        return new TopicMessageRequest(topicId, subscription, null, null, NO_LIMIT, null, null, null, null);
+    }
+
+    /**
+     * Creates a request for a subscription that reports the end of the subscription.
+     *
+     * @param topicId           the topic
+     * @param subscription      the consumer of the messages
+     * @param startTime         the consensus time of the first message or null to start with the current time
+     * @param errorHandler      the handler that is called if the subscription fails after all retries
+     * @param completionHandler the handler that is called if the subscription has been completed
+     * @return the request
+     */
+    @NonNull
+    public static TopicMessageRequest of(@NonNull TopicId topicId, @NonNull Consumer<TopicMessage> subscription,
+            @Nullable Instant startTime, @NonNull Consumer<Throwable> errorHandler,
+            @NonNull Runnable completionHandler) {
+        Objects.requireNonNull(errorHandler, "errorHandler must not be null");
+        Objects.requireNonNull(completionHandler, "completionHandler must not be null");
+        return new TopicMessageRequest(topicId, subscription, startTime, null, NO_LIMIT, null, null, errorHandler,
+                completionHandler);
     }
 }
@@ -1,4 +1,24 @@
 package com.openelements.hiero.base.protocol.data;
 
-public record TopicMessageResult() {
+import com.hedera.hashgraph.sdk.SubscriptionHandle;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Result of a {@link TopicMessageRequest}.
+ *
+ * @param subscriptionHandle the handle to cancel the subscription
+ */
+public record TopicMessageResult(@NonNull SubscriptionHandle subscriptionHandle) {
+
+    public TopicMessageResult {
+        Objects.requireNonNull(subscriptionHandle, "subscriptionHandle must not be null");
+    }
+
+    /**
+     * Cancels the subscription.
+     */
+    public void unsubscribe() {
+        subscriptionHandle.unsubscribe();
+    }
 }
@@ -0,0 +1,72 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.TopicId;
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Request to submit a message that is larger than a single topic message. The message is split into chunks of
+ * {@code chunkSize} bytes that share the transaction id of the first chunk as initial transaction id.
+ */
+public record TopicSubmitChunkedMessageRequest(Hbar maxTransactionFee,
+                                               Duration transactionValidDuration,
+                                               @NonNull TopicId topicId,
+                                               @Nullable PrivateKey submitKey,
+                                               @NonNull byte[] message,
+                                               int chunkSize) implements TransactionRequest {
+
+    /**
+     * The default (and maximum) size of a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = TopicSubmitMessageRequest.MAX_MESSAGE_LENGTH;
+
+    /**
+     * The maximum number of chunks of a message.
+     */
+    public static final int MAX_CHUNKS = 50;
+
+    public TopicSubmitChunkedMessageRequest {
+        Objects.requireNonNull(topicId, "topicId must not be null");
+        Objects.requireNonNull(message, "message must not be null");
+        if (message.length == 0) {
+            throw new IllegalArgumentException("message must not be empty");
+        }
+        if (chunkSize < 1 || chunkSize > DEFAULT_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + DEFAULT_CHUNK_SIZE);
+        }
+        if (chunkCount(message.length, chunkSize) > MAX_CHUNKS) {
+            throw new IllegalArgumentException("Message of " + message.length + " bytes needs more than "
+                    + MAX_CHUNKS + " chunks of " + chunkSize + " bytes");
+        }
+    }
+
+    /**
+     * Returns the number of chunks of the message.
+     *
+     * @return the number of chunks
+     */
+    public int chunkCount() {
+        return chunkCount(message.length, chunkSize);
+    }
+
+    private static int chunkCount(final int messageLength, final int chunkSize) {
+        return (messageLength + chunkSize - 1) / chunkSize;
+    }
+
+    @NonNull
+    public static TopicSubmitChunkedMessageRequest of(@NonNull final TopicId topicId,
+            @NonNull final byte[] message) {
+        return of(topicId, null, message);
+    }
+
+    @NonNull
+    public static TopicSubmitChunkedMessageRequest of(@NonNull final TopicId topicId,
+            @Nullable final PrivateKey submitKey, @NonNull final byte[] message) {
+        return new TopicSubmitChunkedMessageRequest(DEFAULT_MAX_TRANSACTION_FEE, DEFAULT_TRANSACTION_VALID_DURATION,
+                topicId, submitKey, message, DEFAULT_CHUNK_SIZE);
+    }
+}
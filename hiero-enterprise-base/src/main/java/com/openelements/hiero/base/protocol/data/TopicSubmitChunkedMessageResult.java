@@ -0,0 +1,28 @@
+package com.openelements.hiero.base.protocol.data;
+
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Result of a {@link TopicSubmitChunkedMessageRequest}. The transaction id is the initial transaction id that is shared
+ * by all chunks. The status is {@link Status#SUCCESS} if all chunks have been accepted, otherwise the status of the
+ * first chunk that failed.
+ *
+ * @param transactionId  the initial transaction id (the transaction id of the first chunk)
+ * @param status         the status of the message
+ * @param transactionIds the transaction ids of the chunks in chunk order
+ */
+public record TopicSubmitChunkedMessageResult(@NonNull TransactionId transactionId, @NonNull Status status,
+                                              @NonNull List<TransactionId> transactionIds) implements
+        TransactionResult {
+
+    public TopicSubmitChunkedMessageResult {
+        Objects.requireNonNull(transactionId, "transactionId must not be null");
+        Objects.requireNonNull(status, "status must not be null");
+        Objects.requireNonNull(transactionIds, "transactionIds must not be null");
+        transactionIds = List.copyOf(transactionIds);
+    }
+}
@@ -0,0 +1,159 @@
+package com.openelements.hiero.base.relay;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumLogFilter;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Client for the JSON-RPC relay of a Hiero network (see {@link com.openelements.hiero.base.config.HieroConfig#relayUrl()}).
+ * Calls that are issued within a short time window (by one thread using the asynchronous methods or by several
+ * threads) are sent as one batched JSON-RPC request. The relay must support batch requests.
+ * <p>
+ * EVM addresses and hashes are hex encoded with a {@code 0x} prefix. Blocks are defined by a tag ({@code latest},
+ * {@code earliest}, {@code pending}, {@code safe}, {@code finalized}) or a hex encoded block number.
+ */
+public interface EthereumRelayClient {
+
+    /**
+     * The tag of the latest block.
+     */
+    String LATEST_BLOCK = "latest";
+
+    /**
+     * Executes a read-only call of a contract ({@code eth_call}).
+     *
+     * @param to    the EVM address of the contract
+     * @param data  the call data
+     * @param block the block
+     * @return the future of the ABI encoded result
+     */
+    @NonNull
+    CompletableFuture<byte[]> callAsync(@NonNull String to, @NonNull byte[] data, @NonNull String block);
+
+    /**
+     * Returns the balance of an account in weibar ({@code eth_getBalance}). One tinybar is 10^10 weibar.
+     *
+     * @param address the EVM address of the account
+     * @param block   the block
+     * @return the future of the balance
+     */
+    @NonNull
+    CompletableFuture<BigInteger> getBalanceAsync(@NonNull String address, @NonNull String block);
+
+    /**
+     * Returns the logs that match a filter ({@code eth_getLogs}).
+     *
+     * @param filter the filter
+     * @return the future of the logs
+     */
+    @NonNull
+    CompletableFuture<List<EthereumLog>> getLogsAsync(@NonNull EthereumLogFilter filter);
+
+    /**
+     * Returns the receipt of a transaction ({@code eth_getTransactionReceipt}).
+     *
+     * @param transactionHash the hash of the transaction
+     * @return the future of the receipt that is empty if the transaction is unknown
+     */
+    @NonNull
+    CompletableFuture<Optional<EthereumTransactionReceipt>> getTransactionReceiptAsync(
+            @NonNull String transactionHash);
+
+    /**
+     * Executes a read-only call of a contract on the latest block ({@code eth_call}).
+     *
+     * @param to   the EVM address of the contract
+     * @param data the call data
+     * @return the ABI encoded result
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default byte[] call(@NonNull final String to, @NonNull final byte[] data) throws HieroException {
+        return await(callAsync(to, data, LATEST_BLOCK));
+    }
+
+    /**
+     * Executes a read-only call of a contract on the latest block ({@code eth_call}).
+     *
+     * @param contractId the contract
+     * @param data       the call data
+     * @return the ABI encoded result
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default byte[] call(@NonNull final ContractId contractId, @NonNull final byte[] data) throws HieroException {
+        Objects.requireNonNull(contractId, "contractId must not be null");
+        return call("0x" + contractId.toSolidityAddress(), data);
+    }
+
+    /**
+     * Returns the balance of an account on the latest block in weibar ({@code eth_getBalance}).
+     *
+     * @param address the EVM address of the account
+     * @return the balance
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default BigInteger getBalance(@NonNull final String address) throws HieroException {
+        return await(getBalanceAsync(address, LATEST_BLOCK));
+    }
+
+    /**
+     * Returns the balance of an account on the latest block in weibar ({@code eth_getBalance}).
+     *
+     * @param accountId the account
+     * @return the balance
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default BigInteger getBalance(@NonNull final AccountId accountId) throws HieroException {
+        Objects.requireNonNull(accountId, "accountId must not be null");
+        return getBalance("0x" + accountId.toSolidityAddress());
+    }
+
+    /**
+     * Returns the logs that match a filter ({@code eth_getLogs}).
+     *
+     * @param filter the filter
+     * @return the logs
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default List<EthereumLog> getLogs(@NonNull final EthereumLogFilter filter) throws HieroException {
+        return await(getLogsAsync(filter));
+    }
+
+    /**
+     * Returns the receipt of a transaction ({@code eth_getTransactionReceipt}).
+     *
+     * @param transactionHash the hash of the transaction
+     * @return the receipt or empty if the transaction is unknown
+     * @throws HieroException if the call fails
+     */
+    @NonNull
+    default Optional<EthereumTransactionReceipt> getTransactionReceipt(@NonNull final String transactionHash)
+            throws HieroException {
+        return await(getTransactionReceiptAsync(transactionHash));
+    }
+
+    private static <T> T await(@NonNull final CompletableFuture<T> future) throws HieroException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof HieroException hieroException) {
+                throw hieroException;
+            }
+            throw new HieroException("Relay call failed", e.getCause());
+        }
+    }
+}
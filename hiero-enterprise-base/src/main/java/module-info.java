@@ -5,6 +5,10 @@ module com.openelements.hiero.base {
     exports com.openelements.hiero.base.verification;
     exports com.openelements.hiero.base.data;
     exports com.openelements.hiero.base.config;
+    exports com.openelements.hiero.base.contract;
+    exports com.openelements.hiero.base.messaging;
+    exports com.openelements.hiero.base.payment;
+    exports com.openelements.hiero.base.relay;
     exports com.openelements.hiero.base.implementation to com.openelements.hiero.base.test;
     exports com.openelements.hiero.base.implementation.data to com.openelements.hiero.base.test;
     exports com.openelements.hiero.base.config.implementation;
@@ -13,9 +17,13 @@ module com.openelements.hiero.base {
 
     uses com.openelements.hiero.base.config.NetworkSettingsProvider;
     provides com.openelements.hiero.base.config.NetworkSettingsProvider with com.openelements.hiero.base.config.hedera.HederaNetworkSettingsProvider;
+    uses com.openelements.hiero.base.messaging.TopicPayloadCodec;
+    provides com.openelements.hiero.base.messaging.TopicPayloadCodec with com.openelements.hiero.base.messaging.DeflateTopicPayloadCodec;
 
     requires transitive sdk; //Hedera SDK
+    requires org.bouncycastle.provider;
     requires org.slf4j;
+    requires java.sql;
     requires com.google.protobuf; //TODO: We should not have the need to use it
     requires static org.jspecify;
     requires com.google.auto.service;
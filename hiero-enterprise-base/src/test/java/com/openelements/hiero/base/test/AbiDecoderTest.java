@@ -0,0 +1,127 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.ContractReturnTypes;
+import com.openelements.hiero.base.implementation.EncodedContractCallResult;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import java.math.BigInteger;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbiDecoderTest {
+
+    private static final String RETURN_TYPES = "uint256 balance, address owner, string name, int72 delta, "
+            + "uint256[] ids, string[] tags, bool active";
+
+    @ContractReturnTypes(RETURN_TYPES)
+    public record AccountState(String owner, long balance, String name, BigInteger delta, List<Long> ids,
+                               List<String> tags, boolean active) {
+    }
+
+    @ContractReturnTypes(RETURN_TYPES)
+    public interface AccountStateView {
+
+        String name();
+
+        int balance();
+
+        List<String> tags();
+
+        default String description() {
+            return name() + " (" + balance() + ")";
+        }
+    }
+
+    public record Unnamed(long balance, String owner) {
+    }
+
+    public record NotAnnotated(long balance) {
+    }
+
+    private static ContractCallResult createResult() {
+        return new EncodedContractCallResult(AbiEncoder.encodeParameters(List.of(
+                ContractParam.uint256(42),
+                ContractParam.address(AccountId.fromString("0.0.1000")),
+                ContractParam.string("hello"),
+                ContractParam.int72(BigInteger.TWO.pow(70).negate()),
+                ContractParam.array(ContractParam.uint256(1), ContractParam.uint256(2)),
+                ContractParam.array(ContractParam.string("a"), ContractParam.string("bc")),
+                ContractParam.bool(true))));
+    }
+
+    @Test
+    void testDecodeRecord() {
+        //given
+        final ContractCallResult result = createResult();
+
+        //when
+        final AccountState state = result.decode(AccountState.class);
+
+        //then
+        Assertions.assertEquals(42L, state.balance());
+        Assertions.assertEquals("00000000000000000000000000000000000003e8", state.owner());
+        Assertions.assertEquals("hello", state.name());
+        Assertions.assertEquals(BigInteger.TWO.pow(70).negate(), state.delta());
+        Assertions.assertEquals(List.of(1L, 2L), state.ids());
+        Assertions.assertEquals(List.of("a", "bc"), state.tags());
+        Assertions.assertTrue(state.active());
+    }
+
+    @Test
+    void testDecodeInterface() {
+        //given
+        final ContractCallResult result = createResult();
+
+        //when
+        final AccountStateView view = result.decode(AccountStateView.class);
+
+        //then
+        Assertions.assertEquals("hello", view.name());
+        Assertions.assertEquals(42, view.balance());
+        Assertions.assertEquals(List.of("a", "bc"), view.tags());
+        Assertions.assertEquals("hello (42)", view.description());
+        Assertions.assertSame(view.tags(), view.tags());
+    }
+
+    @Test
+    void testDecodeByPosition() {
+        //given
+        final ContractCallResult result = createResult();
+
+        //when
+        final Unnamed unnamed = result.decode(Unnamed.class, "uint256, address");
+
+        //then
+        Assertions.assertEquals(42L, unnamed.balance());
+        Assertions.assertEquals("00000000000000000000000000000000000003e8", unnamed.owner());
+    }
+
+    @Test
+    void testDecodeValueThatDoesNotFit() {
+        //given
+        final ContractCallResult result = createResult();
+
+        //then
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> result.decode(NotAnnotated.class, "uint256 a, address b, string c, int72 balance"));
+    }
+
+    @Test
+    void testInvalidTypes() {
+        //given
+        final ContractCallResult result = createResult();
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> result.decode(NotAnnotated.class));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> result.decode(NotAnnotated.class, "string balance"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> result.decode(NotAnnotated.class, "uint256 amount"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> result.decode(Unnamed.class, "uint256 balance"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> result.decode(String.class, "string"));
+    }
+}
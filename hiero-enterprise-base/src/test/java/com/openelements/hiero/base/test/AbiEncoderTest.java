@@ -0,0 +1,334 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import com.openelements.hiero.base.implementation.data.ParamSupplier;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbiEncoderTest {
+
+    private static String hex(byte[] data) {
+        return HexFormat.of().formatHex(data);
+    }
+
+    private static byte[] encodeBySdk(String functionName, List<ContractParam<?>> params) {
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        params.forEach(param -> addParam(param, functionParameters));
+        return new ContractExecuteTransaction()
+                .setFunction(functionName, functionParameters)
+                .getFunctionParameters()
+                .toByteArray();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addParam(ContractParam param, ContractFunctionParameters functionParameters) {
+        param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+    }
+
+    @Test
+    void testKeccak256() {
+        //given
+        final String emptyHash = "c5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470";
+        final String transferEventHash = "ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+
+        //when
+        final byte[] empty = AbiEncoder.keccak256("");
+        final byte[] transferEvent = AbiEncoder.keccak256("Transfer(address,address,uint256)");
+
+        //then
+        Assertions.assertEquals(emptyHash, hex(empty));
+        Assertions.assertEquals(transferEventHash, hex(transferEvent));
+    }
+
+    @Test
+    void testFunctionSelector() {
+        //given
+        final List<ContractParam<?>> params = List.of(ContractParam.address(AccountId.fromString("0.0.1000")),
+                ContractParam.uint256(1000));
+
+        //when
+        final String signature = AbiEncoder.functionSignature("transfer", params);
+        final byte[] selector = AbiEncoder.functionSelector(signature);
+
+        //then
+        Assertions.assertEquals("transfer(address,uint256)", signature);
+        Assertions.assertEquals("a9059cbb", hex(selector));
+    }
+
+    @Test
+    void testEncodeFunctionCall() {
+        //given
+        final List<ContractParam<?>> params = List.of(ContractParam.address(AccountId.fromString("0.0.1000")),
+                ContractParam.uint256(1000));
+
+        //when
+        final byte[] callData = AbiEncoder.encodeFunctionCall("transfer", params);
+
+        //then
+        Assertions.assertEquals("a9059cbb"
+                + "00000000000000000000000000000000000000000000000000000000000003e8"
+                + "00000000000000000000000000000000000000000000000000000000000003e8", hex(callData));
+    }
+
+    @Test
+    void testEncodeDynamicParameters() {
+        //given
+        final List<ContractParam<?>> params = List.of(ContractParam.string("hello"), ContractParam.int64(-1),
+                ContractParam.bool(true));
+
+        //when
+        final byte[] encoded = AbiEncoder.encodeParameters(params);
+
+        //then
+        Assertions.assertEquals(AbiEncoder.encodedSize(params), encoded.length);
+        Assertions.assertEquals("0000000000000000000000000000000000000000000000000000000000000060"
+                + "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000005"
+                + "68656c6c6f000000000000000000000000000000000000000000000000000000", hex(encoded));
+    }
+
+    @Test
+    void testEncodingMatchesSdk() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.string("Hello Hiero ä€😀"),
+                ContractParam.bytes(new byte[]{1, 2, 3}),
+                ContractParam.bytes32(new byte[]{4, 5, 6}),
+                ContractParam.bool(false),
+                ContractParam.int8((byte) -5),
+                ContractParam.uint32(4_000_000_000L),
+                ContractParam.int64(Long.MIN_VALUE),
+                ContractParam.int256(BigInteger.TWO.pow(200).negate()),
+                ContractParam.uint256(BigInteger.TWO.pow(256).subtract(BigInteger.ONE)),
+                ContractParam.address(AccountId.fromString("0.0.12345")),
+                ContractParam.string(""));
+
+        //when
+        final byte[] encoded = AbiEncoder.encodeFunctionCall("test", params);
+
+        //then
+        Assertions.assertEquals(hex(encodeBySdk("test", params)), hex(encoded));
+    }
+
+    @Test
+    void testArrayEncodingMatchesSdk() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.array(ContractParam.string("a"), ContractParam.string("Hiero")),
+                ContractParam.array(ContractParam.address(AccountId.fromString("0.0.12345"))),
+                ContractParam.array(ContractParam.bool(true), ContractParam.bool(false)),
+                ContractParam.array(ContractParam.bytes(new byte[]{1, 2}), ContractParam.bytes(new byte[]{3})),
+                ContractParam.array(ContractParam.bytes32(new byte[]{4, 5, 6})),
+                ContractParam.array(ContractParam.int8((byte) -5), ContractParam.int8((byte) 7)),
+                ContractParam.array(ContractParam.uint32(4_000_000_000L)),
+                ContractParam.array(ContractParam.int64(Long.MIN_VALUE)),
+                ContractParam.array(ContractParam.uint72(BigInteger.TWO.pow(71))),
+                ContractParam.array(ContractParam.int256(BigInteger.TWO.pow(200).negate())));
+
+        //when
+        final byte[] encoded = AbiEncoder.encodeFunctionCall("test", params);
+
+        //then
+        Assertions.assertEquals(hex(encodeBySdk("test", params)), hex(encoded));
+    }
+
+    @Test
+    void testUnsupportedCompositesAreRejectedBySdkPath() {
+        //given
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        final ContractParam<?> fixedArray = ContractParam.fixedArray(ContractParam.uint256(1));
+        final ContractParam<?> tuple = ContractParam.tuple(ContractParam.uint256(1));
+        final ContractParam<?> nested = ContractParam.array(ContractParam.array(ContractParam.uint256(1)));
+
+        //then
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> addParam(fixedArray, functionParameters));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> addParam(tuple, functionParameters));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> addParam(nested, functionParameters));
+    }
+
+    @Test
+    void testEncodeIntoBuffer() {
+        //given
+        final List<ContractParam<?>> params = List.of(ContractParam.string("hello"), ContractParam.uint256(1));
+        final ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.put((byte) 42);
+
+        //when
+        AbiEncoder.encodeFunctionCall("test", params, buffer);
+
+        //then
+        Assertions.assertEquals(1 + AbiEncoder.encodedFunctionCallSize(params), buffer.position());
+        final byte[] written = new byte[buffer.position() - 1];
+        buffer.flip().position(1);
+        buffer.get(written);
+        Assertions.assertEquals(hex(AbiEncoder.encodeFunctionCall("test", params)), hex(written));
+    }
+
+    @Test
+    void testEncodeIntoTooSmallBuffer() {
+        //given
+        final List<ContractParam<?>> params = List.of(ContractParam.string("hello"));
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiEncoder.encodeFunctionCall("test", params, buffer));
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testCustomSupplierIsNotSupported() {
+        //given
+        final ContractParam<String> customParam = customParam();
+
+        //then
+        Assertions.assertTrue(AbiEncoder.isSupported(List.of(ContractParam.string("value"))));
+        Assertions.assertFalse(AbiEncoder.isSupported(List.of(ContractParam.string("value"), customParam)));
+    }
+
+    @Test
+    void testCompositeWithCustomSupplierIsRejected() {
+        //given
+        final ContractParam<String> customParam = customParam();
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractParam.array(ContractParam.string("value"), customParam));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractParam.fixedArray(customParam));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractParam.tuple(ContractParam.uint256(1), customParam));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractParam.tuple(ContractParam.tuple(customParam)));
+    }
+
+    private static ContractParam<String> customParam() {
+        final ParamSupplier<String> customSupplier = new ParamSupplier<>() {
+            @Override
+            public void addParamToFunctionParameters(String value, ContractFunctionParameters params) {
+                params.addString(value);
+            }
+
+            @Override
+            public boolean isValidParam(String value) {
+                return true;
+            }
+
+            @Override
+            public String getNativeType() {
+                return "string";
+            }
+        };
+        return new ContractParam<>("value", "string", customSupplier);
+    }
+
+    @Test
+    void testNullParams() {
+        Assertions.assertThrows(NullPointerException.class, () -> AbiEncoder.encodeParameters(null));
+        Assertions.assertThrows(NullPointerException.class, () -> AbiEncoder.encodeFunctionCall(null, List.of()));
+        Assertions.assertThrows(NullPointerException.class, () -> AbiEncoder.functionSelector(null));
+    }
+
+    @Test
+    void testEncodeNestedArrays() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.array(ContractParam.array(ContractParam.uint256(1), ContractParam.uint256(2)),
+                        ContractParam.array(ContractParam.uint256(3))),
+                ContractParam.array(ContractParam.string("one"), ContractParam.string("two"),
+                        ContractParam.string("three")));
+
+        //when
+        final byte[] callData = AbiEncoder.encodeFunctionCall("g", params);
+
+        //then
+        Assertions.assertEquals("g(uint256[][],string[])", AbiEncoder.functionSignature("g", params));
+        Assertions.assertEquals("2289b18c"
+                + "0000000000000000000000000000000000000000000000000000000000000040"
+                + "0000000000000000000000000000000000000000000000000000000000000140"
+                + "0000000000000000000000000000000000000000000000000000000000000002"
+                + "0000000000000000000000000000000000000000000000000000000000000040"
+                + "00000000000000000000000000000000000000000000000000000000000000a0"
+                + "0000000000000000000000000000000000000000000000000000000000000002"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000002"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "0000000000000000000000000000000000000000000000000000000000000060"
+                + "00000000000000000000000000000000000000000000000000000000000000a0"
+                + "00000000000000000000000000000000000000000000000000000000000000e0"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "6f6e650000000000000000000000000000000000000000000000000000000000"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "74776f0000000000000000000000000000000000000000000000000000000000"
+                + "0000000000000000000000000000000000000000000000000000000000000005"
+                + "7468726565000000000000000000000000000000000000000000000000000000", hex(callData));
+        Assertions.assertEquals(callData.length, AbiEncoder.encodedFunctionCallSize(params));
+    }
+
+    @Test
+    void testEncodeFixedArraysAndTuples() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.fixedArray(ContractParam.uint256(1), ContractParam.uint256(2)),
+                ContractParam.tuple(ContractParam.uint256(3), ContractParam.string("a")),
+                ContractParam.bool(true));
+
+        //when
+        final byte[] encoded = AbiEncoder.encodeParameters(params);
+
+        //then
+        Assertions.assertEquals("transfer(uint256[2],(uint256,string),bool)",
+                AbiEncoder.functionSignature("transfer", params));
+        Assertions.assertEquals("0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000002"
+                + "0000000000000000000000000000000000000000000000000000000000000080"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "0000000000000000000000000000000000000000000000000000000000000003"
+                + "0000000000000000000000000000000000000000000000000000000000000040"
+                + "0000000000000000000000000000000000000000000000000000000000000001"
+                + "6100000000000000000000000000000000000000000000000000000000000000", hex(encoded));
+    }
+
+    @Test
+    void testEncodeBatch() {
+        //given
+        final List<ContractParam<?>> receivers = IntStream.range(0, 200)
+                .mapToObj(i -> ContractParam.address(AccountId.fromString("0.0." + (1000 + i))))
+                .collect(Collectors.toList());
+        final List<ContractParam<?>> amounts = IntStream.range(0, 200)
+                .mapToObj(i -> ContractParam.uint256(i))
+                .collect(Collectors.toList());
+        final List<ContractParam<?>> params = List.of(ContractParam.array("address", receivers),
+                ContractParam.array("uint256", amounts));
+
+        //when
+        final byte[] callData = AbiEncoder.encodeFunctionCall("transferBatch", params);
+
+        //then
+        Assertions.assertEquals("transferBatch(address[],uint256[])",
+                AbiEncoder.functionSignature("transferBatch", params));
+        Assertions.assertEquals(4 + 2 * 32 + 2 * (32 + 200 * 32), callData.length);
+    }
+
+    @Test
+    void testInvalidArrays() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractParam.array(ContractParam.uint256(1), ContractParam.string("a")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractParam.array());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractParam.fixedArray("uint256", List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ContractParam.tuple());
+        Assertions.assertEquals("uint256[]", ContractParam.array("uint256", List.of()).nativeType());
+    }
+}
@@ -0,0 +1,104 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.openelements.hiero.base.contract.AbiWriter;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbiWriterTest {
+
+    private static String hex(byte[] data) {
+        return HexFormat.of().formatHex(data);
+    }
+
+    @Test
+    void testWriteMatchesEncoder() {
+        //given
+        final List<ContractParam<?>> params = List.of(
+                ContractParam.address(AccountId.fromString("0.0.1000")),
+                ContractParam.string("Hello Hiero ä€"),
+                ContractParam.int64(-42),
+                ContractParam.bytes(new byte[]{1, 2, 3}),
+                ContractParam.bool(true),
+                ContractParam.uint256(BigInteger.TWO.pow(255)),
+                ContractParam.bytes32(new byte[]{4, 5, 6}));
+        final byte[] selector = AbiEncoder.functionSelector(AbiEncoder.functionSignature("register", params));
+
+        //when
+        final byte[] callData = AbiWriter.forCall(selector, 7,
+                        AbiWriter.sizeOf("Hello Hiero ä€") + AbiWriter.sizeOf(new byte[]{1, 2, 3}))
+                .writeAddress(AccountId.fromString("0.0.1000"))
+                .writeString("Hello Hiero ä€")
+                .writeInt(-42, 64)
+                .writeBytes(new byte[]{1, 2, 3})
+                .writeBool(true)
+                .writeUint(BigInteger.TWO.pow(255), 256)
+                .writeFixedBytes(new byte[]{4, 5, 6}, 32)
+                .toByteArray();
+
+        //then
+        Assertions.assertEquals(hex(AbiEncoder.encodeFunctionCall("register", params)), hex(callData));
+    }
+
+    @Test
+    void testWriteAddressFormats() {
+        //given
+        final byte[] selector = AbiEncoder.functionSelector("balanceOf(address)");
+
+        //when
+        final byte[] byAccountId = AbiWriter.forCall(selector, 1, 0).writeAddress("0.0.1000").toByteArray();
+        final byte[] byHex = AbiWriter.forCall(selector, 1, 0)
+                .writeAddress("0x00000000000000000000000000000000000003e8")
+                .toByteArray();
+
+        //then
+        Assertions.assertEquals("70a08231" + "00".repeat(30) + "03e8", hex(byAccountId));
+        Assertions.assertArrayEquals(byAccountId, byHex);
+    }
+
+    @Test
+    void testIntegerRanges() {
+        //given
+        final byte[] selector = AbiEncoder.functionSelector("set(uint8)");
+
+        //then
+        Assertions.assertDoesNotThrow(() -> AbiWriter.forCall(selector, 1, 0).writeUint(255, 8));
+        Assertions.assertDoesNotThrow(() -> AbiWriter.forCall(selector, 1, 0).writeInt(-128, 8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeUint(256, 8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeUint(-1, 256));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeInt(-129, 8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeUint(BigInteger.TWO.pow(256), 256));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeInt(BigInteger.TWO.pow(255), 256));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AbiWriter.forCall(selector, 1, 0).writeUint(1, 7));
+    }
+
+    @Test
+    void testIncompleteCallData() {
+        //given
+        final AbiWriter writer = AbiWriter.forCall(AbiEncoder.functionSelector("set(uint256,uint256)"), 2, 0)
+                .writeUint(1, 256);
+
+        //then
+        Assertions.assertThrows(IllegalStateException.class, writer::toByteArray);
+    }
+
+    @Test
+    void testInvalidWriter() {
+        Assertions.assertThrows(NullPointerException.class, () -> AbiWriter.forCall(null, 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AbiWriter.forCall(new byte[3], 0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> AbiWriter.forCall(new byte[4], 0, 31));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> AbiWriter.forCall(new byte[4], 1, 0).writeString(null));
+    }
+}
@@ -9,9 +9,12 @@ import com.openelements.hiero.base.protocol.data.AccountBalanceRequest;
 import com.openelements.hiero.base.protocol.data.AccountBalanceResponse;
 import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import java.util.Map;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -145,4 +148,27 @@ public class AccountClientImplTest {
         Exception exception = assertThrows(HieroException.class, () -> accountClientImpl.createAccount(initialBalance));
         assertEquals("Transaction failed", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTransferHbarFromOperator() throws HieroException {
+        AccountId operatorId = AccountId.fromString("0.0.2");
+        AccountId receiverId = AccountId.fromString("0.0.12345");
+        when(mockProtocolLayerClient.getOperatorAccountId()).thenReturn(operatorId);
+
+        accountClientImpl.transferHbar(receiverId, Hbar.from(5));
+
+        ArgumentCaptor<HbarTransferRequest> captor = ArgumentCaptor.forClass(HbarTransferRequest.class);
+        verify(mockProtocolLayerClient).executeHbarTransferTransaction(captor.capture());
+        assertEquals(operatorId, captor.getValue().sender());
+        assertNull(captor.getValue().senderKey());
+        assertEquals(Map.of(receiverId, Hbar.from(5)), captor.getValue().receivers());
+    }
+
+    @Test
+    void testTransferHbarInvalidAmount() {
+        when(mockProtocolLayerClient.getOperatorAccountId()).thenReturn(AccountId.fromString("0.0.2"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> accountClientImpl.transferHbar(AccountId.fromString("0.0.12345"), Hbar.ZERO));
+    }
+}
@@ -0,0 +1,145 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.FileId;
+import com.openelements.hiero.base.FileClient;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.BytecodeFileRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class BytecodeFileRegistryTest {
+
+    private FileClient fileClient;
+
+    @BeforeEach
+    void setup() {
+        fileClient = Mockito.mock(FileClient.class);
+    }
+
+    @Test
+    void testSameBytecodeIsUploadedOnlyOnce() throws HieroException {
+        //given
+        final BytecodeFileRegistry registry = new BytecodeFileRegistry(fileClient);
+        final byte[] bytecode = "6080604052".getBytes(StandardCharsets.UTF_8);
+        final FileId fileId = FileId.fromString("0.0.100");
+        when(fileClient.createFile(eq(bytecode), any(Instant.class))).thenReturn(fileId);
+
+        //when
+        final FileId first = registry.getOrCreateFile(bytecode);
+        final FileId second = registry.getOrCreateFile(bytecode.clone());
+
+        //then
+        Assertions.assertEquals(fileId, first);
+        Assertions.assertEquals(fileId, second);
+        Assertions.assertEquals(1, registry.size());
+        verify(fileClient, times(1)).createFile(any(byte[].class), any(Instant.class));
+    }
+
+    @Test
+    void testLeastRecentlyUsedFileIsEvicted() throws HieroException {
+        //given
+        final BytecodeFileRegistry registry = new BytecodeFileRegistry(fileClient, 1, Duration.ofDays(10),
+                Duration.ofDays(1));
+        final byte[] bytecode1 = "6080".getBytes(StandardCharsets.UTF_8);
+        final byte[] bytecode2 = "6081".getBytes(StandardCharsets.UTF_8);
+        final FileId fileId1 = FileId.fromString("0.0.101");
+        final FileId fileId2 = FileId.fromString("0.0.102");
+        when(fileClient.createFile(eq(bytecode1), any(Instant.class))).thenReturn(fileId1);
+        when(fileClient.createFile(eq(bytecode2), any(Instant.class))).thenReturn(fileId2);
+
+        //when
+        registry.release(registry.getOrCreateFile(bytecode1));
+        registry.release(registry.getOrCreateFile(bytecode2));
+
+        //then
+        Assertions.assertEquals(1, registry.size());
+        verify(fileClient).deleteFile(fileId1);
+        verify(fileClient, never()).deleteFile(fileId2);
+    }
+
+    @Test
+    void testEvictedFileIsDeletedOnceReleased() throws HieroException {
+        //given
+        final BytecodeFileRegistry registry = new BytecodeFileRegistry(fileClient, 1, Duration.ofDays(10),
+                Duration.ofDays(1));
+        final byte[] bytecode1 = "6080".getBytes(StandardCharsets.UTF_8);
+        final byte[] bytecode2 = "6081".getBytes(StandardCharsets.UTF_8);
+        final FileId fileId1 = FileId.fromString("0.0.101");
+        final FileId fileId2 = FileId.fromString("0.0.102");
+        when(fileClient.createFile(eq(bytecode1), any(Instant.class))).thenReturn(fileId1);
+        when(fileClient.createFile(eq(bytecode2), any(Instant.class))).thenReturn(fileId2);
+        registry.getOrCreateFile(bytecode1);
+        registry.getOrCreateFile(bytecode1);
+
+        //when
+        registry.release(registry.getOrCreateFile(bytecode2));
+        registry.release(fileId1);
+        verify(fileClient, never()).deleteFile(fileId1);
+        registry.release(fileId1);
+
+        //then
+        verify(fileClient).deleteFile(fileId1);
+        verify(fileClient, never()).deleteFile(fileId2);
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.release(fileId1));
+    }
+
+    @Test
+    void testExpirationIsExtendedCloseToExpiry() throws HieroException {
+        //given
+        final BytecodeFileRegistry registry = new BytecodeFileRegistry(fileClient, 10, Duration.ofDays(10),
+                Duration.ofDays(10));
+        final byte[] bytecode = "6080".getBytes(StandardCharsets.UTF_8);
+        final FileId fileId = FileId.fromString("0.0.103");
+        when(fileClient.createFile(eq(bytecode), any(Instant.class))).thenReturn(fileId);
+        registry.getOrCreateFile(bytecode);
+
+        //when
+        final FileId reused = registry.getOrCreateFile(bytecode);
+
+        //then
+        Assertions.assertEquals(fileId, reused);
+        verify(fileClient).updateExpirationTime(eq(fileId), any(Instant.class));
+        verify(fileClient, times(1)).createFile(any(byte[].class), any(Instant.class));
+    }
+
+    @Test
+    void testInvalidateForcesNewUpload() throws HieroException {
+        //given
+        final BytecodeFileRegistry registry = new BytecodeFileRegistry(fileClient);
+        final byte[] bytecode = "6080".getBytes(StandardCharsets.UTF_8);
+        when(fileClient.createFile(eq(bytecode), any(Instant.class)))
+                .thenReturn(FileId.fromString("0.0.104"), FileId.fromString("0.0.105"));
+        registry.getOrCreateFile(bytecode);
+
+        //when
+        registry.invalidate(bytecode);
+        final FileId fileId = registry.getOrCreateFile(bytecode);
+
+        //then
+        Assertions.assertEquals(FileId.fromString("0.0.105"), fileId);
+        verify(fileClient, never()).deleteFile(any(FileId.class));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> new BytecodeFileRegistry(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new BytecodeFileRegistry(fileClient, 0, Duration.ofDays(1), Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new BytecodeFileRegistry(fileClient, 1, Duration.ofDays(1), Duration.ofDays(2)));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new BytecodeFileRegistry(fileClient).getOrCreateFile(null));
+    }
+}
@@ -0,0 +1,155 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.implementation.ContractCallResultCache;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ContractCallResultCacheTest {
+
+    private final ContractId contractId = ContractId.fromString("0.0.1000");
+
+    private final byte[] callData = new byte[]{1, 2, 3, 4};
+
+    private MutableClock clock;
+
+    private ContractCallResult result;
+
+    @BeforeEach
+    void setup() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        result = Mockito.mock(ContractCallResult.class);
+    }
+
+    @Test
+    void testCachedResultIsReturned() {
+        //given
+        final ContractCallResultCache cache = new ContractCallResultCache(10, Duration.ofSeconds(10), clock);
+        cache.put(contractId, callData, result, cache.now());
+
+        //when
+        final var cached = cache.get(contractId, callData.clone());
+        final var other = cache.get(contractId, new byte[]{1, 2, 3, 5});
+
+        //then
+        Assertions.assertTrue(cached.isPresent());
+        Assertions.assertSame(result, cached.get());
+        Assertions.assertTrue(other.isEmpty());
+        Assertions.assertEquals(1, cache.getStatistics().hits());
+        Assertions.assertEquals(1, cache.getStatistics().misses());
+        Assertions.assertEquals(0.5, cache.getStatistics().hitRate());
+    }
+
+    @Test
+    void testStaleResultIsNotReturned() {
+        //given
+        final ContractCallResultCache cache = new ContractCallResultCache(10, Duration.ofSeconds(10), clock);
+        cache.put(contractId, callData, result, cache.now());
+
+        //when
+        clock.advance(Duration.ofSeconds(11));
+
+        //then
+        Assertions.assertTrue(cache.get(contractId, callData).isEmpty());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidateRemovesResultsOfContract() {
+        //given
+        final ContractId otherContractId = ContractId.fromString("0.0.1001");
+        final ContractCallResultCache cache = new ContractCallResultCache(10, Duration.ofSeconds(10), clock);
+        cache.put(contractId, callData, result, cache.now());
+        cache.put(otherContractId, callData, result, cache.now());
+
+        //when
+        cache.invalidate(contractId, cache.now());
+
+        //then
+        Assertions.assertTrue(cache.get(contractId, callData).isEmpty());
+        Assertions.assertTrue(cache.get(otherContractId, callData).isPresent());
+        Assertions.assertEquals(1, cache.getStatistics().invalidations());
+    }
+
+    @Test
+    void testResultObservedBeforeStateChangeIsNotCached() {
+        //given
+        final ContractCallResultCache cache = new ContractCallResultCache(10, Duration.ofSeconds(10), clock);
+        final Instant consensusTimestamp = cache.now().minusSeconds(5);
+        cache.invalidate(contractId, consensusTimestamp);
+
+        //when
+        cache.put(contractId, callData, result, consensusTimestamp.minusNanos(1));
+        cache.put(contractId, new byte[]{8}, result, consensusTimestamp);
+        cache.put(contractId, new byte[]{9}, result, consensusTimestamp.plusSeconds(1));
+
+        //then
+        Assertions.assertTrue(cache.get(contractId, callData).isEmpty());
+        Assertions.assertTrue(cache.get(contractId, new byte[]{8}).isPresent());
+        Assertions.assertTrue(cache.get(contractId, new byte[]{9}).isPresent());
+    }
+
+    @Test
+    void testLeastRecentlyUsedResultIsEvicted() {
+        //given
+        final ContractCallResultCache cache = new ContractCallResultCache(2, Duration.ofSeconds(10), clock);
+        cache.put(contractId, new byte[]{1}, result, cache.now());
+        cache.put(contractId, new byte[]{2}, result, cache.now());
+        cache.get(contractId, new byte[]{1});
+
+        //when
+        cache.put(contractId, new byte[]{3}, result, cache.now());
+
+        //then
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertTrue(cache.get(contractId, new byte[]{1}).isPresent());
+        Assertions.assertTrue(cache.get(contractId, new byte[]{2}).isEmpty());
+        Assertions.assertEquals(1, cache.getStatistics().evictions());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCallResultCache(0, Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContractCallResultCache(1, Duration.ZERO));
+        Assertions.assertThrows(NullPointerException.class, () -> new ContractCallResultCache(1, null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractCallResultCache().get(null, callData));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.contract.ContractEventDecoder;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogCursor;
+import com.openelements.hiero.base.data.ContractLogFilter;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.implementation.PrefetchingPageIterator;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ContractEventDecoderTest {
+
+    private static final String TRANSFER_EVENT = "Transfer(address indexed from, address indexed to, uint256 value)";
+
+    public record Transfer(String from, String to, BigInteger value) {
+    }
+
+    public record Registered(byte[] name, String note, long id) {
+    }
+
+    private static byte[] word(String hex) {
+        final byte[] value = HexFormat.of().parseHex(hex);
+        final byte[] word = new byte[32];
+        System.arraycopy(value, 0, word, 32 - value.length, value.length);
+        return word;
+    }
+
+    private static ContractLog log(byte[] data, List<byte[]> topics, long seconds, int index) {
+        return new ContractLog(ContractId.fromString("0.0.1234"), null, "0x00000000000000000000000000000000000004d2",
+                data, topics, index, Instant.ofEpochSecond(seconds, 5), 1, null);
+    }
+
+    private static Page<Integer> page(int index, int count) {
+        return new Page<>() {
+            @Override
+            public int getPageIndex() {
+                return index;
+            }
+
+            @Override
+            public int getSize() {
+                return getData().size();
+            }
+
+            @Override
+            public List<Integer> getData() {
+                // the second page is empty to check that empty pages are skipped
+                return index == 1 ? List.of() : List.of(index * 10, index * 10 + 1);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < count - 1;
+            }
+
+            @Override
+            public Page<Integer> next() {
+                return page(index + 1, count);
+            }
+
+            @Override
+            public Page<Integer> first() {
+                return page(0, count);
+            }
+
+            @Override
+            public boolean isFirst() {
+                return index == 0;
+            }
+        };
+    }
+
+    @Test
+    void testDecodeEvent() {
+        //given
+        final ContractEventDecoder<Transfer> decoder = ContractEventDecoder.of(Transfer.class, TRANSFER_EVENT);
+        final ContractLog log = log(word("03e8"), List.of(decoder.topic(), word("01"), word("02")), 10, 0);
+
+        //when
+        final Transfer transfer = decoder.decode(log);
+
+        //then
+        Assertions.assertEquals("Transfer(address,address,uint256)", decoder.signature());
+        Assertions.assertEquals("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef",
+                HexFormat.of().formatHex(decoder.topic()));
+        Assertions.assertEquals("0000000000000000000000000000000000000001", transfer.from());
+        Assertions.assertEquals("0000000000000000000000000000000000000002", transfer.to());
+        Assertions.assertEquals(BigInteger.valueOf(1000), transfer.value());
+    }
+
+    @Test
+    void testDecodeEventWithDynamicValues() {
+        //given
+        final ContractEventDecoder<Registered> decoder = ContractEventDecoder.of(Registered.class,
+                "Registered(string indexed name, string note, uint64 id)");
+        final byte[] data = HexFormat.of().parseHex(
+                "0000000000000000000000000000000000000000000000000000000000000040"
+                        + "0000000000000000000000000000000000000000000000000000000000000007"
+                        + "0000000000000000000000000000000000000000000000000000000000000002"
+                        + "6869000000000000000000000000000000000000000000000000000000000000");
+        final ContractLog log = log(data, List.of(decoder.topic(), word("ff")), 10, 0);
+
+        //when
+        final Registered registered = decoder.decode(log);
+
+        //then
+        Assertions.assertEquals("hi", registered.note());
+        Assertions.assertEquals(7, registered.id());
+        Assertions.assertArrayEquals(word("ff"), registered.name());
+    }
+
+    @Test
+    void testDecodeLogOfOtherEvent() {
+        //given
+        final ContractEventDecoder<Transfer> decoder = ContractEventDecoder.of(Transfer.class, TRANSFER_EVENT);
+        final ContractLog log = log(word("01"), List.of(word("aa"), word("01"), word("02")), 10, 0);
+
+        //then
+        Assertions.assertFalse(decoder.matches(log));
+        Assertions.assertTrue(decoder.tryDecode(log).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> decoder.decode(log));
+    }
+
+    @Test
+    void testInvalidEventDefinition() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractEventDecoder.of(Transfer.class, "Transfer"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractEventDecoder.of(Transfer.class, "Transfer(address from indexed, uint256 value)"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractEventDecoder.of(Transfer.class,
+                        "Transfer(uint8 indexed a, uint8 indexed b, uint8 indexed c, uint8 indexed d)"));
+    }
+
+    @Test
+    void testFilter() {
+        //given
+        final ContractEventDecoder<Transfer> decoder = ContractEventDecoder.of(Transfer.class, TRANSFER_EVENT);
+        final ContractLog first = log(word("01"), List.of(decoder.topic(), word("01"), word("02")), 10, 0);
+        final ContractLog second = log(word("01"), List.of(decoder.topic(), word("03"), word("02")), 10, 1);
+        final ContractLog third = log(word("01"), List.of(decoder.topic(), word("01"), word("02")), 20, 0);
+
+        //when
+        final ContractLogFilter filter = decoder.filter().withTopic(1, "0x01");
+        final ContractLogFilter resumed = filter.withAfter(first.cursor());
+
+        //then
+        Assertions.assertEquals("0x0000000000000000000000000000000000000000000000000000000000000001",
+                filter.topic1());
+        Assertions.assertTrue(filter.matches(first));
+        Assertions.assertFalse(filter.matches(second));
+        Assertions.assertTrue(filter.matches(third));
+        Assertions.assertFalse(resumed.matches(first));
+        Assertions.assertTrue(resumed.matches(third));
+        Assertions.assertEquals(first.consensusTimestamp(), resumed.effectiveFrom());
+        Assertions.assertTrue(ContractLogCursor.of(first.consensusTimestamp(), 0).isBefore(second));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> filter.withTopic(4, "0x01"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> filter.withTopic(1, "0xzz"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> filter.withFrom(Instant.ofEpochSecond(20)).withTo(Instant.ofEpochSecond(10)));
+    }
+
+    @Test
+    void testPrefetchingPageIterator() {
+        //given
+        final Page<Integer> firstPage = page(0, 4);
+
+        //when
+        final List<Integer> values;
+        try (Stream<Integer> stream = PrefetchingPageIterator.stream(firstPage)) {
+            values = stream.toList();
+        }
+
+        //then
+        Assertions.assertEquals(List.of(0, 1, 20, 21, 30, 31), values);
+    }
+}
@@ -0,0 +1,129 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.implementation.ContractGasEstimator;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ContractGasEstimatorTest {
+
+    private MirrorNodeClient mirrorNodeClient;
+
+    private ContractId contractId;
+
+    private AccountId sender;
+
+    @BeforeEach
+    void setup() {
+        mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        contractId = ContractId.fromString("0.0.1234");
+        sender = AccountId.fromString("0.0.2");
+    }
+
+    @Test
+    void testEstimateContainsSafetyMargin() throws HieroException {
+        //given
+        final ContractGasEstimator estimator = new ContractGasEstimator(mirrorNodeClient, sender, 10,
+                Duration.ofMinutes(1), 10);
+        when(mirrorNodeClient.estimateContractGas(eq(contractId), any(byte[].class), eq(sender))).thenReturn(100_000L);
+
+        //when
+        final long gas = estimator.estimateCallGas(contractId, "set", List.of(ContractParam.uint256(1)));
+
+        //then
+        Assertions.assertEquals(110_000L, gas);
+    }
+
+    @Test
+    void testEstimateIsCachedPerParameterShape() throws HieroException {
+        //given
+        final ContractGasEstimator estimator = new ContractGasEstimator(mirrorNodeClient, sender);
+        when(mirrorNodeClient.estimateContractGas(eq(contractId), any(byte[].class), eq(sender))).thenReturn(50_000L);
+
+        //when
+        estimator.estimateCallGas(contractId, "set", List.of(ContractParam.uint256(1)));
+        estimator.estimateCallGas(contractId, "set", List.of(ContractParam.uint256(2)));
+        estimator.estimateCallGas(contractId, "set", List.of(ContractParam.string("a")));
+        estimator.estimateCallGas(contractId, "set", List.of(ContractParam.string("b")));
+        estimator.estimateCallGas(contractId, "set", List.of(ContractParam.string("a".repeat(40))));
+
+        //then
+        Assertions.assertEquals(3, estimator.size());
+        verify(mirrorNodeClient, times(3)).estimateContractGas(eq(contractId), any(byte[].class), eq(sender));
+    }
+
+    @Test
+    void testEstimateIsLimited() throws HieroException {
+        //given
+        final ContractGasEstimator estimator = new ContractGasEstimator(mirrorNodeClient, sender);
+        when(mirrorNodeClient.estimateContractGas(eq(contractId), any(byte[].class), eq(sender))).thenReturn(1L,
+                ContractGasEstimator.MAX_GAS);
+
+        //when
+        final long low = estimator.estimateCallGas(contractId, "low", List.of());
+        final long high = estimator.estimateCallGas(contractId, "high", List.of());
+
+        //then
+        Assertions.assertEquals(ContractGasEstimator.MIN_GAS, low);
+        Assertions.assertEquals(ContractGasEstimator.MAX_GAS, high);
+    }
+
+    @Test
+    void testEstimateCreateGas() throws HieroException {
+        //given
+        final ContractGasEstimator estimator = new ContractGasEstimator(mirrorNodeClient, sender, 0,
+                Duration.ofMinutes(1), 10);
+        final byte[] initcode = new byte[]{0x60, (byte) 0x80};
+        when(mirrorNodeClient.estimateContractGas(isNull(), any(byte[].class), eq(sender))).thenReturn(200_000L);
+
+        //when
+        final long gas = estimator.estimateCreateGas(initcode, List.of());
+        estimator.estimateCreateGas(initcode.clone(), List.of());
+
+        //then
+        Assertions.assertEquals(200_000L, gas);
+        verify(mirrorNodeClient, times(1)).estimateContractGas(isNull(), eq(initcode), eq(sender));
+    }
+
+    @Test
+    void testFailedEstimateIsCached() throws HieroException {
+        //given
+        final ContractGasEstimator estimator = new ContractGasEstimator(mirrorNodeClient, sender);
+        when(mirrorNodeClient.estimateContractGas(eq(contractId), any(byte[].class), eq(sender)))
+                .thenThrow(new HieroException("revert"));
+
+        //when
+        Assertions.assertThrows(HieroException.class, () -> estimator.estimateCallGas(contractId, "set", List.of()));
+        Assertions.assertThrows(HieroException.class, () -> estimator.estimateCallGas(contractId, "set", List.of()));
+
+        //then
+        Assertions.assertEquals(1, estimator.size());
+        verify(mirrorNodeClient, times(1)).estimateContractGas(eq(contractId), any(byte[].class), eq(sender));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Assertions.assertThrows(NullPointerException.class, () -> new ContractGasEstimator(null, sender));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractGasEstimator(mirrorNodeClient, sender, -1, Duration.ZERO, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractGasEstimator(mirrorNodeClient, sender, 0, Duration.ZERO, 0));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractGasEstimator(mirrorNodeClient, sender).estimateCallGas(null, "set", List.of()));
+    }
+}
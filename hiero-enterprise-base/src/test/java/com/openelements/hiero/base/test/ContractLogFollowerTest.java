@@ -0,0 +1,102 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.contract.ContractLogCheckpointStore;
+import com.openelements.hiero.base.contract.ContractLogFollower;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogCursor;
+import com.openelements.hiero.base.data.ContractLogFilter;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class ContractLogFollowerTest {
+
+    private static final ContractId CONTRACT_ID = ContractId.fromString("0.0.1234");
+
+    private MirrorNodeClient mirrorNodeClient;
+
+    private ContractLogCheckpointStore checkpointStore;
+
+    private ContractLogFollower follower;
+
+    @BeforeEach
+    void setup() {
+        mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        checkpointStore = ContractLogCheckpointStore.inMemory();
+        follower = new ContractLogFollower(mirrorNodeClient, CONTRACT_ID, ContractLogFilter.all(), checkpointStore,
+                "indexer");
+    }
+
+    private static ContractLog log(long seconds, int index) {
+        return new ContractLog(CONTRACT_ID, null, "0x00000000000000000000000000000000000004d2", new byte[0],
+                List.of(), index, Instant.ofEpochSecond(seconds), 1, null);
+    }
+
+    @Test
+    void testPollStoresCheckpoint() throws HieroException {
+        //given
+        final ArgumentCaptor<ContractLogFilter> filterCaptor = ArgumentCaptor.forClass(ContractLogFilter.class);
+        Mockito.when(mirrorNodeClient.streamContractLogs(ArgumentMatchers.eq(CONTRACT_ID), filterCaptor.capture()))
+                .thenReturn(Stream.of(log(10, 0), log(10, 1)))
+                .thenReturn(Stream.of(log(20, 0)));
+        final List<ContractLog> processed = new ArrayList<>();
+
+        //when
+        final int firstCount = follower.poll(processed::add);
+        final int secondCount = follower.poll(processed::add);
+
+        //then
+        Assertions.assertEquals(2, firstCount);
+        Assertions.assertEquals(1, secondCount);
+        Assertions.assertEquals(3, processed.size());
+        Assertions.assertNull(filterCaptor.getAllValues().get(0).after());
+        Assertions.assertEquals(ContractLogCursor.of(Instant.ofEpochSecond(10), 1),
+                filterCaptor.getAllValues().get(1).after());
+        Assertions.assertEquals(ContractLogCursor.of(Instant.ofEpochSecond(20), 0),
+                checkpointStore.load("indexer").orElseThrow());
+    }
+
+    @Test
+    void testPollResumesFromStoredCheckpoint() throws HieroException {
+        //given
+        final ContractLogCursor checkpoint = ContractLogCursor.of(Instant.ofEpochSecond(30), 2);
+        checkpointStore.store("indexer", checkpoint);
+        Mockito.when(mirrorNodeClient.streamContractLogs(ArgumentMatchers.eq(CONTRACT_ID),
+                ArgumentMatchers.any(ContractLogFilter.class))).thenReturn(Stream.empty());
+
+        //when
+        final int count = follower.poll(log -> {});
+
+        //then
+        Assertions.assertEquals(0, count);
+        Mockito.verify(mirrorNodeClient).streamContractLogs(CONTRACT_ID, ContractLogFilter.all().withAfter(checkpoint));
+        Assertions.assertEquals(checkpoint, follower.checkpoint());
+    }
+
+    @Test
+    void testCheckpointIsStoredIfConsumerFails() throws HieroException {
+        //given
+        Mockito.when(mirrorNodeClient.streamContractLogs(ArgumentMatchers.eq(CONTRACT_ID),
+                ArgumentMatchers.any(ContractLogFilter.class))).thenReturn(Stream.of(log(10, 0), log(10, 1)));
+
+        //when
+        Assertions.assertThrows(HieroException.class, () -> follower.poll(log -> {
+            if (log.index() == 1) {
+                throw new IllegalStateException("failed");
+            }
+        }));
+
+        //then
+        Assertions.assertEquals(ContractLogCursor.of(Instant.ofEpochSecond(10), 0), follower.checkpoint());
+    }
+}
@@ -0,0 +1,144 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.base.implementation.EncodedContractCallResult;
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EncodedContractCallResultTest {
+
+    private static byte[] words(String... words) {
+        return HexFormat.of().parseHex(String.join("", words));
+    }
+
+    @Test
+    void testStaticValues() {
+        //given
+        final byte[] data = words(
+                "000000000000000000000000000000000000000000000000000000000000002a",
+                "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+                "0000000000000000000000000000000000000000000000000000000000000001",
+                "0000000000000000000000001234567890abcdef1234567890abcdef12345678");
+
+        //when
+        final EncodedContractCallResult result = new EncodedContractCallResult(data);
+
+        //then
+        Assertions.assertEquals(42L, result.getUint256(0).longValue());
+        Assertions.assertEquals(42, result.getInt32(0));
+        Assertions.assertEquals(42L, result.getUint64(0));
+        Assertions.assertEquals(BigInteger.valueOf(-1), result.getInt256(1));
+        Assertions.assertEquals(-1L, result.getInt64(1));
+        Assertions.assertEquals((byte) -1, result.getInt8(1));
+        Assertions.assertEquals(255L, result.getUint8(1));
+        Assertions.assertEquals(0xFFFF_FFFFL, result.getUint32(1));
+        Assertions.assertTrue(result.getBool(2));
+        Assertions.assertFalse(new EncodedContractCallResult(words(
+                "0000000000000000000000000000000000000000000000000000000000000000")).getBool(0));
+        Assertions.assertEquals("1234567890abcdef1234567890abcdef12345678", result.getAddress(3));
+        Assertions.assertEquals(0L, result.gasUsed());
+    }
+
+    @Test
+    void testDynamicString() {
+        //given
+        final byte[] data = words(
+                "0000000000000000000000000000000000000000000000000000000000000020",
+                "0000000000000000000000000000000000000000000000000000000000000005",
+                "68656c6c6f000000000000000000000000000000000000000000000000000000");
+
+        //when
+        final EncodedContractCallResult result = new EncodedContractCallResult(data);
+
+        //then
+        Assertions.assertEquals("hello", result.getString(0));
+    }
+
+    @Test
+    void testOutOfRange() {
+        //given
+        final EncodedContractCallResult result = new EncodedContractCallResult(words(
+                "0000000000000000000000000000000000000000000000000000000000000040"));
+
+        //then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> result.getUint256(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> result.getString(0));
+        Assertions.assertThrows(NullPointerException.class, () -> new EncodedContractCallResult(null));
+    }
+
+    @Test
+    void testStaticArrays() {
+        //given
+        final byte[] data = words(
+                "0000000000000000000000000000000000000000000000000000000000000040",
+                "00000000000000000000000000000000000000000000000000000000000000a0",
+                "0000000000000000000000000000000000000000000000000000000000000002",
+                "0000000000000000000000001234567890abcdef1234567890abcdef12345678",
+                "00000000000000000000000000000000000000000000000000000000000003e8",
+                "0000000000000000000000000000000000000000000000000000000000000002",
+                "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+                "0000000000000000000000000000000000000000000000000000000000000000");
+
+        //when
+        final EncodedContractCallResult result = new EncodedContractCallResult(data);
+
+        //then
+        Assertions.assertEquals(List.of("1234567890abcdef1234567890abcdef12345678",
+                "00000000000000000000000000000000000003e8"), result.getAddressArray(0));
+        Assertions.assertEquals(List.of(BigInteger.valueOf(-1), BigInteger.ZERO), result.getInt256Array(1));
+        Assertions.assertEquals(List.of(true, false), result.getBoolArray(1));
+        Assertions.assertEquals(BigInteger.TWO.pow(256).subtract(BigInteger.ONE), result.getUint256Array(1).get(0));
+    }
+
+    @Test
+    void testStringArray() {
+        //given
+        final byte[] data = words(
+                "0000000000000000000000000000000000000000000000000000000000000020",
+                "0000000000000000000000000000000000000000000000000000000000000002",
+                "0000000000000000000000000000000000000000000000000000000000000040",
+                "0000000000000000000000000000000000000000000000000000000000000080",
+                "0000000000000000000000000000000000000000000000000000000000000003",
+                "6f6e650000000000000000000000000000000000000000000000000000000000",
+                "0000000000000000000000000000000000000000000000000000000000000003",
+                "74776f0000000000000000000000000000000000000000000000000000000000");
+
+        //when
+        final EncodedContractCallResult result = new EncodedContractCallResult(data);
+
+        //then
+        Assertions.assertEquals(List.of("one", "two"), result.getStringArray(0));
+    }
+
+    @Test
+    void testDynamicTuple() {
+        //given
+        final byte[] data = words(
+                "0000000000000000000000000000000000000000000000000000000000000020",
+                "000000000000000000000000000000000000000000000000000000000000002a",
+                "0000000000000000000000000000000000000000000000000000000000000040",
+                "0000000000000000000000000000000000000000000000000000000000000005",
+                "68656c6c6f000000000000000000000000000000000000000000000000000000");
+
+        //when
+        final ContractCallResult tuple = new EncodedContractCallResult(data).getTuple(0);
+
+        //then
+        Assertions.assertEquals(42L, tuple.getUint64(0));
+        Assertions.assertEquals("hello", tuple.getString(1));
+    }
+
+    @Test
+    void testArrayOutOfRange() {
+        //given
+        final EncodedContractCallResult result = new EncodedContractCallResult(words(
+                "0000000000000000000000000000000000000000000000000000000000000020",
+                "00000000000000000000000000000000000000000000000000000000000000ff"));
+
+        //then
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> result.getUint256Array(0));
+    }
+}
@@ -0,0 +1,196 @@
+package com.openelements.hiero.base.test;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumLogFilter;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import com.openelements.hiero.base.implementation.AbstractEthereumRelayClient;
+import com.openelements.hiero.base.implementation.EthereumRelayJsonConverter;
+import com.openelements.hiero.base.implementation.JsonRpcResponse;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EthereumRelayClientTest {
+
+    private static final String ADDRESS = "0x00000000000000000000000000000000000004d2";
+
+    private static final Pattern REQUEST = Pattern.compile("\"id\":(\\d+),\"method\":\"(\\w+)\"");
+
+    /**
+     * Relay client that answers every request without network access. The JSON type is the list of responses.
+     */
+    private static class TestRelayClient extends AbstractEthereumRelayClient<List<JsonRpcResponse<Object>>> {
+
+        private final List<String> bodies = new CopyOnWriteArrayList<>();
+
+        private TestRelayClient(Duration batchWindow, int maxBatchSize) {
+            super(batchWindow, maxBatchSize);
+        }
+
+        @Override
+        protected @NonNull EthereumRelayJsonConverter<List<JsonRpcResponse<Object>>> getJsonConverter() {
+            return new EthereumRelayJsonConverter<>() {
+                @Override
+                public @NonNull List<JsonRpcResponse<List<JsonRpcResponse<Object>>>> toResponses(
+                        @NonNull List<JsonRpcResponse<Object>> json) {
+                    return json.stream()
+                            .map(response -> new JsonRpcResponse<List<JsonRpcResponse<Object>>>(response.id(),
+                                    List.of(response), response.errorCode(), response.errorMessage()))
+                            .toList();
+                }
+
+                @Override
+                public @NonNull Optional<String> toText(@Nullable List<JsonRpcResponse<Object>> json) {
+                    return Optional.ofNullable(json).map(list -> (String) list.get(0).result());
+                }
+
+                @Override
+                public @NonNull List<EthereumLog> toLogs(@Nullable List<JsonRpcResponse<Object>> json) {
+                    return List.of();
+                }
+
+                @Override
+                public @NonNull Optional<EthereumTransactionReceipt> toTransactionReceipt(
+                        @Nullable List<JsonRpcResponse<Object>> json) {
+                    return Optional.empty();
+                }
+            };
+        }
+
+        @Override
+        protected @NonNull List<JsonRpcResponse<Object>> doPost(@NonNull String body) throws HieroException {
+            bodies.add(body);
+            final Matcher matcher = REQUEST.matcher(body);
+            return matcher.results()
+                    .map(result -> {
+                        final long id = Long.parseLong(result.group(1));
+                        return switch (result.group(2)) {
+                            case "eth_getBalance" -> JsonRpcResponse.<Object>ofResult(id, "0x" + Long.toHexString(id));
+                            case "eth_call" -> JsonRpcResponse.<Object>ofResult(id, "0x0102");
+                            default -> JsonRpcResponse.<Object>ofError(id, -32601, "Unsupported JSON-RPC method");
+                        };
+                    })
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private TestRelayClient client;
+
+    @AfterEach
+    void close() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    void testCallsWithinWindowAreBatched() throws Exception {
+        //given
+        client = new TestRelayClient(Duration.ofMillis(200), 50);
+
+        //when
+        final List<CompletableFuture<BigInteger>> balances = IntStream.range(0, 3)
+                .mapToObj(i -> client.getBalanceAsync(ADDRESS, "latest"))
+                .toList();
+        final CompletableFuture<byte[]> call = client.callAsync(ADDRESS, new byte[]{1, 2, 3, 4}, "latest");
+        CompletableFuture.allOf(call, CompletableFuture.allOf(balances.toArray(CompletableFuture[]::new))).get();
+
+        //then
+        Assertions.assertEquals(1, client.bodies.size());
+        Assertions.assertTrue(client.bodies.get(0).startsWith("[{\"jsonrpc\":\"2.0\""));
+        Assertions.assertEquals(4, REQUEST.matcher(client.bodies.get(0)).results().count());
+        Assertions.assertEquals(List.of(BigInteger.ONE, BigInteger.TWO, BigInteger.valueOf(3)),
+                balances.stream().map(CompletableFuture::join).toList());
+        Assertions.assertArrayEquals(new byte[]{1, 2}, call.join());
+    }
+
+    @Test
+    void testFullBatchIsSentImmediately() throws Exception {
+        //given
+        client = new TestRelayClient(Duration.ofSeconds(30), 2);
+
+        //when
+        final CompletableFuture<BigInteger> first = client.getBalanceAsync(ADDRESS, "latest");
+        final CompletableFuture<BigInteger> second = client.getBalanceAsync(ADDRESS, "0x10");
+        CompletableFuture.allOf(first, second).get();
+
+        //then
+        Assertions.assertEquals(1, client.bodies.size());
+        Assertions.assertTrue(client.bodies.get(0).contains("[\"" + ADDRESS + "\",\"0x10\"]"));
+    }
+
+    @Test
+    void testSingleCallIsNotWrappedInArray() throws HieroException {
+        //given
+        client = new TestRelayClient(Duration.ZERO, 50);
+
+        //when
+        final BigInteger balance = client.getBalance(ADDRESS);
+
+        //then
+        Assertions.assertEquals(BigInteger.ONE, balance);
+        Assertions.assertEquals(List.of("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"eth_getBalance\",\"params\":[\""
+                + ADDRESS + "\",\"latest\"]}"), client.bodies);
+    }
+
+    @Test
+    void testErrorResponse() {
+        //given
+        client = new TestRelayClient(Duration.ZERO, 50);
+
+        //then
+        final HieroException exception = Assertions.assertThrows(HieroException.class,
+                () -> client.getLogs(EthereumLogFilter.of(ADDRESS, "0x1", "latest")
+                        .withTopics(null, "0x" + "ab".repeat(32))));
+        Assertions.assertTrue(exception.getMessage().contains("-32601"));
+        Assertions.assertTrue(client.bodies.get(0).contains("\"topics\":[null,\"0x" + "ab".repeat(32) + "\"]"));
+    }
+
+    @Test
+    void testCloseFailsPendingCalls() {
+        //given
+        client = new TestRelayClient(Duration.ofSeconds(30), 50);
+        final CompletableFuture<BigInteger> pending = client.getBalanceAsync(ADDRESS, "latest");
+
+        //when
+        client.close();
+        final CompletableFuture<BigInteger> afterClose = client.getBalanceAsync(ADDRESS, "latest");
+
+        //then
+        final ExecutionException pendingException = Assertions.assertThrows(ExecutionException.class,
+                () -> pending.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(HieroException.class, pendingException.getCause());
+        final ExecutionException closedException = Assertions.assertThrows(ExecutionException.class,
+                () -> afterClose.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(HieroException.class, closedException.getCause());
+        Assertions.assertTrue(client.bodies.isEmpty());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        //given
+        client = new TestRelayClient(Duration.ZERO, 50);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> client.getBalanceAsync("0x1234", "latest"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> client.getBalanceAsync(ADDRESS, "\"}"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> client.getTransactionReceiptAsync("0x12"));
+        Assertions.assertThrows(NullPointerException.class, () -> client.callAsync(ADDRESS, null, "latest"));
+        Assertions.assertTrue(client.bodies.isEmpty());
+    }
+}
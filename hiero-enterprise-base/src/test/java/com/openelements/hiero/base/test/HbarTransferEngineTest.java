@@ -0,0 +1,212 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrecheckStatusException;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.HbarTransferEngineImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.HbarTransferResult;
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class HbarTransferEngineTest {
+
+    private final AccountId operator = AccountId.fromString("0.0.2");
+
+    private ProtocolLayerClient protocolLayerClient;
+
+    private HbarTransferResult result;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        result = new HbarTransferResult(TransactionId.generate(operator), Status.SUCCESS);
+        when(protocolLayerClient.getOperatorAccountId()).thenReturn(operator);
+        when(protocolLayerClient.executeHbarTransferTransaction(any(HbarTransferRequest.class))).thenReturn(result);
+    }
+
+    @Test
+    void testPaymentsArePackedIntoTransactions() throws Exception {
+        //given
+        final List<AccountId> receivers = IntStream.range(0, 25)
+                .mapToObj(i -> AccountId.fromString("0.0." + (1000 + i)))
+                .toList();
+        final List<CompletableFuture<HbarTransferResult>> futures = new ArrayList<>();
+
+        //when
+        try (HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient, Duration.ofMinutes(1),
+                100)) {
+            for (int i = 0; i < receivers.size(); i++) {
+                futures.add(engine.transfer(receivers.get(i), Hbar.fromTinybars(i + 1)));
+            }
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<HbarTransferRequest> captor = ArgumentCaptor.forClass(HbarTransferRequest.class);
+        verify(protocolLayerClient, times(3)).executeHbarTransferTransaction(captor.capture());
+        final Map<AccountId, Hbar> received = new HashMap<>();
+        captor.getAllValues().forEach(request -> {
+            Assertions.assertEquals(operator, request.sender());
+            Assertions.assertNull(request.senderKey());
+            Assertions.assertTrue(request.receivers().size() <= HbarTransferRequest.MAX_RECEIVERS);
+            received.putAll(request.receivers());
+        });
+        Assertions.assertEquals(25, received.size());
+        for (int i = 0; i < receivers.size(); i++) {
+            Assertions.assertEquals(Hbar.fromTinybars(i + 1), received.get(receivers.get(i)));
+        }
+        for (final CompletableFuture<HbarTransferResult> future : futures) {
+            Assertions.assertSame(result, future.getNow(null));
+        }
+    }
+
+    @Test
+    void testPaymentsToSameReceiverAreMerged() throws Exception {
+        //given
+        final AccountId receiver = AccountId.fromString("0.0.1000");
+        final AccountId other = AccountId.fromString("0.0.1001");
+
+        //when
+        try (HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient, Duration.ofMinutes(1),
+                100)) {
+            engine.transfer(receiver, Hbar.fromTinybars(10));
+            engine.transfer(other, Hbar.fromTinybars(5));
+            engine.transfer(receiver, Hbar.fromTinybars(20));
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<HbarTransferRequest> captor = ArgumentCaptor.forClass(HbarTransferRequest.class);
+        verify(protocolLayerClient, times(1)).executeHbarTransferTransaction(captor.capture());
+        Assertions.assertEquals(Map.of(receiver, Hbar.fromTinybars(30), other, Hbar.fromTinybars(5)),
+                captor.getValue().receivers());
+    }
+
+    @Test
+    void testTransactionIsSubmittedAfterLinger() throws Exception {
+        //given
+        try (HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient, Duration.ofMillis(10),
+                10)) {
+            //when
+            final CompletableFuture<HbarTransferResult> future = engine.transfer(AccountId.fromString("0.0.1000"),
+                    Hbar.from(1));
+
+            //then
+            Assertions.assertSame(result, future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testFailedTransactionCompletesFutures() throws Exception {
+        //given
+        when(protocolLayerClient.executeHbarTransferTransaction(any(HbarTransferRequest.class)))
+                .thenThrow(new HieroException("failed"));
+
+        try (HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient, Duration.ofMinutes(1),
+                10)) {
+            //when
+            final CompletableFuture<HbarTransferResult> first = engine.transfer(AccountId.fromString("0.0.1000"),
+                    Hbar.from(1));
+            final CompletableFuture<HbarTransferResult> second = engine.transfer(AccountId.fromString("0.0.1001"),
+                    Hbar.from(1));
+            engine.flush().get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertInstanceOf(HieroException.class,
+                    Assertions.assertThrows(ExecutionException.class, first::get).getCause());
+            Assertions.assertInstanceOf(HieroException.class,
+                    Assertions.assertThrows(ExecutionException.class, second::get).getCause());
+        }
+    }
+
+    @Test
+    void testReceiverFailureIsIsolated() throws Exception {
+        //given
+        final AccountId deleted = AccountId.fromString("0.0.1001");
+        final Constructor<PrecheckStatusException> constructor = PrecheckStatusException.class
+                .getDeclaredConstructor(Status.class, TransactionId.class);
+        constructor.setAccessible(true);
+        final HieroException failure = new HieroException("failed",
+                constructor.newInstance(Status.ACCOUNT_DELETED, TransactionId.generate(operator)));
+        when(protocolLayerClient.executeHbarTransferTransaction(any(HbarTransferRequest.class)))
+                .thenAnswer(invocation -> {
+                    final HbarTransferRequest request = invocation.getArgument(0);
+                    if (request.receivers().containsKey(deleted)) {
+                        throw failure;
+                    }
+                    return result;
+                });
+
+        try (HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient, Duration.ofMinutes(1),
+                10)) {
+            //when
+            final CompletableFuture<HbarTransferResult> first = engine.transfer(AccountId.fromString("0.0.1000"),
+                    Hbar.from(1));
+            final CompletableFuture<HbarTransferResult> second = engine.transfer(deleted, Hbar.from(1));
+            final CompletableFuture<HbarTransferResult> third = engine.transfer(AccountId.fromString("0.0.1002"),
+                    Hbar.from(1));
+            engine.flush().get(5, TimeUnit.SECONDS);
+
+            //then
+            verify(protocolLayerClient, times(4)).executeHbarTransferTransaction(any(HbarTransferRequest.class));
+            Assertions.assertSame(result, first.getNow(null));
+            Assertions.assertSame(failure, Assertions.assertThrows(ExecutionException.class, second::get).getCause());
+            Assertions.assertSame(result, third.getNow(null));
+        }
+    }
+
+    @Test
+    void testInvalidTransfer() {
+        //given
+        final HbarTransferEngineImpl engine = new HbarTransferEngineImpl(protocolLayerClient);
+        final AccountId receiver = AccountId.fromString("0.0.1000");
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.transfer(receiver, Hbar.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> engine.transfer(operator, Hbar.from(1)));
+        Assertions.assertThrows(NullPointerException.class, () -> engine.transfer(null, Hbar.from(1)));
+        engine.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> engine.transfer(receiver, Hbar.from(1)));
+    }
+
+    @Test
+    void testInvalidRequest() {
+        //given
+        final Map<AccountId, Hbar> receivers = new HashMap<>();
+        IntStream.range(0, HbarTransferRequest.MAX_RECEIVERS + 1)
+                .forEach(i -> receivers.put(AccountId.fromString("0.0." + (1000 + i)), Hbar.from(1)));
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HbarTransferRequest.of(operator, null, receivers));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HbarTransferRequest.of(operator, null, Map.of()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HbarTransferRequest.of(operator, null, operator, Hbar.from(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> HbarTransferRequest.of(operator, null, AccountId.fromString("0.0.1000"), Hbar.from(-1)));
+    }
+}
@@ -0,0 +1,195 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.MirrorNodeTopicMessageSource;
+import com.openelements.hiero.base.implementation.TopicSubscriptionManagerImpl;
+import com.openelements.hiero.base.messaging.TopicCheckpoint;
+import com.openelements.hiero.base.messaging.TopicCheckpointStore;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class MirrorNodeTopicMessageSourceTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private MirrorNodeClient mirrorNodeClient;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        final Page<TopicMessage> emptyPage = page(List.of());
+        Mockito.when(mirrorNodeClient.queryTopicMessages(ArgumentMatchers.eq(TOPIC_ID), ArgumentMatchers.anyLong(),
+                ArgumentMatchers.anyInt())).thenReturn(emptyPage);
+    }
+
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber), "message " + sequenceNumber,
+                AccountId.fromString("0.0.1001"), new byte[48], 3, sequenceNumber, TOPIC_ID);
+    }
+
+    private static List<TopicMessage> messages(long from, long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(MirrorNodeTopicMessageSourceTest::message).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page<TopicMessage> page(List<TopicMessage> messages) {
+        final Page<TopicMessage> page = Mockito.mock(Page.class);
+        Mockito.when(page.getData()).thenReturn(messages);
+        return page;
+    }
+
+    private static class TestListener implements TopicMessageSource.Listener {
+
+        private final List<Long> received = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch done;
+
+        private TestListener(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onMessage(@NonNull TopicMessage message) {
+            received.add(message.sequenceNumber());
+            done.countDown();
+        }
+
+        @Override
+        public void onError(@NonNull Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    @Test
+    void testCatchUpWithFullPagesAndFollowBySequenceNumber() throws Exception {
+        //given
+        final Page<TopicMessage> firstPage = page(messages(1, 25));
+        final Page<TopicMessage> secondPage = page(messages(26, 125));
+        final Page<TopicMessage> thirdPage = page(messages(126, 128));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, START, 25)).thenReturn(firstPage);
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 25, 100)).thenReturn(secondPage);
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 125, 100)).thenReturn(thirdPage);
+        final MirrorNodeTopicMessageSource source = new MirrorNodeTopicMessageSource(mirrorNodeClient,
+                Duration.ofMillis(10), Duration.ofMillis(50));
+        final TestListener listener = new TestListener(128);
+
+        //when
+        final TopicMessageSource.Connection connection = source.open(TOPIC_ID, START, listener);
+        Assertions.assertTrue(listener.done.await(5, TimeUnit.SECONDS));
+        Mockito.verify(mirrorNodeClient, Mockito.timeout(5000).atLeastOnce()).queryTopicMessages(TOPIC_ID, 128, 25);
+        connection.close();
+
+        //then
+        Assertions.assertEquals(LongStream.rangeClosed(1, 128).boxed().toList(), listener.received);
+    }
+
+    @Test
+    void testOpenAfterSequenceNumber() throws Exception {
+        //given
+        final Page<TopicMessage> page = page(messages(8, 9));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 7, 25)).thenReturn(page);
+        final MirrorNodeTopicMessageSource source = new MirrorNodeTopicMessageSource(mirrorNodeClient);
+        final TestListener listener = new TestListener(2);
+
+        //when
+        final TopicMessageSource.Connection connection = source.open(TOPIC_ID, START, 7, listener);
+        Assertions.assertTrue(listener.done.await(5, TimeUnit.SECONDS));
+        connection.close();
+
+        //then
+        Assertions.assertEquals(List.of(8L, 9L), listener.received);
+        Mockito.verify(mirrorNodeClient, Mockito.never()).queryTopicMessages(ArgumentMatchers.eq(TOPIC_ID),
+                ArgumentMatchers.any(Instant.class), ArgumentMatchers.anyInt());
+    }
+
+    @Test
+    void testSubscriptionContinuesAfterCheckpoint() throws Exception {
+        //given
+        final TopicCheckpointStore checkpointStore = TopicCheckpointStore.inMemory();
+        checkpointStore.store("indexer", TopicCheckpoint.of(5, message(5).consensusTimestamp()));
+        final Page<TopicMessage> page = page(messages(6, 8));
+        Mockito.when(mirrorNodeClient.queryTopicMessages(TOPIC_ID, 5, 25)).thenReturn(page);
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(3);
+
+        //when
+        try (TopicSubscriptionManagerImpl manager = new TopicSubscriptionManagerImpl(mirrorNodeClient)) {
+            manager.subscribe(TOPIC_ID, null, checkpointStore, "indexer").subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(TopicMessage item) {
+                    received.add(item.sequenceNumber());
+                    done.countDown();
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        //then
+        Assertions.assertEquals(List.of(6L, 7L, 8L), received);
+        Assertions.assertEquals(TopicCheckpoint.of(8, message(8).consensusTimestamp()),
+                checkpointStore.load("indexer").orElseThrow());
+    }
+
+    @Test
+    void testFileCheckpointStore(@TempDir Path directory) {
+        //given
+        final TopicCheckpointStore store = TopicCheckpointStore.ofDirectory(directory);
+        final TopicCheckpoint checkpoint = TopicCheckpoint.of(42, Instant.parse("2024-01-01T00:00:00.000000001Z"));
+
+        //when
+        store.store("indexer", checkpoint);
+
+        //then
+        Assertions.assertEquals(checkpoint, TopicCheckpointStore.ofDirectory(directory).load("indexer").orElseThrow());
+        Assertions.assertTrue(store.load("other").isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> store.load("../indexer"));
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class, () -> new MirrorNodeTopicMessageSource(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeTopicMessageSource(mirrorNodeClient, Duration.ZERO, Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MirrorNodeTopicMessageSource(mirrorNodeClient, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicCheckpoint.of(0, START));
+    }
+}
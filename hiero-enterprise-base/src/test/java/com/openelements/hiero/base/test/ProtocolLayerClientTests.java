@@ -53,6 +53,8 @@ public class ProtocolLayerClientTests {
         Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicCreateTransaction(null));
         Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicDeleteTransaction(null));
         Assertions.assertThrows(NullPointerException.class, () -> client.executeTopicMessageSubmitTransaction(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> client.executeChunkedTopicMessageSubmitTransaction(null));
         Assertions.assertThrows(NullPointerException.class, () -> client.executeTokenCreateTransaction(null));
         Assertions.assertThrows(NullPointerException.class, () -> client.executeBurnTokenTransaction(null));
         Assertions.assertThrows(NullPointerException.class, () -> client.executeMintTokenTransaction(null));
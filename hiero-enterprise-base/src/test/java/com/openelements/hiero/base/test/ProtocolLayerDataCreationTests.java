@@ -20,8 +20,10 @@ import com.openelements.hiero.base.protocol.data.AccountCreateRequest;
 import com.openelements.hiero.base.protocol.data.AccountCreateResult;
 import com.openelements.hiero.base.protocol.data.AccountDeleteRequest;
 import com.openelements.hiero.base.protocol.data.AccountDeleteResult;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallRequest;
 import com.openelements.hiero.base.protocol.data.ContractCallResult;
+import com.openelements.hiero.base.protocol.data.ContractCreateInitcodeRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import com.openelements.hiero.base.protocol.data.ContractDeleteRequest;
@@ -357,6 +359,39 @@ public class ProtocolLayerDataCreationTests {
         Assertions.assertThrows(IllegalArgumentException.class,
                 () -> new ContractCallRequest(maxTransactionFee, transactionValidDuration, contractId, "blankSuffix ",
                         constructorParams));
+        Assertions.assertDoesNotThrow(() -> ContractCallRequest.of(contractId, functionName, 100_000, constructorParams));
+        Assertions.assertEquals(100_000L,
+                ContractCallRequest.of(contractId, functionName, 100_000, constructorParams).gas());
+        Assertions.assertNull(ContractCallRequest.of(contractId, functionName, constructorParams).gas());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractCallRequest.of(contractId, functionName, 0, constructorParams));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCallRequest(maxTransactionFee, transactionValidDuration, contractId, functionName,
+                        constructorParams, -1L));
+    }
+
+    @Test
+    void testContractCallQueryRequestCreation() {
+        //given
+        final ContractId contractId = ContractId.fromString("0.0.12345");
+        final String functionName = "functionName";
+        final List<ContractParam<?>> params = List.of(ContractParam.int32(1));
+
+        //then
+        Assertions.assertDoesNotThrow(() -> ContractCallQueryRequest.of(contractId, functionName, params));
+        Assertions.assertDoesNotThrow(() -> ContractCallQueryRequest.of(contractId, functionName, 50_000, params));
+        Assertions.assertDoesNotThrow(
+                () -> new ContractCallQueryRequest(contractId, functionName, params, null, Hbar.from(1), null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> ContractCallQueryRequest.of(null, functionName, params));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> ContractCallQueryRequest.of(contractId, null, params));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> ContractCallQueryRequest.of(contractId, functionName, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractCallQueryRequest.of(contractId, " ", params));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ContractCallQueryRequest.of(contractId, functionName, 0, params));
     }
 
     @Test
@@ -455,6 +490,45 @@ public class ProtocolLayerDataCreationTests {
                 () -> new ContractCreateRequest(maxTransactionFee, Duration.ofSeconds(-1), fileId, constructorParams));
     }
 
+    @Test
+    void testContractCreateInitcodeRequestCreation() {
+        //given
+        final Hbar maxTransactionFee = Hbar.fromTinybars(1000);
+        final Duration transactionValidDuration = Duration.ofSeconds(10);
+        final byte[] initcode = new byte[]{0x60, (byte) 0x80};
+        final ContractParam<Long> contractParam = ContractParam.int32(1);
+        final List<ContractParam<?>> constructorParams = List.of(contractParam);
+
+        //then
+        Assertions.assertDoesNotThrow(() -> ContractCreateInitcodeRequest.of(initcode));
+        Assertions.assertDoesNotThrow(() -> ContractCreateInitcodeRequest.of(initcode, contractParam));
+        Assertions.assertDoesNotThrow(() -> ContractCreateInitcodeRequest.of(initcode, constructorParams));
+        Assertions.assertDoesNotThrow(
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, transactionValidDuration, initcode,
+                        constructorParams));
+        Assertions.assertThrows(NullPointerException.class, () -> ContractCreateInitcodeRequest.of(null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> ContractCreateInitcodeRequest.of(initcode, (List<ContractParam<?>>) null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractCreateInitcodeRequest(null, transactionValidDuration, initcode, constructorParams));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, null, initcode, constructorParams));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, transactionValidDuration, null,
+                        constructorParams));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, transactionValidDuration, initcode, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, transactionValidDuration, new byte[0],
+                        constructorParams));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCreateInitcodeRequest(maxTransactionFee, transactionValidDuration,
+                        new byte[ContractCreateInitcodeRequest.MAX_INITCODE_SIZE + 1], constructorParams));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ContractCreateInitcodeRequest(Hbar.from(-100), transactionValidDuration, initcode,
+                        constructorParams));
+    }
+
     @Test
     void testContractCreateResultCreation() {
         //given
@@ -1,17 +1,32 @@
 package com.openelements.hiero.base.test;
 
+import com.hedera.hashgraph.sdk.ContractFunctionResult;
 import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.FileId;
 import com.openelements.hiero.base.FileClient;
 import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractCallResult;
 import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.data.ContractRead;
+import com.openelements.hiero.base.implementation.BytecodeFileRegistry;
+import com.openelements.hiero.base.implementation.ContractCallResultCache;
+import com.openelements.hiero.base.implementation.ContractGasEstimator;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.ContractCallDataQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallDataRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryRequest;
+import com.openelements.hiero.base.protocol.data.ContractCallQueryResponse;
+import com.openelements.hiero.base.protocol.data.ContractCallRequest;
+import com.openelements.hiero.base.protocol.data.ContractCreateInitcodeRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateRequest;
 import com.openelements.hiero.base.protocol.data.ContractCreateResult;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -19,11 +34,18 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -192,4 +214,279 @@ public class SmartContractClientImplTest {
 
         assertTrue(hieroException.getMessage().contains("Failed to create contract from path " + tempPath));
     }
+
+    @Test
+    public void testCreateContract_UsingContents_WithBytecodeFileRegistry() throws HieroException {
+        final BytecodeFileRegistry registry = Mockito.mock(BytecodeFileRegistry.class);
+        smartContractClient.setBytecodeFileRegistry(registry);
+        when(registry.getOrCreateFile(contents)).thenReturn(fileId);
+        when(protocolLayerClient.executeContractCreateTransaction(any(ContractCreateRequest.class))).thenReturn(resultMock);
+        when(resultMock.contractId()).thenReturn(contractId);
+
+        returnedContractId = smartContractClient.createContract(contents);
+        smartContractClient.createContract(contents);
+
+        assertEquals(contractId, returnedContractId);
+        verify(registry, Mockito.times(2)).getOrCreateFile(contents);
+        verify(registry, Mockito.times(2)).release(fileId);
+        verify(fileClient, Mockito.never()).createFile(any(byte[].class));
+        verify(fileClient, Mockito.never()).deleteFile(any(FileId.class));
+    }
+
+    @Test
+    public void testCreateContract_UsingContents_WithInlineInitcode() throws HieroException {
+        final byte[] hexContents = "0x6080604052\n".getBytes();
+        when(protocolLayerClient.executeContractCreateInitcodeTransaction(any(ContractCreateInitcodeRequest.class)))
+                .thenReturn(resultMock);
+        when(resultMock.contractId()).thenReturn(contractId);
+
+        returnedContractId = smartContractClient.createContract(hexContents, constructorParams);
+
+        assertEquals(contractId, returnedContractId);
+        final ArgumentCaptor<ContractCreateInitcodeRequest> captor = ArgumentCaptor.forClass(
+                ContractCreateInitcodeRequest.class);
+        verify(protocolLayerClient).executeContractCreateInitcodeTransaction(captor.capture());
+        assertArrayEquals(new byte[]{0x60, (byte) 0x80, 0x60, 0x40, 0x52}, captor.getValue().initcode());
+        assertEquals(1, captor.getValue().constructorParams().size());
+        verify(fileClient, Mockito.never()).createFile(any(byte[].class));
+        verify(protocolLayerClient, Mockito.never()).executeContractCreateTransaction(any(ContractCreateRequest.class));
+    }
+
+    @Test
+    public void testCreateContract_UsingContents_TooLargeForInlineInitcode() throws HieroException {
+        final byte[] hexContents = "60".repeat(ContractCreateInitcodeRequest.MAX_INITCODE_SIZE + 1).getBytes();
+        when(fileClient.createFile(hexContents)).thenReturn(fileId);
+        when(protocolLayerClient.executeContractCreateTransaction(any(ContractCreateRequest.class))).thenReturn(resultMock);
+        when(resultMock.contractId()).thenReturn(contractId);
+
+        returnedContractId = smartContractClient.createContract(hexContents);
+
+        assertEquals(contractId, returnedContractId);
+        verify(fileClient).createFile(hexContents);
+        verify(fileClient).deleteFile(fileId);
+        verify(protocolLayerClient, Mockito.never()).executeContractCreateInitcodeTransaction(any());
+    }
+
+    @Test
+    public void testCallContractFunction_WithExplicitGas() throws HieroException {
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = Mockito.mock(
+                com.openelements.hiero.base.protocol.data.ContractCallResult.class);
+        when(callResult.contractFunctionResult()).thenReturn(Mockito.mock(ContractFunctionResult.class));
+        when(protocolLayerClient.executeContractCallTransaction(any(ContractCallRequest.class))).thenReturn(callResult);
+
+        smartContractClient.callContractFunction(contractId, "set", 42_000L, constructorParams);
+
+        final ArgumentCaptor<ContractCallRequest> captor = ArgumentCaptor.forClass(ContractCallRequest.class);
+        verify(protocolLayerClient).executeContractCallTransaction(captor.capture());
+        assertEquals(42_000L, captor.getValue().gas());
+        assertEquals("set", captor.getValue().functionName());
+    }
+
+    @Test
+    public void testCallContractFunction_WithGasEstimator() throws HieroException {
+        final ContractGasEstimator estimator = Mockito.mock(ContractGasEstimator.class);
+        smartContractClient.setGasEstimator(estimator);
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = Mockito.mock(
+                com.openelements.hiero.base.protocol.data.ContractCallResult.class);
+        when(callResult.contractFunctionResult()).thenReturn(Mockito.mock(ContractFunctionResult.class));
+        when(estimator.estimateCallGas(any(ContractId.class), any(String.class), any())).thenReturn(30_000L);
+        when(protocolLayerClient.executeContractCallTransaction(any(ContractCallRequest.class))).thenReturn(callResult);
+
+        smartContractClient.callContractFunction(contractId, "set", constructorParams);
+
+        final ArgumentCaptor<ContractCallRequest> captor = ArgumentCaptor.forClass(ContractCallRequest.class);
+        verify(protocolLayerClient).executeContractCallTransaction(captor.capture());
+        assertEquals(30_000L, captor.getValue().gas());
+    }
+
+    @Test
+    public void testCallContractFunction_FailingGasEstimatorUsesDefaultGas() throws HieroException {
+        final ContractGasEstimator estimator = Mockito.mock(ContractGasEstimator.class);
+        smartContractClient.setGasEstimator(estimator);
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = Mockito.mock(
+                com.openelements.hiero.base.protocol.data.ContractCallResult.class);
+        when(callResult.contractFunctionResult()).thenReturn(Mockito.mock(ContractFunctionResult.class));
+        when(estimator.estimateCallGas(any(ContractId.class), any(String.class), any()))
+                .thenThrow(new HieroException("revert"));
+        when(protocolLayerClient.executeContractCallTransaction(any(ContractCallRequest.class))).thenReturn(callResult);
+
+        smartContractClient.callContractFunction(contractId, "set", constructorParams);
+
+        final ArgumentCaptor<ContractCallRequest> captor = ArgumentCaptor.forClass(ContractCallRequest.class);
+        verify(protocolLayerClient).executeContractCallTransaction(captor.capture());
+        assertNull(captor.getValue().gas());
+    }
+
+    @Test
+    public void testQueryContractFunction_UsingMirrorNode() throws HieroException {
+        final MirrorNodeClient mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        smartContractClient.setMirrorNodeClient(mirrorNodeClient);
+        final byte[] encoded = new byte[32];
+        encoded[31] = 7;
+        when(mirrorNodeClient.simulateContractCall(any(ContractId.class), any(byte[].class))).thenReturn(encoded);
+
+        final ContractCallResult result = smartContractClient.queryContractFunction(contractId, "get");
+
+        assertEquals(7L, result.getUint64(0));
+        verify(mirrorNodeClient).simulateContractCall(Mockito.eq(contractId), any(byte[].class));
+        verify(protocolLayerClient, Mockito.never()).executeContractCallQuery(any());
+        verify(protocolLayerClient, Mockito.never()).executeContractCallTransaction(any());
+    }
+
+    @Test
+    public void testQueryContractFunction_UsingContractCallQuery() throws HieroException {
+        final ContractCallQueryResponse response = new ContractCallQueryResponse(
+                Mockito.mock(ContractFunctionResult.class));
+        when(protocolLayerClient.executeContractCallQuery(any(ContractCallQueryRequest.class))).thenReturn(response);
+
+        final ContractCallResult result = smartContractClient.queryContractFunction(contractId, "get",
+                constructorParams);
+
+        assertNotNull(result);
+        final ArgumentCaptor<ContractCallQueryRequest> captor = ArgumentCaptor.forClass(
+                ContractCallQueryRequest.class);
+        verify(protocolLayerClient).executeContractCallQuery(captor.capture());
+        assertEquals("get", captor.getValue().functionName());
+        assertEquals(1, captor.getValue().params().size());
+        verify(protocolLayerClient, Mockito.never()).executeContractCallTransaction(any());
+    }
+
+    @Test
+    public void testQueryContractFunction_ThrowsException() throws HieroException {
+        when(protocolLayerClient.executeContractCallQuery(any(ContractCallQueryRequest.class)))
+                .thenThrow(new HieroException("Failed"));
+
+        final HieroException exception = assertThrows(HieroException.class,
+                () -> smartContractClient.queryContractFunction(contractId, "get"));
+
+        assertTrue(exception.getMessage().contains("Failed to query function 'get'"));
+    }
+
+    @Test
+    public void testQueryContractFunction_WithResultCache() throws HieroException {
+        final MirrorNodeClient mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        smartContractClient.setMirrorNodeClient(mirrorNodeClient);
+        smartContractClient.setResultCache(new ContractCallResultCache());
+        final Instant consensusTimestamp = Instant.now();
+        when(mirrorNodeClient.simulateContractCall(any(ContractId.class), any(byte[].class))).thenReturn(new byte[32]);
+        when(mirrorNodeClient.queryLatestBlockTimestamp()).thenReturn(Optional.of(consensusTimestamp.minusSeconds(2)),
+                Optional.of(consensusTimestamp.minusSeconds(1)), Optional.of(consensusTimestamp));
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = Mockito.mock(
+                com.openelements.hiero.base.protocol.data.ContractCallResult.class);
+        when(callResult.contractFunctionResult()).thenReturn(Mockito.mock(ContractFunctionResult.class));
+        when(callResult.consensusTimestamp()).thenReturn(consensusTimestamp);
+        when(protocolLayerClient.executeContractCallTransaction(any(ContractCallRequest.class))).thenReturn(callResult);
+
+        smartContractClient.queryContractFunction(contractId, "get");
+        smartContractClient.queryContractFunction(contractId, "get");
+        smartContractClient.callContractFunction(contractId, "set", constructorParams);
+        // the mirror node has not imported the block of the function call yet
+        smartContractClient.queryContractFunction(contractId, "get");
+        smartContractClient.queryContractFunction(contractId, "get");
+        smartContractClient.queryContractFunction(contractId, "get");
+
+        verify(mirrorNodeClient, Mockito.times(3)).simulateContractCall(Mockito.eq(contractId), any(byte[].class));
+    }
+
+    @Test
+    public void testCallContract_WithCallData() throws HieroException {
+        final ContractGasEstimator estimator = Mockito.mock(ContractGasEstimator.class);
+        smartContractClient.setGasEstimator(estimator);
+        final byte[] callData = HexFormat.of().parseHex("60fe47b1" + "00".repeat(31) + "2a");
+        final com.openelements.hiero.base.protocol.data.ContractCallResult callResult = Mockito.mock(
+                com.openelements.hiero.base.protocol.data.ContractCallResult.class);
+        when(callResult.contractFunctionResult()).thenReturn(Mockito.mock(ContractFunctionResult.class));
+        when(estimator.estimateCallGas(any(ContractId.class), any(byte[].class))).thenReturn(30_000L);
+        when(protocolLayerClient.executeContractCallDataTransaction(any(ContractCallDataRequest.class)))
+                .thenReturn(callResult);
+
+        smartContractClient.callContract(contractId, callData);
+
+        final ArgumentCaptor<ContractCallDataRequest> captor = ArgumentCaptor.forClass(ContractCallDataRequest.class);
+        verify(protocolLayerClient).executeContractCallDataTransaction(captor.capture());
+        assertArrayEquals(callData, captor.getValue().callData());
+        assertEquals(30_000L, captor.getValue().gas());
+        verify(protocolLayerClient, Mockito.never()).executeContractCallTransaction(any());
+    }
+
+    @Test
+    public void testQueryContract_WithCallData() throws HieroException {
+        final byte[] callData = HexFormat.of().parseHex("6d4ce63c");
+        final ContractCallQueryResponse response = new ContractCallQueryResponse(
+                Mockito.mock(ContractFunctionResult.class));
+        when(protocolLayerClient.executeContractCallDataQuery(any(ContractCallDataQueryRequest.class)))
+                .thenReturn(response);
+
+        final ContractCallResult result = smartContractClient.queryContract(contractId, callData);
+
+        assertNotNull(result);
+        final ArgumentCaptor<ContractCallDataQueryRequest> captor = ArgumentCaptor.forClass(
+                ContractCallDataQueryRequest.class);
+        verify(protocolLayerClient).executeContractCallDataQuery(captor.capture());
+        assertArrayEquals(callData, captor.getValue().callData());
+        verify(protocolLayerClient, Mockito.never()).executeContractCallDataTransaction(any());
+    }
+
+    @Test
+    public void testQueryContract_WithInvalidCallData() {
+        assertThrows(HieroException.class, () -> smartContractClient.queryContract(contractId, new byte[2]));
+        assertThrows(NullPointerException.class, () -> smartContractClient.queryContract(contractId, null));
+    }
+
+    private static ContractParam<?> multicallResult(boolean success, long value) {
+        return ContractParam.tuple(ContractParam.bool(success),
+                ContractParam.bytes(AbiEncoder.encodeParameters(List.of(ContractParam.uint256(value)))));
+    }
+
+    private static byte[] multicallReturnData(ContractParam<?>... results) {
+        return AbiEncoder.encodeParameters(List.of(ContractParam.array("(bool,bytes)", List.of(results))));
+    }
+
+    @Test
+    public void testMulticall() throws HieroException {
+        final MirrorNodeClient mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        smartContractClient.setMirrorNodeClient(mirrorNodeClient);
+        final ContractId multicallContract = ContractId.fromString("0.0.999");
+        when(mirrorNodeClient.simulateContractCall(any(ContractId.class), any(byte[].class)))
+                .thenReturn(multicallReturnData(multicallResult(true, 7), multicallResult(true, 9)));
+
+        final List<Optional<ContractCallResult>> results = smartContractClient.multicall(multicallContract,
+                List.of(ContractRead.of(contractId, "get"), ContractRead.of(ContractId.fromString("0.0.124"), "balanceOf",
+                        ContractParam.uint256(1))));
+
+        assertEquals(2, results.size());
+        assertEquals(7L, results.get(0).orElseThrow().getUint64(0));
+        assertEquals(9L, results.get(1).orElseThrow().getUint64(0));
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(mirrorNodeClient).simulateContractCall(Mockito.eq(multicallContract), captor.capture());
+        assertEquals("82ad56cb", HexFormat.of().formatHex(captor.getValue(), 0, 4));
+        // allowFailure of the first call: selector, array offset, length, 2 tuple offsets, address, bool
+        assertEquals(1, captor.getValue()[4 + 6 * 32 - 1]);
+        verify(protocolLayerClient, Mockito.never()).executeContractCallQuery(any());
+    }
+
+    @Test
+    public void testMulticall_FailedRead() throws HieroException {
+        final MirrorNodeClient mirrorNodeClient = Mockito.mock(MirrorNodeClient.class);
+        smartContractClient.setMirrorNodeClient(mirrorNodeClient);
+        when(mirrorNodeClient.simulateContractCall(any(ContractId.class), any(byte[].class)))
+                .thenReturn(multicallReturnData(multicallResult(false, 7), multicallResult(true, 9)));
+
+        final List<Optional<ContractCallResult>> results = smartContractClient.multicall(
+                ContractId.fromString("0.0.999"), List.of(ContractRead.of(contractId, "get"),
+                        ContractRead.of(contractId, "get")));
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isEmpty());
+        assertEquals(9L, results.get(1).orElseThrow().getUint64(0));
+    }
+
+    @Test
+    public void testMulticall_NoReads() throws HieroException {
+        final List<Optional<ContractCallResult>> results = smartContractClient.multicall(
+                ContractId.fromString("0.0.999"), List.of());
+
+        assertTrue(results.isEmpty());
+        verify(protocolLayerClient, Mockito.never()).executeContractCallQuery(any());
+    }
 }
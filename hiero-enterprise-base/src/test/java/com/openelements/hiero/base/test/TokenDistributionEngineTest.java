@@ -0,0 +1,263 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TransactionInfo;
+import com.openelements.hiero.base.implementation.TokenDistributionEngineImpl;
+import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.payment.TokenDistributionJournal;
+import com.openelements.hiero.base.payment.TokenDistributionJournalEntry;
+import com.openelements.hiero.base.payment.TokenDistributionJournalEntry.State;
+import com.openelements.hiero.base.payment.TokenDistributionMetrics;
+import com.openelements.hiero.base.payment.TokenDistributionRecipient;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
+import com.openelements.hiero.base.protocol.data.TransactionType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TokenDistributionEngineTest {
+
+    private final TokenId tokenId = TokenId.fromString("0.0.4711");
+
+    private final AccountId operatorId = AccountId.fromString("0.0.2");
+
+    private ProtocolLayerClient protocolLayerClient;
+
+    private TransactionRepository transactionRepository;
+
+    private CryptoTransferResult result;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        transactionRepository = Mockito.mock(TransactionRepository.class);
+        result = new CryptoTransferResult(TransactionId.generate(operatorId), Status.SUCCESS);
+        when(protocolLayerClient.getOperatorAccountId()).thenReturn(operatorId);
+        when(protocolLayerClient.executeCryptoTransferTransaction(any(CryptoTransferRequest.class)))
+                .thenReturn(result);
+    }
+
+    private static List<TokenDistributionRecipient> recipients(final int count, final long amount) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TokenDistributionRecipient.of(AccountId.fromString("0.0." + (1000 + i)), amount))
+                .toList();
+    }
+
+    private static TransactionInfo transaction(final String transactionId, final String result) {
+        return new TransactionInfo(transactionId, new byte[0], 0, Instant.now(), null, "0", new byte[0],
+                TransactionType.CRYPTO_TRANSFER, List.of(), null, 0, null, result, false, List.of(), List.of(),
+                new byte[0], List.of(), "120", Instant.now());
+    }
+
+    @Test
+    void testRecipientsArePackedIntoTransactions() throws Exception {
+        //given
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository, 4);
+        final List<TokenDistributionRecipient> recipients = recipients(20, 5);
+
+        //when
+        final TokenDistributionMetrics metrics = engine.distribute(tokenId, null, recipients.stream(),
+                recipients.size(), TokenDistributionJournal.inMemory()).getResult().get(5, TimeUnit.SECONDS);
+
+        //then
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(3)).executeCryptoTransferTransaction(captor.capture());
+        final Map<AccountId, Long> received = new HashMap<>();
+        long sent = 0;
+        for (final CryptoTransferRequest request : captor.getAllValues()) {
+            Assertions.assertTrue(request.hbarTransfers().isEmpty());
+            Assertions.assertTrue(request.signingKeys().isEmpty());
+            final Map<AccountId, Long> transfers = request.tokenTransfers().get(tokenId);
+            Assertions.assertTrue(transfers.size() <= CryptoTransferRequest.MAX_TOKEN_TRANSFERS);
+            sent -= transfers.get(operatorId);
+            transfers.forEach((accountId, amount) -> {
+                if (!accountId.equals(operatorId)) {
+                    received.put(accountId, amount);
+                }
+            });
+        }
+        Assertions.assertEquals(100, sent);
+        Assertions.assertEquals(recipients.stream().collect(Collectors.toMap(TokenDistributionRecipient::accountId,
+                TokenDistributionRecipient::amount)), received);
+        Assertions.assertEquals(20, metrics.paidRecipients());
+        Assertions.assertEquals(3, metrics.executedTransactions());
+        Assertions.assertEquals(Duration.ZERO, metrics.estimatedTimeRemaining());
+    }
+
+    @Test
+    void testDistributionIsResumedWithoutPayingTwice() throws Exception {
+        //given
+        when(protocolLayerClient.executeCryptoTransferTransaction(any(CryptoTransferRequest.class)))
+                .thenReturn(result)
+                .thenThrow(new HieroException("Failed to receive receipt"))
+                .thenReturn(result);
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository, 1);
+        final TokenDistributionJournal journal = TokenDistributionJournal.inMemory();
+        final List<TokenDistributionRecipient> recipients = recipients(27, 1);
+
+        //when
+        final TokenDistributionMetrics first = engine.distribute(tokenId, null, recipients.stream(), 27, journal)
+                .getResult().get(5, TimeUnit.SECONDS);
+        final TokenDistributionMetrics second = engine.distribute(tokenId, null, recipients.stream(), 27, journal)
+                .getResult().get(5, TimeUnit.SECONDS);
+
+        //then
+        verify(protocolLayerClient, times(3)).executeCryptoTransferTransaction(any(CryptoTransferRequest.class));
+        Assertions.assertEquals(18, first.paidRecipients());
+        Assertions.assertEquals(9, first.inDoubtRecipients());
+        Assertions.assertEquals(0, second.paidRecipients());
+        Assertions.assertEquals(18, second.skippedRecipients());
+        Assertions.assertEquals(9, second.inDoubtRecipients());
+        Assertions.assertEquals(27, second.handledRecipients());
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(3)).executeCryptoTransferTransaction(captor.capture());
+        final TransactionId inDoubtTransactionId = captor.getAllValues().get(1).transactionId();
+        Assertions.assertNotNull(inDoubtTransactionId);
+        Assertions.assertEquals(List.of(State.SUBMITTED), journal.load().stream()
+                .filter(entry -> entry.batch() == 1)
+                .map(TokenDistributionJournalEntry::state)
+                .toList());
+        Assertions.assertTrue(journal.load().stream()
+                .anyMatch(entry -> entry.batch() == 1 && inDoubtTransactionId.equals(entry.transactionId())));
+    }
+
+    @Test
+    void testInDoubtBatchesAreResolvedByTheMirrorNode() throws Exception {
+        //given
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository, 1);
+        final List<TokenDistributionRecipient> recipients = recipients(27, 1);
+        final TokenDistributionJournal completedRun = TokenDistributionJournal.inMemory();
+        engine.distribute(tokenId, null, recipients.stream(), 27, completedRun).getResult().get(5, TimeUnit.SECONDS);
+        final List<String> fingerprints = completedRun.load().stream()
+                .filter(entry -> entry.state() == State.COMPLETED)
+                .map(TokenDistributionJournalEntry::fingerprint)
+                .toList();
+        final TransactionId executed = TransactionId.withValidStart(operatorId, Instant.ofEpochSecond(1_000, 1));
+        final TransactionId expired = TransactionId.withValidStart(operatorId, Instant.ofEpochSecond(2_000, 2));
+        final TransactionId pending = TransactionId.generate(operatorId);
+        final TokenDistributionJournal journal = TokenDistributionJournal.inMemory();
+        journal.append(new TokenDistributionJournalEntry(0, fingerprints.get(0), State.SUBMITTED, executed));
+        journal.append(new TokenDistributionJournalEntry(1, fingerprints.get(1), State.SUBMITTED, expired));
+        journal.append(new TokenDistributionJournalEntry(2, fingerprints.get(2), State.SUBMITTED, pending));
+        when(transactionRepository.findById("0.0.2-1000-000000001"))
+                .thenReturn(Optional.of(transaction("0.0.2-1000-000000001", "SUCCESS")));
+        when(transactionRepository.findById("0.0.2-2000-000000002")).thenReturn(Optional.empty());
+        Mockito.clearInvocations(protocolLayerClient);
+
+        //when
+        final TokenDistributionMetrics metrics = engine.distribute(tokenId, null, recipients.stream(), 27, journal)
+                .getResult().get(5, TimeUnit.SECONDS);
+
+        //then
+        verify(protocolLayerClient, times(1)).executeCryptoTransferTransaction(any(CryptoTransferRequest.class));
+        Assertions.assertEquals(9, metrics.skippedRecipients());
+        Assertions.assertEquals(9, metrics.paidRecipients());
+        Assertions.assertEquals(9, metrics.inDoubtRecipients());
+        final List<TokenDistributionJournalEntry> entries = journal.load();
+        Assertions.assertTrue(entries.contains(new TokenDistributionJournalEntry(0, fingerprints.get(0),
+                State.COMPLETED, executed)));
+        Assertions.assertTrue(entries.contains(new TokenDistributionJournalEntry(1, fingerprints.get(1),
+                State.FAILED, expired)));
+        Assertions.assertEquals(State.COMPLETED, entries.get(entries.size() - 1).state());
+    }
+
+    @Test
+    void testChangedRecipientsFailDistribution() throws Exception {
+        //given
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository);
+        final TokenDistributionJournal journal = TokenDistributionJournal.inMemory();
+        engine.distribute(tokenId, null, recipients(10, 1).stream(), 10, journal)
+                .getResult().get(5, TimeUnit.SECONDS);
+
+        //when
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> engine.distribute(tokenId, null, recipients(10, 2).stream(), 10, journal)
+                        .getResult().get(5, TimeUnit.SECONDS));
+
+        //then
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        verify(protocolLayerClient, times(2)).executeCryptoTransferTransaction(any(CryptoTransferRequest.class));
+    }
+
+    @Test
+    void testDistributionFromFileWithFileJournal(@TempDir final Path directory) throws Exception {
+        //given
+        final Path recipientsFile = directory.resolve("recipients.csv");
+        Files.writeString(recipientsFile, "# holders\n0.0.1001,10\n\n0.0.1002, 20\n0.0.1001,5\n",
+                StandardCharsets.UTF_8);
+        final Path journalFile = directory.resolve("distribution.journal");
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository);
+
+        //when
+        final TokenDistributionMetrics metrics = engine.distribute(tokenId, null, recipientsFile,
+                TokenDistributionJournal.ofFile(journalFile)).getResult().get(5, TimeUnit.SECONDS);
+        Files.writeString(journalFile, "1 SUBM", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        final List<TokenDistributionJournalEntry> entries = TokenDistributionJournal.ofFile(journalFile).load();
+
+        //then
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(1)).executeCryptoTransferTransaction(captor.capture());
+        Assertions.assertEquals(Map.of(operatorId, -35L, AccountId.fromString("0.0.1001"), 15L,
+                AccountId.fromString("0.0.1002"), 20L), captor.getValue().tokenTransfers().get(tokenId));
+        Assertions.assertEquals(3, metrics.expectedRecipients());
+        Assertions.assertEquals(3, metrics.paidRecipients());
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals(State.SUBMITTED, entries.get(0).state());
+        Assertions.assertEquals(State.COMPLETED, entries.get(1).state());
+        Assertions.assertEquals(result.transactionId(), entries.get(1).transactionId());
+    }
+
+    @Test
+    void testInvalidDistributions() {
+        //given
+        final TokenDistributionEngineImpl engine = new TokenDistributionEngineImpl(protocolLayerClient,
+                transactionRepository);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TokenDistributionRecipient.of(AccountId.fromString("0.0.1001"), 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenDistributionRecipient.parse("0.0.1001"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TokenDistributionEngineImpl(
+                protocolLayerClient, transactionRepository, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> engine.distribute(tokenId, null,
+                (Stream<TokenDistributionRecipient>) null, 0, TokenDistributionJournal.inMemory()));
+        final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> engine.distribute(tokenId, null, Stream.of(TokenDistributionRecipient.of(operatorId, 1)), 1,
+                        TokenDistributionJournal.inMemory()).getResult().get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+}
@@ -1,7 +1,10 @@
 package com.openelements.hiero.base.test;
 
+import com.hedera.hashgraph.sdk.AccountId;
 import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
 import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
 import com.openelements.hiero.base.HieroException;
 import com.openelements.hiero.base.data.Account;
 import com.openelements.hiero.base.implementation.TopicClientImpl;
@@ -12,8 +15,11 @@ import com.openelements.hiero.base.protocol.data.TopicUpdateRequest;
 import com.openelements.hiero.base.protocol.data.TopicUpdateResult;
 import com.openelements.hiero.base.protocol.data.TopicDeleteRequest;
 import com.openelements.hiero.base.protocol.data.TopicDeleteResult;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageResult;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
 import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -587,4 +593,40 @@ public class TopicClientImplTest {
         Assertions.assertThrows(NullPointerException.class, () -> topicClient.submitMessage((TopicId) null, (String)null));
         Assertions.assertThrows(NullPointerException.class, () -> topicClient.submitMessage((TopicId) null, null, (String)null));
     }
+
+    @Test
+    void shouldSubmitChunkedMessage() throws HieroException {
+        // given
+        final TopicId topicId = TopicId.fromString("1.2.3");
+        final byte[] message = new byte[5000];
+        final TransactionId transactionId = TransactionId.generate(AccountId.fromString("0.0.2"));
+        final ArgumentCaptor<TopicSubmitChunkedMessageRequest> captor =
+                ArgumentCaptor.forClass(TopicSubmitChunkedMessageRequest.class);
+
+        // when
+        when(protocolLayerClient.executeChunkedTopicMessageSubmitTransaction(any(TopicSubmitChunkedMessageRequest.class)))
+                .thenReturn(new TopicSubmitChunkedMessageResult(transactionId, Status.SUCCESS, List.of(transactionId)));
+        topicClient.submitChunkedMessage(topicId, message);
+
+        // then
+        verify(protocolLayerClient, times(1)).executeChunkedTopicMessageSubmitTransaction(captor.capture());
+        Assertions.assertEquals(topicId, captor.getValue().topicId());
+        Assertions.assertEquals(5, captor.getValue().chunkCount());
+        Assertions.assertNull(captor.getValue().submitKey());
+    }
+
+    @Test
+    void shouldThrowExceptionIfChunkedMessageFails() throws HieroException {
+        // given
+        final TopicId topicId = TopicId.fromString("1.2.3");
+        final TransactionId transactionId = TransactionId.generate(AccountId.fromString("0.0.2"));
+
+        // when
+        when(protocolLayerClient.executeChunkedTopicMessageSubmitTransaction(any(TopicSubmitChunkedMessageRequest.class)))
+                .thenReturn(new TopicSubmitChunkedMessageResult(transactionId, Status.INVALID_CHUNK_NUMBER,
+                        List.of(transactionId)));
+
+        // then
+        Assertions.assertThrows(HieroException.class, () -> topicClient.submitChunkedMessage(topicId, new byte[2000]));
+    }
 }
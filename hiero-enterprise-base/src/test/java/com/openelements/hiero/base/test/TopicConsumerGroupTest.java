@@ -0,0 +1,216 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.TopicConsumerGroupImpl;
+import com.openelements.hiero.base.implementation.TopicSubscriptionManagerImpl;
+import com.openelements.hiero.base.messaging.TopicCheckpoint;
+import com.openelements.hiero.base.messaging.TopicGroupCoordinationStore;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicConsumerGroupTest {
+
+    private static final String GROUP = "payments";
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final List<TopicId> TOPICS = IntStream.rangeClosed(1, 4)
+            .mapToObj(i -> TopicId.fromString("0.0." + (1000 + i)))
+            .toList();
+
+    private final Map<TopicId, List<TopicMessage>> history = new ConcurrentHashMap<>();
+
+    private final List<TopicConsumerGroupImpl> members = new ArrayList<>();
+
+    private final TopicSubscriptionManagerImpl subscriptionManager = new TopicSubscriptionManagerImpl(
+            new TestSource(), 100, Duration.ofMillis(10));
+
+    private final TopicGroupCoordinationStore store = TopicGroupCoordinationStore.inMemory();
+
+    private static TopicMessage message(TopicId topicId, long sequenceNumber) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber), "message " + sequenceNumber,
+                AccountId.fromString("0.0.1001"), new byte[48], 3, sequenceNumber, topicId);
+    }
+
+    private void append(int count) {
+        for (TopicId topicId : TOPICS) {
+            final List<TopicMessage> messages = history.computeIfAbsent(topicId, id -> new CopyOnWriteArrayList<>());
+            final int last = messages.size();
+            IntStream.rangeClosed(last + 1, last + count).forEach(i -> messages.add(message(topicId, i)));
+        }
+    }
+
+    /**
+     * Source that sends the messages of the history that are not older than the start time.
+     */
+    private class TestSource implements TopicMessageSource {
+
+        @Override
+        public @NonNull Connection open(@NonNull TopicId topicId, @Nullable Instant startTime,
+                @NonNull Listener listener) {
+            for (TopicMessage message : history.getOrDefault(topicId, List.of())) {
+                if (startTime == null || !message.consensusTimestamp().isBefore(startTime)) {
+                    listener.onMessage(message);
+                }
+            }
+            return () -> {
+            };
+        }
+    }
+
+    private TopicConsumerGroupImpl join(String memberId, List<TopicMessage> received) {
+        final TopicConsumerGroupImpl member = TopicConsumerGroupImpl.join(subscriptionManager, store, GROUP, memberId,
+                TOPICS, received::add, START, Duration.ofMinutes(1));
+        members.add(member);
+        return member;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "condition not reached");
+            Thread.sleep(10);
+        }
+    }
+
+    @AfterEach
+    void close() {
+        members.forEach(TopicConsumerGroupImpl::close);
+        subscriptionManager.close();
+    }
+
+    @Test
+    void testTopicsAreSplitBetweenMembers() {
+        //given
+        final TopicConsumerGroupImpl first = join("member-1", new CopyOnWriteArrayList<>());
+        final TopicConsumerGroupImpl second = join("member-2", new CopyOnWriteArrayList<>());
+
+        //when
+        first.rebalance();
+        second.rebalance();
+        first.rebalance();
+
+        //then
+        Assertions.assertEquals(Set.of("member-1", "member-2"), first.getMembers());
+        Assertions.assertEquals(2, first.getAssignedTopics().size());
+        Assertions.assertEquals(2, second.getAssignedTopics().size());
+        final Set<TopicId> all = new HashSet<>(first.getAssignedTopics());
+        all.addAll(second.getAssignedTopics());
+        Assertions.assertEquals(Set.copyOf(TOPICS), all);
+    }
+
+    @Test
+    void testRebalanceOnLeave() {
+        //given
+        final TopicConsumerGroupImpl first = join("member-1", new CopyOnWriteArrayList<>());
+        final TopicConsumerGroupImpl second = join("member-2", new CopyOnWriteArrayList<>());
+        first.rebalance();
+        second.rebalance();
+
+        //when
+        second.close();
+        first.rebalance();
+
+        //then
+        Assertions.assertEquals(Set.of("member-1"), first.getMembers());
+        Assertions.assertEquals(Set.copyOf(TOPICS), first.getAssignedTopics());
+        Assertions.assertEquals(Set.of("member-1"), store.getMembers(GROUP, Instant.EPOCH));
+    }
+
+    @Test
+    void testMemberContinuesAfterCommittedCheckpoint() throws InterruptedException {
+        //given
+        append(3);
+        final List<TopicMessage> firstReceived = new CopyOnWriteArrayList<>();
+        final TopicConsumerGroupImpl first = join("member-1", firstReceived);
+        first.rebalance();
+        await(() -> firstReceived.size() == 12 && TOPICS.stream()
+                .allMatch(topicId -> store.loadCheckpoint(GROUP, topicId).isPresent()
+                        && store.loadCheckpoint(GROUP, topicId).get().sequenceNumber() == 3));
+        first.close();
+
+        //when
+        append(2);
+        final List<TopicMessage> secondReceived = new CopyOnWriteArrayList<>();
+        final TopicConsumerGroupImpl second = join("member-2", secondReceived);
+        second.rebalance();
+        await(() -> secondReceived.size() >= 8);
+
+        //then
+        Assertions.assertEquals(8, secondReceived.size());
+        Assertions.assertTrue(secondReceived.stream().allMatch(message -> message.sequenceNumber() > 3));
+        Assertions.assertEquals(Set.copyOf(TOPICS), second.getAssignedTopics());
+    }
+
+    @Test
+    void testAssignmentIsBalancedAndDeterministic() {
+        //given
+        final List<TopicId> topics = IntStream.range(0, 40)
+                .mapToObj(i -> TopicId.fromString("0.0." + (5000 + i)))
+                .toList();
+        final List<String> memberIds = IntStream.range(0, 12).mapToObj(i -> "replica-" + i).toList();
+
+        //when
+        final Map<String, Set<TopicId>> assignment = TopicConsumerGroupImpl.assign(topics, memberIds);
+        final Map<String, Set<TopicId>> reversed = TopicConsumerGroupImpl.assign(topics.reversed(),
+                memberIds.reversed());
+
+        //then
+        Assertions.assertEquals(assignment, reversed);
+        Assertions.assertEquals(12, assignment.size());
+        Assertions.assertTrue(assignment.values().stream().allMatch(set -> set.size() == 3 || set.size() == 4));
+        final Set<TopicId> all = new HashSet<>();
+        assignment.values().forEach(set -> set.forEach(topicId -> Assertions.assertTrue(all.add(topicId))));
+        Assertions.assertEquals(Set.copyOf(topics), all);
+    }
+
+    @Test
+    void testInMemoryStore() {
+        //given
+        final TopicId topicId = TOPICS.get(0);
+        final TopicGroupCoordinationStore coordinationStore = TopicGroupCoordinationStore.inMemory();
+
+        //when
+        coordinationStore.heartbeat(GROUP, "member-1", START);
+        coordinationStore.heartbeat(GROUP, "member-2", START.plusSeconds(10));
+        coordinationStore.commitCheckpoint(GROUP, topicId, "member-1", TopicCheckpoint.of(5, START));
+        coordinationStore.commitCheckpoint(GROUP, topicId, "member-2", TopicCheckpoint.of(4, START));
+
+        //then
+        Assertions.assertEquals(Set.of("member-1", "member-2"), coordinationStore.getMembers(GROUP, START));
+        Assertions.assertEquals(Set.of("member-2"), coordinationStore.getMembers(GROUP, START.plusSeconds(5)));
+        Assertions.assertEquals(Set.of(), coordinationStore.getMembers("other", START));
+        Assertions.assertEquals(5, coordinationStore.loadCheckpoint(GROUP, topicId).orElseThrow().sequenceNumber());
+        Assertions.assertTrue(coordinationStore.loadCheckpoint("other", topicId).isEmpty());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> TopicConsumerGroupImpl.join(subscriptionManager, store, null, TOPICS, message -> {
+                }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicConsumerGroupImpl.join(subscriptionManager, store, GROUP, "member", TOPICS, message -> {
+                }, null, Duration.ZERO));
+        Assertions.assertThrows(NullPointerException.class, () -> TopicGroupCoordinationStore.ofDataSource(null));
+        Assertions.assertThrows(NullPointerException.class, () -> store.heartbeat(GROUP, null, START));
+    }
+}
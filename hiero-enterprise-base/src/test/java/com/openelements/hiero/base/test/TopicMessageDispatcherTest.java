@@ -0,0 +1,201 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.TopicMessageDispatcherImpl;
+import com.openelements.hiero.base.messaging.TopicDispatchMetrics;
+import com.openelements.hiero.base.messaging.TopicMessageDispatcher;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicMessageDispatcherTest {
+
+    private static final TopicId FAST_TOPIC = TopicId.fromString("0.0.1001");
+
+    private static final TopicId SLOW_TOPIC = TopicId.fromString("0.0.1002");
+
+    private static TopicMessage message(TopicId topicId, long sequenceNumber) {
+        return new TopicMessage(null, Instant.now(), "message " + sequenceNumber, AccountId.fromString("0.0.2"),
+                new byte[48], 3, sequenceNumber, topicId);
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS), "Timeout while waiting for handler");
+    }
+
+    @Test
+    void testOrderPerTopic() throws Exception {
+        //given
+        final Map<TopicId, List<Long>> received = new ConcurrentHashMap<>();
+        final Consumer<TopicMessage> handler = message -> received
+                .computeIfAbsent(message.topicId(), id -> new CopyOnWriteArrayList<>())
+                .add(message.sequenceNumber());
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        //when
+        try (TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl()) {
+            for (long i = 1; i <= 1_000; i++) {
+                futures.add(dispatcher.dispatch(message(FAST_TOPIC, i), handler));
+                futures.add(dispatcher.dispatch(message(SLOW_TOPIC, i), handler));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final List<Long> expected = LongStream.rangeClosed(1, 1_000).boxed().toList();
+        Assertions.assertEquals(expected, received.get(FAST_TOPIC));
+        Assertions.assertEquals(expected, received.get(SLOW_TOPIC));
+    }
+
+    @Test
+    void testSlowTopicDoesNotBlockOtherTopics() throws Exception {
+        //given
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch fastHandled = new CountDownLatch(100);
+        final Consumer<TopicMessage> handler = message -> {
+            if (message.topicId().equals(SLOW_TOPIC)) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                fastHandled.countDown();
+            }
+        };
+
+        try (TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl()) {
+            //when
+            final CompletableFuture<Void> slow = dispatcher.dispatch(message(SLOW_TOPIC, 1), handler);
+            for (long i = 1; i <= 100; i++) {
+                dispatcher.dispatch(message(FAST_TOPIC, i), handler);
+            }
+
+            //then
+            await(fastHandled);
+            Assertions.assertFalse(slow.isDone());
+            release.countDown();
+            slow.get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testBoundedQueue() throws Exception {
+        //given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Consumer<TopicMessage> handler = message -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        final TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl(TopicMessage::topicId, 2);
+
+        //when
+        final CompletableFuture<Void> first = dispatcher.dispatch(message(SLOW_TOPIC, 1), handler);
+        await(started);
+        final Optional<CompletableFuture<Void>> second = dispatcher.tryDispatch(message(SLOW_TOPIC, 2), handler);
+        final Optional<CompletableFuture<Void>> third = dispatcher.tryDispatch(message(SLOW_TOPIC, 3), handler);
+        final Optional<CompletableFuture<Void>> fourth = dispatcher.tryDispatch(message(SLOW_TOPIC, 4), handler);
+        final Optional<CompletableFuture<Void>> otherTopic = dispatcher.tryDispatch(message(FAST_TOPIC, 1),
+                message -> {});
+        dispatcher.close();
+        release.countDown();
+
+        //then
+        Assertions.assertTrue(second.isPresent());
+        Assertions.assertTrue(third.isPresent());
+        Assertions.assertTrue(fourth.isEmpty());
+        Assertions.assertTrue(otherTopic.isPresent());
+        first.get(5, TimeUnit.SECONDS);
+        Assertions.assertTrue(second.get().isCancelled());
+        Assertions.assertTrue(third.get().isCancelled());
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> dispatcher.tryDispatch(message(SLOW_TOPIC, 5), handler));
+    }
+
+    @Test
+    void testMetrics() throws Exception {
+        //given
+        final Consumer<TopicMessage> handler = message -> {
+            if (message.sequenceNumber() % 2 == 0) {
+                throw new IllegalStateException("Failed " + message.sequenceNumber());
+            }
+        };
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        try (TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl()) {
+            //when
+            for (long i = 1; i <= 10; i++) {
+                futures.add(dispatcher.dispatch(message(FAST_TOPIC, i), handler));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null)
+                    .get(5, TimeUnit.SECONDS);
+            final List<TopicDispatchMetrics> metrics = dispatcher.getMetrics();
+
+            //then
+            Assertions.assertEquals(1, metrics.size());
+            final TopicDispatchMetrics topicMetrics = metrics.get(0);
+            Assertions.assertEquals(FAST_TOPIC, topicMetrics.key());
+            Assertions.assertEquals(0, topicMetrics.queueDepth());
+            Assertions.assertEquals(10, topicMetrics.handledMessages());
+            Assertions.assertEquals(5, topicMetrics.failedMessages());
+            Assertions.assertTrue(topicMetrics.maxLatency().compareTo(topicMetrics.averageLatency()) >= 0);
+            Assertions.assertTrue(futures.get(1).isCompletedExceptionally());
+            Assertions.assertFalse(futures.get(0).isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    void testSubscriber() throws Exception {
+        //given
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final CountDownLatch handled = new CountDownLatch(50);
+        final Consumer<TopicMessage> handler = message -> {
+            received.add(message.sequenceNumber());
+            handled.countDown();
+        };
+
+        //when
+        try (TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl(TopicMessage::topicId, 4);
+                SubmissionPublisher<TopicMessage> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(dispatcher.subscriber(handler));
+            for (long i = 1; i <= 50; i++) {
+                publisher.submit(message(FAST_TOPIC, i));
+            }
+            await(handled);
+        }
+
+        //then
+        Assertions.assertEquals(LongStream.rangeClosed(1, 50).boxed().toList(), received);
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicMessageDispatcherImpl(null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TopicMessageDispatcherImpl(TopicMessage::topicId, 0));
+        try (TopicMessageDispatcher dispatcher = new TopicMessageDispatcherImpl()) {
+            Assertions.assertThrows(NullPointerException.class, () -> dispatcher.dispatch(null, message -> {}));
+            Assertions.assertThrows(NullPointerException.class,
+                    () -> dispatcher.dispatch(message(FAST_TOPIC, 1), null));
+        }
+    }
+}
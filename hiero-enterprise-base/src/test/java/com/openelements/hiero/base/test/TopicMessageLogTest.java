@@ -0,0 +1,229 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.implementation.TopicMessageLogImpl;
+import com.openelements.hiero.base.implementation.TopicMessageLogRepository;
+import com.openelements.hiero.base.messaging.TopicMessageLog;
+import com.openelements.hiero.base.messaging.TopicMessageLogRetention;
+import com.openelements.hiero.base.mirrornode.TopicRepository;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+public class TopicMessageLogTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final int SEGMENT_SIZE = 8 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private TopicMessageLog log;
+
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber).plusNanos(sequenceNumber),
+                "message " + sequenceNumber, AccountId.fromString("0.0.1001"), new byte[48], 3, sequenceNumber,
+                TOPIC_ID);
+    }
+
+    private static List<Long> sequenceNumbers(Stream<TopicMessage> messages) {
+        try (messages) {
+            return messages.map(TopicMessage::sequenceNumber).toList();
+        }
+    }
+
+    private static List<Long> range(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+
+    private TopicMessageLog open(TopicMessageLogRetention retention) {
+        log = new TopicMessageLogImpl(directory, retention, SEGMENT_SIZE);
+        return log;
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory.resolve(TOPIC_ID.toString()))) {
+            return files.filter(file -> file.toString().endsWith(".log")).count();
+        }
+    }
+
+    @AfterEach
+    void close() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    void testAppendAndRead() {
+        //given
+        final TopicMessage chunk = new TopicMessage(
+                new ChunkInfo(TransactionId.fromString("0.0.1001@1700000000.000000001"), 0, 1, 2, false),
+                START, "chunk", AccountId.fromString("0.0.1001"), new byte[]{1, 2, 3}, 3, 1, TOPIC_ID);
+        final TopicMessageLog log = open(TopicMessageLogRetention.unlimited());
+
+        //when
+        final boolean appended = log.append(chunk);
+        final int appendedMessages = log.append(List.of(message(1), message(2), message(3)));
+
+        //then
+        Assertions.assertTrue(appended);
+        Assertions.assertEquals(2, appendedMessages);
+        final TopicMessage read = log.read(TOPIC_ID, 1).orElseThrow();
+        Assertions.assertEquals(chunk.chunkInfo(), read.chunkInfo());
+        Assertions.assertEquals(chunk.consensusTimestamp(), read.consensusTimestamp());
+        Assertions.assertEquals("chunk", read.message());
+        Assertions.assertArrayEquals(new byte[]{1, 2, 3}, read.runningHash());
+        Assertions.assertEquals(List.of(2L, 3L), sequenceNumbers(log.read(TOPIC_ID, 2, 10)));
+        Assertions.assertTrue(log.read(TOPIC_ID, 4).isEmpty());
+        Assertions.assertTrue(log.read(TopicId.fromString("0.0.1"), 1).isEmpty());
+        Assertions.assertEquals(OptionalLong.of(1), log.getFirstSequenceNumber(TOPIC_ID));
+        Assertions.assertEquals(OptionalLong.of(3), log.getLastSequenceNumber(TOPIC_ID));
+    }
+
+    @Test
+    void testBinaryPayload() {
+        //given
+        final byte[] payload = new byte[]{(byte) 0xC3, 0x28, (byte) 0xFF, 0x00};
+        final TopicMessage binary = new TopicMessage(null, START, TopicMessagePayload.of(payload),
+                AccountId.fromString("0.0.1001"), new byte[48], 3, 1, TOPIC_ID);
+        final TopicMessageLog log = open(TopicMessageLogRetention.unlimited());
+
+        //when
+        log.append(binary);
+
+        //then
+        Assertions.assertArrayEquals(payload, log.read(TOPIC_ID, 1).orElseThrow().payload().toByteArray());
+    }
+
+    @Test
+    void testReadAcrossSegmentsAfterReopen() throws IOException {
+        //given
+        final TopicMessageLog first = open(TopicMessageLogRetention.unlimited());
+        LongStream.rangeClosed(1, 1000).mapToObj(TopicMessageLogTest::message).forEach(first::append);
+        first.close();
+
+        //when
+        final TopicMessageLog log = open(TopicMessageLogRetention.unlimited());
+        log.append(message(1001));
+
+        //then
+        Assertions.assertTrue(segmentCount() > 5);
+        Assertions.assertEquals(range(1, 1001), sequenceNumbers(log.read(TOPIC_ID, 1, 1001)));
+        Assertions.assertEquals(range(500, 520), sequenceNumbers(log.read(TOPIC_ID, 500, 520)));
+        Assertions.assertEquals(range(700, 702), sequenceNumbers(log.read(TOPIC_ID,
+                message(700).consensusTimestamp(), message(702).consensusTimestamp())));
+        Assertions.assertEquals("message 999", log.read(TOPIC_ID, 999).orElseThrow().message());
+    }
+
+    @Test
+    void testRecoverTornRecord() throws IOException {
+        //given
+        final TopicMessageLog crashed = open(TopicMessageLogRetention.unlimited());
+        LongStream.rangeClosed(1, 3).mapToObj(TopicMessageLogTest::message).forEach(crashed::append);
+        crashed.flush();
+        final Path segment = directory.resolve(TOPIC_ID.toString()).resolve(String.format("%020d.log", 1));
+        final ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(segment));
+        final int lastRecord = content.getInt(0) + 8 + content.getInt(content.getInt(0) + 8) + 8;
+        content.put(lastRecord + 20, (byte) (content.get(lastRecord + 20) + 1));
+        Files.write(segment, content.array());
+
+        //when
+        final TopicMessageLog log = new TopicMessageLogImpl(directory, TopicMessageLogRetention.unlimited(),
+                SEGMENT_SIZE);
+        final boolean appended = log.append(message(3));
+
+        //then
+        Assertions.assertTrue(appended);
+        Assertions.assertEquals(range(1, 3), sequenceNumbers(log.read(TOPIC_ID, 1, 3)));
+        log.close();
+    }
+
+    @Test
+    void testRetentionBySize() throws IOException {
+        //given
+        final TopicMessageLog log = open(TopicMessageLogRetention.ofBytes(3 * SEGMENT_SIZE));
+
+        //when
+        LongStream.rangeClosed(1, 1000).mapToObj(TopicMessageLogTest::message).forEach(log::append);
+
+        //then
+        Assertions.assertTrue(segmentCount() <= 4);
+        final long first = log.getFirstSequenceNumber(TOPIC_ID).orElseThrow();
+        Assertions.assertTrue(first > 1);
+        Assertions.assertTrue(log.read(TOPIC_ID, 1).isEmpty());
+        Assertions.assertEquals(range(first, 1000), sequenceNumbers(log.read(TOPIC_ID, 1, 1000)));
+    }
+
+    @Test
+    void testRetentionByAge() throws IOException {
+        //given
+        final TopicMessageLog log = open(TopicMessageLogRetention.ofAge(Duration.ofDays(1)));
+        LongStream.rangeClosed(1, 1000).mapToObj(TopicMessageLogTest::message).forEach(log::append);
+        final TopicMessage recent = new TopicMessage(null, Instant.now(), "recent", AccountId.fromString("0.0.1001"),
+                new byte[48], 3, 1001, TOPIC_ID);
+        log.append(recent);
+
+        //when
+        log.applyRetention();
+
+        //then
+        Assertions.assertEquals(1, segmentCount());
+        Assertions.assertEquals("recent", log.read(TOPIC_ID, 1001).orElseThrow().message());
+    }
+
+    @Test
+    void testRepositoryServesLogFirst() throws HieroException {
+        //given
+        final TopicRepository delegate = Mockito.mock(TopicRepository.class);
+        Mockito.when(delegate.streamMessages(TOPIC_ID, 6, 8))
+                .thenReturn(LongStream.rangeClosed(6, 8).mapToObj(TopicMessageLogTest::message));
+        final TopicMessageLog log = open(TopicMessageLogRetention.unlimited());
+        LongStream.rangeClosed(1, 5).mapToObj(TopicMessageLogTest::message).forEach(log::append);
+        final TopicRepository repository = new TopicMessageLogRepository(delegate, log);
+
+        //when
+        final List<Long> firstReplay = sequenceNumbers(repository.streamMessages(TOPIC_ID, 1, 8));
+        final List<Long> secondReplay = sequenceNumbers(repository.streamMessages(TOPIC_ID, 1, 8));
+        final TopicMessage message = repository.getMessageBySequenceNumber(TOPIC_ID, 7).orElseThrow();
+
+        //then
+        Assertions.assertEquals(range(1, 8), firstReplay);
+        Assertions.assertEquals(range(1, 8), secondReplay);
+        Assertions.assertEquals("message 7", message.message());
+        Assertions.assertEquals(OptionalLong.of(8), log.getLastSequenceNumber(TOPIC_ID));
+        Mockito.verify(delegate, Mockito.times(1)).streamMessages(TOPIC_ID, 6, 8);
+        Mockito.verify(delegate, Mockito.never()).getMessageBySequenceNumber(TOPIC_ID, 7);
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicMessageLogImpl(null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TopicMessageLogImpl(directory, TopicMessageLogRetention.unlimited(), 16));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicMessageLogRetention.ofBytes(0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicMessageLogRetention.ofAge(Duration.ZERO));
+    }
+}
@@ -0,0 +1,86 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicMessagePayloadTest {
+
+    private static final byte[] BINARY = new byte[]{(byte) 0xC3, 0x28, (byte) 0xFF, 0x00, (byte) 0x80, 0x7F};
+
+    @Test
+    void testBinaryPayloadFromBase64() throws IOException {
+        //given
+        final String base64 = Base64.getEncoder().encodeToString(BINARY);
+
+        //when
+        final TopicMessagePayload payload = TopicMessagePayload.ofBase64(base64);
+
+        //then
+        Assertions.assertEquals(BINARY.length, payload.size());
+        Assertions.assertArrayEquals(BINARY, payload.toByteArray());
+        Assertions.assertEquals(base64, payload.toBase64());
+        final ByteBuffer buffer = payload.asByteBuffer();
+        Assertions.assertTrue(buffer.isReadOnly());
+        Assertions.assertEquals((byte) 0xC3, buffer.get(0));
+        Assertions.assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (byte) 1));
+        try (InputStream stream = payload.asInputStream()) {
+            Assertions.assertArrayEquals(BINARY, stream.readAllBytes());
+        }
+        Assertions.assertEquals(TopicMessagePayload.of(BINARY), payload);
+        Assertions.assertEquals(TopicMessagePayload.of(BINARY).hashCode(), payload.hashCode());
+    }
+
+    @Test
+    void testPayloadIsNotModifiedByCallers() {
+        //given
+        final byte[] bytes = BINARY.clone();
+        final TopicMessagePayload payload = TopicMessagePayload.of(bytes);
+
+        //when
+        bytes[0] = 0;
+        payload.toByteArray()[1] = 0;
+
+        //then
+        Assertions.assertArrayEquals(BINARY, payload.toByteArray());
+    }
+
+    @Test
+    void testTextWithCharset() {
+        //given
+        final String text = "Grüße";
+        final TopicMessagePayload utf8 = TopicMessagePayload.of(text);
+        final TopicMessagePayload latin1 = TopicMessagePayload.of(text, StandardCharsets.ISO_8859_1);
+
+        //when
+        final TopicMessage message = new TopicMessage(null, Instant.EPOCH, latin1, AccountId.fromString("0.0.2"),
+                new byte[48], 3, 1, TopicId.fromString("0.0.1234"));
+
+        //then
+        Assertions.assertEquals(7, utf8.size());
+        Assertions.assertEquals(5, latin1.size());
+        Assertions.assertEquals(text, utf8.asString());
+        Assertions.assertEquals(text, message.message(StandardCharsets.ISO_8859_1));
+        Assertions.assertNotEquals(text, message.message());
+        Assertions.assertSame(latin1, message.payload());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class, () -> TopicMessagePayload.of((byte[]) null));
+        Assertions.assertThrows(NullPointerException.class, () -> TopicMessagePayload.of((String) null));
+        Assertions.assertThrows(NullPointerException.class, () -> TopicMessagePayload.ofBase64(null));
+        Assertions.assertThrows(NullPointerException.class, () -> TopicMessagePayload.of("text").asString(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicMessagePayload.ofBase64("%%%").size());
+    }
+}
@@ -0,0 +1,234 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.messaging.TopicMessageReassembler;
+import com.openelements.hiero.base.mirrornode.TopicRepository;
+import com.openelements.hiero.base.protocol.data.TopicSubmitChunkedMessageRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TopicMessageReassemblerTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final AccountId PAYER = AccountId.fromString("0.0.1001");
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static TopicMessage chunk(TransactionId initialTransactionId, int number, int total, long sequenceNumber,
+            String message) {
+        return new TopicMessage(new ChunkInfo(initialTransactionId, 0, number, total, false),
+                START.plusSeconds(sequenceNumber), message, PAYER, new byte[48], 3, sequenceNumber, TOPIC_ID);
+    }
+
+    private static TopicMessage plain(long sequenceNumber, String message) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber), message, PAYER, new byte[48], 3,
+                sequenceNumber, TOPIC_ID);
+    }
+
+    private static Page<TopicMessage> page(int index, List<List<TopicMessage>> pages) {
+        return new Page<>() {
+            @Override
+            public int getPageIndex() {
+                return index;
+            }
+
+            @Override
+            public int getSize() {
+                return pages.get(index).size();
+            }
+
+            @Override
+            public List<TopicMessage> getData() {
+                return pages.get(index);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index + 1 < pages.size();
+            }
+
+            @Override
+            public Page<TopicMessage> next() {
+                return page(index + 1, pages);
+            }
+
+            @Override
+            public Page<TopicMessage> first() {
+                return page(0, pages);
+            }
+
+            @Override
+            public boolean isFirst() {
+                return index == 0;
+            }
+        };
+    }
+
+    @Test
+    void testReassembleChunksInAnyOrder() {
+        //given
+        final TransactionId initialTransactionId = TransactionId.generate(PAYER);
+        final TopicMessageReassembler reassembler = TopicMessageReassembler.of();
+
+        //when
+        final Optional<TopicMessage> first = reassembler.accept(chunk(initialTransactionId, 2, 3, 1, "b"));
+        final Optional<TopicMessage> second = reassembler.accept(chunk(initialTransactionId, 3, 3, 2, "c"));
+        final Optional<TopicMessage> duplicate = reassembler.accept(chunk(initialTransactionId, 3, 3, 3, "c"));
+        final Optional<TopicMessage> third = reassembler.accept(chunk(initialTransactionId, 1, 3, 4, "a"));
+
+        //then
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(second.isEmpty());
+        Assertions.assertTrue(duplicate.isEmpty());
+        Assertions.assertTrue(third.isPresent());
+        Assertions.assertEquals("abc", third.get().message());
+        Assertions.assertEquals(4, third.get().sequenceNumber());
+        Assertions.assertEquals(initialTransactionId, third.get().chunkInfo().initialTransactionId());
+        Assertions.assertEquals(0, reassembler.getPendingGroups());
+        Assertions.assertEquals(0, reassembler.getPendingChunks());
+    }
+
+    @Test
+    void testPlainMessagesArePassedThrough() {
+        //given
+        final TopicMessageReassembler reassembler = TopicMessageReassembler.of();
+        final TopicMessage message = plain(1, "hello");
+        final List<TopicMessage> received = new ArrayList<>();
+
+        //when
+        reassembler.consumer(received::add).accept(message);
+
+        //then
+        Assertions.assertEquals(List.of(message), received);
+    }
+
+    @Test
+    void testIncompleteGroupsExpire() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler(100, Duration.ofSeconds(10));
+        final TransactionId initialTransactionId = TransactionId.generate(PAYER);
+
+        //when
+        reassembler.accept(chunk(initialTransactionId, 1, 2, 1, "a"));
+        reassembler.accept(plain(20, "later"));
+        reassembler.accept(chunk(TransactionId.generate(PAYER), 1, 2, 21, "x"));
+        final Optional<TopicMessage> lateChunk = reassembler.accept(chunk(initialTransactionId, 2, 2, 30, "b"));
+
+        //then
+        Assertions.assertTrue(lateChunk.isEmpty());
+        Assertions.assertEquals(1, reassembler.getDroppedGroups());
+        Assertions.assertEquals(2, reassembler.getPendingGroups());
+    }
+
+    @Test
+    void testPendingChunksAreBounded() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler(4, Duration.ofHours(1));
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            reassembler.accept(chunk(TransactionId.generate(PAYER), 1, 2, i, "a"));
+        }
+
+        //then
+        Assertions.assertEquals(4, reassembler.getPendingChunks());
+        Assertions.assertEquals(6, reassembler.getDroppedGroups());
+    }
+
+    @Test
+    void testInvalidChunksAreRejected() {
+        //given
+        final TopicMessageReassembler reassembler = new TopicMessageReassembler(10, Duration.ofHours(1));
+        final TransactionId initialTransactionId = TransactionId.generate(PAYER);
+
+        //when
+        final Optional<TopicMessage> first = reassembler.accept(chunk(initialTransactionId, 1, 2, 1, "a"));
+        final Optional<TopicMessage> otherTotal = reassembler.accept(chunk(initialTransactionId, 3, 3, 2, "c"));
+        final Optional<TopicMessage> outOfRange = reassembler.accept(chunk(initialTransactionId, 3, 2, 3, "c"));
+        final Optional<TopicMessage> tooLarge = reassembler.accept(
+                chunk(TransactionId.generate(PAYER), 1, Integer.MAX_VALUE, 4, "x"));
+        final Optional<TopicMessage> last = reassembler.accept(chunk(initialTransactionId, 2, 2, 5, "b"));
+
+        //then
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertTrue(otherTotal.isEmpty());
+        Assertions.assertTrue(outOfRange.isEmpty());
+        Assertions.assertTrue(tooLarge.isEmpty());
+        Assertions.assertEquals("ab", last.orElseThrow().message());
+        Assertions.assertEquals(3, reassembler.getRejectedChunks());
+        Assertions.assertEquals(0, reassembler.getPendingChunks());
+    }
+
+    @Test
+    void testReassembleChunksAcrossPages() {
+        //given
+        final TransactionId initialTransactionId = TransactionId.generate(PAYER);
+        final List<List<TopicMessage>> pages = List.of(
+                List.of(plain(1, "first"), chunk(initialTransactionId, 1, 2, 2, "hello ")),
+                List.of(chunk(initialTransactionId, 2, 2, 3, "world"), plain(4, "last")));
+
+        //when
+        final Page<TopicMessage> first = TopicMessageReassembler.reassemble(page(0, pages));
+        final Page<TopicMessage> second = first.next();
+
+        //then
+        Assertions.assertEquals(List.of("first"), first.getData().stream().map(TopicMessage::message).toList());
+        Assertions.assertEquals(List.of("hello world", "last"),
+                second.getData().stream().map(TopicMessage::message).toList());
+        Assertions.assertSame(second, first.next());
+        Assertions.assertFalse(second.hasNext());
+        Assertions.assertEquals(1, second.first().getSize());
+    }
+
+    @Test
+    void testDefaultStreamMessagesIteratesPages() throws HieroException {
+        //given
+        final List<List<TopicMessage>> pages = List.of(
+                List.of(plain(1, "a"), plain(2, "b")),
+                List.of(plain(3, "c"), plain(4, "d")),
+                List.of(plain(5, "e")));
+        final TopicRepository repository = Mockito.mock(TopicRepository.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(page(0, pages)).when(repository).getMessages(TOPIC_ID);
+
+        //when
+        final List<String> messages;
+        try (Stream<TopicMessage> stream = repository.streamMessages(TOPIC_ID, 2, 4)) {
+            messages = stream.map(TopicMessage::message).toList();
+        }
+
+        //then
+        Assertions.assertEquals(List.of("b", "c", "d"), messages);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> repository.streamMessages(TOPIC_ID, 0, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> repository.streamMessages(TOPIC_ID, 3, 2));
+    }
+
+    @Test
+    void testChunkedRequest() {
+        //given
+        final byte[] message = new byte[20 * 1024 + 1];
+
+        //when
+        final TopicSubmitChunkedMessageRequest request = TopicSubmitChunkedMessageRequest.of(TOPIC_ID, message);
+
+        //then
+        Assertions.assertEquals(21, request.chunkCount());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicSubmitChunkedMessageRequest.of(TOPIC_ID, new byte[0]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicSubmitChunkedMessageRequest.of(TOPIC_ID,
+                new byte[TopicSubmitChunkedMessageRequest.MAX_CHUNKS * 1024 + 1]));
+    }
+}
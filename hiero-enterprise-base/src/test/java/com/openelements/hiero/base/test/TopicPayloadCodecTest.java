@@ -0,0 +1,216 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.Account;
+import com.openelements.hiero.base.data.ChunkInfo;
+import com.openelements.hiero.base.data.Page;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.implementation.TopicClientImpl;
+import com.openelements.hiero.base.implementation.TopicPayloadCodecRepository;
+import com.openelements.hiero.base.messaging.DeflateTopicPayloadCodec;
+import com.openelements.hiero.base.messaging.TopicPayloadCodec;
+import com.openelements.hiero.base.messaging.TopicPayloadCodecs;
+import com.openelements.hiero.base.mirrornode.TopicRepository;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TopicPayloadCodecTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final DeflateTopicPayloadCodec DEFLATE = new DeflateTopicPayloadCodec();
+
+    private static byte[] event(int index) {
+        return ("{\"type\":\"transfer\",\"accountId\":\"0.0." + (1000 + index) + "\",\"tokenId\":\"0.0.4711\","
+                + "\"amount\":" + (index * 17) + ",\"memo\":\"payout\",\"timestamp\":\"2024-01-01T00:00:"
+                + (index % 60) + "Z\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static TopicMessage message(ChunkInfo chunkInfo, long sequenceNumber, byte[] payload) {
+        return new TopicMessage(chunkInfo, Instant.parse("2024-01-01T00:00:00Z").plusSeconds(sequenceNumber),
+                TopicMessagePayload.of(payload), AccountId.fromString("0.0.1001"), new byte[48], 3, sequenceNumber,
+                TOPIC_ID);
+    }
+
+    private static Page<TopicMessage> page(List<TopicMessage> messages) {
+        return new Page<>() {
+            @Override
+            public int getPageIndex() {
+                return 0;
+            }
+
+            @Override
+            public int getSize() {
+                return messages.size();
+            }
+
+            @Override
+            public List<TopicMessage> getData() {
+                return messages;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public Page<TopicMessage> next() {
+                throw new IllegalStateException("No next page");
+            }
+
+            @Override
+            public Page<TopicMessage> first() {
+                return this;
+            }
+
+            @Override
+            public boolean isFirst() {
+                return true;
+            }
+        };
+    }
+
+    @Test
+    void testDeflateRoundTrip() {
+        //given
+        final byte[] payload = String.join(",", IntStream.range(0, 20).mapToObj(i -> new String(event(i),
+                StandardCharsets.UTF_8)).toList()).getBytes(StandardCharsets.UTF_8);
+
+        //when
+        final byte[] encoded = TopicPayloadCodecs.encode(DEFLATE, payload);
+        final byte[] decoded = TopicPayloadCodecs.of(DEFLATE).decode(encoded);
+
+        //then
+        Assertions.assertEquals(DeflateTopicPayloadCodec.ID, encoded[0]);
+        Assertions.assertTrue(encoded.length * 4 < payload.length);
+        Assertions.assertArrayEquals(payload, decoded);
+    }
+
+    @Test
+    void testTrainedDictionaryImprovesSmallMessages() {
+        //given
+        final List<byte[]> samples = IntStream.range(0, 200).mapToObj(TopicPayloadCodecTest::event).toList();
+        final byte[] dictionary = DeflateTopicPayloadCodec.trainDictionary(samples, 1024);
+        final TopicPayloadCodec withDictionary = DeflateTopicPayloadCodec.withDictionary((byte) 0xF6, dictionary);
+        final byte[] payload = event(4242);
+
+        //when
+        final byte[] plain = TopicPayloadCodecs.encode(DEFLATE, payload);
+        final byte[] encoded = TopicPayloadCodecs.encode(withDictionary, payload);
+        final byte[] decoded = TopicPayloadCodecs.of(DEFLATE, withDictionary).decode(encoded);
+
+        //then
+        Assertions.assertTrue(dictionary.length <= 1024);
+        Assertions.assertEquals((byte) 0xF6, encoded[0]);
+        Assertions.assertTrue(encoded.length < plain.length);
+        Assertions.assertTrue(encoded.length * 2 < payload.length);
+        Assertions.assertArrayEquals(payload, decoded);
+    }
+
+    @Test
+    void testPayloadsWithoutCodec() {
+        //given
+        final TopicPayloadCodecs codecs = TopicPayloadCodecs.of(DEFLATE);
+        final byte[] text = "hello".getBytes(StandardCharsets.UTF_8);
+        final byte[] binary = new byte[]{(byte) 0xF5, 1, 2};
+
+        //when
+        final byte[] encodedText = TopicPayloadCodecs.encode(DEFLATE, text);
+        final byte[] encodedBinary = TopicPayloadCodecs.encode(null, binary);
+
+        //then
+        Assertions.assertArrayEquals(text, encodedText);
+        Assertions.assertArrayEquals(text, codecs.decode(encodedText));
+        Assertions.assertArrayEquals(new byte[]{TopicPayloadCodecs.RAW_ID, (byte) 0xF5, 1, 2}, encodedBinary);
+        Assertions.assertArrayEquals(binary, codecs.decode(encodedBinary));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codecs.decode(new byte[]{(byte) 0xF9, 1}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> codecs.decode(new byte[]{DeflateTopicPayloadCodec.ID, 1, 2, 3}));
+    }
+
+    @Test
+    void testDefaultCodecs() {
+        Assertions.assertTrue(TopicPayloadCodecs.getDefault().get(DeflateTopicPayloadCodec.ID).isPresent());
+    }
+
+    @Test
+    void testClientEncodesMessages() throws HieroException {
+        //given
+        final ProtocolLayerClient protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        final TopicClientImpl topicClient = new TopicClientImpl(protocolLayerClient, Mockito.mock(Account.class),
+                DEFLATE);
+        final byte[] payload = String.join(",", IntStream.range(0, 10).mapToObj(i -> new String(event(i),
+                StandardCharsets.UTF_8)).toList()).getBytes(StandardCharsets.UTF_8);
+        final ArgumentCaptor<TopicSubmitMessageRequest> captor = ArgumentCaptor.forClass(
+                TopicSubmitMessageRequest.class);
+
+        //when
+        topicClient.submitMessage(TOPIC_ID, payload);
+
+        //then
+        Mockito.verify(protocolLayerClient).executeTopicMessageSubmitTransaction(captor.capture());
+        final byte[] submitted = captor.getValue().message();
+        Assertions.assertTrue(submitted.length < payload.length);
+        Assertions.assertArrayEquals(payload, TopicPayloadCodecs.of(DEFLATE).decode(submitted));
+    }
+
+    @Test
+    void testRepositoryDecodesMessages() throws HieroException {
+        //given
+        final byte[] payload = String.join(",", IntStream.range(0, 100).mapToObj(i -> new String(event(i),
+                StandardCharsets.UTF_8)).toList()).getBytes(StandardCharsets.UTF_8);
+        final byte[] encoded = TopicPayloadCodecs.encode(DEFLATE, payload);
+        final int half = encoded.length / 2;
+        final TransactionId transactionId = TransactionId.fromString("0.0.1001@1700000000.000000001");
+        final TopicMessage first = message(new ChunkInfo(transactionId, 0, 1, 2, false), 1,
+                Arrays.copyOfRange(encoded, 0, half));
+        final TopicMessage second = message(new ChunkInfo(transactionId, 0, 2, 2, false), 2,
+                Arrays.copyOfRange(encoded, half, encoded.length));
+        final TopicMessage single = message(null, 3, TopicPayloadCodecs.encode(DEFLATE, payload));
+        final TopicRepository delegate = Mockito.mock(TopicRepository.class);
+        Mockito.when(delegate.getMessages(TOPIC_ID)).thenReturn(page(List.of(first, second, single)));
+        Mockito.when(delegate.getMessageBySequenceNumber(TOPIC_ID, 3)).thenReturn(Optional.of(single));
+        final TopicRepository repository = new TopicPayloadCodecRepository(delegate, TopicPayloadCodecs.of(DEFLATE));
+
+        //when
+        final List<TopicMessage> messages = repository.getMessages(TOPIC_ID).getData();
+        final List<TopicMessage> reassembled = repository.getReassembledMessages(TOPIC_ID).getData();
+        final TopicMessage bySequenceNumber = repository.getMessageBySequenceNumber(TOPIC_ID, 3).orElseThrow();
+
+        //then
+        Assertions.assertEquals(3, messages.size());
+        Assertions.assertSame(first, messages.get(0));
+        Assertions.assertArrayEquals(payload, messages.get(2).payload().toByteArray());
+        Assertions.assertEquals(2, reassembled.size());
+        Assertions.assertArrayEquals(payload, reassembled.get(0).payload().toByteArray());
+        Assertions.assertEquals(2, reassembled.get(0).sequenceNumber());
+        Assertions.assertEquals(new String(payload, StandardCharsets.UTF_8), bySequenceNumber.message());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicPayloadCodecs.encode(new DeflateTopicPayloadCodec((byte) 0x10, 9, null), new byte[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TopicPayloadCodecs.of(DEFLATE, DEFLATE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new DeflateTopicPayloadCodec(DeflateTopicPayloadCodec.ID, 10, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> DeflateTopicPayloadCodec.withDictionary((byte) 0xF6, new byte[0]));
+        Assertions.assertThrows(NullPointerException.class, () -> TopicPayloadCodecs.encode(DEFLATE, null));
+    }
+}
@@ -0,0 +1,171 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
+import com.openelements.hiero.base.messaging.TopicMessageEnvelope;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageRequest;
+import com.openelements.hiero.base.protocol.data.TopicSubmitMessageResult;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TopicPublisherTest {
+
+    private final TopicId topicId = TopicId.fromString("0.0.1234");
+
+    private ProtocolLayerClient protocolLayerClient;
+
+    private TopicSubmitMessageResult result;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        result = new TopicSubmitMessageResult(TransactionId.generate(AccountId.fromString("0.0.2")), Status.SUCCESS);
+        when(protocolLayerClient.executeTopicMessageSubmitTransaction(any(TopicSubmitMessageRequest.class)))
+                .thenReturn(result);
+    }
+
+    @Test
+    void testEnvelopeRoundTrip() {
+        //given
+        final List<byte[]> messages = List.of(new byte[0], "hello".getBytes(StandardCharsets.UTF_8), new byte[300]);
+
+        //when
+        final byte[] envelope = TopicMessageEnvelope.encode(messages);
+        final List<byte[]> decoded = TopicMessageEnvelope.decode(envelope);
+
+        //then
+        Assertions.assertEquals(2 + 1 + 6 + 302, envelope.length);
+        Assertions.assertTrue(TopicMessageEnvelope.isEnvelope(envelope));
+        Assertions.assertEquals(3, decoded.size());
+        for (int i = 0; i < messages.size(); i++) {
+            Assertions.assertArrayEquals(messages.get(i), decoded.get(i));
+        }
+    }
+
+    @Test
+    void testUnpackPlainMessage() {
+        //given
+        final byte[] message = "plain text".getBytes(StandardCharsets.UTF_8);
+
+        //when
+        final List<byte[]> unpacked = TopicMessageEnvelope.unpack(message);
+
+        //then
+        Assertions.assertFalse(TopicMessageEnvelope.isEnvelope(message));
+        Assertions.assertEquals(1, unpacked.size());
+        Assertions.assertArrayEquals(message, unpacked.get(0));
+    }
+
+    @Test
+    void testInvalidEnvelopes() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicMessageEnvelope.encode(List.of(new byte[600], new byte[600])));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicMessageEnvelope.decode(new byte[]{(byte) 0xFE, 1, 10, 1, 2}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicMessageEnvelope.decode("text".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertEquals(TopicMessageEnvelope.MAX_SIZE,
+                TopicMessageEnvelope.encode(List.of(new byte[TopicMessageEnvelope.MAX_MESSAGE_SIZE])).length);
+    }
+
+    @Test
+    void testMessagesArePackedIntoEnvelopes() throws Exception {
+        //given
+        final List<byte[]> messages = IntStream.range(0, 25)
+                .mapToObj(i -> new byte[100])
+                .peek(message -> message[0] = 1)
+                .toList();
+        final List<CompletableFuture<TopicSubmitMessageResult>> futures = new ArrayList<>();
+
+        //when
+        try (TopicPublisherImpl publisher = new TopicPublisherImpl(protocolLayerClient, Duration.ofMinutes(1), 100)) {
+            for (int i = 0; i < messages.size(); i++) {
+                messages.get(i)[1] = (byte) i;
+                futures.add(publisher.publish(topicId, messages.get(i)));
+            }
+            publisher.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<TopicSubmitMessageRequest> captor = ArgumentCaptor.forClass(
+                TopicSubmitMessageRequest.class);
+        verify(protocolLayerClient, times(3)).executeTopicMessageSubmitTransaction(captor.capture());
+        final List<byte[]> received = captor.getAllValues().stream()
+                .peek(request -> Assertions.assertEquals(topicId, request.topicId()))
+                .peek(request -> Assertions.assertTrue(request.message().length <= TopicMessageEnvelope.MAX_SIZE))
+                .flatMap(request -> TopicMessageEnvelope.decode(request.message()).stream())
+                .sorted(Comparator.comparingInt((byte[] message) -> message[1]))
+                .toList();
+        Assertions.assertEquals(25, received.size());
+        for (int i = 0; i < messages.size(); i++) {
+            Assertions.assertArrayEquals(messages.get(i), received.get(i));
+        }
+        for (final CompletableFuture<TopicSubmitMessageResult> future : futures) {
+            Assertions.assertSame(result, future.getNow(null));
+        }
+    }
+
+    @Test
+    void testEnvelopeIsSubmittedAfterLinger() throws Exception {
+        //given
+        try (TopicPublisherImpl publisher = new TopicPublisherImpl(protocolLayerClient, Duration.ofMillis(10), 10)) {
+            //when
+            final CompletableFuture<TopicSubmitMessageResult> future = publisher.publish(topicId, "hello");
+
+            //then
+            Assertions.assertSame(result, future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testFailedSubmissionCompletesFutures() throws Exception {
+        //given
+        when(protocolLayerClient.executeTopicMessageSubmitTransaction(any(TopicSubmitMessageRequest.class)))
+                .thenThrow(new HieroException("failed"));
+
+        try (TopicPublisherImpl publisher = new TopicPublisherImpl(protocolLayerClient, Duration.ofMinutes(1), 10)) {
+            //when
+            final CompletableFuture<TopicSubmitMessageResult> future = publisher.publish(topicId, "hello");
+            publisher.flush().get(5, TimeUnit.SECONDS);
+
+            //then
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+            Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void testInvalidPublish() {
+        //given
+        final TopicPublisherImpl publisher = new TopicPublisherImpl(protocolLayerClient);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> publisher.publish(topicId, new byte[TopicMessageEnvelope.MAX_MESSAGE_SIZE + 1]));
+        Assertions.assertThrows(NullPointerException.class, () -> publisher.publish(null, new byte[1]));
+        publisher.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> publisher.publish(topicId, new byte[1]));
+    }
+}
@@ -0,0 +1,205 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.messaging.TopicRunningHashVerification;
+import com.openelements.hiero.base.messaging.TopicRunningHashVerifier;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicRunningHashVerifierTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final AccountId PAYER = AccountId.fromString("0.0.1001");
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    /**
+     * Creates a valid chain of messages.
+     */
+    private static List<TopicMessage> chain(int count) {
+        final List<TopicMessage> messages = new ArrayList<>();
+        byte[] runningHash = new byte[TopicRunningHashVerifier.HASH_SIZE];
+        for (int i = 1; i <= count; i++) {
+            final TopicMessage unsigned = message(i, "message " + i, new byte[0]);
+            runningHash = TopicRunningHashVerifier.runningHash(runningHash, unsigned);
+            messages.add(message(i, unsigned.message(), runningHash));
+        }
+        return messages;
+    }
+
+    private static TopicMessage message(long sequenceNumber, String message, byte[] runningHash) {
+        return new TopicMessage(null, START.plusMillis(sequenceNumber), message, PAYER, runningHash,
+                TopicRunningHashVerifier.RUNNING_HASH_VERSION, sequenceNumber, TOPIC_ID);
+    }
+
+    private static TopicMessage tamper(TopicMessage message) {
+        return message(message.sequenceNumber(), message.message() + "!", message.runningHash());
+    }
+
+    @Test
+    void testVerifyChain() throws HieroException {
+        //given
+        final List<TopicMessage> messages = chain(100);
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier();
+
+        //when
+        for (TopicMessage message : messages) {
+            verifier.verify(message);
+        }
+
+        //then
+        Assertions.assertEquals(100, verifier.getVerifiedMessages());
+        Assertions.assertEquals(100, verifier.getSequenceNumber());
+        Assertions.assertTrue(verifier.getVerificationRate() > 0);
+    }
+
+    @Test
+    void testDetectTamperedAndMissingMessages() throws HieroException {
+        //given
+        final List<TopicMessage> messages = chain(10);
+        final TopicRunningHashVerifier tamperedVerifier = new TopicRunningHashVerifier();
+        final TopicRunningHashVerifier gapVerifier = new TopicRunningHashVerifier();
+        for (int i = 0; i < 5; i++) {
+            tamperedVerifier.verify(messages.get(i));
+            gapVerifier.verify(messages.get(i));
+        }
+
+        //then
+        Assertions.assertThrows(HieroException.class, () -> tamperedVerifier.verify(tamper(messages.get(5))));
+        Assertions.assertThrows(HieroException.class, () -> gapVerifier.verify(messages.get(6)));
+        Assertions.assertEquals(5, tamperedVerifier.getSequenceNumber());
+    }
+
+    @Test
+    void testTrustFirstMessageOrStartAfterKnownMessage() throws HieroException {
+        //given
+        final List<TopicMessage> messages = chain(10);
+        final TopicRunningHashVerifier trusting = new TopicRunningHashVerifier();
+        final TopicRunningHashVerifier anchored = new TopicRunningHashVerifier(4, messages.get(3).runningHash());
+
+        //when
+        for (TopicMessage message : messages.subList(4, 10)) {
+            trusting.verify(message);
+            anchored.verify(message);
+        }
+
+        //then
+        Assertions.assertEquals(5, trusting.getVerifiedMessages());
+        Assertions.assertEquals(6, anchored.getVerifiedMessages());
+        Assertions.assertThrows(HieroException.class, () -> new TopicRunningHashVerifier(4,
+                messages.get(3).runningHash()).verify(tamper(messages.get(4))));
+    }
+
+    @Test
+    void testParallelVerification() throws HieroException {
+        //given
+        final List<TopicMessage> messages = chain(10_000);
+        final List<TopicMessage> tampered = new ArrayList<>(messages);
+        tampered.set(7_777, tamper(messages.get(7_777)));
+        final List<TopicMessage> withGap = new ArrayList<>(messages);
+        withGap.remove(3_000);
+
+        //when
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier();
+        final TopicRunningHashVerification first = verifier.verify(messages.subList(0, 5_000), 4);
+        final TopicRunningHashVerification second = verifier.verify(messages.subList(5_000, 10_000), 4);
+        final TopicRunningHashVerification invalid = new TopicRunningHashVerifier().verify(tampered, 4);
+        final TopicRunningHashVerification gap = new TopicRunningHashVerifier().verify(withGap, 4);
+
+        //then
+        Assertions.assertTrue(first.isValid());
+        Assertions.assertTrue(second.isValid());
+        Assertions.assertEquals(5_000, second.verifiedMessages());
+        Assertions.assertTrue(second.rate() > 0);
+        Assertions.assertEquals(10_000, verifier.getSequenceNumber());
+        Assertions.assertFalse(invalid.isValid());
+        Assertions.assertEquals(7_778L, invalid.firstInvalidSequenceNumber());
+        Assertions.assertEquals(7_777, invalid.verifiedMessages());
+        Assertions.assertEquals(3_002L, gap.firstInvalidSequenceNumber());
+    }
+
+    @Test
+    void testVerifyingStage() throws Exception {
+        //given
+        final List<TopicMessage> messages = chain(5);
+        final List<Long> received = new CopyOnWriteArrayList<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final TopicRunningHashVerifier verifier = new TopicRunningHashVerifier();
+
+        //when
+        try (SubmissionPublisher<TopicMessage> source = new SubmissionPublisher<>()) {
+            verifier.verifying(source).subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(TopicMessage item) {
+                    received.add(item.sequenceNumber());
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.set(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+            source.submit(messages.get(0));
+            source.submit(messages.get(1));
+            source.submit(tamper(messages.get(2)));
+            source.submit(messages.get(3));
+        }
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (error.get() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        //then
+        Assertions.assertEquals(List.of(1L, 2L), received);
+        Assertions.assertInstanceOf(HieroException.class, error.get());
+    }
+
+    @Test
+    void testHashBinaryPayload() {
+        //given
+        final TopicMessage first = new TopicMessage(null, START, TopicMessagePayload.of(new byte[]{(byte) 0xFE}),
+                PAYER, new byte[0], TopicRunningHashVerifier.RUNNING_HASH_VERSION, 1, TOPIC_ID);
+        final TopicMessage second = new TopicMessage(null, START, TopicMessagePayload.of(new byte[]{(byte) 0xFF}),
+                PAYER, new byte[0], TopicRunningHashVerifier.RUNNING_HASH_VERSION, 1, TOPIC_ID);
+        final byte[] previous = new byte[TopicRunningHashVerifier.HASH_SIZE];
+
+        //when
+        final byte[] firstHash = TopicRunningHashVerifier.runningHash(previous, first);
+        final byte[] secondHash = TopicRunningHashVerifier.runningHash(previous, second);
+
+        //then
+        Assertions.assertEquals(first.message(), second.message());
+        Assertions.assertFalse(Arrays.equals(firstHash, secondHash));
+    }
+
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(NullPointerException.class, () -> new TopicRunningHashVerifier().verify(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TopicRunningHashVerifier(1, new byte[1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new TopicRunningHashVerifier().verify(List.of(), 0));
+    }
+}
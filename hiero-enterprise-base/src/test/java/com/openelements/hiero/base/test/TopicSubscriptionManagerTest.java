@@ -0,0 +1,245 @@
+package com.openelements.hiero.base.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.TopicId;
+import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.implementation.TopicSubscriptionManagerImpl;
+import com.openelements.hiero.base.messaging.TopicMessageSource;
+import com.openelements.hiero.base.messaging.TopicSubscriptionMetrics;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TopicSubscriptionManagerTest {
+
+    private static final TopicId TOPIC_ID = TopicId.fromString("0.0.1234");
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final List<TopicMessage> history = LongStream.rangeClosed(1, 10)
+            .mapToObj(TopicSubscriptionManagerTest::message)
+            .toList();
+
+    private TopicSubscriptionManagerImpl manager;
+
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(null, START.plusSeconds(sequenceNumber), "message " + sequenceNumber,
+                AccountId.fromString("0.0.1001"), new byte[48], 3, sequenceNumber, TOPIC_ID);
+    }
+
+    /**
+     * Source that sends the messages of the history that are not older than the start time. The first connections
+     * fail after the given number of messages.
+     */
+    private class TestSource implements TopicMessageSource {
+
+        private final List<Instant> startTimes = new CopyOnWriteArrayList<>();
+
+        private final AtomicInteger openConnections = new AtomicInteger();
+
+        private final AtomicInteger failures;
+
+        private final int messagesBeforeFailure;
+
+        private TestSource(int failures, int messagesBeforeFailure) {
+            this.failures = new AtomicInteger(failures);
+            this.messagesBeforeFailure = messagesBeforeFailure;
+        }
+
+        @Override
+        public @NonNull Connection open(@NonNull TopicId topicId, @Nullable Instant startTime,
+                @NonNull Listener listener) {
+            startTimes.add(startTime);
+            openConnections.incrementAndGet();
+            final boolean fail = failures.getAndDecrement() > 0;
+            int sent = 0;
+            // a reconnecting source can send the last message again
+            final Instant from = startTime == null ? START : startTime.minusNanos(1);
+            for (TopicMessage message : history) {
+                if (message.consensusTimestamp().isBefore(from)) {
+                    continue;
+                }
+                if (fail && sent == messagesBeforeFailure) {
+                    listener.onError(new IllegalStateException("connection lost"));
+                    return openConnections::decrementAndGet;
+                }
+                listener.onMessage(message);
+                sent++;
+            }
+            return openConnections::decrementAndGet;
+        }
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+
+        private final List<Long> received = new CopyOnWriteArrayList<>();
+
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        private final CountDownLatch done;
+
+        private TestSubscriber(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+        }
+
+        @Override
+        public void onNext(TopicMessage item) {
+            received.add(item.sequenceNumber());
+            done.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        private void await() throws InterruptedException {
+            Assertions.assertTrue(done.await(5, TimeUnit.SECONDS), "received only " + received);
+        }
+    }
+
+    @AfterEach
+    void close() {
+        if (manager != null) {
+            manager.close();
+        }
+    }
+
+    @Test
+    void testDeliverRequestedMessages() throws Exception {
+        //given
+        manager = new TopicSubscriptionManagerImpl(new TestSource(0, 0), 100, Duration.ofMillis(10));
+        final TestSubscriber subscriber = new TestSubscriber(3);
+
+        //when
+        manager.subscribe(TOPIC_ID, START).subscribe(subscriber);
+        subscriber.subscription.get().request(3);
+        subscriber.await();
+        Thread.sleep(100);
+
+        //then
+        Assertions.assertEquals(List.of(1L, 2L, 3L), subscriber.received);
+        final TopicSubscriptionMetrics metrics = manager.getMetrics().get(0);
+        Assertions.assertEquals(10, metrics.lastSequenceNumber());
+        Assertions.assertEquals(7, metrics.bufferedMessages());
+        Assertions.assertEquals(3, metrics.deliveredMessages());
+    }
+
+    @Test
+    void testResumeAfterErrorWithoutGapsOrDuplicates() throws Exception {
+        //given
+        final TestSource source = new TestSource(2, 3);
+        manager = new TopicSubscriptionManagerImpl(source, 100, Duration.ofMillis(10));
+        final TestSubscriber subscriber = new TestSubscriber(10);
+
+        //when
+        manager.subscribe(TOPIC_ID, START).subscribe(subscriber);
+        subscriber.subscription.get().request(Long.MAX_VALUE);
+        subscriber.await();
+
+        //then
+        Assertions.assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), subscriber.received);
+        Assertions.assertEquals(List.of(START, message(3).consensusTimestamp().plusNanos(1),
+                message(5).consensusTimestamp().plusNanos(1)), source.startTimes);
+        Assertions.assertEquals(2, manager.getMetrics().get(0).reconnects());
+    }
+
+    @Test
+    void testPauseIfBufferIsFull() throws Exception {
+        //given
+        final TestSource source = new TestSource(0, 0);
+        manager = new TopicSubscriptionManagerImpl(source, 4, Duration.ofMillis(10));
+        final TestSubscriber subscriber = new TestSubscriber(10);
+
+        //when
+        manager.subscribe(TOPIC_ID, START).subscribe(subscriber);
+        Thread.sleep(100);
+        final TopicSubscriptionMetrics paused = manager.getMetrics().get(0);
+        subscriber.subscription.get().request(Long.MAX_VALUE);
+        subscriber.await();
+
+        //then
+        Assertions.assertEquals(4, paused.bufferedMessages());
+        Assertions.assertEquals(4, paused.lastSequenceNumber());
+        Assertions.assertEquals(LongStream.rangeClosed(1, 10).boxed().toList(), subscriber.received);
+        Assertions.assertTrue(source.startTimes.size() > 1);
+    }
+
+    @Test
+    void testCancel() throws Exception {
+        //given
+        final TestSource source = new TestSource(0, 0);
+        manager = new TopicSubscriptionManagerImpl(source, 100, Duration.ofMillis(10));
+        final TestSubscriber subscriber = new TestSubscriber(1);
+
+        //when
+        manager.subscribe(TOPIC_ID, START).subscribe(subscriber);
+        subscriber.subscription.get().request(1);
+        subscriber.await();
+        subscriber.subscription.get().cancel();
+        subscriber.subscription.get().request(10);
+        Thread.sleep(100);
+
+        //then
+        Assertions.assertEquals(List.of(1L), subscriber.received);
+        Assertions.assertEquals(0, source.openConnections.get());
+        Assertions.assertTrue(manager.getMetrics().isEmpty());
+    }
+
+    @Test
+    void testInvalidRequest() throws Exception {
+        //given
+        manager = new TopicSubscriptionManagerImpl(new TestSource(0, 0), 100, Duration.ofMillis(10));
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final List<Flow.Subscription> subscriptions = new ArrayList<>();
+
+        //when
+        manager.subscribe(TOPIC_ID).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriptions.add(subscription);
+            }
+
+            @Override
+            public void onNext(TopicMessage item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                failed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        subscriptions.get(0).request(0);
+
+        //then
+        Assertions.assertTrue(failed.await(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, error.get());
+    }
+}
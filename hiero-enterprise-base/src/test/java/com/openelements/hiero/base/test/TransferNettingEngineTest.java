@@ -0,0 +1,262 @@
+package com.openelements.hiero.base.test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.Hbar;
+import com.hedera.hashgraph.sdk.PrivateKey;
+import com.hedera.hashgraph.sdk.Status;
+import com.hedera.hashgraph.sdk.TokenId;
+import com.hedera.hashgraph.sdk.TransactionId;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.TransferNettingEngineImpl;
+import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.protocol.data.CryptoTransferRequest;
+import com.openelements.hiero.base.protocol.data.CryptoTransferResult;
+import com.openelements.hiero.base.protocol.data.HbarTransferRequest;
+import com.openelements.hiero.base.protocol.data.TokenTransferRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class TransferNettingEngineTest {
+
+    private final TokenId tokenId = TokenId.fromString("0.0.4711");
+
+    private final AccountId walletA = AccountId.fromString("0.0.1001");
+
+    private final AccountId walletB = AccountId.fromString("0.0.1002");
+
+    private final AccountId walletC = AccountId.fromString("0.0.1003");
+
+    private final PrivateKey keyA = PrivateKey.generateED25519();
+
+    private final PrivateKey keyB = PrivateKey.generateED25519();
+
+    private final PrivateKey keyC = PrivateKey.generateED25519();
+
+    private ProtocolLayerClient protocolLayerClient;
+
+    private CryptoTransferResult result;
+
+    @BeforeEach
+    void setup() throws HieroException {
+        protocolLayerClient = Mockito.mock(ProtocolLayerClient.class);
+        result = new CryptoTransferResult(TransactionId.generate(walletA), Status.SUCCESS);
+        when(protocolLayerClient.executeCryptoTransferTransaction(any(CryptoTransferRequest.class)))
+                .thenReturn(result);
+    }
+
+    @Test
+    void testTransfersAreNetted() throws Exception {
+        //given
+        final List<CompletableFuture<List<CryptoTransferResult>>> hbarFutures = new ArrayList<>();
+        final List<CompletableFuture<List<CryptoTransferResult>>> tokenFutures = new ArrayList<>();
+
+        //when
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 100)) {
+            hbarFutures.add(engine.submit(HbarTransferRequest.of(walletA, keyA, walletB, Hbar.fromTinybars(100))));
+            hbarFutures.add(engine.submit(HbarTransferRequest.of(walletB, keyB, walletA, Hbar.fromTinybars(60))));
+            hbarFutures.add(engine.submit(HbarTransferRequest.of(walletB, keyB, walletC, Hbar.fromTinybars(30))));
+            hbarFutures.add(engine.submit(HbarTransferRequest.of(walletC, keyC, walletA, Hbar.fromTinybars(10))));
+            tokenFutures.add(engine.submit(TokenTransferRequest.of(tokenId, walletA, walletB, keyA, 5L)));
+            tokenFutures.add(engine.submit(TokenTransferRequest.of(tokenId, walletB, walletA, keyB, 5L)));
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(1)).executeCryptoTransferTransaction(captor.capture());
+        final CryptoTransferRequest request = captor.getValue();
+        Assertions.assertEquals(Map.of(walletA, -30L, walletB, 10L, walletC, 20L), request.hbarTransfers());
+        Assertions.assertTrue(request.tokenTransfers().isEmpty());
+        Assertions.assertEquals(List.of(keyA), request.signingKeys());
+        hbarFutures.forEach(future -> Assertions.assertEquals(List.of(result), future.getNow(null)));
+        tokenFutures.forEach(future -> Assertions.assertEquals(List.of(), future.getNow(null)));
+    }
+
+    @Test
+    void testSettlementsBetweenWalletsNeedOneTransaction() throws Exception {
+        //given
+        final List<AccountId> wallets = List.of(walletA, walletB, walletC);
+        final List<PrivateKey> keys = List.of(keyA, keyB, keyC);
+
+        //when
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 1000)) {
+            for (int i = 0; i < 100; i++) {
+                final int from = i % 3;
+                final int to = (i + 1) % 3;
+                engine.submit(HbarTransferRequest.of(wallets.get(from), keys.get(from), wallets.get(to),
+                        Hbar.fromTinybars(i + 1)));
+                engine.submit(TokenTransferRequest.of(tokenId, wallets.get(to), wallets.get(from), keys.get(to),
+                        (long) i + 1));
+            }
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(1)).executeCryptoTransferTransaction(captor.capture());
+        final CryptoTransferRequest request = captor.getValue();
+        Assertions.assertFalse(request.hbarTransfers().isEmpty());
+        Assertions.assertTrue(request.tokenTransfers().containsKey(tokenId));
+    }
+
+    @Test
+    void testNetChangesAreSplitIntoTransactions() throws Exception {
+        //given
+        final List<AccountId> receivers = IntStream.range(0, 30)
+                .mapToObj(i -> AccountId.fromString("0.0." + (2000 + i)))
+                .toList();
+
+        //when
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 100)) {
+            for (int i = 0; i < receivers.size(); i++) {
+                engine.submit(HbarTransferRequest.of(walletA, keyA, receivers.get(i), Hbar.fromTinybars(i + 1)));
+            }
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        final ArgumentCaptor<CryptoTransferRequest> captor = ArgumentCaptor.forClass(CryptoTransferRequest.class);
+        verify(protocolLayerClient, times(4)).executeCryptoTransferTransaction(captor.capture());
+        final Map<AccountId, Long> received = new HashMap<>();
+        captor.getAllValues().forEach(request -> request.hbarTransfers().forEach((account, amount) -> {
+            if (!account.equals(walletA)) {
+                received.put(account, amount);
+            }
+        }));
+        for (int i = 0; i < receivers.size(); i++) {
+            Assertions.assertEquals(i + 1, received.get(receivers.get(i)));
+        }
+    }
+
+    @Test
+    void testFailedTransactionCompletesFutures() throws Exception {
+        //given
+        when(protocolLayerClient.executeCryptoTransferTransaction(any(CryptoTransferRequest.class)))
+                .thenThrow(new HieroException("failed"));
+
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 10)) {
+            //when
+            final CompletableFuture<List<CryptoTransferResult>> future = engine.submit(
+                    HbarTransferRequest.of(walletA, keyA, walletB, Hbar.fromTinybars(100)));
+            engine.flush().get(5, TimeUnit.SECONDS);
+
+            //then
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+            Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void testFailedTransactionOnlyFailsTransfersItCarries() throws Exception {
+        //given
+        final List<AccountId> senders = IntStream.range(0, 10)
+                .mapToObj(i -> AccountId.fromString("0.0." + (3000 + i)))
+                .toList();
+        final List<AccountId> receivers = IntStream.range(0, 10)
+                .mapToObj(i -> AccountId.fromString("0.0." + (4000 + i)))
+                .toList();
+        final AccountId failingSender = senders.get(9);
+        when(protocolLayerClient.executeCryptoTransferTransaction(any(CryptoTransferRequest.class)))
+                .thenAnswer(invocation -> {
+                    final CryptoTransferRequest request = invocation.getArgument(0);
+                    if (request.hbarTransfers().containsKey(failingSender)) {
+                        throw new HieroException("failed");
+                    }
+                    return result;
+                });
+        final List<CompletableFuture<List<CryptoTransferResult>>> futures = new ArrayList<>();
+
+        //when
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 100)) {
+            for (int i = 0; i < senders.size(); i++) {
+                futures.add(engine.submit(HbarTransferRequest.of(senders.get(i), PrivateKey.generateED25519(),
+                        receivers.get(i), Hbar.fromTinybars(i + 1))));
+            }
+            engine.flush().get(5, TimeUnit.SECONDS);
+        }
+
+        //then
+        verify(protocolLayerClient, times(2)).executeCryptoTransferTransaction(any(CryptoTransferRequest.class));
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(List.of(result), futures.get(i).getNow(null));
+        }
+        for (int i = 5; i < 10; i++) {
+            final ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                    futures.get(i)::get);
+            Assertions.assertInstanceOf(HieroException.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void testOnlyOperatorMaySendWithoutKey() throws Exception {
+        //given
+        when(protocolLayerClient.getOperatorAccountId()).thenReturn(walletC);
+
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMinutes(1), 10)) {
+            //when
+            final CompletableFuture<List<CryptoTransferResult>> future = engine.submit(
+                    HbarTransferRequest.of(walletC, null, walletB, Hbar.fromTinybars(100)));
+            engine.flush().get(5, TimeUnit.SECONDS);
+
+            //then
+            Assertions.assertEquals(List.of(result), future.getNow(null));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> engine.submit(HbarTransferRequest.of(walletA, null, walletB, Hbar.fromTinybars(100))));
+        }
+    }
+
+    @Test
+    void testTransfersAreNettedAfterWindow() throws Exception {
+        //given
+        try (TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient,
+                Duration.ofMillis(10), 10)) {
+            //when
+            final CompletableFuture<List<CryptoTransferResult>> future = engine.submit(
+                    HbarTransferRequest.of(walletA, keyA, walletB, Hbar.fromTinybars(100)));
+
+            //then
+            Assertions.assertEquals(List.of(result), future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testInvalidTransfers() {
+        //given
+        final TransferNettingEngineImpl engine = new TransferNettingEngineImpl(protocolLayerClient);
+
+        //then
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> engine.submit(TokenTransferRequest.of(tokenId, 1L, walletA, walletB, keyA)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> engine.submit(TokenTransferRequest.of(tokenId, walletA, walletB, keyA, 0L)));
+        Assertions.assertThrows(NullPointerException.class, () -> engine.submit((HbarTransferRequest) null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CryptoTransferRequest.of(Map.of(walletA, -10L, walletB, 5L), Map.of(), List.of()));
+        engine.close();
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> engine.submit(HbarTransferRequest.of(walletA, keyA, walletB, Hbar.fromTinybars(1))));
+    }
+}
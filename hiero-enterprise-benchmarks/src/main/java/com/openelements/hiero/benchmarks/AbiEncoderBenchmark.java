@@ -0,0 +1,91 @@
+package com.openelements.hiero.benchmarks;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractExecuteTransaction;
+import com.hedera.hashgraph.sdk.ContractFunctionParameters;
+import com.openelements.hiero.base.data.ContractParam;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the encoding of contract function calls by {@link ContractFunctionParameters} (the encoding that has been
+ * used before {@link AbiEncoder} was introduced) with the encoding by {@link AbiEncoder}. Use the
+ * {@code -prof gc} option of JMH to compare the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbiEncoderBenchmark {
+
+    @Param({"transfer", "mixed"})
+    private String call;
+
+    private String functionName;
+
+    private List<ContractParam<?>> params;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        final ContractParam<String> address = ContractParam.address(AccountId.fromString("0.0.12345"));
+        if ("transfer".equals(call)) {
+            functionName = "transfer";
+            params = List.of(address, ContractParam.uint256(1_000_000));
+        } else {
+            functionName = "register";
+            params = List.of(address,
+                    ContractParam.string("a name that needs more than a single word to be encoded"),
+                    ContractParam.bytes32(new byte[]{1, 2, 3, 4}),
+                    ContractParam.int64(-42),
+                    ContractParam.uint256(BigInteger.TWO.pow(128)),
+                    ContractParam.bool(true),
+                    ContractParam.bytes(new byte[100]));
+        }
+        buffer = ByteBuffer.allocate(AbiEncoder.encodedFunctionCallSize(params));
+    }
+
+    @Benchmark
+    public byte[] contractFunctionParameters() {
+        final ContractFunctionParameters functionParameters = new ContractFunctionParameters();
+        params.forEach(param -> addParam(param, functionParameters));
+        return new ContractExecuteTransaction()
+                .setFunction(functionName, functionParameters)
+                .getFunctionParameters()
+                .toByteArray();
+    }
+
+    @Benchmark
+    public byte[] abiEncoder() {
+        return AbiEncoder.encodeFunctionCall(functionName, params);
+    }
+
+    @Benchmark
+    public ByteBuffer abiEncoderWithReusedBuffer() {
+        buffer.clear();
+        AbiEncoder.encodeFunctionCall(functionName, params, buffer);
+        return buffer;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addParam(final ContractParam param, final ContractFunctionParameters functionParameters) {
+        param.supplier().addParamToFunctionParameters(param.value(), functionParameters);
+    }
+}
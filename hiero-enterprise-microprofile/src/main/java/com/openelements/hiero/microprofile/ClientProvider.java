@@ -11,22 +11,37 @@ import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
+import com.openelements.hiero.base.implementation.HbarTransferEngineImpl;
 import com.openelements.hiero.base.implementation.NetworkRepositoryImpl;
 import com.openelements.hiero.base.implementation.NftClientImpl;
 import com.openelements.hiero.base.implementation.NftRepositoryImpl;
 import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
+import com.openelements.hiero.base.implementation.TokenDistributionEngineImpl;
 import com.openelements.hiero.base.implementation.TokenRepositoryImpl;
+import com.openelements.hiero.base.implementation.TopicMessageDispatcherImpl;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
+import com.openelements.hiero.base.implementation.TopicSubscriptionManagerImpl;
 import com.openelements.hiero.base.implementation.TransactionRepositoryImpl;
+import com.openelements.hiero.base.implementation.TransferNettingEngineImpl;
+import com.openelements.hiero.base.messaging.TopicMessageDispatcher;
+import com.openelements.hiero.base.messaging.TopicPublisher;
+import com.openelements.hiero.base.messaging.TopicSubscriptionManager;
 import com.openelements.hiero.base.mirrornode.AccountRepository;
 import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
 import com.openelements.hiero.base.mirrornode.NetworkRepository;
 import com.openelements.hiero.base.mirrornode.NftRepository;
 import com.openelements.hiero.base.mirrornode.TokenRepository;
 import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.payment.HbarTransferEngine;
+import com.openelements.hiero.base.payment.TokenDistributionEngine;
+import com.openelements.hiero.base.payment.TransferNettingEngine;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.relay.EthereumRelayClient;
 import com.openelements.hiero.base.verification.ContractVerificationClient;
 import com.openelements.hiero.microprofile.implementation.ContractVerificationClientImpl;
+import com.openelements.hiero.microprofile.implementation.EthereumRelayClientImpl;
+import com.openelements.hiero.microprofile.implementation.EthereumRelayJsonConverterImpl;
 import com.openelements.hiero.microprofile.implementation.HieroConfigImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeClientImpl;
 import com.openelements.hiero.microprofile.implementation.MirrorNodeJsonConverterImpl;
@@ -113,6 +128,58 @@ public class ClientProvider {
         return new ContractVerificationClientImpl(hieroConfig);
     }
 
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    TopicPublisher createTopicPublisher(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        return new TopicPublisherImpl(protocolLayerClient);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    HbarTransferEngine createHbarTransferEngine(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        return new HbarTransferEngineImpl(protocolLayerClient);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    TransferNettingEngine createTransferNettingEngine(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        return new TransferNettingEngineImpl(protocolLayerClient);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    TokenDistributionEngine createTokenDistributionEngine(@NonNull final ProtocolLayerClient protocolLayerClient,
+            @NonNull final TransactionRepository transactionRepository) {
+        return new TokenDistributionEngineImpl(protocolLayerClient, transactionRepository);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    TopicSubscriptionManager createTopicSubscriptionManager(@NonNull final ProtocolLayerClient protocolLayerClient) {
+        return new TopicSubscriptionManagerImpl(protocolLayerClient);
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    TopicMessageDispatcher createTopicMessageDispatcher() {
+        return new TopicMessageDispatcherImpl();
+    }
+
+    @NonNull
+    @Produces
+    @ApplicationScoped
+    EthereumRelayClient createEthereumRelayClient(@NonNull final HieroConfig hieroConfig) {
+        final String target = hieroConfig.relayUrl()
+                .orElseThrow(() -> new IllegalStateException("No relay URL configured for the network"));
+        return new EthereumRelayClientImpl(target, new EthereumRelayJsonConverterImpl());
+    }
+
     @NonNull
     @Produces
     @ApplicationScoped
@@ -0,0 +1,57 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.AbstractEthereumRelayClient;
+import com.openelements.hiero.base.implementation.EthereumRelayJsonConverter;
+import jakarta.json.Json;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonValue;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.StringReader;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public class EthereumRelayClientImpl extends AbstractEthereumRelayClient<JsonValue> {
+
+    private final String target;
+
+    private final EthereumRelayJsonConverter<JsonValue> jsonConverter;
+
+    public EthereumRelayClientImpl(@NonNull String target, @NonNull EthereumRelayJsonConverter<JsonValue> jsonConverter) {
+        this.target = Objects.requireNonNull(target, "target must not be null");
+        this.jsonConverter = Objects.requireNonNull(jsonConverter, "jsonConverter must not be null");
+    }
+
+    @Override
+    protected @NonNull EthereumRelayJsonConverter<JsonValue> getJsonConverter() {
+        return jsonConverter;
+    }
+
+    @Override
+    protected @NonNull JsonValue doPost(@NonNull String body) throws HieroException {
+        Client client = ClientBuilder.newClient();
+        try {
+            Response response = client
+                    .target(target)
+                    .request(MediaType.APPLICATION_JSON)
+                    .post(Entity.json(body));
+            final String responseBody = response.hasEntity() ? response.readEntity(String.class) : "";
+            if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+                throw new HieroException("Relay call failed with status " + response.getStatus() + ": "
+                        + responseBody);
+            }
+            if (responseBody.isBlank()) {
+                throw new HieroException("Relay returned an empty response");
+            }
+            try (JsonReader reader = Json.createReader(new StringReader(responseBody))) {
+                return reader.readValue();
+            }
+        } finally {
+            client.close();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.openelements.hiero.microprofile.implementation;
+
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import com.openelements.hiero.base.implementation.EthereumRelayJsonConverter;
+import com.openelements.hiero.base.implementation.JsonRpcResponse;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+public class EthereumRelayJsonConverterImpl implements EthereumRelayJsonConverter<JsonValue> {
+
+    @Override
+    public @NonNull List<JsonRpcResponse<JsonValue>> toResponses(@NonNull JsonValue jsonValue) {
+        Objects.requireNonNull(jsonValue, "jsonValue must not be null");
+        if (jsonValue.getValueType() == JsonValue.ValueType.ARRAY) {
+            return jsonValue.asJsonArray().stream()
+                    .map(v -> toResponse(v.asJsonObject()))
+                    .toList();
+        }
+        return List.of(toResponse(jsonValue.asJsonObject()));
+    }
+
+    private JsonRpcResponse<JsonValue> toResponse(JsonObject jsonObject) {
+        try {
+            final long id = isNullOrMissing(jsonObject, "id") ? JsonRpcResponse.NO_ID
+                    : jsonObject.getJsonNumber("id").longValue();
+            if (!isNullOrMissing(jsonObject, "error")) {
+                final JsonObject error = jsonObject.getJsonObject("error");
+                return JsonRpcResponse.ofError(id, error.getInt("code", 0), error.getString("message", null));
+            }
+            return JsonRpcResponse.ofResult(id, jsonObject.get("result"));
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<String> toText(@Nullable JsonValue jsonValue) {
+        if (jsonValue == null || jsonValue.getValueType() == JsonValue.ValueType.NULL) {
+            return Optional.empty();
+        }
+        if (jsonValue instanceof JsonString jsonString) {
+            return Optional.of(jsonString.getString());
+        }
+        return Optional.of(jsonValue.toString());
+    }
+
+    @Override
+    public @NonNull List<EthereumLog> toLogs(@Nullable JsonValue jsonValue) {
+        if (jsonValue == null || jsonValue.getValueType() == JsonValue.ValueType.NULL) {
+            return List.of();
+        }
+        return jsonValue.asJsonArray().stream()
+                .map(v -> toLog(v.asJsonObject()))
+                .toList();
+    }
+
+    private EthereumLog toLog(JsonObject jsonObject) {
+        try {
+            final String address = jsonObject.getString("address");
+            final List<byte[]> topics = isNullOrMissing(jsonObject, "topics") ? List.of()
+                    : jsonObject.getJsonArray("topics").getValuesAs(JsonString.class).stream()
+                            .map(t -> parseHex(t.getString()))
+                            .toList();
+            final byte[] data = isNullOrMissing(jsonObject, "data") ? new byte[0]
+                    : parseHex(jsonObject.getString("data"));
+            final long blockNumber = parseQuantity(jsonObject, "blockNumber");
+            final String blockHash = jsonObject.getString("blockHash", null);
+            final String transactionHash = jsonObject.getString("transactionHash", null);
+            final int transactionIndex = (int) parseQuantity(jsonObject, "transactionIndex");
+            final int logIndex = (int) parseQuantity(jsonObject, "logIndex");
+            final boolean removed = jsonObject.getBoolean("removed", false);
+            return new EthereumLog(address, topics, data, blockNumber, blockHash, transactionHash, transactionIndex,
+                    logIndex, removed);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<EthereumTransactionReceipt> toTransactionReceipt(@Nullable JsonValue jsonValue) {
+        if (jsonValue == null || jsonValue.getValueType() != JsonValue.ValueType.OBJECT) {
+            return Optional.empty();
+        }
+        final JsonObject jsonObject = jsonValue.asJsonObject();
+        try {
+            final String transactionHash = jsonObject.getString("transactionHash");
+            final String blockHash = jsonObject.getString("blockHash", null);
+            final long blockNumber = parseQuantity(jsonObject, "blockNumber");
+            final String from = jsonObject.getString("from");
+            final String to = jsonObject.getString("to", null);
+            final String contractAddress = jsonObject.getString("contractAddress", null);
+            final long gasUsed = parseQuantity(jsonObject, "gasUsed");
+            final long cumulativeGasUsed = parseQuantity(jsonObject, "cumulativeGasUsed");
+            final boolean successful = parseQuantity(jsonObject, "status") == 1;
+            final List<EthereumLog> logs = toLogs(jsonObject.get("logs"));
+            return Optional.of(new EthereumTransactionReceipt(transactionHash, blockHash, blockNumber, from, to,
+                    contractAddress, gasUsed, cumulativeGasUsed, successful, logs));
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
+        }
+    }
+
+    private static boolean isNullOrMissing(JsonObject jsonObject, String key) {
+        return !jsonObject.containsKey(key) || jsonObject.isNull(key);
+    }
+
+    private static byte[] parseHex(String value) {
+        return HexFormat.of().parseHex(value.startsWith("0x") ? value.substring(2) : value);
+    }
+
+    private static long parseQuantity(JsonObject jsonObject, String key) {
+        if (isNullOrMissing(jsonObject, key)) {
+            return 0;
+        }
+        final String value = jsonObject.getString(key);
+        final String hex = value.startsWith("0x") ? value.substring(2) : value;
+        return hex.isEmpty() ? 0 : Long.parseUnsignedLong(hex, 16);
+    }
+}
@@ -1,9 +1,12 @@
 package com.openelements.hiero.microprofile.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogFilter;
 import com.openelements.hiero.base.data.Nft;
 import com.openelements.hiero.base.data.NftMetadata;
 import com.openelements.hiero.base.data.Page;
@@ -18,6 +21,7 @@ import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import jakarta.json.JsonObject;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -133,6 +137,31 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonObject> {
         return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
     }
 
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(@NonNull final TopicId topicId,
+            final long afterSequenceNumber, final int limit) throws HieroException {
+        final String path = topicMessagesPath(topicId, afterSequenceNumber, limit);
+        final Function<JsonObject, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(@NonNull final TopicId topicId,
+            @NonNull final Instant startTime, final int limit) throws HieroException {
+        final String path = topicMessagesPath(topicId, startTime, limit);
+        final Function<JsonObject, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    }
+
+
+    @Override
+    public @NonNull Page<ContractLog> queryContractLogs(@NonNull ContractId contractId,
+            @NonNull ContractLogFilter filter) throws HieroException {
+        final String path = contractLogsPath(contractId, filter);
+        final Function<JsonObject, List<ContractLog>> dataExtractionFunction = node -> toContractLogs(node, filter);
+        return new RestBasedPage<>(restClient.getTarget(), dataExtractionFunction, path);
+    }
+
 
     @Override
     public @NonNull Page<NftMetadata> findNftTypesByOwner(AccountId ownerId) {
@@ -1,6 +1,7 @@
 package com.openelements.hiero.microprofile.implementation;
 
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenSupplyType;
 import com.hedera.hashgraph.sdk.TokenType;
@@ -28,14 +29,18 @@ import com.openelements.hiero.base.data.StakingRewardTransfer;
 import com.openelements.hiero.base.data.Transfer;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.data.ContractLog;
 import com.openelements.hiero.base.data.ChunkInfo;
 import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.protocol.data.TransactionType;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
 
 import java.time.Instant;
 import java.math.BigInteger;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -377,23 +382,23 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
         }
 
         try {
-            final JsonObject chunk = jsonObject.get("chunk_info").asJsonObject();
             ChunkInfo chunkInfo = null;
-            if (chunk != null){
-                final TransactionId transactionId = TransactionId.fromString(jsonObject.getString("initial_transaction_id"));
-                final int nonce = jsonObject.getInt("nonce");
-                final int number = jsonObject.getInt("number");
-                final int total = jsonObject.getInt("total");
-                final boolean scheduled = jsonObject.getBoolean("scheduled");
+            if (jsonObject.containsKey("chunk_info") && !jsonObject.isNull("chunk_info")) {
+                final JsonObject chunk = jsonObject.getJsonObject("chunk_info");
+                final TransactionId transactionId = TransactionId.fromString(chunk.getString("initial_transaction_id"));
+                final int nonce = chunk.getInt("nonce");
+                final int number = chunk.getInt("number");
+                final int total = chunk.getInt("total");
+                final boolean scheduled = chunk.getBoolean("scheduled");
                 chunkInfo = new ChunkInfo(transactionId, nonce, number, total, scheduled);
             }
 
-            final Instant consensusTimestamp =  Instant.ofEpochSecond((long) Double.parseDouble(jsonObject.getString("consensus_timestamp")));
-            final String message = new String(Base64.getDecoder().decode(jsonObject.getString("message")));
+            final Instant consensusTimestamp = parseTimestamp(jsonObject.getString("consensus_timestamp"));
+            final TopicMessagePayload message = TopicMessagePayload.ofBase64(jsonObject.getString("message"));
             final AccountId payerAccountId = AccountId.fromString(jsonObject.getString("payer_account_id"));
-            final byte[] runningHash = jsonObject.getString("running_hash").getBytes();
+            final byte[] runningHash = Base64.getDecoder().decode(jsonObject.getString("running_hash"));
             final int runningHashVersion = jsonObject.getInt("running_hash_version");
-            final long sequenceNumber = Long.parseLong(jsonObject.getString("sequence_number"));
+            final long sequenceNumber = jsonObject.getJsonNumber("sequence_number").longValue();
             final TopicId topicId = TopicId.fromString(jsonObject.getString("topic_id"));
 
             return Optional.of(
@@ -423,6 +428,82 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
                 .toList();
     }
 
+    @Override
+    public @NonNull Optional<String> toContractCallResult(@NonNull JsonObject jsonObject) {
+        Objects.requireNonNull(jsonObject, "jsonObject must not be null");
+        if (!jsonObject.containsKey("result") || jsonObject.isNull("result")) {
+            return Optional.empty();
+        }
+        return Optional.of(jsonObject.getString("result"));
+    }
+
+    @Override
+    public @NonNull List<ContractLog> toContractLogs(@NonNull JsonObject jsonObject) {
+        Objects.requireNonNull(jsonObject, "jsonObject must not be null");
+        if (!jsonObject.containsKey("logs") || jsonObject.isNull("logs")) {
+            return List.of();
+        }
+        return jsonObject.getJsonArray("logs").stream()
+                .map(n -> toContractLog(n.asJsonObject()))
+                .toList();
+    }
+
+    @Override
+    public @NonNull Optional<Instant> toLatestBlockTimestamp(@NonNull JsonObject jsonObject) {
+        Objects.requireNonNull(jsonObject, "jsonObject must not be null");
+        if (isNullOrMissing(jsonObject, "blocks") || jsonObject.getJsonArray("blocks").isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            final JsonObject block = jsonObject.getJsonArray("blocks").getJsonObject(0);
+            return Optional.of(parseTimestamp(block.getJsonObject("timestamp").getString("to")));
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
+        }
+    }
+
+    private ContractLog toContractLog(JsonObject jsonObject) {
+        try {
+            final ContractId contractId = ContractId.fromString(jsonObject.getString("contract_id"));
+            final ContractId rootContractId = isNullOrMissing(jsonObject, "root_contract_id") ? null
+                    : ContractId.fromString(jsonObject.getString("root_contract_id"));
+            final String address = jsonObject.getString("address");
+            final byte[] data = isNullOrMissing(jsonObject, "data") ? new byte[0]
+                    : parseHex(jsonObject.getString("data"));
+            final List<byte[]> topics = isNullOrMissing(jsonObject, "topics") ? List.of()
+                    : jsonObject.getJsonArray("topics").getValuesAs(JsonString.class).stream()
+                            .map(t -> parseHex(t.getString()))
+                            .toList();
+            final int index = jsonObject.getInt("index");
+            final Instant consensusTimestamp = parseTimestamp(jsonObject.getString("timestamp"));
+            final long blockNumber = isNullOrMissing(jsonObject, "block_number") ? 0
+                    : jsonObject.getJsonNumber("block_number").longValue();
+            final String transactionHash = isNullOrMissing(jsonObject, "transaction_hash") ? null
+                    : jsonObject.getString("transaction_hash");
+            return new ContractLog(contractId, rootContractId, address, data, topics, index, consensusTimestamp,
+                    blockNumber, transactionHash);
+        } catch (final Exception e) {
+            throw new IllegalStateException("Can not parse JSON: " + jsonObject, e);
+        }
+    }
+
+    private static boolean isNullOrMissing(JsonObject jsonObject, String key) {
+        return !jsonObject.containsKey(key) || jsonObject.isNull(key);
+    }
+
+    private static byte[] parseHex(String value) {
+        return HexFormat.of().parseHex(value.startsWith("0x") ? value.substring(2) : value);
+    }
+
+    private static Instant parseTimestamp(String value) {
+        final int separator = value.indexOf('.');
+        if (separator < 0) {
+            return Instant.ofEpochSecond(Long.parseLong(value));
+        }
+        final String nanos = (value.substring(separator + 1) + "000000000").substring(0, 9);
+        return Instant.ofEpochSecond(Long.parseLong(value.substring(0, separator)), Long.parseLong(nanos));
+    }
+
     private Optional<Token> toToken(JsonObject jsonObject) {
         Objects.requireNonNull(jsonObject, "jsonObject must not be null");
         if (jsonObject.isEmpty()) {
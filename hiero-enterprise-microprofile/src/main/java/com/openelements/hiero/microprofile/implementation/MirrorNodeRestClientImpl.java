@@ -5,6 +5,7 @@ import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.jspecify.annotations.NonNull;
@@ -32,5 +33,25 @@ public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonObject
         return response.readEntity(JsonObject.class);
     }
 
+    @Override
+    public @NonNull JsonObject doPostCall(@NonNull String path, @NonNull String jsonBody) throws HieroException {
+        Client client = ClientBuilder.newClient();
+        Response response = client
+                .target(target)
+                .path(path)
+                .request(MediaType.APPLICATION_JSON)
+                .post(Entity.json(jsonBody));
+
+        if (response.getStatusInfo().getFamily() != Response.Status.Family.SUCCESSFUL) {
+            final String body = response.hasEntity() ? response.readEntity(String.class) : "";
+            throw new HieroException("Mirror node call to '" + path + "' failed with status "
+                    + response.getStatus() + ": " + body);
+        }
+        if (!response.hasEntity()) {
+            return JsonObject.EMPTY_JSON_OBJECT;
+        }
+        return response.readEntity(JsonObject.class);
+    }
+
     public String getTarget() {return target;}
 }
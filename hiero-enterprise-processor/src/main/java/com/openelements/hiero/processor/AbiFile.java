@@ -0,0 +1,262 @@
+package com.openelements.hiero.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the functions of an ABI JSON file (the {@code abi} output of the Solidity compiler). The processor has no
+ * dependency to a JSON library, therefore the file is read by a minimal JSON parser.
+ */
+final class AbiFile {
+
+    /**
+     * A function of an ABI file.
+     *
+     * @param name        the name of the function
+     * @param inputTypes  the ABI types of the parameters
+     * @param returnTypes the return types including the names of the return values
+     * @param view        {@code true} if the function is {@code view} or {@code pure}
+     */
+    record AbiFunction(String name, List<String> inputTypes, String returnTypes, boolean view) {
+
+        /**
+         * Converts the function to a definition. Fails if the function uses types that are not supported.
+         *
+         * @return the definition
+         */
+        FunctionDefinition toDefinition() {
+            final String signature = inputTypes.stream().collect(Collectors.joining(",", name + "(", ")"));
+            return FunctionDefinition.parse(signature, returnTypes, view);
+        }
+    }
+
+    private final String json;
+
+    private int position;
+
+    private AbiFile(final String json) {
+        this.json = json;
+    }
+
+    /**
+     * Parses the functions of the given ABI JSON.
+     *
+     * @param json the content of the ABI file
+     * @return the functions
+     * @throws IllegalArgumentException if the content is not a valid ABI
+     */
+    static List<AbiFunction> parse(final String json) {
+        Objects.requireNonNull(json, "json must not be null");
+        final AbiFile file = new AbiFile(json);
+        final Object value = file.readValue();
+        file.skipWhitespace();
+        if (file.position != json.length()) {
+            throw file.error("Unexpected content");
+        }
+        final List<?> entries;
+        if (value instanceof List<?> list) {
+            entries = list;
+        } else if (value instanceof Map<?, ?> map && map.get("abi") instanceof List<?> list) {
+            // artifact files of build tools contain the ABI as a property
+            entries = list;
+        } else {
+            throw new IllegalArgumentException("ABI must be a JSON array");
+        }
+        final List<AbiFunction> functions = new ArrayList<>();
+        for (final Object entry : entries) {
+            if (entry instanceof Map<?, ?> map && "function".equals(map.get("type"))) {
+                functions.add(toFunction(map));
+            }
+        }
+        return Collections.unmodifiableList(functions);
+    }
+
+    private static AbiFunction toFunction(final Map<?, ?> map) {
+        if (!(map.get("name") instanceof String name)) {
+            throw new IllegalArgumentException("ABI function without name");
+        }
+        final List<String> inputTypes = new ArrayList<>();
+        for (final Map<?, ?> input : parameters(map.get("inputs"))) {
+            inputTypes.add(String.valueOf(input.get("type")));
+        }
+        final String returnTypes = parameters(map.get("outputs")).stream()
+                .map(output -> {
+                    final Object outputName = output.get("name");
+                    if (outputName instanceof String string && !string.isEmpty()) {
+                        return output.get("type") + " " + string;
+                    }
+                    return String.valueOf(output.get("type"));
+                })
+                .collect(Collectors.joining(", "));
+        final Object stateMutability = map.get("stateMutability");
+        final boolean view = "view".equals(stateMutability) || "pure".equals(stateMutability)
+                || Boolean.TRUE.equals(map.get("constant"));
+        return new AbiFunction(name, inputTypes, returnTypes, view);
+    }
+
+    private static List<Map<?, ?>> parameters(final Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (!(value instanceof List<?> list)) {
+            throw new IllegalArgumentException("ABI parameters must be a JSON array");
+        }
+        final List<Map<?, ?>> parameters = new ArrayList<>();
+        for (final Object parameter : list) {
+            if (!(parameter instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("ABI parameter must be a JSON object");
+            }
+            parameters.add(map);
+        }
+        return parameters;
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (position >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        final char c = json.charAt(position);
+        if (c == '{') {
+            return readObject();
+        }
+        if (c == '[') {
+            return readArray();
+        }
+        if (c == '"') {
+            return readString();
+        }
+        if (json.startsWith("true", position)) {
+            position += 4;
+            return Boolean.TRUE;
+        }
+        if (json.startsWith("false", position)) {
+            position += 5;
+            return Boolean.FALSE;
+        }
+        if (json.startsWith("null", position)) {
+            position += 4;
+            return null;
+        }
+        if (c == '-' || Character.isDigit(c)) {
+            // numbers are not needed to read an ABI and are kept as text
+            final int start = position;
+            while (position < json.length() && "+-.eE0123456789".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            return json.substring(start, position);
+        }
+        throw error("Unexpected character '" + c + "'");
+    }
+
+    private Map<String, Object> readObject() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        position++;
+        skipWhitespace();
+        if (peek() == '}') {
+            position++;
+            return map;
+        }
+        while (true) {
+            skipWhitespace();
+            if (peek() != '"') {
+                throw error("Expected property name");
+            }
+            final String key = readString();
+            skipWhitespace();
+            expect(':');
+            map.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect('}');
+                return map;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        final List<Object> list = new ArrayList<>();
+        position++;
+        skipWhitespace();
+        if (peek() == ']') {
+            position++;
+            return list;
+        }
+        while (true) {
+            list.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                position++;
+            } else {
+                expect(']');
+                return list;
+            }
+        }
+    }
+
+    private String readString() {
+        final StringBuilder builder = new StringBuilder();
+        position++;
+        while (position < json.length()) {
+            final char c = json.charAt(position++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            if (position >= json.length()) {
+                break;
+            }
+            final char escaped = json.charAt(position++);
+            switch (escaped) {
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (position + 4 > json.length()) {
+                        throw error("Invalid unicode escape");
+                    }
+                    builder.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                    position += 4;
+                }
+                default -> builder.append(escaped);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char peek() {
+        if (position >= json.length()) {
+            throw error("Unexpected end of JSON");
+        }
+        return json.charAt(position);
+    }
+
+    private void expect(final char expected) {
+        if (peek() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(final String message) {
+        return new IllegalArgumentException(message + " at position " + position + " of ABI");
+    }
+}
@@ -0,0 +1,501 @@
+package com.openelements.hiero.processor;
+
+import com.google.auto.service.AutoService;
+import com.openelements.hiero.base.contract.ContractFunction;
+import com.openelements.hiero.base.contract.ContractInterface;
+import com.openelements.hiero.base.implementation.data.AbiEncoder;
+import com.openelements.hiero.processor.AbiFile.AbiFunction;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that generates a proxy class for every interface that is annotated by
+ * {@link ContractInterface}. The proxy implements the interface by calling the contract with a
+ * {@link com.openelements.hiero.base.SmartContractClient}:
+ * <ul>
+ *     <li>the function selectors are calculated at compile time and stored as constants,</li>
+ *     <li>the parameters are written directly by a {@link com.openelements.hiero.base.contract.AbiWriter} into call
+ *     data of the exact size (no {@code ContractParam} instances, varargs arrays or reflection),</li>
+ *     <li>the result is read by the typed getter of
+ *     {@link com.openelements.hiero.base.data.ContractCallResult} that matches the return type.</li>
+ * </ul>
+ * All Java types are checked against the Solidity types of the functions, mismatches are reported as compile errors.
+ */
+@AutoService(Processor.class)
+public class ContractInterfaceProcessor extends AbstractProcessor {
+
+    private static final String PROXY_SUFFIX = "Proxy";
+
+    private static final String HIERO_EXCEPTION = "com.openelements.hiero.base.HieroException";
+
+    private static final String CONTRACT_CALL_RESULT = "com.openelements.hiero.base.data.ContractCallResult";
+
+    private static final String CONTRACT_RETURN_TYPES = "com.openelements.hiero.base.data.ContractReturnTypes";
+
+    private static final String BIG_INTEGER = "java.math.BigInteger";
+
+    private static final String STRING = "java.lang.String";
+
+    private static final String ACCOUNT_ID = "com.hedera.hashgraph.sdk.AccountId";
+
+    private static final String CONTRACT_ID = "com.hedera.hashgraph.sdk.ContractId";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(ContractInterface.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(ContractInterface.class)) {
+            if (element.getKind() != ElementKind.INTERFACE) {
+                error(element, "@ContractInterface can only be used on interfaces");
+                continue;
+            }
+            processInterface((TypeElement) element);
+        }
+        return true;
+    }
+
+    private void processInterface(final TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "Generic contract interfaces are not supported");
+            return;
+        }
+        if (processingEnv.getElementUtils().getTypeElement(HIERO_EXCEPTION) == null) {
+            error(type, "hiero-enterprise-base must be on the class path to generate contract proxies");
+            return;
+        }
+        final ContractInterface annotation = type.getAnnotation(ContractInterface.class);
+        final List<AbiFunction> abi;
+        try {
+            abi = annotation.abi().isBlank() ? null : readAbi(annotation.abi().strip());
+        } catch (final IllegalArgumentException e) {
+            error(type, e.getMessage());
+            return;
+        }
+        final List<ProxyMethod> methods = new ArrayList<>();
+        boolean valid = true;
+        for (final ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(type))) {
+            if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+                continue;
+            }
+            try {
+                methods.add(toProxyMethod(method, abi));
+            } catch (final IllegalArgumentException e) {
+                error(method, e.getMessage());
+                valid = false;
+            }
+        }
+        if (valid) {
+            writeProxy(type, methods);
+        }
+    }
+
+    private List<AbiFunction> readAbi(final String path) {
+        for (final StandardLocation location : List.of(StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH,
+                StandardLocation.CLASS_PATH)) {
+            final String content;
+            try {
+                final FileObject resource = processingEnv.getFiler().getResource(location, "", path);
+                content = resource.getCharContent(true).toString();
+            } catch (final IOException | IllegalArgumentException e) {
+                continue;
+            }
+            return AbiFile.parse(content);
+        }
+        throw new IllegalArgumentException("ABI file '" + path + "' not found");
+    }
+
+    private ProxyMethod toProxyMethod(final ExecutableElement method, final List<AbiFunction> abi) {
+        if (!method.getTypeParameters().isEmpty()) {
+            throw new IllegalArgumentException("Generic methods are not supported in contract interfaces");
+        }
+        if (method.isVarArgs()) {
+            throw new IllegalArgumentException("Varargs methods are not supported in contract interfaces");
+        }
+        if (!declaresHieroException(method)) {
+            throw new IllegalArgumentException("Method must declare " + HIERO_EXCEPTION);
+        }
+        final FunctionDefinition function = functionOf(method, abi);
+        final List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() != function.params().size()) {
+            throw new IllegalArgumentException("Method has " + parameters.size() + " parameters but function '"
+                    + function.signature() + "' has " + function.params().size());
+        }
+        final List<String> writes = new ArrayList<>();
+        final List<String> dynamicSizes = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); i++) {
+            final VariableElement parameter = parameters.get(i);
+            final SolidityType solidityType = function.params().get(i);
+            writes.add(writeOf(parameter, solidityType));
+            if (solidityType.isDynamic()) {
+                dynamicSizes.add("AbiWriter.sizeOf(" + parameter.getSimpleName() + ")");
+            }
+        }
+        final String result = resultOf(method.getReturnType(), function);
+        return new ProxyMethod(method, function, writes, dynamicSizes, result);
+    }
+
+    private FunctionDefinition functionOf(final ExecutableElement method, final List<AbiFunction> abi) {
+        final ContractFunction annotation = method.getAnnotation(ContractFunction.class);
+        if (annotation != null) {
+            return FunctionDefinition.parse(annotation.value(), annotation.returns(), annotation.view());
+        }
+        if (abi == null) {
+            throw new IllegalArgumentException(
+                    "Method must be annotated with @ContractFunction or the interface must define an ABI file");
+        }
+        final String name = method.getSimpleName().toString();
+        final int parameterCount = method.getParameters().size();
+        final List<AbiFunction> candidates = abi.stream()
+                .filter(function -> function.name().equals(name))
+                .filter(function -> function.inputTypes().size() == parameterCount)
+                .toList();
+        if (candidates.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "ABI contains no function '" + name + "' with " + parameterCount + " parameters");
+        }
+        if (candidates.size() > 1) {
+            throw new IllegalArgumentException("ABI contains several functions '" + name + "' with "
+                    + parameterCount + " parameters, use @ContractFunction to select one");
+        }
+        return candidates.get(0).toDefinition();
+    }
+
+    private boolean declaresHieroException(final ExecutableElement method) {
+        final TypeMirror hieroException = processingEnv.getElementUtils().getTypeElement(HIERO_EXCEPTION).asType();
+        return method.getThrownTypes().stream()
+                .anyMatch(thrown -> processingEnv.getTypeUtils().isAssignable(hieroException, thrown));
+    }
+
+    private String writeOf(final VariableElement parameter, final SolidityType solidityType) {
+        final String name = parameter.getSimpleName().toString();
+        final TypeMirror type = parameter.asType();
+        switch (solidityType.kind()) {
+            case UINT, INT -> {
+                if (isPrimitive(type, TypeKind.LONG, TypeKind.INT, TypeKind.SHORT, TypeKind.BYTE)
+                        || isType(type, BIG_INTEGER)) {
+                    final String method = solidityType.kind() == SolidityType.Kind.UINT ? "writeUint" : "writeInt";
+                    return "." + method + "(" + name + ", " + solidityType.size() + ")";
+                }
+            }
+            case BOOL -> {
+                if (isPrimitive(type, TypeKind.BOOLEAN)) {
+                    return ".writeBool(" + name + ")";
+                }
+            }
+            case ADDRESS -> {
+                if (isType(type, STRING) || isType(type, ACCOUNT_ID) || isType(type, CONTRACT_ID)) {
+                    return ".writeAddress(" + name + ")";
+                }
+            }
+            case STRING -> {
+                if (isType(type, STRING)) {
+                    return ".writeString(" + name + ")";
+                }
+            }
+            case BYTES -> {
+                if (isByteArray(type)) {
+                    return ".writeBytes(" + name + ")";
+                }
+            }
+            case FIXED_BYTES -> {
+                if (isByteArray(type)) {
+                    return ".writeFixedBytes(" + name + ", " + solidityType.size() + ")";
+                }
+            }
+        }
+        throw new IllegalArgumentException("Parameter '" + name + "' of type " + type
+                + " can not be used for Solidity type '" + solidityType.name() + "'");
+    }
+
+    private String resultOf(final TypeMirror returnType, final FunctionDefinition function) {
+        if (returnType.getKind() == TypeKind.VOID) {
+            return null;
+        }
+        if (isType(returnType, CONTRACT_CALL_RESULT)) {
+            return "result$";
+        }
+        final List<String> returnTypes = function.returnTypeNames();
+        if (isDecodeTarget(returnType)) {
+            final TypeElement element = (TypeElement) ((DeclaredType) returnType).asElement();
+            if (!element.getTypeParameters().isEmpty()) {
+                throw new IllegalArgumentException("Generic return types are not supported");
+            }
+            if (!returnTypes.isEmpty()) {
+                return "result$.decode(" + element.getQualifiedName() + ".class, \""
+                        + escape(function.returnTypes()) + "\")";
+            }
+            if (element.getAnnotationMirrors().stream().anyMatch(annotation ->
+                    annotation.getAnnotationType().toString().equals(CONTRACT_RETURN_TYPES))) {
+                return "result$.decode(" + element.getQualifiedName() + ".class)";
+            }
+            throw new IllegalArgumentException("Function '" + function.signature()
+                    + "' defines no return types and " + element.getSimpleName() + " is not annotated with "
+                    + "@ContractReturnTypes");
+        }
+        if (returnTypes.isEmpty()) {
+            throw new IllegalArgumentException("Function '" + function.signature()
+                    + "' has no return value, the method must return void or ContractCallResult");
+        }
+        if (returnTypes.size() > 1) {
+            throw new IllegalArgumentException("Function '" + function.signature() + "' has " + returnTypes.size()
+                    + " return values, the method must return a record, an interface or ContractCallResult");
+        }
+        final SolidityType solidityType = SolidityType.parse(returnTypes.get(0));
+        final int size = solidityType.size();
+        switch (solidityType.kind()) {
+            case UINT -> {
+                if (isType(returnType, BIG_INTEGER)) {
+                    return "result$.getUint256(0)";
+                } else if (isPrimitive(returnType, TypeKind.LONG) && size <= 64) {
+                    return "result$.getUint64(0)";
+                } else if (isPrimitive(returnType, TypeKind.INT) && size < 32) {
+                    return "(int) result$.getUint32(0)";
+                }
+            }
+            case INT -> {
+                if (isType(returnType, BIG_INTEGER)) {
+                    return "result$.getInt256(0)";
+                } else if (isPrimitive(returnType, TypeKind.LONG) && size <= 64) {
+                    return "result$.getInt64(0)";
+                } else if (isPrimitive(returnType, TypeKind.INT) && size <= 32) {
+                    return "result$.getInt32(0)";
+                } else if (isPrimitive(returnType, TypeKind.BYTE) && size == 8) {
+                    return "result$.getInt8(0)";
+                }
+            }
+            case BOOL -> {
+                if (isPrimitive(returnType, TypeKind.BOOLEAN)) {
+                    return "result$.getBool(0)";
+                }
+            }
+            case ADDRESS -> {
+                if (isType(returnType, STRING)) {
+                    return "result$.getAddress(0)";
+                }
+            }
+            case STRING -> {
+                if (isType(returnType, STRING)) {
+                    return "result$.getString(0)";
+                }
+            }
+            case BYTES -> {
+                if (isByteArray(returnType)) {
+                    return "result$.getBytes(0)";
+                }
+            }
+            case FIXED_BYTES -> {
+                // bytesN values are static and can only be read as part of a record or interface
+            }
+        }
+        throw new IllegalArgumentException("Return type " + returnType + " can not be used for Solidity type '"
+                + solidityType.name() + "'");
+    }
+
+    private boolean isDecodeTarget(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        if (element.getQualifiedName().toString().startsWith("java.")) {
+            return false;
+        }
+        return element.getKind() == ElementKind.RECORD || element.getKind() == ElementKind.INTERFACE;
+    }
+
+    private void writeProxy(final TypeElement type, final List<ProxyMethod> methods) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String proxyName = proxyName(type);
+        final String qualifiedName = packageName.isEmpty() ? proxyName : packageName + "." + proxyName;
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.hedera.hashgraph.sdk.ContractId;\n")
+                .append("import com.openelements.hiero.base.SmartContractClient;\n")
+                .append("import com.openelements.hiero.base.contract.AbiWriter;\n")
+                .append("import com.openelements.hiero.base.data.ContractCallResult;\n")
+                .append("import java.util.Objects;\n\n")
+                .append("/**\n")
+                .append(" * Proxy for {@link ").append(type.getQualifiedName()).append("} that calls the contract by a\n")
+                .append(" * {@link SmartContractClient}. Generated by {@code ").append(getClass().getName())
+                .append("}, do not edit.\n")
+                .append(" */\n")
+                .append("public final class ").append(proxyName).append(" implements ")
+                .append(type.getQualifiedName()).append(" {\n\n");
+        final Set<String> constants = new HashSet<>();
+        final List<String> selectorConstants = new ArrayList<>();
+        for (final ProxyMethod method : methods) {
+            final String constant = uniqueConstant(method.method().getSimpleName().toString(), constants);
+            selectorConstants.add(constant);
+            source.append("    // ").append(method.function().signature()).append("\n")
+                    .append("    private static final byte[] ").append(constant).append(" = ")
+                    .append(selectorLiteral(method.function().signature())).append(";\n\n");
+        }
+        source.append("    private final SmartContractClient client;\n\n")
+                .append("    private final ContractId contractId;\n\n")
+                .append("    public ").append(proxyName)
+                .append("(final SmartContractClient client, final ContractId contractId) {\n")
+                .append("        this.client = Objects.requireNonNull(client, \"client must not be null\");\n")
+                .append("        this.contractId = Objects.requireNonNull(contractId, \"contractId must not be null\");\n")
+                .append("    }\n\n")
+                .append("    public ").append(proxyName)
+                .append("(final SmartContractClient client, final String contractId) {\n")
+                .append("        this(client, ContractId.fromString(Objects.requireNonNull(contractId, ")
+                .append("\"contractId must not be null\")));\n")
+                .append("    }\n");
+        for (int i = 0; i < methods.size(); i++) {
+            appendMethod(source, methods.get(i), selectorConstants.get(i));
+        }
+        source.append("}\n");
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (final IOException e) {
+            error(type, "Failed to write proxy " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private void appendMethod(final StringBuilder source, final ProxyMethod proxyMethod, final String selector) {
+        final ExecutableElement method = proxyMethod.method();
+        final String parameters = method.getParameters().stream()
+                .map(parameter -> "final " + typeName(parameter.asType()) + " " + parameter.getSimpleName())
+                .collect(Collectors.joining(", "));
+        final String thrownTypes = method.getThrownTypes().stream()
+                .map(this::typeName)
+                .collect(Collectors.joining(", "));
+        final String dynamicSize = proxyMethod.dynamicSizes().isEmpty()
+                ? "0" : String.join(" + ", proxyMethod.dynamicSizes());
+        source.append("\n    @Override\n")
+                .append("    public ").append(typeName(method.getReturnType())).append(" ")
+                .append(method.getSimpleName()).append("(").append(parameters).append(") throws ")
+                .append(thrownTypes).append(" {\n")
+                .append("        final byte[] callData$ = AbiWriter.forCall(").append(selector).append(", ")
+                .append(method.getParameters().size()).append(", ").append(dynamicSize).append(")\n");
+        for (final String write : proxyMethod.writes()) {
+            source.append("                ").append(write).append("\n");
+        }
+        source.append("                .toByteArray();\n");
+        final String call = proxyMethod.function().view() ? "queryContract" : "callContract";
+        if (proxyMethod.result() == null) {
+            source.append("        this.client.").append(call).append("(this.contractId, callData$);\n");
+        } else {
+            source.append("        final ContractCallResult result$ = this.client.").append(call)
+                    .append("(this.contractId, callData$);\n")
+                    .append("        return ").append(proxyMethod.result()).append(";\n");
+        }
+        source.append("    }\n");
+    }
+
+    private String typeName(final TypeMirror type) {
+        return switch (type.getKind()) {
+            case ARRAY -> typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED -> {
+                final DeclaredType declaredType = (DeclaredType) type;
+                final String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+                if (declaredType.getTypeArguments().isEmpty()) {
+                    yield name;
+                }
+                yield declaredType.getTypeArguments().stream()
+                        .map(this::typeName)
+                        .collect(Collectors.joining(", ", name + "<", ">"));
+            }
+            case WILDCARD, TYPEVAR -> type.toString();
+            default -> type.getKind().name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    private static String proxyName(final TypeElement type) {
+        final List<String> names = new ArrayList<>();
+        Element element = type;
+        while (element instanceof TypeElement typeElement) {
+            names.add(0, typeElement.getSimpleName().toString());
+            element = element.getEnclosingElement();
+        }
+        return String.join("_", names) + PROXY_SUFFIX;
+    }
+
+    private static String uniqueConstant(final String methodName, final Set<String> constants) {
+        final String base = methodName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT)
+                + "_SELECTOR";
+        String constant = base;
+        int index = 2;
+        while (!constants.add(constant)) {
+            constant = base + "_" + index++;
+        }
+        return constant;
+    }
+
+    private static String selectorLiteral(final String signature) {
+        final byte[] hash = AbiEncoder.functionSelector(signature);
+        final StringBuilder literal = new StringBuilder("{");
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                literal.append(", ");
+            }
+            literal.append(String.format("(byte) 0x%02x", hash[i] & 0xFF));
+        }
+        return literal.append("}").toString();
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private boolean isType(final TypeMirror type, final String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static boolean isPrimitive(final TypeMirror type, final TypeKind... kinds) {
+        for (final TypeKind kind : kinds) {
+            if (type.getKind() == kind) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isByteArray(final TypeMirror type) {
+        return type.getKind() == TypeKind.ARRAY && ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE;
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+    }
+
+    private record ProxyMethod(ExecutableElement method, FunctionDefinition function, List<String> writes,
+                               List<String> dynamicSizes, String result) {
+    }
+}
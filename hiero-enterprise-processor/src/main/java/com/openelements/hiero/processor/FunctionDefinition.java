@@ -0,0 +1,101 @@
+package com.openelements.hiero.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A contract function that is called by a method of a contract interface.
+ *
+ * @param name        the name of the function
+ * @param params      the parameter types of the function
+ * @param returnTypes the return types as defined in the annotation or ABI (for example {@code uint256 balance}), an
+ *                    empty string if the function has no return value
+ * @param view        {@code true} if the function is read-only
+ */
+record FunctionDefinition(String name, List<SolidityType> params, String returnTypes, boolean view) {
+
+    FunctionDefinition {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(params, "params must not be null");
+        Objects.requireNonNull(returnTypes, "returnTypes must not be null");
+        params = List.copyOf(params);
+    }
+
+    /**
+     * Parses a function signature like {@code transfer(address to, uint256 amount)}.
+     *
+     * @param signature   the signature
+     * @param returnTypes the return types
+     * @param view        {@code true} if the function is read-only
+     * @return the function
+     * @throws IllegalArgumentException if the signature is invalid or contains unsupported types
+     */
+    static FunctionDefinition parse(final String signature, final String returnTypes, final boolean view) {
+        Objects.requireNonNull(signature, "signature must not be null");
+        final String value = signature.strip();
+        final int open = value.indexOf('(');
+        if (open <= 0 || !value.endsWith(")")) {
+            throw new IllegalArgumentException("Invalid function signature '" + value + "'");
+        }
+        final String name = value.substring(0, open).strip();
+        if (!isIdentifier(name)) {
+            throw new IllegalArgumentException("Invalid function name '" + name + "'");
+        }
+        final String paramList = value.substring(open + 1, value.length() - 1);
+        if (paramList.indexOf('(') >= 0 || paramList.indexOf(')') >= 0) {
+            throw new IllegalArgumentException("Tuple parameters are not supported in '" + value + "'");
+        }
+        final List<SolidityType> params = new ArrayList<>();
+        if (!paramList.isBlank()) {
+            for (final String part : paramList.split(",")) {
+                final String[] tokens = part.strip().split("\\s+");
+                if (tokens[0].isEmpty()) {
+                    throw new IllegalArgumentException("Invalid function signature '" + value + "'");
+                }
+                params.add(SolidityType.parse(tokens[0]));
+            }
+        }
+        return new FunctionDefinition(name, params, Objects.requireNonNullElse(returnTypes, "").strip(), view);
+    }
+
+    /**
+     * Returns the canonical signature that is used to calculate the function selector.
+     *
+     * @return the signature, for example {@code transfer(address,uint256)}
+     */
+    String signature() {
+        return params.stream()
+                .map(SolidityType::name)
+                .collect(Collectors.joining(",", name + "(", ")"));
+    }
+
+    /**
+     * Returns the ABI types of the return values without names.
+     *
+     * @return the types
+     */
+    List<String> returnTypeNames() {
+        String value = returnTypes;
+        if (value.startsWith("(") && value.endsWith(")")) {
+            value = value.substring(1, value.length() - 1).strip();
+        }
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        final List<String> types = new ArrayList<>();
+        for (final String part : value.split(",")) {
+            types.add(part.strip().split("\\s+")[0]);
+        }
+        return Collections.unmodifiableList(types);
+    }
+
+    private static boolean isIdentifier(final String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        return name.chars().allMatch(Character::isJavaIdentifierPart);
+    }
+}
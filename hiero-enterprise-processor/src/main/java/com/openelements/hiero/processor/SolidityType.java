@@ -0,0 +1,85 @@
+package com.openelements.hiero.processor;
+
+import java.util.Objects;
+
+/**
+ * A Solidity type that can be encoded and decoded by a generated proxy.
+ *
+ * @param name the canonical name of the type as used in function signatures
+ * @param kind the kind of the type
+ * @param size the number of bits of integer types or the number of bytes of {@code bytesN}, otherwise {@code 0}
+ */
+record SolidityType(String name, Kind kind, int size) {
+
+    enum Kind {
+        UINT,
+        INT,
+        BOOL,
+        ADDRESS,
+        STRING,
+        BYTES,
+        FIXED_BYTES
+    }
+
+    SolidityType {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(kind, "kind must not be null");
+    }
+
+    /**
+     * Parses a Solidity type. Arrays and tuples are not supported by generated proxies.
+     *
+     * @param type the type, for example {@code uint256} or {@code address}
+     * @return the type
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    static SolidityType parse(final String type) {
+        Objects.requireNonNull(type, "type must not be null");
+        final String value = type.strip();
+        switch (value) {
+            case "bool":
+                return new SolidityType(value, Kind.BOOL, 0);
+            case "address":
+                return new SolidityType(value, Kind.ADDRESS, 0);
+            case "string":
+                return new SolidityType(value, Kind.STRING, 0);
+            case "bytes":
+                return new SolidityType(value, Kind.BYTES, 0);
+            case "uint":
+                return new SolidityType("uint256", Kind.UINT, 256);
+            case "int":
+                return new SolidityType("int256", Kind.INT, 256);
+            default:
+                break;
+        }
+        if (value.startsWith("uint")) {
+            final int bits = parseSize(value, 4);
+            if (bits >= 8 && bits <= 256 && bits % 8 == 0) {
+                return new SolidityType(value, Kind.UINT, bits);
+            }
+        } else if (value.startsWith("int")) {
+            final int bits = parseSize(value, 3);
+            if (bits >= 8 && bits <= 256 && bits % 8 == 0) {
+                return new SolidityType(value, Kind.INT, bits);
+            }
+        } else if (value.startsWith("bytes")) {
+            final int size = parseSize(value, 5);
+            if (size >= 1 && size <= 32) {
+                return new SolidityType(value, Kind.FIXED_BYTES, size);
+            }
+        }
+        throw new IllegalArgumentException("Unsupported Solidity type '" + value + "'");
+    }
+
+    boolean isDynamic() {
+        return kind == Kind.STRING || kind == Kind.BYTES;
+    }
+
+    private static int parseSize(final String type, final int prefixLength) {
+        final String size = type.substring(prefixLength);
+        if (size.isEmpty() || !size.chars().allMatch(Character::isDigit) || size.length() > 3) {
+            return -1;
+        }
+        return Integer.parseInt(size);
+    }
+}
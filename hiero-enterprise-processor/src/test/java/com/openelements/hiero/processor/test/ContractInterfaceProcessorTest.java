@@ -0,0 +1,263 @@
+package com.openelements.hiero.processor.test;
+
+import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
+import com.openelements.hiero.base.SmartContractClient;
+import com.openelements.hiero.base.data.ContractCallResult;
+import com.openelements.hiero.processor.ContractInterfaceProcessor;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+public class ContractInterfaceProcessorTest {
+
+    private static final String TOKEN_SOURCE = """
+            package sample;
+
+            import com.hedera.hashgraph.sdk.AccountId;
+            import com.openelements.hiero.base.HieroException;
+            import com.openelements.hiero.base.contract.ContractFunction;
+            import com.openelements.hiero.base.contract.ContractInterface;
+            import java.math.BigInteger;
+
+            @ContractInterface
+            public interface Token {
+
+                record Info(String name, BigInteger supply) {}
+
+                @ContractFunction(value = "transfer(address to, uint256 amount)", returns = "bool")
+                boolean transfer(AccountId to, BigInteger amount) throws HieroException;
+
+                @ContractFunction(value = "balanceOf(address)", returns = "uint256", view = true)
+                BigInteger balanceOf(String owner) throws HieroException;
+
+                @ContractFunction(value = "info()", returns = "string name, uint256 supply", view = true)
+                Info info() throws HieroException;
+
+                @ContractFunction("setName(string)")
+                void setName(String name) throws HieroException;
+            }
+            """;
+
+    @TempDir
+    private Path outputDir;
+
+    private record Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+        String errors() {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(diagnostic -> diagnostic.getMessage(null))
+                    .collect(Collectors.joining("\n"));
+        }
+    }
+
+    private Compilation compile(final String className, final String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(outputDir.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(outputDir.toFile()));
+            final JavaFileObject file = new SimpleJavaFileObject(
+                    URI.create("string:///" + className.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path")), null, List.of(file));
+            task.setProcessors(List.of(new ContractInterfaceProcessor()));
+            return new Compilation(task.call(), diagnostics.getDiagnostics());
+        }
+    }
+
+    private Object createProxy(final String proxyName, final SmartContractClient client) throws Exception {
+        final URLClassLoader classLoader = new URLClassLoader(new java.net.URL[]{outputDir.toUri().toURL()},
+                getClass().getClassLoader());
+        return classLoader.loadClass(proxyName)
+                .getConstructor(SmartContractClient.class, ContractId.class)
+                .newInstance(client, ContractId.fromString("0.0.1234"));
+    }
+
+    @Test
+    void testGeneratedProxyCallsContract() throws Exception {
+        //given
+        final SmartContractClient client = Mockito.mock(SmartContractClient.class);
+        final ContractCallResult result = Mockito.mock(ContractCallResult.class);
+        Mockito.when(result.getBool(0)).thenReturn(true);
+        Mockito.when(client.callContract(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(result);
+
+        //when
+        final Compilation compilation = compile("sample.Token", TOKEN_SOURCE);
+        final Object token = createProxy("sample.TokenProxy", client);
+        final Object transferred = token.getClass().getMethod("transfer", AccountId.class, BigInteger.class)
+                .invoke(token, AccountId.fromString("0.0.1000"), BigInteger.valueOf(1000));
+
+        //then
+        Assertions.assertTrue(compilation.success(), compilation.errors());
+        Assertions.assertEquals(Boolean.TRUE, transferred);
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(client).callContract(ArgumentMatchers.eq(ContractId.fromString("0.0.1234")),
+                captor.capture());
+        Assertions.assertEquals("a9059cbb"
+                + "00000000000000000000000000000000000000000000000000000000000003e8"
+                + "00000000000000000000000000000000000000000000000000000000000003e8",
+                HexFormat.of().formatHex(captor.getValue()));
+        Mockito.verify(client, Mockito.never()).queryContract(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+
+    @Test
+    void testGeneratedProxyQueriesViewFunctions() throws Exception {
+        //given
+        final SmartContractClient client = Mockito.mock(SmartContractClient.class);
+        final ContractCallResult result = Mockito.mock(ContractCallResult.class);
+        Mockito.when(result.getUint256(0)).thenReturn(BigInteger.TEN);
+        Mockito.when(client.queryContract(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(result);
+
+        //when
+        final Compilation compilation = compile("sample.Token", TOKEN_SOURCE);
+        final Object token = createProxy("sample.TokenProxy", client);
+        final Object balance = token.getClass().getMethod("balanceOf", String.class).invoke(token, "0.0.5");
+
+        //then
+        Assertions.assertTrue(compilation.success(), compilation.errors());
+        Assertions.assertEquals(BigInteger.TEN, balance);
+        final ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(client).queryContract(ArgumentMatchers.any(), captor.capture());
+        Assertions.assertEquals("70a08231" + "00".repeat(31) + "05", HexFormat.of().formatHex(captor.getValue()));
+    }
+
+    @Test
+    void testGeneratedProxyUsesAbiFile() throws Exception {
+        //given
+        Files.writeString(outputDir.resolve("counter.abi.json"), """
+                [
+                  {"type": "constructor", "inputs": []},
+                  {"type": "function", "name": "count", "inputs": [],
+                   "outputs": [{"name": "", "type": "uint64"}], "stateMutability": "view"},
+                  {"type": "function", "name": "add", "inputs": [{"name": "value", "type": "uint32"}],
+                   "outputs": [], "stateMutability": "nonpayable"},
+                  {"type": "event", "name": "Added", "inputs": [], "anonymous": false}
+                ]
+                """);
+        final String source = """
+                package sample;
+
+                import com.openelements.hiero.base.HieroException;
+                import com.openelements.hiero.base.contract.ContractInterface;
+
+                @ContractInterface(abi = "counter.abi.json")
+                public interface Counter {
+
+                    long count() throws HieroException;
+
+                    void add(int value) throws HieroException;
+                }
+                """;
+
+        //when
+        final Compilation compilation = compile("sample.Counter", source);
+
+        //then
+        Assertions.assertTrue(compilation.success(), compilation.errors());
+        final String proxy = Files.readString(outputDir.resolve("sample/CounterProxy.java"));
+        Assertions.assertTrue(proxy.contains("// count()"));
+        Assertions.assertTrue(proxy.contains("// add(uint32)"));
+        Assertions.assertTrue(proxy.contains("queryContract"));
+        Assertions.assertTrue(proxy.contains(".writeUint(value, 32)"));
+    }
+
+    @Test
+    void testTypeMismatchIsCompileError() throws Exception {
+        //given
+        final String source = """
+                package sample;
+
+                import com.openelements.hiero.base.HieroException;
+                import com.openelements.hiero.base.contract.ContractFunction;
+                import com.openelements.hiero.base.contract.ContractInterface;
+
+                @ContractInterface
+                public interface Broken {
+
+                    @ContractFunction(value = "transfer(address,uint256)", returns = "bool")
+                    boolean transfer(String to, String amount) throws HieroException;
+
+                    @ContractFunction(value = "name()", returns = "string")
+                    long name() throws HieroException;
+                }
+                """;
+
+        //when
+        final Compilation compilation = compile("sample.Broken", source);
+
+        //then
+        Assertions.assertFalse(compilation.success());
+        Assertions.assertTrue(compilation.errors().contains(
+                "Parameter 'amount' of type java.lang.String can not be used for Solidity type 'uint256'"));
+        Assertions.assertTrue(compilation.errors().contains(
+                "Return type long can not be used for Solidity type 'string'"));
+    }
+
+    @Test
+    void testInvalidMethodsAreCompileErrors() throws Exception {
+        //given
+        final String source = """
+                package sample;
+
+                import com.openelements.hiero.base.HieroException;
+                import com.openelements.hiero.base.contract.ContractFunction;
+                import com.openelements.hiero.base.contract.ContractInterface;
+
+                @ContractInterface
+                public interface Invalid {
+
+                    @ContractFunction("set(uint256)")
+                    void withoutException(long value);
+
+                    @ContractFunction("set(uint256,uint256)")
+                    void wrongParameterCount(long value) throws HieroException;
+
+                    @ContractFunction("set(uint256[])")
+                    void unsupportedType(long value) throws HieroException;
+
+                    void withoutFunction() throws HieroException;
+                }
+                """;
+
+        //when
+        final Compilation compilation = compile("sample.Invalid", source);
+
+        //then
+        Assertions.assertFalse(compilation.success());
+        final String errors = compilation.errors();
+        Assertions.assertTrue(errors.contains("Method must declare com.openelements.hiero.base.HieroException"));
+        Assertions.assertTrue(errors.contains("Method has 1 parameters but function 'set(uint256,uint256)' has 2"));
+        Assertions.assertTrue(errors.contains("Unsupported Solidity type 'uint256[]'"));
+        Assertions.assertTrue(errors.contains("Method must be annotated with @ContractFunction"));
+        Assertions.assertFalse(Files.exists(outputDir.resolve("sample/InvalidProxy.java")));
+    }
+}
@@ -0,0 +1,65 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.implementation.AbstractEthereumRelayClient;
+import com.openelements.hiero.base.implementation.EthereumRelayJsonConverter;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+public class EthereumRelayClientImpl extends AbstractEthereumRelayClient<JsonNode> {
+
+    private final ObjectMapper objectMapper;
+
+    private final RestClient restClient;
+
+    private final EthereumRelayJsonConverter<JsonNode> jsonConverter;
+
+    /**
+     * Constructor.
+     *
+     * @param restClientBuilder the builder for the REST client that must have the relay URL as base URL
+     */
+    public EthereumRelayClientImpl(final RestClient.Builder restClientBuilder) {
+        Objects.requireNonNull(restClientBuilder, "restClientBuilder must not be null");
+        objectMapper = new ObjectMapper();
+        restClient = restClientBuilder.build();
+        jsonConverter = new EthereumRelayJsonConverterImpl();
+    }
+
+    @Override
+    protected @NonNull EthereumRelayJsonConverter<JsonNode> getJsonConverter() {
+        return jsonConverter;
+    }
+
+    @Override
+    protected @NonNull JsonNode doPost(@NonNull final String body) throws HieroException {
+        final ResponseEntity<String> responseEntity = restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, (request, response) -> {
+                })
+                .toEntity(String.class);
+        final String responseBody = responseEntity.getBody();
+        if (responseEntity.getStatusCode().isError()) {
+            throw new HieroException("Relay call failed with status " + responseEntity.getStatusCode() + ": "
+                    + responseBody);
+        }
+        if (responseBody == null || responseBody.isBlank()) {
+            throw new HieroException("Relay returned an empty response");
+        }
+        try {
+            return objectMapper.readTree(responseBody);
+        } catch (JsonProcessingException e) {
+            throw new HieroException("Error parsing body as JSON: " + responseBody, e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.openelements.hiero.spring.implementation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.openelements.hiero.base.data.EthereumLog;
+import com.openelements.hiero.base.data.EthereumTransactionReceipt;
+import com.openelements.hiero.base.implementation.EthereumRelayJsonConverter;
+import com.openelements.hiero.base.implementation.JsonRpcResponse;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+public class EthereumRelayJsonConverterImpl implements EthereumRelayJsonConverter<JsonNode> {
+
+    @Override
+    public @NonNull List<JsonRpcResponse<JsonNode>> toResponses(@NonNull JsonNode node) {
+        Objects.requireNonNull(node, "jsonNode must not be null");
+        if (node.isArray()) {
+            return jsonArrayToStream(node)
+                    .map(n -> toResponse(n))
+                    .toList();
+        }
+        return List.of(toResponse(node));
+    }
+
+    private JsonRpcResponse<JsonNode> toResponse(JsonNode node) {
+        try {
+            final long id = node.hasNonNull("id") ? node.get("id").asLong() : JsonRpcResponse.NO_ID;
+            if (node.hasNonNull("error")) {
+                final JsonNode error = node.get("error");
+                return JsonRpcResponse.ofError(id, error.path("code").asInt(), error.path("message").asText(null));
+            }
+            return JsonRpcResponse.ofResult(id, node.get("result"));
+        } catch (final Exception e) {
+            throw new JsonParseException(node, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<String> toText(@Nullable JsonNode node) {
+        if (node == null || node.isNull()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.asText());
+    }
+
+    @Override
+    public @NonNull List<EthereumLog> toLogs(@Nullable JsonNode node) {
+        if (node == null || node.isNull()) {
+            return List.of();
+        }
+        return jsonArrayToStream(node)
+                .map(n -> toLog(n))
+                .toList();
+    }
+
+    private EthereumLog toLog(JsonNode node) {
+        try {
+            final String address = node.get("address").asText();
+            final List<byte[]> topics = !node.hasNonNull("topics") ? List.of()
+                    : jsonArrayToStream(node.get("topics")).map(t -> parseHex(t.asText())).toList();
+            final byte[] data = !node.hasNonNull("data") ? new byte[0] : parseHex(node.get("data").asText());
+            final long blockNumber = parseQuantity(node.get("blockNumber"));
+            final String blockHash = node.hasNonNull("blockHash") ? node.get("blockHash").asText() : null;
+            final String transactionHash = node.hasNonNull("transactionHash")
+                    ? node.get("transactionHash").asText() : null;
+            final int transactionIndex = (int) parseQuantity(node.get("transactionIndex"));
+            final int logIndex = (int) parseQuantity(node.get("logIndex"));
+            final boolean removed = node.path("removed").asBoolean(false);
+            return new EthereumLog(address, topics, data, blockNumber, blockHash, transactionHash, transactionIndex,
+                    logIndex, removed);
+        } catch (final Exception e) {
+            throw new JsonParseException(node, e);
+        }
+    }
+
+    @Override
+    public @NonNull Optional<EthereumTransactionReceipt> toTransactionReceipt(@Nullable JsonNode node) {
+        if (node == null || node.isNull() || node.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            final String transactionHash = node.get("transactionHash").asText();
+            final String blockHash = node.hasNonNull("blockHash") ? node.get("blockHash").asText() : null;
+            final long blockNumber = parseQuantity(node.get("blockNumber"));
+            final String from = node.get("from").asText();
+            final String to = node.hasNonNull("to") ? node.get("to").asText() : null;
+            final String contractAddress = node.hasNonNull("contractAddress")
+                    ? node.get("contractAddress").asText() : null;
+            final long gasUsed = parseQuantity(node.get("gasUsed"));
+            final long cumulativeGasUsed = parseQuantity(node.get("cumulativeGasUsed"));
+            final boolean successful = parseQuantity(node.get("status")) == 1;
+            final List<EthereumLog> logs = toLogs(node.get("logs"));
+            return Optional.of(new EthereumTransactionReceipt(transactionHash, blockHash, blockNumber, from, to,
+                    contractAddress, gasUsed, cumulativeGasUsed, successful, logs));
+        } catch (final Exception e) {
+            throw new JsonParseException(node, e);
+        }
+    }
+
+    private static byte[] parseHex(String value) {
+        return HexFormat.of().parseHex(value.startsWith("0x") ? value.substring(2) : value);
+    }
+
+    private static long parseQuantity(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return 0;
+        }
+        final String value = node.asText();
+        final String hex = value.startsWith("0x") ? value.substring(2) : value;
+        return hex.isEmpty() ? 0 : Long.parseUnsignedLong(hex, 16);
+    }
+
+    private Stream<JsonNode> jsonArrayToStream(@NonNull final JsonNode node) {
+        Objects.requireNonNull(node, "jsonNode must not be null");
+        if (!node.isArray()) {
+            throw new JsonParseException("not an array", node);
+        }
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(node.iterator(), Spliterator.ORDERED), false);
+    }
+}
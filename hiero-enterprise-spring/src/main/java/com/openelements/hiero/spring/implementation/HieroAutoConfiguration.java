@@ -10,18 +10,30 @@ import com.openelements.hiero.base.TopicClient;
 import com.openelements.hiero.base.config.HieroConfig;
 import com.openelements.hiero.base.implementation.AccountClientImpl;
 import com.openelements.hiero.base.implementation.AccountRepositoryImpl;
+import com.openelements.hiero.base.implementation.BytecodeFileRegistry;
+import com.openelements.hiero.base.implementation.ContractCallResultCache;
+import com.openelements.hiero.base.implementation.ContractGasEstimator;
 import com.openelements.hiero.base.implementation.FileClientImpl;
 import com.openelements.hiero.base.implementation.FungibleTokenClientImpl;
+import com.openelements.hiero.base.implementation.HbarTransferEngineImpl;
 import com.openelements.hiero.base.implementation.NetworkRepositoryImpl;
 import com.openelements.hiero.base.implementation.NftClientImpl;
 import com.openelements.hiero.base.implementation.NftRepositoryImpl;
 import com.openelements.hiero.base.implementation.ProtocolLayerClientImpl;
 import com.openelements.hiero.base.implementation.SmartContractClientImpl;
+import com.openelements.hiero.base.implementation.TokenDistributionEngineImpl;
 import com.openelements.hiero.base.implementation.TokenRepositoryImpl;
 import com.openelements.hiero.base.implementation.TopicClientImpl;
+import com.openelements.hiero.base.implementation.TopicMessageDispatcherImpl;
+import com.openelements.hiero.base.implementation.TopicPublisherImpl;
 import com.openelements.hiero.base.implementation.TopicRepositoryImpl;
+import com.openelements.hiero.base.implementation.TopicSubscriptionManagerImpl;
 import com.openelements.hiero.base.implementation.TransactionRepositoryImpl;
+import com.openelements.hiero.base.implementation.TransferNettingEngineImpl;
 import com.openelements.hiero.base.interceptors.ReceiveRecordInterceptor;
+import com.openelements.hiero.base.messaging.TopicMessageDispatcher;
+import com.openelements.hiero.base.messaging.TopicPublisher;
+import com.openelements.hiero.base.messaging.TopicSubscriptionManager;
 import com.openelements.hiero.base.mirrornode.AccountRepository;
 import com.openelements.hiero.base.mirrornode.MirrorNodeClient;
 import com.openelements.hiero.base.mirrornode.NetworkRepository;
@@ -29,7 +41,11 @@ import com.openelements.hiero.base.mirrornode.NftRepository;
 import com.openelements.hiero.base.mirrornode.TokenRepository;
 import com.openelements.hiero.base.mirrornode.TopicRepository;
 import com.openelements.hiero.base.mirrornode.TransactionRepository;
+import com.openelements.hiero.base.payment.HbarTransferEngine;
+import com.openelements.hiero.base.payment.TokenDistributionEngine;
+import com.openelements.hiero.base.payment.TransferNettingEngine;
 import com.openelements.hiero.base.protocol.ProtocolLayerClient;
+import com.openelements.hiero.base.relay.EthereumRelayClient;
 import com.openelements.hiero.base.verification.ContractVerificationClient;
 import java.net.URI;
 import java.net.URL;
@@ -43,6 +59,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.context.annotation.ApplicationScope;
 
@@ -81,8 +98,26 @@ public class HieroAutoConfiguration {
     }
 
     @Bean
-    SmartContractClient smartContractClient(final ProtocolLayerClient protocolLayerClient, FileClient fileClient) {
-        return new SmartContractClientImpl(protocolLayerClient, fileClient);
+    SmartContractClient smartContractClient(final ProtocolLayerClient protocolLayerClient, FileClient fileClient,
+            @Autowired(required = false) final BytecodeFileRegistry bytecodeFileRegistry,
+            @Autowired(required = false) final ContractGasEstimator contractGasEstimator,
+            @Autowired(required = false) final MirrorNodeClient mirrorNodeClient,
+            @Autowired(required = false) final ContractCallResultCache contractCallResultCache) {
+        final SmartContractClientImpl smartContractClient = new SmartContractClientImpl(protocolLayerClient,
+                fileClient);
+        if (bytecodeFileRegistry != null) {
+            smartContractClient.setBytecodeFileRegistry(bytecodeFileRegistry);
+        }
+        if (contractGasEstimator != null) {
+            smartContractClient.setGasEstimator(contractGasEstimator);
+        }
+        if (mirrorNodeClient != null) {
+            smartContractClient.setMirrorNodeClient(mirrorNodeClient);
+        }
+        if (contractCallResultCache != null) {
+            smartContractClient.setResultCache(contractCallResultCache);
+        }
+        return smartContractClient;
     }
 
     @Bean
@@ -105,6 +140,44 @@ public class HieroAutoConfiguration {
         return new TopicClientImpl(protocolLayerClient, hieroContext.getOperatorAccount());
     }
 
+    @Bean(destroyMethod = "close")
+    @Lazy
+    TopicPublisher topicPublisher(final ProtocolLayerClient protocolLayerClient) {
+        return new TopicPublisherImpl(protocolLayerClient);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Lazy
+    HbarTransferEngine hbarTransferEngine(final ProtocolLayerClient protocolLayerClient) {
+        return new HbarTransferEngineImpl(protocolLayerClient);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Lazy
+    TransferNettingEngine transferNettingEngine(final ProtocolLayerClient protocolLayerClient) {
+        return new TransferNettingEngineImpl(protocolLayerClient);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.hiero", name = "mirrorNodeSupported",
+            havingValue = "true", matchIfMissing = true)
+    TokenDistributionEngine tokenDistributionEngine(final ProtocolLayerClient protocolLayerClient,
+            final TransactionRepository transactionRepository) {
+        return new TokenDistributionEngineImpl(protocolLayerClient, transactionRepository);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Lazy
+    TopicSubscriptionManager topicSubscriptionManager(final ProtocolLayerClient protocolLayerClient) {
+        return new TopicSubscriptionManagerImpl(protocolLayerClient);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Lazy
+    TopicMessageDispatcher topicMessageDispatcher() {
+        return new TopicMessageDispatcherImpl();
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "spring.hiero", name = "mirrorNodeSupported",
             havingValue = "true", matchIfMissing = true)
@@ -184,4 +257,12 @@ public class HieroAutoConfiguration {
     ContractVerificationClient contractVerificationClient(final HieroConfig hieroConfig) {
         return new ContractVerificationClientImplementation(hieroConfig);
     }
+
+    @Bean(destroyMethod = "close")
+    @Lazy
+    EthereumRelayClient ethereumRelayClient(final HieroConfig hieroConfig) {
+        final String relayUrl = hieroConfig.relayUrl()
+                .orElseThrow(() -> new IllegalStateException("No relay URL configured for the network"));
+        return new EthereumRelayClientImpl(RestClient.builder().baseUrl(relayUrl));
+    }
 }
@@ -3,9 +3,12 @@ package com.openelements.hiero.spring.implementation;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TopicId;
 import com.openelements.hiero.base.HieroException;
+import com.openelements.hiero.base.data.ContractLog;
+import com.openelements.hiero.base.data.ContractLogFilter;
 import com.openelements.hiero.base.data.Nft;
 import com.openelements.hiero.base.data.NftMetadata;
 import com.openelements.hiero.base.data.Page;
@@ -18,6 +21,7 @@ import com.openelements.hiero.base.data.BalanceModification;
 import com.openelements.hiero.base.implementation.AbstractMirrorNodeClient;
 import com.openelements.hiero.base.implementation.MirrorNodeJsonConverter;
 import com.openelements.hiero.base.implementation.MirrorNodeRestClient;
+import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
@@ -155,6 +159,30 @@ public class MirrorNodeClientImpl extends AbstractMirrorNodeClient<JsonNode> {
         return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
     }
 
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(@NonNull final TopicId topicId,
+            final long afterSequenceNumber, final int limit) {
+        final String path = topicMessagesPath(topicId, afterSequenceNumber, limit);
+        final Function<JsonNode, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    }
+
+    @Override
+    public @NonNull Page<TopicMessage> queryTopicMessages(@NonNull final TopicId topicId,
+            @NonNull final Instant startTime, final int limit) {
+        final String path = topicMessagesPath(topicId, startTime, limit);
+        final Function<JsonNode, List<TopicMessage>> dataExtractionFunction = node -> jsonConverter.toTopicMessages(node);
+        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    }
+
+    @Override
+    public @NonNull Page<ContractLog> queryContractLogs(@NonNull final ContractId contractId,
+            @NonNull final ContractLogFilter filter) {
+        final String path = contractLogsPath(contractId, filter);
+        final Function<JsonNode, List<ContractLog>> dataExtractionFunction = node -> toContractLogs(node, filter);
+        return new RestBasedPage<>(objectMapper, restClient.mutate().clone(), path, dataExtractionFunction);
+    }
+
     @Override
     public @NonNull Page<NftMetadata> findNftTypesByOwner(AccountId ownerId) {
         throw new UnsupportedOperationException("Not yet implemented");
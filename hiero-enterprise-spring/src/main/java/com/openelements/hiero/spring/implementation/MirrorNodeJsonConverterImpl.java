@@ -2,6 +2,7 @@ package com.openelements.hiero.spring.implementation;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.hedera.hashgraph.sdk.AccountId;
+import com.hedera.hashgraph.sdk.ContractId;
 import com.hedera.hashgraph.sdk.TokenId;
 import com.hedera.hashgraph.sdk.TokenSupplyType;
 import com.hedera.hashgraph.sdk.TokenType;
@@ -28,6 +29,8 @@ import com.openelements.hiero.base.data.TokenTransfer;
 import com.openelements.hiero.base.data.Transfer;
 import com.openelements.hiero.base.data.Topic;
 import com.openelements.hiero.base.data.TopicMessage;
+import com.openelements.hiero.base.data.TopicMessagePayload;
+import com.openelements.hiero.base.data.ContractLog;
 import com.openelements.hiero.base.data.ChunkInfo;
 import com.openelements.hiero.base.data.StakingRewardTransfer;
 import com.openelements.hiero.base.protocol.data.TransactionType;
@@ -40,6 +43,7 @@ import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.Base64;
+import java.util.HexFormat;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.jspecify.annotations.NonNull;
@@ -541,10 +545,10 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
                 chunkInfo = new ChunkInfo(transactionId, nonce, number, total, scheduled);
             }
 
-            final Instant consensusTimestamp =  Instant.ofEpochSecond(node.get("consensus_timestamp").asLong());
-            final String message = new String(Base64.getDecoder().decode(node.get("message").asText()));
+            final Instant consensusTimestamp = parseTimestamp(node.get("consensus_timestamp").asText());
+            final TopicMessagePayload message = TopicMessagePayload.ofBase64(node.get("message").asText());
             final AccountId payerAccountId = AccountId.fromString(node.get("payer_account_id").asText());
-            final byte[] runningHash = node.get("running_hash").asText().getBytes();
+            final byte[] runningHash = Base64.getDecoder().decode(node.get("running_hash").asText());
             final int runningHashVersion = node.get("running_hash_version").asInt();
             final long sequenceNumber = node.get("sequence_number").asLong();
             final TopicId topicId = TopicId.fromString(node.get("topic_id").asText());
@@ -577,6 +581,78 @@ public class MirrorNodeJsonConverterImpl implements MirrorNodeJsonConverter<Json
                 .toList();
     }
 
+    @Override
+    public @NonNull Optional<String> toContractCallResult(@NonNull JsonNode node) {
+        Objects.requireNonNull(node, "jsonNode must not be null");
+        if (!node.has("result") || node.get("result").isNull()) {
+            return Optional.empty();
+        }
+        return Optional.of(node.get("result").asText());
+    }
+
+    @Override
+    public @NonNull List<ContractLog> toContractLogs(@NonNull JsonNode node) {
+        Objects.requireNonNull(node, "jsonNode must not be null");
+        if (!node.has("logs")) {
+            return List.of();
+        }
+        final JsonNode logs = node.get("logs");
+        if (!logs.isArray()) {
+            throw new IllegalArgumentException("Logs node is not an array: " + logs);
+        }
+        return jsonArrayToStream(logs)
+                .map(n -> toContractLog(n))
+                .toList();
+    }
+
+    @Override
+    public @NonNull Optional<Instant> toLatestBlockTimestamp(@NonNull JsonNode node) {
+        Objects.requireNonNull(node, "jsonNode must not be null");
+        final JsonNode blocks = node.get("blocks");
+        if (blocks == null || !blocks.isArray() || blocks.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parseTimestamp(blocks.get(0).get("timestamp").get("to").asText()));
+        } catch (final Exception e) {
+            throw new JsonParseException(node, e);
+        }
+    }
+
+    private ContractLog toContractLog(JsonNode node) {
+        try {
+            final ContractId contractId = ContractId.fromString(node.get("contract_id").asText());
+            final ContractId rootContractId = !node.hasNonNull("root_contract_id") ? null
+                    : ContractId.fromString(node.get("root_contract_id").asText());
+            final String address = node.get("address").asText();
+            final byte[] data = !node.hasNonNull("data") ? new byte[0] : parseHex(node.get("data").asText());
+            final List<byte[]> topics = !node.hasNonNull("topics") ? List.of()
+                    : jsonArrayToStream(node.get("topics")).map(t -> parseHex(t.asText())).toList();
+            final int index = node.get("index").asInt();
+            final Instant consensusTimestamp = parseTimestamp(node.get("timestamp").asText());
+            final long blockNumber = node.path("block_number").asLong();
+            final String transactionHash = !node.hasNonNull("transaction_hash") ? null
+                    : node.get("transaction_hash").asText();
+            return new ContractLog(contractId, rootContractId, address, data, topics, index, consensusTimestamp,
+                    blockNumber, transactionHash);
+        } catch (final Exception e) {
+            throw new JsonParseException(node, e);
+        }
+    }
+
+    private static byte[] parseHex(String value) {
+        return HexFormat.of().parseHex(value.startsWith("0x") ? value.substring(2) : value);
+    }
+
+    private static Instant parseTimestamp(String value) {
+        final int separator = value.indexOf('.');
+        if (separator < 0) {
+            return Instant.ofEpochSecond(Long.parseLong(value));
+        }
+        final String nanos = (value.substring(separator + 1) + "000000000").substring(0, 9);
+        return Instant.ofEpochSecond(Long.parseLong(value.substring(0, separator)), Long.parseLong(nanos));
+    }
+
     private Optional<Token> toToken(JsonNode node) {
         Objects.requireNonNull(node, "jsonNode must not be null");
         if (node.isNull() || node.isEmpty()) {
@@ -58,4 +58,29 @@ public class MirrorNodeRestClientImpl implements MirrorNodeRestClient<JsonNode>
             throw new HieroException("Error parsing body as JSON: " + body, e);
         }
     }
+
+    public JsonNode doPostCall(String path, String jsonBody) throws HieroException {
+        final ResponseEntity<String> responseEntity = restClient.post()
+                .uri(uriBuilder -> uriBuilder.path(path).build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .body(jsonBody)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, (request, response) -> {
+                })
+                .toEntity(String.class);
+        final String body = responseEntity.getBody();
+        if (responseEntity.getStatusCode().isError()) {
+            throw new HieroException("Mirror node call to '" + path + "' failed with status "
+                    + responseEntity.getStatusCode() + ": " + body);
+        }
+        try {
+            if (body == null || body.isBlank()) {
+                return objectMapper.readTree("{}");
+            }
+            return objectMapper.readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new HieroException("Error parsing body as JSON: " + body, e);
+        }
+    }
 }